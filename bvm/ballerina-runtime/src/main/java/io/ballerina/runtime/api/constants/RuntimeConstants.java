@@ -58,6 +58,11 @@ public class RuntimeConstants {
     public static final String BALLERINA_HOME = "ballerina.home";
     public static final String BALLERINA_PACKAGE_PREFIX = "ballerina" + ORG_NAME_SEPARATOR;
     public static final String BALLERINA_MAX_POOL_SIZE_ENV_VAR = "BALLERINA_MAX_POOL_SIZE";
+    public static final String BALLERINA_ERROR_STACK_DEPTH_ENV_VAR = "BALLERINA_ERROR_STACK_DEPTH";
+    public static final String BALLERINA_ERROR_STACK_DEPTH_PROPERTY = "ballerina.error.stack.depth";
+    public static final String BALLERINA_LAZY_XML_ENV_VAR = "BALLERINA_LAZY_XML";
+    public static final String BALLERINA_COLUMNAR_TABLES_ENV_VAR = "BALLERINA_COLUMNAR_TABLES";
+    public static final String BALLERINA_COLUMNAR_TABLES_PROPERTY = "ballerina.columnar.tables";
 
     public static final Module BALLERINA_LANG_ERROR_PKG_ID = new Module(BALLERINA_BUILTIN_PKG_PREFIX,
                                                                         "lang.error", "0");
@@ -28,6 +28,8 @@ import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTable;
 import io.ballerina.runtime.internal.JsonGenerator;
 import io.ballerina.runtime.internal.JsonParser;
+import io.ballerina.runtime.internal.Utf8JsonGenerator;
+import io.ballerina.runtime.internal.Utf8JsonParser;
 import io.ballerina.runtime.internal.values.ErrorValue;
 
 import java.io.IOException;
@@ -35,6 +37,8 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.Reader;
 import java.io.Writer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 
 /**
@@ -67,6 +71,56 @@ public class JsonUtils {
         return JsonParser.parse(in, charsetName);
     }
 
+    /**
+     * Parses the UTF-8 encoded contents in the given {@link InputStream} and returns a json. The bytes are parsed
+     * without decoding the input into characters first.
+     *
+     * @param in input stream which contains the JSON content
+     * @return JSON structure
+     * @throws BError for any parsing error
+     */
+    public static Object parseUtf8(InputStream in) throws BError {
+        return Utf8JsonParser.parse(in, NonStringValueProcessingMode.FROM_JSON_STRING);
+    }
+
+    /**
+     * Parses the UTF-8 encoded contents in the given {@link InputStream} and returns a json. The bytes are parsed
+     * without decoding the input into characters first.
+     *
+     * @param in   input stream which contains the JSON content
+     * @param mode the mode to use when processing numeric values
+     * @return JSON structure
+     * @throws BError for any parsing error
+     */
+    public static Object parseUtf8(InputStream in, NonStringValueProcessingMode mode) throws BError {
+        return Utf8JsonParser.parse(in, mode);
+    }
+
+    /**
+     * Parses the UTF-8 encoded contents from the position to the limit of the given {@link ByteBuffer}, such as a
+     * memory-mapped file, and returns a json. The position of the buffer is set to its limit.
+     *
+     * @param buffer buffer which contains the JSON content
+     * @return JSON structure
+     * @throws BError for any parsing error
+     */
+    public static Object parse(ByteBuffer buffer) throws BError {
+        return Utf8JsonParser.parse(buffer, NonStringValueProcessingMode.FROM_JSON_STRING);
+    }
+
+    /**
+     * Parses the UTF-8 encoded contents from the position to the limit of the given {@link ByteBuffer}, such as a
+     * memory-mapped file, and returns a json. The position of the buffer is set to its limit.
+     *
+     * @param buffer buffer which contains the JSON content
+     * @param mode   the mode to use when processing numeric values
+     * @return JSON structure
+     * @throws BError for any parsing error
+     */
+    public static Object parse(ByteBuffer buffer, NonStringValueProcessingMode mode) throws BError {
+        return Utf8JsonParser.parse(buffer, mode);
+    }
+
     /**
      * Parses the contents in the given string and returns a json.
      *
@@ -258,6 +312,42 @@ public class JsonUtils {
         }
     }
 
+    /**
+     * Serialize the JSON constructs as UTF-8 to a given {@link OutputStream}. The bytes are encoded while the value
+     * is written, without creating an intermediate string. Record values are written as JSON objects.
+     *
+     * @param json JSON construct
+     * @param out  Output source
+     * @throws BError If error occur while serialize json construct.
+     */
+    public static void serializeUtf8(Object json, OutputStream out) throws BError {
+        try (Utf8JsonGenerator gen = new Utf8JsonGenerator(out)) {
+            gen.serialize(json);
+            gen.flush();
+        } catch (IOException e) {
+            throw new ErrorValue(StringUtils.fromString(e.getMessage()), e);
+        }
+    }
+
+    /**
+     * Serialize the JSON constructs as UTF-8 to a given {@link ByteBuffer}, starting from its current position. The
+     * position is advanced by the number of bytes written. Record values are written as JSON objects.
+     *
+     * @param json   JSON construct
+     * @param buffer Output buffer
+     * @throws BError If error occur while serialize json construct, or if the buffer does not have enough space.
+     */
+    public static void serializeUtf8(Object json, ByteBuffer buffer) throws BError {
+        try (Utf8JsonGenerator gen = new Utf8JsonGenerator(buffer)) {
+            gen.serialize(json);
+            gen.flush();
+        } catch (IOException e) {
+            throw new ErrorValue(StringUtils.fromString(e.getMessage()), e);
+        } catch (BufferOverflowException e) {
+            throw new ErrorValue(StringUtils.fromString("insufficient space in the buffer to serialize json"), e);
+        }
+    }
+
     /**
      * Represents the modes which process numeric values while converting a string to JSON.
      */
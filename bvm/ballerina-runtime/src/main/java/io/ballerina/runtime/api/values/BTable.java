@@ -21,6 +21,7 @@ import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.internal.util.exceptions.BallerinaException;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -197,4 +198,37 @@ public interface BTable<K, V> extends BRefValue, BCollection {
     long getNextKey();
 
     V put(V data);
+
+    /**
+     * Creates an index on the given field of the values of this table, which is maintained as values are added and
+     * removed. Only fields which are read-only can be indexed. An ordered index also supports range lookups, and
+     * requires the field to be of a type of which the values are ordered (nil, boolean, int, float, decimal, string).
+     * <p>
+     * The indexes are only used by {@link #lookup(BString, Object)} and {@link #lookupRange(BString, Object, Object)},
+     * for native code. Neither the functions of the lang.table module nor query expressions use them.
+     *
+     * @param fieldName name of the field to be indexed
+     * @param ordered   whether the index keeps the values ordered by the field
+     */
+    void addIndex(BString fieldName, boolean ordered);
+
+    /**
+     * Returns the values of which the given field is equal to the given value. An index on the field is used if
+     * there is one, otherwise all the values are scanned.
+     *
+     * @param fieldName name of the field
+     * @param value     value of the field
+     * @return values with a matching field, in the order they were added
+     */
+    List<V> lookup(BString fieldName, Object value);
+
+    /**
+     * Returns the values of which the given field is in the given range, using an ordered index on the field.
+     *
+     * @param fieldName  name of the field, which must have an ordered index
+     * @param lowerBound inclusive lower bound of the range, or {@code null} if the range has no lower bound
+     * @param upperBound exclusive upper bound of the range, or {@code null} if the range has no upper bound
+     * @return values with a field in the range, ordered by the field
+     */
+    List<V> lookupRange(BString fieldName, Object lowerBound, Object upperBound);
 }
@@ -21,9 +21,17 @@ import io.ballerina.runtime.internal.scheduling.State;
 import io.ballerina.runtime.internal.scheduling.Strand;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 /**
  * {@code VarLock} represents lock object for variables in jvm.
+ * <p>
+ * The lock is either held exclusively, or shared by the strands which run lock statements that only read the locked
+ * variables. A strand which is waiting for the exclusive lock keeps new strands from sharing the lock, so that it is
+ * not delayed indefinitely by a stream of readers.
  *
  * @since 1.0.0
  */
@@ -31,41 +39,126 @@ public class BLock {
 
     private ArrayDeque<Strand> current;
 
-    private ArrayDeque<Strand> waitingForLock;
+    private List<Strand> sharedHolders;
+
+    private ArrayDeque<Waiter> waitingForLock;
+
+    // Strands which were given the lock when it was released, which get it when they run the lock statement again.
+    private Set<Strand> handedOver;
 
     public BLock() {
         this.current = new ArrayDeque<>();
+        this.sharedHolders = new ArrayList<>();
         this.waitingForLock = new ArrayDeque<>();
+        this.handedOver = new HashSet<>();
     }
 
     public synchronized boolean lock(Strand strand) {
-        if (isLockFree() || lockedBySameContext(strand)) {
+        if (this.handedOver.remove(strand)) {
+            return true;
+        }
+        if (isLockFree() || lockedExclusivelyBy(strand)) {
             this.current.offerLast(strand);
             return true;
         }
 
-        this.waitingForLock.offerLast(strand);
+        waitForLock(strand, false);
+        return false;
+    }
 
-        // Strand state change
-        strand.setState(State.BLOCK_AND_YIELD);
-        strand.blockedOnExtern = false;
+    /**
+     * Acquires the lock for a lock statement which only reads the locked variables. The lock is shared with the other
+     * strands which hold it the same way.
+     *
+     * @param strand the strand acquiring the lock
+     * @return true if the lock was acquired, false if the strand has to yield until the lock is released
+     */
+    public synchronized boolean lockShared(Strand strand) {
+        if (this.handedOver.remove(strand)) {
+            return true;
+        }
+        if (lockedExclusivelyBy(strand) ||
+                (this.current.isEmpty() && (!isExclusiveLockAwaited() || this.sharedHolders.contains(strand)))) {
+            this.sharedHolders.add(strand);
+            return true;
+        }
+
+        waitForLock(strand, true);
         return false;
     }
 
     public synchronized void unlock() {
         //current cannot be empty as unlock cannot be called without lock being called first.
         this.current.removeLast();
-        if (!waitingForLock.isEmpty()) {
-            Strand strand = this.waitingForLock.removeFirst();
-            strand.scheduler.unblockStrand(strand);
-        }
+        handOverLock();
+    }
+
+    public synchronized void unlockShared(Strand strand) {
+        this.sharedHolders.remove(strand);
+        handOverLock();
     }
 
     public boolean isLockFree() {
-        return this.current.isEmpty();
+        return this.current.isEmpty() && this.sharedHolders.isEmpty();
     }
 
     public boolean lockedBySameContext(Strand ctx) {
-        return this.current.getLast() == ctx;
+        return lockedExclusivelyBy(ctx) || this.sharedHolders.contains(ctx);
+    }
+
+    private boolean lockedExclusivelyBy(Strand strand) {
+        return !this.current.isEmpty() && this.current.getLast() == strand;
+    }
+
+    private boolean isExclusiveLockAwaited() {
+        for (Waiter waiter : this.waitingForLock) {
+            if (!waiter.shared) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void waitForLock(Strand strand, boolean shared) {
+        this.waitingForLock.offerLast(new Waiter(strand, shared));
+
+        // Strand state change
+        strand.setState(State.BLOCK_AND_YIELD);
+        strand.blockedOnExtern = false;
+    }
+
+    private void handOverLock() {
+        if (!this.current.isEmpty() || this.waitingForLock.isEmpty()) {
+            return;
+        }
+        if (this.waitingForLock.peekFirst().shared) {
+            // The strands waiting to share the lock ahead of the next strand waiting for the exclusive lock get it
+            // together.
+            while (!this.waitingForLock.isEmpty() && this.waitingForLock.peekFirst().shared) {
+                Strand strand = this.waitingForLock.removeFirst().strand;
+                this.sharedHolders.add(strand);
+                handOver(strand);
+            }
+        } else if (this.sharedHolders.isEmpty()) {
+            Strand strand = this.waitingForLock.removeFirst().strand;
+            this.current.offerLast(strand);
+            handOver(strand);
+        }
+    }
+
+    private void handOver(Strand strand) {
+        this.handedOver.add(strand);
+        strand.scheduler.unblockStrand(strand);
+    }
+
+    private static class Waiter {
+
+        private final Strand strand;
+        private final boolean shared;
+
+        Waiter(Strand strand, boolean shared) {
+            this.strand = strand;
+            this.shared = shared;
+        }
     }
 }
@@ -0,0 +1,159 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.internal;
+
+import io.ballerina.runtime.api.values.BXml;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * Children of a parsed xml element, which are read from the source document when they are first accessed.
+ *
+ * @since 2.0.0
+ */
+class DeferredXmlChildren extends AbstractList<BXml> implements RandomAccess {
+
+    private String source;
+    private XmlTreeBuilder.ElementOffsets offsets;
+    private final int element;
+    private Map<String, String> namespaces;
+    private volatile List<BXml> children;
+
+    DeferredXmlChildren(String source, XmlTreeBuilder.ElementOffsets offsets, int element,
+                        Map<String, String> namespaces) {
+        this.source = source;
+        this.offsets = offsets;
+        this.element = element;
+        this.namespaces = namespaces;
+    }
+
+    private List<BXml> children() {
+        List<BXml> list = this.children;
+        if (list != null) {
+            return list;
+        }
+        synchronized (this) {
+            list = this.children;
+            if (list == null) {
+                list = XmlTreeBuilder.readDeferredChildren(source, offsets, element, namespaces);
+                this.children = list;
+                // The source is still referred by the deferred children of the children, if any.
+                this.source = null;
+                this.offsets = null;
+                this.namespaces = null;
+            }
+            return list;
+        }
+    }
+
+    @Override
+    public BXml get(int index) {
+        return children().get(index);
+    }
+
+    @Override
+    public int size() {
+        return children().size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return children().isEmpty();
+    }
+
+    @Override
+    public BXml set(int index, BXml element) {
+        return children().set(index, element);
+    }
+
+    @Override
+    public boolean add(BXml element) {
+        return children().add(element);
+    }
+
+    @Override
+    public void add(int index, BXml element) {
+        children().add(index, element);
+    }
+
+    @Override
+    public BXml remove(int index) {
+        return children().remove(index);
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends BXml> elements) {
+        return children().addAll(elements);
+    }
+
+    @Override
+    public void clear() {
+        children().clear();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return children().contains(o);
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        return children().indexOf(o);
+    }
+
+    @Override
+    public Iterator<BXml> iterator() {
+        return children().iterator();
+    }
+
+    @Override
+    public ListIterator<BXml> listIterator(int index) {
+        return children().listIterator(index);
+    }
+
+    @Override
+    public List<BXml> subList(int fromIndex, int toIndex) {
+        return children().subList(fromIndex, toIndex);
+    }
+
+    @Override
+    public Object[] toArray() {
+        return children().toArray();
+    }
+
+    @Override
+    public <T> T[] toArray(T[] a) {
+        return children().toArray(a);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return children().equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return children().hashCode();
+    }
+}
@@ -52,7 +52,7 @@ public class JsonGenerator {
 
     private boolean fieldActive;
 
-    private static boolean[] escChars = new boolean[93];
+    static boolean[] escChars = new boolean[93];
 
     static {
         escChars['"'] = true;
@@ -75,6 +75,13 @@ public class JsonGenerator {
         this.writer = writer;
     }
 
+    /**
+     * Creates a generator which writes to a sink other than a {@link Writer}. Such a generator overrides the methods
+     * which write the JSON constructs.
+     */
+    JsonGenerator() {
+    }
+
     private void setLevelInit(int index, boolean init) {
         this.checkAndResizeLevels(index);
         this.levelInit[index] = init;
@@ -93,10 +100,10 @@ public class JsonGenerator {
         }
     }
 
-    private void processStartLevel() throws IOException {
+    void processStartLevel() throws IOException {
         if (!this.fieldActive) {
             if (this.getLevelInit(this.currentLevel)) {
-                this.writer.write(", ");
+                this.writeSeparator();
             } else {
                 this.setLevelInit(this.currentLevel, true);
             }
@@ -106,33 +113,37 @@ public class JsonGenerator {
         this.currentLevel++;
     }
 
-    private void processEndLevel() {
+    void processEndLevel() {
         this.setLevelInit(this.currentLevel - 1, true);
         this.setLevelInit(this.currentLevel, false);
         this.currentLevel--;
     }
 
-    private void processFieldInit() throws IOException {
+    void processFieldInit() throws IOException {
         if (this.getLevelInit(this.currentLevel)) {
-            this.writer.write(", ");
+            this.writeSeparator();
         } else {
             this.setLevelInit(this.currentLevel, true);
         }
         this.fieldActive = true;
     }
 
-    private void processValueInit() throws IOException {
+    void processValueInit() throws IOException {
         if (this.fieldActive) {
             this.fieldActive = false;
             return;
         }
         if (this.getLevelInit(this.currentLevel)) {
-            this.writer.write(", ");
+            this.writeSeparator();
         } else {
             this.setLevelInit(this.currentLevel, true);
         }
     }
 
+    void writeSeparator() throws IOException {
+        this.writer.write(", ");
+    }
+
     public void startObject() throws IOException {
         this.processStartLevel();
         this.writer.write('{');
@@ -49,56 +49,117 @@ public class TableUtils {
      * @return The hash value
      */
     public static Long hash(Object obj, Node parent) {
-        long result = 0;
+        return hashValue(obj, parent);
+    }
 
+    /**
+     * Generates a hash value which is same for the same shape, as done by {@link #hash(Object, Node)}. Simple values
+     * and lists of simple values are hashed without allocating, hence this is used to hash the keys of tables.
+     *
+     * @param obj Ballerina value which the hash is generated from
+     * @return The hash value
+     */
+    public static long hashKey(Object obj) {
+        return hashValue(obj, null);
+    }
+
+    private static long hashValue(Object obj, Node parent) {
         if (obj == null) {
             return 0L;
         }
+        if (!(obj instanceof RefValue)) {
+            return obj.hashCode();
+        }
 
-        if (obj instanceof RefValue) {
+        RefValue refValue = (RefValue) obj;
+        Type refType = refValue.getType();
+        int tag = refType.getTag();
+        if (tag == TypeTags.ARRAY_TAG || tag == TypeTags.TUPLE_TAG) {
+            return hashList((ArrayValue) refValue, parent);
+        }
 
-            Node node = new Node(obj, parent);
+        Node node = createNode(obj, parent);
+        long result = 0;
+        if (tag == TypeTags.MAP_TAG || tag == TypeTags.RECORD_TYPE_TAG) {
+            MapValue mapValue = (MapValue) refValue;
+            for (Object entry : mapValue.entrySet()) {
+                result = 31 * result + hashValue(((Map.Entry) entry).getKey(), node) +
+                        (((Map.Entry) entry).getValue() == null ? 0 : hashValue(((Map.Entry) entry).getValue(),
+                                node));
+            }
+            return result;
+        } else if (tag == TypeTags.XML_TAG || tag == TypeTags.XML_ELEMENT_TAG ||
+                tag == TypeTags.XML_TEXT_TAG || tag == TypeTags.XML_ATTRIBUTES_TAG ||
+                tag == TypeTags.XML_COMMENT_TAG || tag == TypeTags.XML_PI_TAG ||
+                tag == TypeTags.XMLNS_TAG) {
+            return refValue.toString().hashCode();
+        } else if (tag == TypeTags.TABLE_TAG) {
+            TableValue tableValue = (TableValue) refValue;
+            IteratorValue tableIterator = tableValue.getIterator();
+            while (tableIterator.hasNext()) {
+                result = 31 * result + hashValue(tableIterator.next(), node);
+            }
+            return result;
+        } else {
+            return obj.hashCode();
+        }
+    }
 
-            if (node.hasCyclesSoFar()) {
-                throw ErrorCreator.createError(TABLE_KEY_CYCLIC_VALUE_REFERENCE_ERROR, BLangExceptionHelper
-                        .getErrorDetails(RuntimeErrors.CYCLIC_VALUE_REFERENCE, TypeChecker.getType(obj)));
+    private static long hashList(ArrayValue list, Node parent) {
+        long result = 0;
+        int size = list.size();
+        // Members of arrays of simple types are read without boxing. The hashes are the same as the hashes of the
+        // boxed values.
+        if (list.getType().getTag() == TypeTags.ARRAY_TAG) {
+            switch (list.getElementType().getTag()) {
+                case TypeTags.INT_TAG:
+                    for (int i = 0; i < size; i++) {
+                        result = 31 * result + Long.hashCode(list.getInt(i));
+                    }
+                    return result;
+                case TypeTags.FLOAT_TAG:
+                    for (int i = 0; i < size; i++) {
+                        result = 31 * result + Double.hashCode(list.getFloat(i));
+                    }
+                    return result;
+                case TypeTags.BOOLEAN_TAG:
+                    for (int i = 0; i < size; i++) {
+                        result = 31 * result + Boolean.hashCode(list.getBoolean(i));
+                    }
+                    return result;
+                case TypeTags.BYTE_TAG:
+                    for (int i = 0; i < size; i++) {
+                        result = 31 * result + Byte.toUnsignedInt(list.getByte(i));
+                    }
+                    return result;
+                default:
+                    break;
             }
+        }
 
-            RefValue refValue = (RefValue) obj;
-            Type refType = refValue.getType();
-            if (refType.getTag() == TypeTags.MAP_TAG || refType.getTag() == TypeTags.RECORD_TYPE_TAG) {
-                MapValue mapValue = (MapValue) refValue;
-                for (Object entry : mapValue.entrySet()) {
-                    result = 31 * result + hash(((Map.Entry) entry).getKey(), node) +
-                            (((Map.Entry) entry).getValue() == null ? 0 : hash(((Map.Entry) entry).getValue(),
-                                    node));
+        // A node is only needed to detect cycles through members which are structured values.
+        Node node = null;
+        for (int i = 0; i < size; i++) {
+            Object member = list.get(i);
+            if (member instanceof RefValue) {
+                if (node == null) {
+                    node = createNode(list, parent);
                 }
-                return result;
-            } else if (refType.getTag() == TypeTags.ARRAY_TAG || refType.getTag() == TypeTags.TUPLE_TAG) {
-                ArrayValue arrayValue = (ArrayValue) refValue;
-                IteratorValue arrayIterator = arrayValue.getIterator();
-                while (arrayIterator.hasNext()) {
-                    result = 31 * result + hash(arrayIterator.next(), node);
-                }
-                return result;
-            } else if (refType.getTag() == TypeTags.XML_TAG || refType.getTag() == TypeTags.XML_ELEMENT_TAG ||
-                    refType.getTag() == TypeTags.XML_TEXT_TAG || refType.getTag() == TypeTags.XML_ATTRIBUTES_TAG ||
-                    refType.getTag() == TypeTags.XML_COMMENT_TAG || refType.getTag() == TypeTags.XML_PI_TAG ||
-                    refType.getTag() == TypeTags.XMLNS_TAG) {
-                return (long) refValue.toString().hashCode();
-            } else if (refType.getTag() == TypeTags.TABLE_TAG) {
-                TableValue tableValue = (TableValue) refValue;
-                IteratorValue tableIterator = tableValue.getIterator();
-                while (tableIterator.hasNext()) {
-                    result = 31 * result + hash(tableIterator.next(), node);
-                }
-                return result;
+                result = 31 * result + hashValue(member, node);
             } else {
-                return (long) obj.hashCode();
+                result = 31 * result + (member == null ? 0 : member.hashCode());
             }
-        } else {
-            return (long) obj.hashCode();
         }
+        return result;
+    }
+
+    private static Node createNode(Object obj, Node parent) {
+        Node node = new Node(obj, parent);
+        if (node.hasCyclesSoFar()) {
+            throw ErrorCreator.createError(TABLE_KEY_CYCLIC_VALUE_REFERENCE_ERROR, BLangExceptionHelper
+                    .getErrorDetails(RuntimeErrors.CYCLIC_VALUE_REFERENCE, TypeChecker.getType(obj)));
+        }
+        return node;
     }
 
     /**
@@ -0,0 +1,460 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.internal;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.util.exceptions.BLangExceptionHelper;
+import io.ballerina.runtime.internal.util.exceptions.RuntimeErrors;
+import io.ballerina.runtime.internal.values.ArrayValue;
+import io.ballerina.runtime.internal.values.DecimalValue;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+import io.ballerina.runtime.internal.values.StreamingJsonValue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link JsonGenerator} which writes the JSON constructs as UTF-8 to an {@link OutputStream} or a {@link ByteBuffer}.
+ * <p>
+ * The output is the same as the output of {@link JsonGenerator} with the UTF-8 charset, but the characters are
+ * encoded while they are written to a byte buffer, hence no intermediate string or writer is needed. The byte buffer
+ * is reused by later generators of the same thread. The encoded field names of record types are computed once and
+ * cached. Unlike {@link JsonGenerator}, record values and tuples are written as JSON objects and arrays, so that they
+ * need not be converted to JSON first. A value which is not JSON compatible, e.g. a table in a record, is reported as
+ * an error, as when the record is converted to JSON.
+ *
+ * @since 2.0.0
+ */
+public class Utf8JsonGenerator extends JsonGenerator implements AutoCloseable {
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final int MAX_CACHED_RECORD_TYPES = 1024;
+    private static final ThreadLocal<byte[]> BUFFER_POOL = new ThreadLocal<>();
+    private static final Map<Type, Map<String, byte[]>> FIELD_NAMES = new ConcurrentHashMap<>();
+
+    private static final byte[] SEPARATOR = {',', ' '};
+    private static final byte[] NULL = {'n', 'u', 'l', 'l'};
+    private static final byte[] TRUE = {'t', 'r', 'u', 'e'};
+    private static final byte[] FALSE = {'f', 'a', 'l', 's', 'e'};
+    private static final byte[] MIN_LONG = Long.toString(Long.MIN_VALUE).getBytes();
+
+    private final OutputStream out;
+    private final ByteBuffer byteBuffer;
+    private byte[] buffer;
+    private int position;
+
+    public Utf8JsonGenerator(OutputStream out) {
+        this(out, null);
+    }
+
+    /**
+     * Creates a generator which writes to the given buffer, starting from its position. The position is advanced
+     * when the generator is flushed.
+     *
+     * @param byteBuffer buffer to write to
+     */
+    public Utf8JsonGenerator(ByteBuffer byteBuffer) {
+        this(null, byteBuffer);
+    }
+
+    private Utf8JsonGenerator(OutputStream out, ByteBuffer byteBuffer) {
+        this.out = out;
+        this.byteBuffer = byteBuffer;
+        byte[] pooled = BUFFER_POOL.get();
+        if (pooled == null) {
+            this.buffer = new byte[BUFFER_SIZE];
+        } else {
+            // The buffer is taken out of the pool while it is in use, in case generators are nested.
+            BUFFER_POOL.remove();
+            this.buffer = pooled;
+        }
+    }
+
+    @Override
+    void writeSeparator() {
+        writeBytes(SEPARATOR);
+    }
+
+    @Override
+    public void startObject() throws IOException {
+        this.processStartLevel();
+        writeByte('{');
+    }
+
+    @Override
+    public void endObject() {
+        writeByte('}');
+        this.processEndLevel();
+    }
+
+    @Override
+    public void writeFieldName(String fieldName) throws IOException {
+        this.processFieldInit();
+        writeStringValue(fieldName);
+        writeByte(':');
+    }
+
+    private void writeFieldName(byte[] encodedFieldName) throws IOException {
+        this.processFieldInit();
+        writeBytes(encodedFieldName);
+    }
+
+    @Override
+    public void writeString(String value) throws IOException {
+        this.processValueInit();
+        writeStringValue(value);
+    }
+
+    private void writeStringValue(String value) {
+        writeByte('"');
+        int count = value.length();
+        boolean escaped = false;
+        for (int i = 0; i < count; i++) {
+            char ch = value.charAt(i);
+            if (ch < escChars.length && escChars[ch]) {
+                escaped = true;
+                break;
+            }
+        }
+        writeChars(value, escaped);
+        writeByte('"');
+    }
+
+    @Override
+    public void writeStringEsc(char[] chs) {
+        writeChars(new String(chs), true);
+    }
+
+    private void writeChars(String value, boolean escaped) {
+        int count = value.length();
+        for (int i = 0; i < count; i++) {
+            char ch = value.charAt(i);
+            if (ch < 0x80) {
+                if (escaped) {
+                    writeEscapedAscii(ch);
+                } else {
+                    writeByte(ch);
+                }
+            } else if (ch < 0x800) {
+                ensureCapacity(2);
+                buffer[position++] = (byte) (0xC0 | (ch >> 6));
+                buffer[position++] = (byte) (0x80 | (ch & 0x3F));
+            } else if (Character.isHighSurrogate(ch) && i + 1 < count &&
+                    Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(ch, value.charAt(++i));
+                ensureCapacity(4);
+                buffer[position++] = (byte) (0xF0 | (codePoint >> 18));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(ch)) {
+                // Unpaired surrogates are replaced as done by the UTF-8 charset encoder.
+                writeByte('?');
+            } else {
+                ensureCapacity(3);
+                buffer[position++] = (byte) (0xE0 | (ch >> 12));
+                buffer[position++] = (byte) (0x80 | ((ch >> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (ch & 0x3F));
+            }
+        }
+    }
+
+    private void writeEscapedAscii(char ch) {
+        switch (ch) {
+            case '"':
+                writeEscape('"');
+                break;
+            case '\\':
+                writeEscape('\\');
+                break;
+            case '/':
+                writeEscape('/');
+                break;
+            case '\b':
+                writeEscape('b');
+                break;
+            case '\n':
+                writeEscape('n');
+                break;
+            case '\r':
+                writeEscape('r');
+                break;
+            case '\f':
+                writeEscape('f');
+                break;
+            case '\t':
+                writeEscape('t');
+                break;
+            default:
+                writeByte(ch);
+                break;
+        }
+    }
+
+    private void writeEscape(char ch) {
+        ensureCapacity(2);
+        buffer[position++] = '\\';
+        buffer[position++] = (byte) ch;
+    }
+
+    @Override
+    public void writeNumber(long value) throws IOException {
+        this.processValueInit();
+        writeLong(value);
+    }
+
+    private void writeLong(long value) {
+        if (value == Long.MIN_VALUE) {
+            writeBytes(MIN_LONG);
+            return;
+        }
+        // Written right to left into the buffer, without creating a string.
+        ensureCapacity(20);
+        if (value < 0) {
+            buffer[position++] = '-';
+            value = -value;
+        }
+        int digits = 1;
+        for (long rest = value / 10; rest != 0; rest /= 10) {
+            digits++;
+        }
+        int index = position + digits;
+        do {
+            buffer[--index] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+        position += digits;
+    }
+
+    @Override
+    public void writeNumber(double value) throws IOException {
+        this.processValueInit();
+        writeAscii(Double.toString(value));
+    }
+
+    @Override
+    public void writeNumber(BigDecimal value) throws IOException {
+        this.processValueInit();
+        writeAscii(value.toString());
+    }
+
+    @Override
+    public void writeBoolean(boolean value) throws IOException {
+        this.processValueInit();
+        writeBytes(value ? TRUE : FALSE);
+    }
+
+    @Override
+    public void writeNull() throws IOException {
+        this.processValueInit();
+        writeBytes(NULL);
+    }
+
+    @Override
+    public void writeStartArray() throws IOException {
+        this.processStartLevel();
+        writeByte('[');
+    }
+
+    @Override
+    public void writeEndArray() {
+        writeByte(']');
+        this.processEndLevel();
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writeBufferedBytes();
+        if (out != null) {
+            out.flush();
+        }
+    }
+
+    private void writeBufferedBytes() throws IOException {
+        if (position == 0) {
+            return;
+        }
+        if (out != null) {
+            out.write(buffer, 0, position);
+        } else {
+            byteBuffer.put(buffer, 0, position);
+        }
+        position = 0;
+    }
+
+    /**
+     * Returns the byte buffer to the pool of the current thread. Data which is not flushed is discarded.
+     */
+    @Override
+    public void close() {
+        if (buffer != null) {
+            BUFFER_POOL.set(buffer);
+            buffer = null;
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void serialize(Object json) throws IOException {
+        if (json == null) {
+            this.writeNull();
+            return;
+        }
+
+        Type type = TypeChecker.getType(json);
+        switch (type.getTag()) {
+            case TypeTags.ARRAY_TAG:
+            case TypeTags.TUPLE_TAG:
+                if (json instanceof StreamingJsonValue) {
+                    ((StreamingJsonValue) json).serialize(this);
+                    break;
+                }
+                this.writeStartArray();
+                ArrayValue jsonArray = (ArrayValue) json;
+                for (int i = 0; i < jsonArray.size(); i++) {
+                    this.serialize(jsonArray.get(i));
+                }
+                this.writeEndArray();
+                break;
+            case TypeTags.BOOLEAN_TAG:
+                this.writeBoolean((Boolean) json);
+                break;
+            case TypeTags.FLOAT_TAG:
+                this.writeNumber(((Number) json).doubleValue());
+                break;
+            case TypeTags.DECIMAL_TAG:
+                this.writeNumber(((DecimalValue) json).value());
+                break;
+            case TypeTags.INT_TAG:
+            case TypeTags.BYTE_TAG:
+                this.writeNumber(((Number) json).longValue());
+                break;
+            case TypeTags.MAP_TAG:
+            case TypeTags.JSON_TAG:
+                this.startObject();
+                for (Entry<BString, Object> entry : ((MapValueImpl<BString, Object>) json).entrySet()) {
+                    this.writeFieldName(entry.getKey().getValue());
+                    serialize(entry.getValue());
+                }
+                this.endObject();
+                break;
+            case TypeTags.RECORD_TYPE_TAG:
+                Map<String, byte[]> fieldNames = getEncodedFieldNames((RecordType) type);
+                this.startObject();
+                for (Entry<BString, Object> entry : ((MapValueImpl<BString, Object>) json).entrySet()) {
+                    String fieldName = entry.getKey().getValue();
+                    byte[] encodedFieldName = fieldNames.get(fieldName);
+                    if (encodedFieldName != null) {
+                        this.writeFieldName(encodedFieldName);
+                    } else {
+                        // Rest field.
+                        this.writeFieldName(fieldName);
+                    }
+                    serialize(entry.getValue());
+                }
+                this.endObject();
+                break;
+            case TypeTags.STRING_TAG:
+                this.writeString(json.toString());
+                break;
+            default:
+                // Values of a record may not be JSON compatible, e.g. a table or an object in a rest field.
+                throw BLangExceptionHelper.getRuntimeException(RuntimeErrors.INCOMPATIBLE_TYPE,
+                                                               PredefinedTypes.TYPE_JSON, type);
+        }
+    }
+
+    private static Map<String, byte[]> getEncodedFieldNames(RecordType type) {
+        Map<String, byte[]> fieldNames = FIELD_NAMES.get(type);
+        if (fieldNames != null) {
+            return fieldNames;
+        }
+        fieldNames = new HashMap<>();
+        for (String fieldName : type.getFields().keySet()) {
+            fieldNames.put(fieldName, encodeFieldName(fieldName));
+        }
+        if (FIELD_NAMES.size() < MAX_CACHED_RECORD_TYPES) {
+            FIELD_NAMES.putIfAbsent(type, fieldNames);
+        }
+        return fieldNames;
+    }
+
+    private static byte[] encodeFieldName(String fieldName) {
+        Utf8JsonGenerator generator = new Utf8JsonGenerator(null, null);
+        try {
+            generator.writeStringValue(fieldName);
+            generator.writeByte(':');
+            byte[] encoded = new byte[generator.position];
+            System.arraycopy(generator.buffer, 0, encoded, 0, generator.position);
+            return encoded;
+        } finally {
+            generator.close();
+        }
+    }
+
+    private void writeAscii(String value) {
+        int count = value.length();
+        ensureCapacity(count);
+        for (int i = 0; i < count; i++) {
+            buffer[position++] = (byte) value.charAt(i);
+        }
+    }
+
+    private void writeBytes(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    private void writeByte(int b) {
+        ensureCapacity(1);
+        buffer[position++] = (byte) b;
+    }
+
+    private void ensureCapacity(int length) {
+        if (position + length <= buffer.length) {
+            return;
+        }
+        if (out != null || byteBuffer != null) {
+            drain();
+        }
+        if (position + length > buffer.length) {
+            byte[] newBuffer = new byte[Math.max(buffer.length * 2, position + length)];
+            System.arraycopy(buffer, 0, newBuffer, 0, position);
+            buffer = newBuffer;
+        }
+    }
+
+    private void drain() {
+        try {
+            writeBufferedBytes();
+        } catch (IOException e) {
+            throw JsonUtils.createJsonConversionError(e, "error occurred while serializing data");
+        }
+    }
+}
@@ -0,0 +1,597 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.internal;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.types.BArrayType;
+import io.ballerina.runtime.internal.types.BMapType;
+import io.ballerina.runtime.internal.values.ArrayValueImpl;
+import io.ballerina.runtime.internal.values.DecimalValue;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import static io.ballerina.runtime.api.utils.JsonUtils.NonStringValueProcessingMode.FROM_JSON_DECIMAL_STRING;
+import static io.ballerina.runtime.api.utils.JsonUtils.NonStringValueProcessingMode.FROM_JSON_FLOAT_STRING;
+
+/**
+ * JSON parser which reads UTF-8 encoded bytes from a {@link ByteBuffer}, such as a memory-mapped file, or an
+ * {@link InputStream}.
+ * <p>
+ * Unlike {@link JsonParser}, the input is not decoded into characters before it is parsed. Strings are decoded while
+ * they are read, repeated field names are created once per parse, and numbers which fit in a {@code long} are
+ * converted from the bytes without creating a string. The values are the same as the values created by
+ * {@link JsonParser} for the same document and mode.
+ *
+ * @since 2.0.0
+ */
+@SuppressWarnings("unchecked")
+public class Utf8JsonParser {
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final int FIELD_NAME_CACHE_SIZE = 256;
+    // Numbers with more digits may not fit in a long, hence they are parsed from a string.
+    private static final int MAX_FAST_PATH_DIGITS = 18;
+    private static final long MAX_EXACT_DOUBLE_MANTISSA = 1L << 53;
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    private static final char REPLACEMENT_CHAR = '\uFFFD';
+    private static final int EOF = -1;
+
+    private final InputStream in;
+    private final ByteBuffer source;
+    private final JsonUtils.NonStringValueProcessingMode mode;
+    private final Type definedJsonType;
+
+    private byte[] buff;
+    private int pos;
+    private int limit;
+    // Offset of the start of the buffer in the input, used to report the column of errors.
+    private long buffOffset;
+    private long lineStart;
+    private int line = 1;
+
+    private char[] chars = new char[256];
+    private int charCount;
+    private byte[] token = new byte[32];
+    private int tokenLength;
+
+    private final String[] fieldNames = new String[FIELD_NAME_CACHE_SIZE];
+    private final BString[] fieldNameValues = new BString[FIELD_NAME_CACHE_SIZE];
+
+    private Utf8JsonParser(InputStream in, ByteBuffer source, JsonUtils.NonStringValueProcessingMode mode) {
+        this.in = in;
+        this.source = source;
+        this.mode = mode;
+        if (mode == FROM_JSON_DECIMAL_STRING) {
+            definedJsonType = PredefinedTypes.TYPE_JSON_DECIMAL;
+        } else if (mode == FROM_JSON_FLOAT_STRING) {
+            definedJsonType = PredefinedTypes.TYPE_JSON_FLOAT;
+        } else {
+            definedJsonType = PredefinedTypes.TYPE_JSON;
+        }
+    }
+
+    /**
+     * Parses the UTF-8 encoded JSON content from the position to the limit of the given buffer and returns a json. The
+     * position of the buffer is set to its limit.
+     *
+     * @param buffer buffer which contains the JSON content
+     * @param mode   the mode to use when processing numeric values
+     * @return JSON structure
+     * @throws BError for any parsing error
+     */
+    public static Object parse(ByteBuffer buffer, JsonUtils.NonStringValueProcessingMode mode) throws BError {
+        Utf8JsonParser parser;
+        if (buffer.hasArray()) {
+            // The bytes are read from the backing array without copying them.
+            parser = new Utf8JsonParser(null, null, mode);
+            parser.buff = buffer.array();
+            parser.pos = buffer.arrayOffset() + buffer.position();
+            parser.limit = buffer.arrayOffset() + buffer.limit();
+            parser.buffOffset = -parser.pos;
+            buffer.position(buffer.limit());
+        } else {
+            parser = new Utf8JsonParser(null, buffer, mode);
+            parser.buff = new byte[(int) Math.min(BUFFER_SIZE, buffer.remaining())];
+        }
+        return parser.parse();
+    }
+
+    /**
+     * Parses the UTF-8 encoded JSON content in the given {@link InputStream} and returns a json.
+     *
+     * @param in   input stream which contains the JSON content
+     * @param mode the mode to use when processing numeric values
+     * @return JSON structure
+     * @throws BError for any parsing error
+     */
+    public static Object parse(InputStream in, JsonUtils.NonStringValueProcessingMode mode) throws BError {
+        Utf8JsonParser parser = new Utf8JsonParser(in, null, mode);
+        parser.buff = new byte[BUFFER_SIZE];
+        return parser.parse();
+    }
+
+    /**
+     * Represents a JSON parser related exception.
+     */
+    private static class JsonParserException extends Exception {
+
+        private static final long serialVersionUID = 2787413718853257297L;
+
+        public JsonParserException(String msg) {
+            super(msg);
+        }
+    }
+
+    private Object parse() throws BError {
+        try {
+            return readDocument();
+        } catch (IOException e) {
+            throw ErrorCreator.createError(StringUtils.fromString("Error reading JSON: " + e.getMessage()));
+        } catch (JsonParserException e) {
+            throw ErrorCreator.createError(StringUtils.fromString(e.getMessage() + " at line: " + this.line + " " +
+                                                                          "column: " + (buffOffset + pos - lineStart)));
+        }
+    }
+
+    private Object readDocument() throws IOException, JsonParserException {
+        // Containers which are being read, with the names of the fields of which the values are being read.
+        Deque<Object> containers = new ArrayDeque<>();
+        Deque<BString> names = new ArrayDeque<>();
+        int ch = skipWhitespace();
+        if (ch == EOF) {
+            throw new JsonParserException("empty JSON document");
+        }
+
+        while (true) {
+            // Read a value which starts with the current character.
+            Object value;
+            if (ch == '{') {
+                MapValueImpl<BString, Object> map = new MapValueImpl<>(new BMapType(definedJsonType));
+                ch = skipWhitespace();
+                if (ch != '}') {
+                    containers.push(map);
+                    names.push(readFieldName(ch));
+                    ch = skipWhitespace();
+                    continue;
+                }
+                value = map;
+            } else if (ch == '[') {
+                ArrayValueImpl array = new ArrayValueImpl(new BArrayType(definedJsonType));
+                ch = skipWhitespace();
+                if (ch != ']') {
+                    containers.push(array);
+                    continue;
+                }
+                value = array;
+            } else if (ch == '"') {
+                readString();
+                value = StringUtils.fromString(new String(chars, 0, charCount));
+            } else if (ch == EOF) {
+                throw new JsonParserException("unexpected end of JSON document");
+            } else {
+                value = readNonStringValue(ch);
+            }
+            ch = skipWhitespace();
+
+            // Add the value to its container, and close the containers which end after it.
+            while (true) {
+                if (containers.isEmpty()) {
+                    if (ch != EOF) {
+                        throw new JsonParserException("JSON document has already ended");
+                    }
+                    return value;
+                }
+                Object container = containers.peek();
+                if (container instanceof MapValueImpl) {
+                    ((MapValueImpl<BString, Object>) container).put(names.pop(), value);
+                    if (ch == ',') {
+                        names.push(readFieldName(skipWhitespace()));
+                        ch = skipWhitespace();
+                        break;
+                    } else if (ch != '}') {
+                        throw expected(ch, ",", "}");
+                    }
+                } else {
+                    ((ArrayValueImpl) container).append(value);
+                    if (ch == ',') {
+                        ch = skipWhitespace();
+                        break;
+                    } else if (ch != ']') {
+                        throw expected(ch, ",", "]");
+                    }
+                }
+                value = containers.pop();
+                ch = skipWhitespace();
+            }
+        }
+    }
+
+    private BString readFieldName(int ch) throws IOException, JsonParserException {
+        if (ch != '"') {
+            throw expected(ch, "\"");
+        }
+        readString();
+        int hash = 0;
+        for (int i = 0; i < charCount; i++) {
+            hash = 31 * hash + chars[i];
+        }
+        int index = (hash ^ (hash >>> 16)) & (FIELD_NAME_CACHE_SIZE - 1);
+        String cached = fieldNames[index];
+        if (cached == null || !contentEquals(cached)) {
+            cached = new String(chars, 0, charCount);
+            fieldNames[index] = cached;
+            fieldNameValues[index] = StringUtils.fromString(cached);
+        }
+
+        int next = skipWhitespace();
+        if (next != ':') {
+            throw expected(next, ":");
+        }
+        return fieldNameValues[index];
+    }
+
+    private boolean contentEquals(String str) {
+        if (str.length() != charCount) {
+            return false;
+        }
+        for (int i = 0; i < charCount; i++) {
+            if (str.charAt(i) != chars[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reads the characters of a string after the opening quote into the character buffer, up to and including the
+     * closing quote.
+     */
+    private void readString() throws IOException, JsonParserException {
+        charCount = 0;
+        while (true) {
+            if (pos == limit && !fill()) {
+                throw new JsonParserException("unexpected end of JSON document");
+            }
+            // Plain ASCII characters are copied in bulk.
+            int start = pos;
+            byte[] bytes = buff;
+            int end = limit;
+            int i = start;
+            while (i < end) {
+                byte b = bytes[i];
+                if (b == '"' || b == '\\' || b < 0) {
+                    break;
+                }
+                i++;
+            }
+            ensureCharCapacity(i - start);
+            for (int j = start; j < i; j++) {
+                chars[charCount++] = (char) bytes[j];
+            }
+            pos = i;
+            if (i == end) {
+                continue;
+            }
+
+            int b = bytes[pos++];
+            if (b == '"') {
+                return;
+            } else if (b == '\\') {
+                readEscapedCharacter();
+            } else {
+                readMultiByteCharacter(b & 0xFF);
+            }
+        }
+    }
+
+    private void readEscapedCharacter() throws IOException, JsonParserException {
+        int ch = read();
+        char escaped;
+        switch (ch) {
+            case '"':
+            case '\\':
+            case '/':
+                escaped = (char) ch;
+                break;
+            case 'b':
+                escaped = '\b';
+                break;
+            case 'f':
+                escaped = '\f';
+                break;
+            case 'n':
+                escaped = '\n';
+                break;
+            case 'r':
+                escaped = '\r';
+                break;
+            case 't':
+                escaped = '\t';
+                break;
+            case 'u':
+                int codeUnit = 0;
+                for (int i = 0; i < 4; i++) {
+                    int digit = Character.digit(read(), 16);
+                    if (digit < 0) {
+                        throw new JsonParserException("expected 'hexadecimal value of an unicode character'");
+                    }
+                    codeUnit = (codeUnit << 4) | digit;
+                }
+                escaped = (char) codeUnit;
+                break;
+            case EOF:
+                throw new JsonParserException("unexpected end of JSON document");
+            default:
+                throw new JsonParserException("expected 'escaped characters'");
+        }
+        appendChar(escaped);
+    }
+
+    private void readMultiByteCharacter(int lead) throws IOException {
+        int length;
+        int codePoint;
+        if ((lead & 0xE0) == 0xC0) {
+            length = 2;
+            codePoint = lead & 0x1F;
+        } else if ((lead & 0xF0) == 0xE0) {
+            length = 3;
+            codePoint = lead & 0x0F;
+        } else if ((lead & 0xF8) == 0xF0) {
+            length = 4;
+            codePoint = lead & 0x07;
+        } else {
+            appendChar(REPLACEMENT_CHAR);
+            return;
+        }
+        for (int i = 1; i < length; i++) {
+            int next = read();
+            if ((next & 0xC0) != 0x80) {
+                // Malformed sequences are replaced as done by the UTF-8 charset decoder.
+                if (next != EOF) {
+                    pos--;
+                }
+                appendChar(REPLACEMENT_CHAR);
+                return;
+            }
+            codePoint = (codePoint << 6) | (next & 0x3F);
+        }
+        if (Character.isBmpCodePoint(codePoint)) {
+            appendChar((char) codePoint);
+        } else if (Character.isValidCodePoint(codePoint)) {
+            appendChar(Character.highSurrogate(codePoint));
+            appendChar(Character.lowSurrogate(codePoint));
+        } else {
+            appendChar(REPLACEMENT_CHAR);
+        }
+    }
+
+    /**
+     * Reads a literal or a number which starts with the given character.
+     */
+    private Object readNonStringValue(int first) throws IOException, JsonParserException {
+        tokenLength = 0;
+        int ch = first;
+        while (ch != EOF && !isWhitespace(ch) && ch != ',' && ch != '}' && ch != ']' && ch != '{' && ch != '[' &&
+                ch != '"') {
+            if (tokenLength == token.length) {
+                byte[] newToken = new byte[token.length * 2];
+                System.arraycopy(token, 0, newToken, 0, tokenLength);
+                token = newToken;
+            }
+            token[tokenLength++] = (byte) ch;
+            ch = read();
+        }
+        if (ch != EOF) {
+            // The character which ends the value is read again by the caller.
+            pos--;
+        }
+        if (tokenLength == 0) {
+            throw new JsonParserException("unrecognized token '" + (char) ch + "'");
+        }
+
+        switch (token[0]) {
+            case 't':
+                if (isToken("true")) {
+                    return Boolean.TRUE;
+                }
+                break;
+            case 'f':
+                if (isToken("false")) {
+                    return Boolean.FALSE;
+                }
+                break;
+            case 'n':
+                if (isToken("null")) {
+                    return null;
+                }
+                break;
+            default:
+                break;
+        }
+        return readNumber();
+    }
+
+    private boolean isToken(String literal) {
+        if (tokenLength != literal.length()) {
+            return false;
+        }
+        for (int i = 0; i < tokenLength; i++) {
+            if (token[i] != literal.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Object readNumber() throws JsonParserException {
+        // Numbers in the plain decimal notation with a few digits are converted from the bytes. Other numbers are
+        // converted from a string, the same way as done by JsonParser.
+        boolean negative = token[0] == '-';
+        int i = negative ? 1 : 0;
+        long mantissa = 0;
+        int integerDigits = 0;
+        int fractionDigits = 0;
+        boolean fraction = false;
+        for (; i < tokenLength; i++) {
+            byte b = token[i];
+            if (b >= '0' && b <= '9') {
+                if (integerDigits + fractionDigits == MAX_FAST_PATH_DIGITS) {
+                    return readNumberFromString();
+                }
+                mantissa = mantissa * 10 + (b - '0');
+                if (fraction) {
+                    fractionDigits++;
+                } else {
+                    integerDigits++;
+                }
+            } else if (b == '.' && !fraction && integerDigits > 0) {
+                fraction = true;
+            } else {
+                return readNumberFromString();
+            }
+        }
+        if (integerDigits == 0 || (fraction && fractionDigits == 0)) {
+            return readNumberFromString();
+        }
+
+        long signedMantissa = negative ? -mantissa : mantissa;
+        switch (mode) {
+            case FROM_JSON_FLOAT_STRING:
+                return toDouble(negative, mantissa, fractionDigits);
+            case FROM_JSON_DECIMAL_STRING:
+                return new DecimalValue(BigDecimal.valueOf(signedMantissa, fractionDigits));
+            default:
+                if (negative && mantissa == 0) {
+                    return -0.0;
+                }
+                if (fraction) {
+                    return new DecimalValue(BigDecimal.valueOf(signedMantissa, fractionDigits));
+                }
+                return signedMantissa;
+        }
+    }
+
+    private Object toDouble(boolean negative, long mantissa, int fractionDigits) throws JsonParserException {
+        if (mantissa > MAX_EXACT_DOUBLE_MANTISSA) {
+            return readNumberFromString();
+        }
+        // Both the mantissa and the power of ten are exact, hence the quotient is correctly rounded.
+        double value = mantissa / POWERS_OF_TEN[fractionDigits];
+        return negative ? -value : value;
+    }
+
+    private Object readNumberFromString() throws JsonParserException {
+        String str = new String(token, 0, tokenLength, StandardCharsets.UTF_8);
+        try {
+            switch (mode) {
+                case FROM_JSON_FLOAT_STRING:
+                    return Double.parseDouble(str);
+                case FROM_JSON_DECIMAL_STRING:
+                    return new DecimalValue(str);
+                default:
+                    if ('-' == str.charAt(0) && 0 == Double.parseDouble(str)) {
+                        return Double.parseDouble(str);
+                    }
+                    if (str.indexOf('.') >= 0) {
+                        return new DecimalValue(str);
+                    }
+                    return Long.parseLong(str);
+            }
+        } catch (NumberFormatException ignore) {
+            throw new JsonParserException("unrecognized token '" + str + "'");
+        }
+    }
+
+    private static boolean isWhitespace(int ch) {
+        return ch == ' ' || ch == '\t' || ch == '\n' || ch == '\r';
+    }
+
+    private static JsonParserException expected(int ch, String... chars) {
+        if (ch == EOF) {
+            return new JsonParserException("unexpected end of JSON document");
+        }
+        return new JsonParserException("expected '" + String.join("' or '", chars) + "'");
+    }
+
+    private int skipWhitespace() throws IOException {
+        while (true) {
+            int ch = read();
+            if (ch == '\n') {
+                line++;
+                lineStart = buffOffset + pos;
+            } else if (!isWhitespace(ch)) {
+                return ch;
+            }
+        }
+    }
+
+    private int read() throws IOException {
+        if (pos == limit && !fill()) {
+            return EOF;
+        }
+        return buff[pos++] & 0xFF;
+    }
+
+    private boolean fill() throws IOException {
+        int count;
+        if (in != null) {
+            count = in.read(buff);
+        } else if (source != null && source.hasRemaining()) {
+            count = Math.min(buff.length, source.remaining());
+            source.get(buff, 0, count);
+        } else {
+            count = -1;
+        }
+        if (count <= 0) {
+            return false;
+        }
+        buffOffset += limit;
+        pos = 0;
+        limit = count;
+        return true;
+    }
+
+    private void appendChar(char ch) {
+        ensureCharCapacity(1);
+        chars[charCount++] = ch;
+    }
+
+    private void ensureCharCapacity(int length) {
+        if (charCount + length > chars.length) {
+            char[] newChars = new char[Math.max(chars.length * 2, charCount + length)];
+            System.arraycopy(chars, 0, newChars, 0, charCount);
+            chars = newChars;
+        }
+    }
+}
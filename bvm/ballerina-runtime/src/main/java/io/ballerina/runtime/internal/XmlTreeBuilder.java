@@ -29,10 +29,13 @@ import io.ballerina.runtime.internal.values.XmlPi;
 import io.ballerina.runtime.internal.values.XmlQName;
 import io.ballerina.runtime.internal.values.XmlSequence;
 
+import java.io.IOException;
 import java.io.Reader;
 import java.io.StringReader;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -45,6 +48,7 @@ import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamReader;
 
+import static io.ballerina.runtime.api.constants.RuntimeConstants.BALLERINA_LAZY_XML_ENV_VAR;
 import static javax.xml.stream.XMLStreamConstants.CDATA;
 import static javax.xml.stream.XMLStreamConstants.CHARACTERS;
 import static javax.xml.stream.XMLStreamConstants.COMMENT;
@@ -56,6 +60,14 @@ import static javax.xml.stream.XMLStreamConstants.START_ELEMENT;
 
 /**
  * XML tree builder for Ballerina xml node structure using {@code XMLStreamReader}.
+ * <p>
+ * In the lazy mode, which is enabled with the {@code BALLERINA_LAZY_XML} environment variable, only the top level
+ * items of the document are built while the whole document is validated. Once the document is known to be
+ * well-formed, the offsets of the content of every element are recorded in a single scan of the source. The children
+ * of an element are read from the source when they are first accessed, e.g. when navigating to the children or
+ * iterating over them, skipping the content of the child elements. Hence large documents of which only a few elements
+ * are used do not pay for building the whole tree. Documents with a document type declaration are always built
+ * eagerly, since it may declare entities which are needed to read any element.
  *
  * @since 1.2.0
  */
@@ -69,16 +81,47 @@ public class XmlTreeBuilder {
         xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
     }
 
+    private static final boolean LAZY_PARSING = Boolean.parseBoolean(System.getenv(BALLERINA_LAZY_XML_ENV_VAR));
+    private static final String DOCTYPE_DECLARATION = "<!DOCTYPE";
+
     private XMLStreamReader xmlStreamReader;
     private Map<String, String> namespaces; // xml ns declarations from Bal source [xmlns "http://ns.com" as ns]
     private Deque<BXmlSequence> seqDeque;
     private Deque<List<BXml>> siblingDeque;
+    // Whole document of which the children are read lazily, or null if the tree is built eagerly.
+    private String source;
+    // Offsets of the elements of the source, once the source is known to be well-formed.
+    private ElementOffsets offsets;
 
     public XmlTreeBuilder(String str) {
-        this(new StringReader(str));
+        this(str, LAZY_PARSING);
+    }
+
+    public XmlTreeBuilder(String str, boolean lazy) {
+        init(new StringReader(str), lazy && isLazilyReadable(str) ? str : null);
     }
 
     public XmlTreeBuilder(Reader stringReader) {
+        this(stringReader, LAZY_PARSING);
+    }
+
+    public XmlTreeBuilder(Reader stringReader, boolean lazy) {
+        if (!lazy) {
+            init(stringReader, null);
+            return;
+        }
+        // Children are read from the source later, hence the whole source is kept.
+        String str = readSource(stringReader);
+        init(new StringReader(str), isLazilyReadable(str) ? str : null);
+    }
+
+    private XmlTreeBuilder(String source, ElementOffsets offsets, String fragment) {
+        init(new StringReader(fragment), source);
+        this.offsets = offsets;
+    }
+
+    private void init(Reader reader, String source) {
+        this.source = source;
         namespaces = new HashMap<>();
         seqDeque = new ArrayDeque<>();
         siblingDeque = new ArrayDeque<>();
@@ -88,18 +131,39 @@ public class XmlTreeBuilder {
         seqDeque.push(new XmlSequence(siblings));
 
         try {
-            xmlStreamReader = xmlInputFactory.createXMLStreamReader(stringReader);
+            xmlStreamReader = xmlInputFactory.createXMLStreamReader(reader);
         } catch (XMLStreamException e) {
             handleXMLStreamException(e);
         }
     }
 
+    private static boolean isLazilyReadable(String str) {
+        return !str.contains(DOCTYPE_DECLARATION);
+    }
+
+    private String readSource(Reader reader) {
+        StringBuilder builder = new StringBuilder();
+        char[] buffer = new char[8192];
+        try (reader) {
+            int read;
+            while ((read = reader.read(buffer)) != -1) {
+                builder.append(buffer, 0, read);
+            }
+        } catch (IOException e) {
+            handleXMLStreamException(e);
+        }
+        return builder.toString();
+    }
+
     private void handleXMLStreamException(Exception e) {
         // todo: do e.getMessage contain all the information? verify
         throw new BallerinaException(e.getMessage(), e);
     }
 
     public BXml parse() {
+        if (source != null) {
+            return new XmlSequence(readChildren(0, Collections.emptyMap(), false));
+        }
         try {
             while (xmlStreamReader.hasNext()) {
                 int next = xmlStreamReader.next();
@@ -166,17 +230,275 @@ public class XmlTreeBuilder {
     }
 
     private void readElement(XMLStreamReader xmlStreamReader) {
+        XmlItem xmlItem = createElement(xmlStreamReader);
+
+        seqDeque.push(xmlItem.getChildrenSeq());
+
+        siblingDeque.peek().add(xmlItem);
+        siblingDeque.push(xmlItem.getChildrenSeq().getChildrenList());
+    }
+
+    private XmlItem createElement(XMLStreamReader xmlStreamReader) {
         QName elemName = xmlStreamReader.getName();
         XmlQName name = new XmlQName(elemName.getLocalPart(),
                                      elemName.getNamespaceURI(), elemName.getPrefix());
         XmlItem xmlItem = (XmlItem) XmlFactory.createXMLElement(name, name, null);
+        populateAttributeMap(xmlStreamReader, xmlItem, elemName);
+        return xmlItem;
+    }
 
-        seqDeque.push(xmlItem.getChildrenSeq());
+    /**
+     * Reads the children of an element of which the children are read lazily.
+     *
+     * @param source     whole document
+     * @param offsets    offsets of the elements of the document
+     * @param element    index of the element in the document
+     * @param namespaces namespace declarations in scope of the content, by prefix
+     * @return children of the element
+     */
+    static List<BXml> readDeferredChildren(String source, ElementOffsets offsets, int element,
+                                           Map<String, String> namespaces) {
+        // The content is wrapped in an element which declares the namespaces declared by the ancestors. The content
+        // of the child elements is left out, since it is read when the children of each child are accessed.
+        int contentStart = offsets.getContentStart(element);
+        int contentEnd = offsets.getContentEnd(element);
+        StringBuilder fragment = new StringBuilder(64);
+        fragment.append("<root");
+        for (Map.Entry<String, String> namespace : namespaces.entrySet()) {
+            fragment.append(namespace.getKey().isEmpty() ? " xmlns" : " xmlns:" + namespace.getKey())
+                    .append("=\"");
+            appendEscapedAttributeValue(fragment, namespace.getValue());
+            fragment.append('"');
+        }
+        fragment.append('>');
+        int index = contentStart;
+        for (int child = element + 1; child < offsets.getNext(element); child = offsets.getNext(child)) {
+            fragment.append(source, index, offsets.getContentStart(child));
+            index = offsets.getContentEnd(child);
+        }
+        fragment.append(source, index, contentEnd).append("</root>");
+        // The whole document has been validated when it was parsed, hence the fragment is well-formed.
+        return new XmlTreeBuilder(source, offsets, fragment.toString()).readChildren(element + 1, namespaces, true);
+    }
 
-        siblingDeque.peek().add(xmlItem);
-        populateAttributeMap(xmlStreamReader, xmlItem, elemName);
-        siblingDeque.push(xmlItem.getChildrenSeq().getChildrenList());
+    /**
+     * Reads the items at the top level of the current reader. The items are the top level items of the document, or
+     * the children of the wrapper element of a fragment. Child elements are created with children which are read
+     * lazily.
+     *
+     * @param firstElement index of the first child element in the document
+     * @param namespaces   namespace declarations in scope of the items, by prefix
+     * @param wrapped      whether the items are wrapped in an element
+     * @return items at the top level
+     */
+    private List<BXml> readChildren(int firstElement, Map<String, String> namespaces, boolean wrapped) {
+        List<BXml> children = new ArrayList<>();
+        List<XmlItem> elements = new ArrayList<>();
+        List<Map<String, String>> elementNamespaces = new ArrayList<>();
+        // The wrapper element is at depth zero, hence its children are at depth one as the top level items.
+        int depth = wrapped ? -1 : 0;
+        try {
+            while (xmlStreamReader.hasNext()) {
+                int next = xmlStreamReader.next();
+                switch (next) {
+                    case START_ELEMENT:
+                        if (depth++ == 0) {
+                            XmlItem element = createElement(xmlStreamReader);
+                            elements.add(element);
+                            elementNamespaces.add(getInScopeNamespaces(namespaces));
+                            children.add(element);
+                        }
+                        break;
+                    case END_ELEMENT:
+                        depth--;
+                        break;
+                    case PROCESSING_INSTRUCTION:
+                        if (depth == 0) {
+                            children.add(XmlFactory.createXMLProcessingInstruction(xmlStreamReader.getPITarget(),
+                                                                                   xmlStreamReader.getPIData()));
+                        }
+                        break;
+                    case COMMENT:
+                        if (depth == 0) {
+                            children.add(XmlFactory.createXMLComment(xmlStreamReader.getText()));
+                        }
+                        break;
+                    case CDATA:
+                    case CHARACTERS:
+                        if (depth == 0) {
+                            children.add(XmlFactory.createXMLText(xmlStreamReader.getText()));
+                        }
+                        break;
+                    case END_DOCUMENT:
+                        return deferChildren(children, firstElement, elements, elementNamespaces);
+                    default:
+                        break;
+                }
+            }
+        } catch (Exception e) {
+            handleXMLStreamException(e);
+        }
+        return deferChildren(children, firstElement, elements, elementNamespaces);
+    }
+
+    private List<BXml> deferChildren(List<BXml> children, int firstElement, List<XmlItem> elements,
+                                     List<Map<String, String>> elementNamespaces) {
+        // The whole input has been read by the reader without an error, hence the source is well-formed.
+        if (offsets == null) {
+            offsets = ElementOffsets.of(source);
+        }
+        int element = firstElement;
+        for (int i = 0; i < elements.size(); i++) {
+            elements.get(i).setChildrenList(
+                    new DeferredXmlChildren(source, offsets, element, elementNamespaces.get(i)));
+            element = offsets.getNext(element);
+        }
+        return children;
+    }
+
+    private Map<String, String> getInScopeNamespaces(Map<String, String> namespaces) {
+        int namespaceCount = xmlStreamReader.getNamespaceCount();
+        if (namespaceCount == 0) {
+            return namespaces;
+        }
+        Map<String, String> inScopeNamespaces = new HashMap<>(namespaces);
+        for (int i = 0; i < namespaceCount; i++) {
+            String prefix = xmlStreamReader.getNamespacePrefix(i);
+            inScopeNamespaces.put(prefix == null ? "" : prefix, xmlStreamReader.getNamespaceURI(i));
+        }
+        return inScopeNamespaces;
+    }
+
+    private static void appendEscapedAttributeValue(StringBuilder builder, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '&':
+                    builder.append("&amp;");
+                    break;
+                case '<':
+                    builder.append("&lt;");
+                    break;
+                case '"':
+                    builder.append("&quot;");
+                    break;
+                default:
+                    builder.append(c);
+            }
+        }
+    }
+
+    /**
+     * Offsets of all the elements of a well-formed document, in document order. For each element, the start and end
+     * offsets of its content and the index of the element which follows its last descendant are recorded, so that
+     * the child elements of an element can be found without scanning its content again.
+     */
+    static final class ElementOffsets {
+
+        private static final int STRIDE = 3;
+
+        private int[] table = new int[STRIDE * 16];
+        private int count;
+
+        private ElementOffsets() {
+        }
+
+        int getContentStart(int element) {
+            return table[element * STRIDE];
+        }
+
+        int getContentEnd(int element) {
+            return table[element * STRIDE + 1];
+        }
+
+        int getNext(int element) {
+            return table[element * STRIDE + 2];
+        }
+
+        /**
+         * Finds the elements of the given document. The document is validated by the XML reader beforehand; an
+         * input which is found to be malformed regardless is reported as an error instead of being read partly.
+         *
+         * @param source well-formed document
+         * @return offsets of the elements of the document
+         */
+        static ElementOffsets of(String source) {
+            ElementOffsets offsets = new ElementOffsets();
+            int[] openElements = new int[16];
+            int depth = 0;
+            int i = source.indexOf('<');
+            while (i >= 0) {
+                if (source.startsWith("<!--", i)) {
+                    i = indexOf(source, "-->", i + 4) + 3;
+                } else if (source.startsWith("<![CDATA[", i)) {
+                    i = indexOf(source, "]]>", i + 9) + 3;
+                } else if (source.startsWith("<?", i)) {
+                    i = indexOf(source, "?>", i + 2) + 2;
+                } else if (i + 1 < source.length() && source.charAt(i + 1) == '/') {
+                    if (depth == 0) {
+                        throw new BallerinaException("unexpected xml end tag");
+                    }
+                    int element = openElements[--depth];
+                    offsets.table[element * STRIDE + 1] = i;
+                    offsets.table[element * STRIDE + 2] = offsets.count;
+                    i = indexOf(source, ">", i) + 1;
+                } else {
+                    int tagEnd = findTagEnd(source, i + 1);
+                    int element = offsets.add(tagEnd + 1);
+                    if (source.charAt(tagEnd - 1) == '/') {
+                        // Empty element tag.
+                        offsets.table[element * STRIDE + 1] = tagEnd + 1;
+                        offsets.table[element * STRIDE + 2] = offsets.count;
+                    } else {
+                        if (depth == openElements.length) {
+                            openElements = Arrays.copyOf(openElements, depth * 2);
+                        }
+                        openElements[depth++] = element;
+                    }
+                    i = tagEnd + 1;
+                }
+                i = source.indexOf('<', i);
+            }
+            if (depth != 0) {
+                throw new BallerinaException("unexpected end of xml document");
+            }
+            return offsets;
+        }
+
+        private int add(int contentStart) {
+            if ((count + 1) * STRIDE > table.length) {
+                table = Arrays.copyOf(table, table.length * 2);
+            }
+            table[count * STRIDE] = contentStart;
+            return count++;
+        }
+
+        private static int indexOf(String source, String str, int fromIndex) {
+            int index = source.indexOf(str, fromIndex);
+            if (index < 0) {
+                throw new BallerinaException("unexpected end of xml document");
+            }
+            return index;
+        }
+
+        private static int findTagEnd(String source, int index) {
+            char quote = 0;
+            for (int i = index; i < source.length(); i++) {
+                char c = source.charAt(i);
+                if (quote != 0) {
+                    if (c == quote) {
+                        quote = 0;
+                    }
+                } else if (c == '"' || c == '\'') {
+                    quote = c;
+                } else if (c == '>') {
+                    return i;
+                }
+            }
+            throw new BallerinaException("unexpected end of xml element tag");
+        }
     }
+
     // need to duplicate the same in xmlItem.setAttribute
 
     // todo: need to write a comment explaining each step
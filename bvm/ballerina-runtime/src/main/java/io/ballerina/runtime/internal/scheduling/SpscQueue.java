@@ -0,0 +1,170 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Unbounded lock-free queue for exactly one producer thread and one consumer thread at a time.
+ * <p>
+ * Elements are stored in a ring buffer. A slot is free when it holds {@code null}, so the producer and the consumer
+ * never read each other's index on the fast path. When the producer catches up with the consumer, a new ring of the
+ * same size is linked to the current one and a {@code JUMP} marker tells the consumer to move over to it. Hence in
+ * the steady state no allocation is done per element. Elements can not be {@code null}.
+ *
+ * @param <E> element type
+ * @since 2.0.0
+ */
+public class SpscQueue<E> {
+
+    private static final int DEFAULT_CAPACITY = 32;
+    private static final Object JUMP = new Object();
+    private static final VarHandle SLOT = MethodHandles.arrayElementVarHandle(Object[].class);
+    private static final VarHandle CONSUMER_INDEX;
+
+    static {
+        try {
+            CONSUMER_INDEX = MethodHandles.lookup().findVarHandle(SpscQueue.class, "consumerIndex", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final int mask;
+
+    // Accessed only by the producer, except for the index which is read by size() and isEmpty().
+    private Object[] producerBuffer;
+    private volatile long producerIndex;
+
+    // Accessed only by the consumer, except for the index which is read by size() and isEmpty().
+    private Object[] consumerBuffer;
+    private volatile long consumerIndex;
+
+    public SpscQueue() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a queue.
+     *
+     * @param capacity size of a ring, rounded up to a power of two
+     */
+    public SpscQueue(int capacity) {
+        int ringSize = Math.max(2, Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1);
+        this.mask = ringSize - 1;
+        // The additional slot at the end holds the link to the next ring.
+        Object[] buffer = new Object[ringSize + 1];
+        this.producerBuffer = buffer;
+        this.consumerBuffer = buffer;
+    }
+
+    /**
+     * Adds an element to the tail of the queue. Must only be called by the producer.
+     * <p>
+     * The producer index is published with a volatile write, so a read of a volatile field done after this method
+     * returns is not reordered before the element becomes visible to {@link #isEmpty()}.
+     *
+     * @param e element to be added
+     */
+    public void offer(E e) {
+        Object[] buffer = this.producerBuffer;
+        long index = this.producerIndex;
+        int offset = (int) index & mask;
+        // Always keep the next slot free, so that there is room for the jump marker when the ring is full.
+        if (SLOT.getAcquire(buffer, (offset + 1) & mask) == null) {
+            SLOT.setRelease(buffer, offset, e);
+        } else {
+            Object[] next = new Object[buffer.length];
+            next[offset] = e;
+            buffer[buffer.length - 1] = next;
+            this.producerBuffer = next;
+            SLOT.setRelease(buffer, offset, JUMP);
+        }
+        this.producerIndex = index + 1;
+    }
+
+    /**
+     * Removes and returns the head of the queue. Must only be called by the consumer.
+     *
+     * @return head of the queue, or {@code null} if the queue is empty
+     */
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        Object[] buffer = this.consumerBuffer;
+        long index = this.consumerIndex;
+        int offset = (int) index & mask;
+        Object e = SLOT.getAcquire(buffer, offset);
+        if (e == null) {
+            return null;
+        }
+        if (e == JUMP) {
+            Object[] next = (Object[]) buffer[buffer.length - 1];
+            buffer[buffer.length - 1] = null;
+            this.consumerBuffer = next;
+            buffer = next;
+            e = SLOT.getAcquire(buffer, offset);
+        }
+        SLOT.setRelease(buffer, offset, null);
+        CONSUMER_INDEX.setRelease(this, index + 1);
+        return (E) e;
+    }
+
+    /**
+     * Returns the head of the queue without removing it. Must only be called by the consumer.
+     *
+     * @return head of the queue, or {@code null} if the queue is empty
+     */
+    @SuppressWarnings("unchecked")
+    public E peek() {
+        Object[] buffer = this.consumerBuffer;
+        int offset = (int) this.consumerIndex & mask;
+        Object e = SLOT.getAcquire(buffer, offset);
+        if (e == JUMP) {
+            e = SLOT.getAcquire((Object[]) buffer[buffer.length - 1], offset);
+        }
+        return (E) e;
+    }
+
+    /**
+     * Returns the number of elements in the queue. This can be called from any thread, but the value is only a
+     * snapshot when the queue is being modified concurrently.
+     *
+     * @return number of elements
+     */
+    public int size() {
+        long after = this.consumerIndex;
+        while (true) {
+            long before = after;
+            long currentProducerIndex = this.producerIndex;
+            after = this.consumerIndex;
+            if (before == after) {
+                return (int) (currentProducerIndex - after);
+            }
+        }
+    }
+
+    /**
+     * Returns whether the queue is empty. This can be called from any thread.
+     *
+     * @return true if there are no elements in the queue
+     */
+    public boolean isEmpty() {
+        return this.consumerIndex == this.producerIndex;
+    }
+}
@@ -19,36 +19,50 @@ package io.ballerina.runtime.internal.scheduling;
 
 import io.ballerina.runtime.internal.values.ErrorValue;
 
-import java.util.LinkedList;
-import java.util.Queue;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
 import static io.ballerina.runtime.internal.scheduling.State.BLOCK_AND_YIELD;
+import static io.ballerina.runtime.internal.scheduling.State.RUNNABLE;
 
 /**
  * This represents a worker data channel that is created for each worker to
  * worker interaction for each function call.
+ * <p>
+ * A channel has a single sending worker and a single receiving worker. Hence messages are passed through a lock-free
+ * {@link SpscQueue} and async sends, as well as receives of async messages, do not acquire the channel lock. Sync
+ * sends, flushes and error propagation use the channel lock as before. The sender and the receiver hand over the
+ * waiting receiver and the waiting flush sender with compare-and-set, so that a strand is unblocked only once.
+ * Each counter is only updated by its own side of the channel.
  *
  * @since 0.995.0
  */
 public class WorkerDataChannel {
 
-    private Strand receiver;
+    // Placeholder for the nil value since the queue does not accept nulls.
+    private static final Object NIL = new Object();
+
+    private static final AtomicReferenceFieldUpdater<WorkerDataChannel, Strand> RECEIVER_UPDATER =
+            AtomicReferenceFieldUpdater.newUpdater(WorkerDataChannel.class, Strand.class, "receiver");
+    private static final AtomicReferenceFieldUpdater<WorkerDataChannel, WaitingSender> FLUSH_SENDER_UPDATER =
+            AtomicReferenceFieldUpdater.newUpdater(WorkerDataChannel.class, WaitingSender.class, "flushSender");
+
+    private volatile Strand receiver;
     private WaitingSender waitingSender;
-    private WaitingSender flushSender;
+    private volatile WaitingSender flushSender;
     private ErrorValue error;
     private Throwable panic;
     private int senderCounter;
-    private int receiverCounter;
+    private volatile int receiverCounter;
     private boolean reschedule;
 
     private Lock channelLock;
 
     public String chnlName;
 
-    @SuppressWarnings("rawtypes")
-    private Queue<WorkerResult> channel = new LinkedList<>();
+    // Holds the sent values, or a WorkerResult for sync sends.
+    private final SpscQueue<Object> channel = new SpscQueue<>();
 
     public WorkerDataChannel() {
         this.channelLock = new ReentrantLock();
@@ -70,19 +84,12 @@ public class WorkerDataChannel {
         this.channelLock.unlock();
     }
 
-    @SuppressWarnings("rawtypes")
     public void sendData(Object data, Strand sender) {
-        try {
-            acquireChannelLock();
-            this.channel.add(new WorkerResult(data));
-            this.senderCounter++;
-            if (this.receiver != null) {
-                this.receiver.scheduler.unblockStrand(this.receiver);
-                this.receiver = null;
-            }
-        } finally {
-            releaseChannelLock();
-        }
+        this.channel.offer(data == null ? NIL : data);
+        this.senderCounter++;
+        // The queue publishes the data with a volatile write, hence a receiver which is not seen here will see the
+        // data once it has published itself.
+        unblockReceiver();
     }
 
     /**
@@ -97,21 +104,20 @@ public class WorkerDataChannel {
             acquireChannelLock();
             if (!reschedule) {
                 // this is a new message, not a reschedule
-                this.channel.add(new WorkerResult(data, true));
-                this.senderCounter++;
+                // the waiting sender is set before the message is visible to the receiver
                 this.waitingSender = new WaitingSender(strand, -1);
+                this.channel.offer(new WorkerResult(data, true));
+                this.senderCounter++;
 
-                if (this.receiver != null) {
-                    // multiple checks are added to make sure this is
-                    this.receiver.scheduler.unblockStrand(this.receiver);
-                    this.receiver = null;
-                } else if (this.panic != null) {
-                    Throwable panic = this.panic;
-                    this.panic = null;
-                    throw panic;
-                } else if (this.error != null) {
-                    ErrorValue ret = this.error;
-                    return ret;
+                if (!unblockReceiver()) {
+                    if (this.panic != null) {
+                        Throwable panic = this.panic;
+                        this.panic = null;
+                        throw panic;
+                    } else if (this.error != null) {
+                        ErrorValue ret = this.error;
+                        return ret;
+                    }
                 }
 
                 reschedule = true;
@@ -120,10 +126,10 @@ public class WorkerDataChannel {
             }
 
             reschedule = false;
-            if (this.panic != null && this.channel.peek() != null) {
+            if (this.panic != null && !this.channel.isEmpty()) {
                 Throwable e = this.panic;
                 throw e;
-            } else if (this.error != null && this.channel.peek() != null) {
+            } else if (this.error != null && !this.channel.isEmpty()) {
                 ErrorValue ret = this.error;
                 return ret;
             }
@@ -135,50 +141,83 @@ public class WorkerDataChannel {
         }
     }
 
-    @SuppressWarnings("rawtypes")
     public Object tryTakeData(Strand strand) throws Throwable {
+        Object result = this.channel.poll();
+        if (result != null) {
+            return takeData(result);
+        }
+
         try {
             acquireChannelLock();
-            WorkerResult result = this.channel.peek();
-            if (result != null) {
-                this.receiverCounter++;
-                this.channel.remove();
-
-                if (result.isSync) {
-                    // sync sender will pick the this.error as result, which is null
-                    Strand waiting  = this.waitingSender.waitingStrand;
-                    waiting.scheduler.unblockStrand(waiting);
-                    this.waitingSender = null;
-                } else if (this.flushSender != null && this.flushSender.flushCount == this.receiverCounter) {
-                    this.flushSender.waitingStrand.flushDetail.flushLock.lock();
-                    this.flushSender.waitingStrand.flushDetail.flushedCount++;
-                    if (this.flushSender.waitingStrand.flushDetail.flushedCount
-                            == this.flushSender.waitingStrand.flushDetail.flushChannels.length &&
-                            this.flushSender.waitingStrand.isBlocked()) {
-                            //will continue if this is a sync wait, will try to flush again if blocked on flush
-                            this.flushSender.waitingStrand.scheduler.unblockStrand(this.flushSender.waitingStrand);
-
-                    }
-                    this.flushSender.waitingStrand.flushDetail.flushLock.unlock();
-                    this.flushSender = null;
-                }
-                return result.value;
-            } else if (this.panic != null && this.senderCounter == this.receiverCounter + 1) {
+            if (this.panic != null && this.senderCounter == this.receiverCounter + 1) {
                 this.receiverCounter++;
                 throw this.panic;
             } else if (this.error != null && this.senderCounter == this.receiverCounter + 1) {
                 this.receiverCounter++;
                 return error;
-            } else {
-                this.receiver = strand;
-                strand.setState(BLOCK_AND_YIELD);
-                return null;
             }
+
+            // The state is set before the receiver is published, since a sender may unblock it right away.
+            strand.setState(BLOCK_AND_YIELD);
+            this.receiver = strand;
+            // Check again for data sent before the sender could see the receiver. If a sender has already taken the
+            // receiver, it will be unblocked and the data is taken after the reschedule.
+            if (!this.channel.isEmpty() && RECEIVER_UPDATER.compareAndSet(this, strand, null)) {
+                strand.setState(RUNNABLE);
+                return takeData(this.channel.poll());
+            }
+            return null;
         } finally {
             releaseChannelLock();
         }
     }
 
+    private Object takeData(Object result) {
+        if (result instanceof WorkerResult) {
+            try {
+                acquireChannelLock();
+                this.receiverCounter++;
+                // sync sender will pick the this.error as result, which is null
+                Strand waiting = this.waitingSender.waitingStrand;
+                waiting.scheduler.unblockStrand(waiting);
+                this.waitingSender = null;
+            } finally {
+                releaseChannelLock();
+            }
+            return ((WorkerResult) result).value;
+        }
+
+        this.receiverCounter++;
+        // The flush sender publishes itself before checking the receiver counter, hence either this side or the
+        // flush sender will see that all the messages have been received.
+        WaitingSender flushWait = this.flushSender;
+        if (flushWait != null && flushWait.flushCount == this.receiverCounter &&
+                FLUSH_SENDER_UPDATER.compareAndSet(this, flushWait, null)) {
+            Strand flushStrand = flushWait.waitingStrand;
+            flushStrand.flushDetail.flushLock.lock();
+            flushStrand.flushDetail.flushedCount++;
+            if (flushStrand.flushDetail.flushedCount == flushStrand.flushDetail.flushChannels.length &&
+                    flushStrand.isBlocked()) {
+                //will continue if this is a sync wait, will try to flush again if blocked on flush
+                flushStrand.scheduler.unblockStrand(flushStrand);
+            }
+            flushStrand.flushDetail.flushLock.unlock();
+        }
+        return result == NIL ? null : result;
+    }
+
+    private boolean unblockReceiver() {
+        if (this.receiver == null) {
+            return false;
+        }
+        Strand waitingReceiver = RECEIVER_UPDATER.getAndSet(this, null);
+        if (waitingReceiver == null) {
+            return false;
+        }
+        waitingReceiver.scheduler.unblockStrand(waitingReceiver);
+        return true;
+    }
+
     /**
      * Set the state as error if the receiving worker is in error state.
      * @param error the BError of the receiving worker
@@ -187,10 +226,7 @@ public class WorkerDataChannel {
         acquireChannelLock();
         this.error = error;
         this.senderCounter++;
-        if (this.receiver != null) {
-            this.receiver.scheduler.unblockStrand(this.receiver);
-            this.receiver = null;
-        }
+        unblockReceiver();
         releaseChannelLock();
     }
 
@@ -203,15 +239,15 @@ public class WorkerDataChannel {
         acquireChannelLock();
         this.error = error;
         this.receiverCounter++;
-        if (this.flushSender != null) {
-            this.flushSender.waitingStrand.flushDetail.flushLock.lock();
-            Strand flushStrand = this.flushSender.waitingStrand;
+        WaitingSender flushWait = FLUSH_SENDER_UPDATER.getAndSet(this, null);
+        if (flushWait != null) {
+            Strand flushStrand = flushWait.waitingStrand;
+            flushStrand.flushDetail.flushLock.lock();
             if (flushStrand.isBlocked()) {
                 flushStrand.flushDetail.result = error;
                 flushStrand.scheduler.unblockStrand(flushStrand);
             }
-            this.flushSender.waitingStrand.flushDetail.flushLock.unlock();
-            this.flushSender = null;
+            flushStrand.flushDetail.flushLock.unlock();
         } else if (this.waitingSender != null) {
             Strand waiting = this.waitingSender.waitingStrand;
             waiting.scheduler.unblockStrand(waiting);
@@ -235,18 +271,28 @@ public class WorkerDataChannel {
             } else if (this.error != null) {
                 return this.error;
             } else if (this.receiverCounter == this.senderCounter) {
-                strand.flushDetail.flushLock.lock();
-                strand.flushDetail.flushedCount++;
-                strand.flushDetail.flushLock.unlock();
+                markFlushed(strand);
                 return null;
             }
-            this.flushSender = new WaitingSender(strand, this.senderCounter);
+            WaitingSender flushWait = new WaitingSender(strand, this.senderCounter);
+            this.flushSender = flushWait;
+            // The receiver may have taken the last message before it could see the flush sender.
+            if (this.receiverCounter == this.senderCounter &&
+                    FLUSH_SENDER_UPDATER.compareAndSet(this, flushWait, null)) {
+                markFlushed(strand);
+            }
             return null;
         } finally {
             releaseChannelLock();
         }
     }
 
+    private void markFlushed(Strand strand) {
+        strand.flushDetail.flushLock.lock();
+        strand.flushDetail.flushedCount++;
+        strand.flushDetail.flushLock.unlock();
+    }
+
     public void removeFlushWait() {
         acquireChannelLock();
         this.flushSender = null;
@@ -263,10 +309,7 @@ public class WorkerDataChannel {
             acquireChannelLock();
             this.panic  = panic;
             this.senderCounter++;
-            if (this.receiver != null) {
-                this.receiver.scheduler.unblockStrand(this.receiver);
-                this.receiver = null;
-            }
+            unblockReceiver();
         } finally {
             releaseChannelLock();
         }
@@ -281,15 +324,15 @@ public class WorkerDataChannel {
         acquireChannelLock();
         this.panic  = panic;
         this.receiverCounter++;
-        if (this.flushSender != null) {
-            this.flushSender.waitingStrand.flushDetail.flushLock.lock();
-            Strand flushStrand = this.flushSender.waitingStrand;
-            this.flushSender.waitingStrand.flushDetail.panic = panic;
+        WaitingSender flushWait = FLUSH_SENDER_UPDATER.getAndSet(this, null);
+        if (flushWait != null) {
+            Strand flushStrand = flushWait.waitingStrand;
+            flushStrand.flushDetail.flushLock.lock();
+            flushStrand.flushDetail.panic = panic;
             if (flushStrand.isBlocked()) {
                 flushStrand.scheduler.unblockStrand(flushStrand);
             }
-            this.flushSender.waitingStrand.flushDetail.flushLock.unlock();
-            this.flushSender = null;
+            flushStrand.flushDetail.flushLock.unlock();
         } else if (this.waitingSender != null) {
             Strand waiting = this.waitingSender.waitingStrand;
             waiting.scheduler.unblockStrand(waiting);
@@ -44,6 +44,9 @@ import io.ballerina.runtime.api.values.BString;
      @Override
      public BString concat(BString str) {
          StringValue stringValue = (StringValue) str;
+         if (ConcatStringValue.isRopeLength(this, stringValue)) {
+             return new ConcatStringValue(this, stringValue);
+         }
          if (stringValue.isNonBmp) {
              int[] otherSurrogates = ((NonBmpStringValue) str).getSurrogates();
              int[] newSurrogates = new int[otherSurrogates.length];
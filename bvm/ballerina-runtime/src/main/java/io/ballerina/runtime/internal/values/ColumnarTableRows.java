@@ -0,0 +1,325 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.TableUtils;
+import io.ballerina.runtime.internal.TypeChecker;
+import io.ballerina.runtime.internal.types.BRecordType;
+import io.ballerina.runtime.internal.types.BTupleType;
+
+import java.lang.ref.WeakReference;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Rows of a read-only table of closed records with simple fields, which are stored as a primitive array per field.
+ * <p>
+ * The values of the rows are only weakly reachable from the table, so that the values which are not used elsewhere
+ * are reclaimed and the table only keeps the columns. When a row is accessed, its value is returned if it is still in
+ * use, or else the row is materialized as a new record value. A reclaimed value can no longer be observed by the
+ * program, hence a row keeps its identity for as long as the program can compare it with another access of the row.
+ *
+ * @param <V> the type of the rows
+ * @since 2.0.0
+ */
+class ColumnarTableRows<V> {
+
+    private static final int EMPTY_SLOT = 0;
+
+    private final BRecordType rowType;
+    private final BString[] fieldNames;
+    private final Object[] columns;
+    private final int size;
+
+    // Columns of the key fields and the type of the key if the key has more than one field.
+    private int[] keyColumns;
+    private BTupleType keyType;
+    // Open addressing hash table of the keys, which holds the row index + 1 of each key.
+    private int[] keySlots;
+
+    // Values of the rows, which are either the rows which were added or the rows which were materialized.
+    private final AtomicReferenceArray<WeakReference<V>> rows;
+
+    private ColumnarTableRows(BRecordType rowType, BString[] fieldNames, Object[] columns, int size) {
+        this.rowType = rowType;
+        this.fieldNames = fieldNames;
+        this.columns = columns;
+        this.size = size;
+        this.rows = new AtomicReferenceArray<>(size);
+    }
+
+    private void indexKeys(String[] keyFieldNames, BTupleType keyType) {
+        this.keyColumns = new int[keyFieldNames.length];
+        for (int i = 0; i < keyFieldNames.length; i++) {
+            keyColumns[i] = getColumnIndex(StringUtils.fromString(keyFieldNames[i]));
+        }
+        this.keyType = keyFieldNames.length > 1 ? keyType : null;
+        this.keySlots = new int[Integer.highestOneBit(Math.max(size, 1) * 2 - 1) << 1];
+        for (int row = 0; row < size; row++) {
+            int slot = getSlot(getKey(row));
+            while (keySlots[slot] != EMPTY_SLOT) {
+                slot = (slot + 1) & (keySlots.length - 1);
+            }
+            keySlots[slot] = row + 1;
+        }
+    }
+
+    /**
+     * Stores the given rows as columns if all of them are read-only values of the same closed record type, of which
+     * the fields are of type int, float, boolean or string.
+     *
+     * @param rows          rows in the order they were added
+     * @param keyFieldNames names of the key fields, or {@code null} if the table has no key
+     * @param keyType       type of the key if the key has more than one field
+     * @return the columnar rows, or {@code null} if the rows can not be stored as columns
+     */
+    static <V> ColumnarTableRows<V> create(Collection<V> rows, String[] keyFieldNames, BTupleType keyType) {
+        if (rows.isEmpty()) {
+            return null;
+        }
+        Object firstRow = rows.iterator().next();
+        if (!(firstRow instanceof MapValueImpl) || ((MapValueImpl<?, ?>) firstRow).getType().getTag() !=
+                TypeTags.RECORD_TYPE_TAG) {
+            return null;
+        }
+        BRecordType rowType = (BRecordType) ((MapValueImpl<?, ?>) firstRow).getType();
+        if (!rowType.isReadOnly() || !rowType.isSealed() || rowType.restFieldType != null) {
+            return null;
+        }
+
+        Map<String, Field> fields = rowType.getFields();
+        BString[] fieldNames = new BString[fields.size()];
+        Object[] columns = new Object[fields.size()];
+        int column = 0;
+        for (Field field : fields.values()) {
+            if (SymbolFlags.isFlagOn(field.getFlags(), SymbolFlags.OPTIONAL)) {
+                return null;
+            }
+            fieldNames[column] = StringUtils.fromString(field.getFieldName());
+            switch (field.getFieldType().getTag()) {
+                case TypeTags.INT_TAG:
+                    columns[column] = new long[rows.size()];
+                    break;
+                case TypeTags.FLOAT_TAG:
+                    columns[column] = new double[rows.size()];
+                    break;
+                case TypeTags.BOOLEAN_TAG:
+                    columns[column] = new boolean[rows.size()];
+                    break;
+                case TypeTags.STRING_TAG:
+                    columns[column] = new BString[rows.size()];
+                    break;
+                default:
+                    return null;
+            }
+            column++;
+        }
+
+        ColumnarTableRows<V> columnarRows = new ColumnarTableRows<>(rowType, fieldNames, columns, rows.size());
+        int row = 0;
+        for (V value : rows) {
+            // The rows are not stored as columns if any row is of another type, such as a subtype of the row type.
+            if (!(value instanceof MapValueImpl) || ((MapValueImpl<?, ?>) value).getType() != rowType) {
+                return null;
+            }
+            MapValueImpl<?, ?> rowValue = (MapValueImpl<?, ?>) value;
+            if (rowValue.size() != fieldNames.length) {
+                return null;
+            }
+            for (column = 0; column < fieldNames.length; column++) {
+                columnarRows.setField(row, column, rowValue.get(fieldNames[column]));
+            }
+            columnarRows.rows.set(row, new WeakReference<>(value));
+            row++;
+        }
+
+        if (keyFieldNames != null) {
+            columnarRows.indexKeys(keyFieldNames, keyType);
+        }
+        return columnarRows;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isKeyed() {
+        return keySlots != null;
+    }
+
+    /**
+     * Returns the value of the given row. The same value is returned whenever the row is accessed, while the value is
+     * in use.
+     */
+    V getRow(int row) {
+        while (true) {
+            WeakReference<V> rowReference = rows.get(row);
+            V value = rowReference == null ? null : rowReference.get();
+            if (value != null) {
+                return value;
+            }
+
+            MapValueImpl<BString, Object> rowValue = new MapValueImpl<>(rowType);
+            for (int column = 0; column < fieldNames.length; column++) {
+                rowValue.populateInitialValue(fieldNames[column], getField(row, column));
+            }
+            value = (V) rowValue;
+            // Another thread which materialized the row first wins, so that both threads get the same value.
+            if (rows.compareAndSet(row, rowReference, new WeakReference<>(value))) {
+                return value;
+            }
+        }
+    }
+
+    /**
+     * Returns the key of the given row. Must only be called if the table is keyed.
+     */
+    Object getKey(int row) {
+        if (keyType == null) {
+            return getField(row, keyColumns[0]);
+        }
+        BArray key = ValueCreator.createTupleValue(keyType);
+        for (int i = 0; i < keyColumns.length; i++) {
+            key.add(i, getField(row, keyColumns[i]));
+        }
+        return key;
+    }
+
+    /**
+     * Returns the index of the row with the given key, or -1 if there is no such row.
+     */
+    int findRow(Object key) {
+        if (keyType != null && !(key instanceof BArray)) {
+            return -1;
+        }
+        int slot = getSlot(key);
+        int rowIndex;
+        while ((rowIndex = keySlots[slot]) != EMPTY_SLOT) {
+            if (isKeyOf(rowIndex - 1, key)) {
+                return rowIndex - 1;
+            }
+            slot = (slot + 1) & (keySlots.length - 1);
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the indexes of the rows of which the given field is equal to the given value, without creating the
+     * values of the rows which do not match. Returns {@code null} if the table has no such field.
+     */
+    int[] findRows(BString fieldName, Object value) {
+        int column = getColumnIndex(fieldName);
+        if (column < 0) {
+            return null;
+        }
+        int[] rows = new int[size];
+        int count = 0;
+        Object values = columns[column];
+        if (values instanceof long[] && value instanceof Long) {
+            long longValue = (Long) value;
+            long[] longValues = (long[]) values;
+            for (int row = 0; row < size; row++) {
+                if (longValues[row] == longValue) {
+                    rows[count++] = row;
+                }
+            }
+        } else if (values instanceof boolean[] && value instanceof Boolean) {
+            boolean booleanValue = (Boolean) value;
+            boolean[] booleanValues = (boolean[]) values;
+            for (int row = 0; row < size; row++) {
+                if (booleanValues[row] == booleanValue) {
+                    rows[count++] = row;
+                }
+            }
+        } else {
+            for (int row = 0; row < size; row++) {
+                if (TypeChecker.isEqual(getField(row, column), value)) {
+                    rows[count++] = row;
+                }
+            }
+        }
+        int[] matchingRows = new int[count];
+        System.arraycopy(rows, 0, matchingRows, 0, count);
+        return matchingRows;
+    }
+
+    private int getColumnIndex(BString fieldName) {
+        for (int column = 0; column < fieldNames.length; column++) {
+            if (fieldNames[column].getValue().equals(fieldName.getValue())) {
+                return column;
+            }
+        }
+        return -1;
+    }
+
+    private Object getField(int row, int column) {
+        Object values = columns[column];
+        if (values instanceof long[]) {
+            return ((long[]) values)[row];
+        } else if (values instanceof double[]) {
+            return ((double[]) values)[row];
+        } else if (values instanceof boolean[]) {
+            return ((boolean[]) values)[row];
+        }
+        return ((BString[]) values)[row];
+    }
+
+    private void setField(int row, int column, Object value) {
+        Object values = columns[column];
+        if (values instanceof long[]) {
+            ((long[]) values)[row] = (Long) value;
+        } else if (values instanceof double[]) {
+            ((double[]) values)[row] = (Double) value;
+        } else if (values instanceof boolean[]) {
+            ((boolean[]) values)[row] = (Boolean) value;
+        } else {
+            ((BString[]) values)[row] = (BString) value;
+        }
+    }
+
+    private boolean isKeyOf(int row, Object key) {
+        if (keyType == null) {
+            return TypeChecker.isEqual(getField(row, keyColumns[0]), key);
+        }
+        BArray keyValues = (BArray) key;
+        if (keyValues.size() != keyColumns.length) {
+            return false;
+        }
+        for (int i = 0; i < keyColumns.length; i++) {
+            if (!TypeChecker.isEqual(getField(row, keyColumns[i]), keyValues.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int getSlot(Object key) {
+        long hash = TableUtils.hashKey(key);
+        int mixed = (int) (hash ^ (hash >>> 32));
+        mixed ^= mixed >>> 16;
+        return mixed & (keySlots.length - 1);
+    }
+}
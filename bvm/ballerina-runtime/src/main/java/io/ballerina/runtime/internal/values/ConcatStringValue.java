@@ -0,0 +1,148 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Represent the result of concatenating ballerina strings, which is copied into a flat string only when the content
+ * is needed.
+ * <p>
+ * Concatenating a string in a loop copies the whole string at each step with flat strings. A concatenation of long
+ * strings instead creates a rope node which refers to both operands, so that the content is copied once when it is
+ * first read. The length is known without flattening. The flattened string is cached and the operands are released
+ * afterwards.
+ *
+ * @since 2.0.0
+ */
+public class ConcatStringValue extends StringValue {
+
+    // Shorter results are copied right away, since a rope node does not pay off for them.
+    static final int MIN_ROPE_LENGTH = 128;
+
+    private final int length;
+    private final int charLength;
+    // The operands are volatile and released after the flattened string is set, hence a reader which finds a
+    // released operand also finds the flattened string.
+    private volatile StringValue left;
+    private volatile StringValue right;
+    private StringValue flattened;
+
+    ConcatStringValue(StringValue left, StringValue right) {
+        super(null, left.isNonBmp || right.isNonBmp);
+        this.left = left;
+        this.right = right;
+        this.length = left.length() + right.length();
+        this.charLength = left.charLength() + right.charLength();
+    }
+
+    static boolean isRopeLength(StringValue left, StringValue right) {
+        return left.charLength() + right.charLength() >= MIN_ROPE_LENGTH;
+    }
+
+    @Override
+    public String getValue() {
+        return flatten().value;
+    }
+
+    @Override
+    public int getCodePoint(int index) {
+        return flatten().getCodePoint(index);
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    int charLength() {
+        return charLength;
+    }
+
+    @Override
+    public BString concat(BString str) {
+        return new ConcatStringValue(this, (StringValue) str);
+    }
+
+    @Override
+    public Long indexOf(BString str, int fromIndex) {
+        return flatten().indexOf(str, fromIndex);
+    }
+
+    @Override
+    public Long lastIndexOf(BString str, int fromIndex) {
+        return flatten().lastIndexOf(str, fromIndex);
+    }
+
+    @Override
+    public BString substring(int beginIndex, int endIndex) {
+        return flatten().substring(beginIndex, endIndex);
+    }
+
+    @Override
+    public IteratorValue getIterator() {
+        return flatten().getIterator();
+    }
+
+    private StringValue flatten() {
+        // Flat strings only have final fields, hence they can be read without synchronization.
+        StringValue flat = this.flattened;
+        if (flat != null) {
+            return flat;
+        }
+
+        // Ropes built in loops are deep, hence the nodes are visited without recursion.
+        StringBuilder builder = new StringBuilder(charLength);
+        Deque<StringValue> pending = new ArrayDeque<>();
+        pending.push(this);
+        while (!pending.isEmpty()) {
+            StringValue part = pending.pop();
+            if (!(part instanceof ConcatStringValue)) {
+                builder.append(part.value);
+                continue;
+            }
+            ConcatStringValue rope = (ConcatStringValue) part;
+            StringValue partFlat = rope.flattened;
+            if (partFlat != null) {
+                builder.append(partFlat.value);
+                continue;
+            }
+            StringValue ropeLeft = rope.left;
+            StringValue ropeRight = rope.right;
+            if (ropeLeft == null || ropeRight == null) {
+                // Flattened concurrently.
+                builder.append(rope.flattened.value);
+                continue;
+            }
+            pending.push(ropeRight);
+            pending.push(ropeLeft);
+        }
+
+        String value = builder.toString();
+        flat = isNonBmp ? (StringValue) StringUtils.fromString(value) : new BmpStringValue(value);
+        this.flattened = flat;
+        this.left = null;
+        this.right = null;
+        return flat;
+    }
+}
@@ -37,14 +37,17 @@ import io.ballerina.runtime.internal.types.BTypeIdSet;
 
 import java.io.PrintStream;
 import java.io.PrintWriter;
+import java.lang.StackWalker.StackFrame;
+import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.StringJoiner;
 
 import static io.ballerina.runtime.api.PredefinedTypes.TYPE_MAP;
+import static io.ballerina.runtime.api.constants.RuntimeConstants.BALLERINA_ERROR_STACK_DEPTH_ENV_VAR;
+import static io.ballerina.runtime.api.constants.RuntimeConstants.BALLERINA_ERROR_STACK_DEPTH_PROPERTY;
 import static io.ballerina.runtime.api.constants.RuntimeConstants.BLANG_SRC_FILE_SUFFIX;
 import static io.ballerina.runtime.api.constants.RuntimeConstants.DOT;
 import static io.ballerina.runtime.api.constants.RuntimeConstants.MODULE_INIT_CLASS_NAME;
@@ -54,6 +57,13 @@ import static io.ballerina.runtime.api.constants.RuntimeConstants.MODULE_INIT_CL
  * Represent an error in ballerina.
  * </p>
  * <p>
+ * By default the full Java stack trace is captured when an error is created. If the
+ * {@code ballerina.error.stack.depth} system property or the {@code BALLERINA_ERROR_STACK_DEPTH} environment variable
+ * is set, only up to that many frames are captured with a {@link StackWalker}, and they are converted to the filtered
+ * Ballerina stack trace only when the stack trace is accessed or printed. A depth of zero disables capturing the stack
+ * trace. The system property takes precedence, and is read whenever an error is created.
+ * </p>
+ * <p>
  * <i>Note: This is an internal API and may change in future versions.</i>
  * </p>
  *
@@ -70,6 +80,15 @@ public class ErrorValue extends BError implements RefValue {
     private final BError cause;
     private final Object details;
 
+    // Frames captured when the stack depth is bounded, and the filtered stack trace once it is materialized.
+    private final transient StackFrame[] stackFrames;
+    private transient volatile StackTraceElement[] filteredStackTrace;
+
+    private static final int FULL_STACK_DEPTH = -1;
+    private static final String STACK_DEPTH_ENV_VALUE = System.getenv(BALLERINA_ERROR_STACK_DEPTH_ENV_VAR);
+    private static final StackWalker STACK_WALKER =
+            StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
     private static final String GENERATE_OBJECT_CLASS_PREFIX = "$value$";
     private static final String GENERATE_PKG_INIT = "___init_";
     private static final String GENERATE_PKG_START = "___start_";
@@ -95,6 +114,7 @@ public class ErrorValue extends BError implements RefValue {
         this.cause = cause;
         this.details = details;
         this.typedesc = new TypedescValueImpl(type);
+        this.stackFrames = captureStackFrames();
     }
 
     public ErrorValue(Type type, BString message, BError cause, Object details,
@@ -108,6 +128,7 @@ public class ErrorValue extends BError implements RefValue {
         typeIdSet.add(typeIdPkg, typeIdName, true);
         ((BErrorType) type).setTypeIdSet(typeIdSet);
         this.typedesc = new TypedescValueImpl(type);
+        this.stackFrames = captureStackFrames();
     }
 
     @Override
@@ -278,17 +299,80 @@ public class ErrorValue extends BError implements RefValue {
         outStream.println(ERROR_PRINT_PREFIX + getPrintableStackTrace());
     }
     
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        // Invoked by the Throwable constructor. Bounded stacks are captured by captureStackFrames instead.
+        if (getStackDepth() == FULL_STACK_DEPTH) {
+            return super.fillInStackTrace();
+        }
+        return this;
+    }
+
     @Override
     public StackTraceElement[] getStackTrace() {
-        StackTraceElement[] stackTrace = super.getStackTrace();
-        List<StackTraceElement> filteredStack = new LinkedList<>();
+        return getFilteredStackTrace().clone();
+    }
+
+    private StackTraceElement[] getFilteredStackTrace() {
+        StackTraceElement[] stackTrace = this.filteredStackTrace;
+        if (stackTrace != null) {
+            return stackTrace;
+        }
+        if (this.stackFrames == null) {
+            stackTrace = filterStackTrace(super.getStackTrace());
+        } else {
+            StackFrame[] frames = this.stackFrames;
+            StackTraceElement[] elements = new StackTraceElement[frames.length];
+            for (int i = 0; i < frames.length; i++) {
+                elements[i] = frames[i].toStackTraceElement();
+            }
+            stackTrace = filterStackTrace(elements);
+        }
+        this.filteredStackTrace = stackTrace;
+        return stackTrace;
+    }
+
+    private StackTraceElement[] filterStackTrace(StackTraceElement[] stackTrace) {
+        List<StackTraceElement> filteredStack = new ArrayList<>(stackTrace.length);
         int index = 0;
         for (StackTraceElement stackFrame : stackTrace) {
             Optional<StackTraceElement> stackTraceElement = filterStackTraceElement(stackFrame, index++);
             stackTraceElement.ifPresent(filteredStack::add);
         }
-        StackTraceElement[] filteredStackArray = new StackTraceElement[filteredStack.size()];
-        return filteredStack.toArray(filteredStackArray);
+        return filteredStack.toArray(new StackTraceElement[0]);
+    }
+
+    private static StackFrame[] captureStackFrames() {
+        int stackDepth = getStackDepth();
+        if (stackDepth == FULL_STACK_DEPTH) {
+            return null;
+        }
+        if (stackDepth == 0) {
+            return new StackFrame[0];
+        }
+        // Skip the constructor frames as done by fillInStackTrace, and the JDK frames which are never Ballerina
+        // frames, so that the depth is spent on frames which may show up in the stack trace.
+        return STACK_WALKER.walk(frames -> frames
+                .dropWhile(frame -> frame.getDeclaringClass() == ErrorValue.class)
+                .filter(frame -> !isJdkFrame(frame.getClassName()))
+                .limit(stackDepth)
+                .toArray(StackFrame[]::new));
+    }
+
+    private static boolean isJdkFrame(String className) {
+        return className.startsWith("java.") || className.startsWith("jdk.") || className.startsWith("sun.");
+    }
+
+    private static int getStackDepth() {
+        String stackDepth = System.getProperty(BALLERINA_ERROR_STACK_DEPTH_PROPERTY, STACK_DEPTH_ENV_VALUE);
+        if (stackDepth == null) {
+            return FULL_STACK_DEPTH;
+        }
+        try {
+            return Math.max(0, Integer.parseInt(stackDepth.trim()));
+        } catch (NumberFormatException e) {
+            return FULL_STACK_DEPTH;
+        }
     }
 
     /**
@@ -301,7 +385,7 @@ public class ErrorValue extends BError implements RefValue {
         sb.append(errorMsg);
         addPrintableStackTrace(sb, this, new StackTraceElement[0]);
         BError cause = this.getCause();
-        StackTraceElement[] enclosingTrace = this.getStackTrace();
+        StackTraceElement[] enclosingTrace = this.getFilteredStackTrace();
         while (cause != null) {
             sb.append("\ncause: ")
                     .append(cause.getMessage());
@@ -314,7 +398,8 @@ public class ErrorValue extends BError implements RefValue {
 
     private void addPrintableStackTrace(StringBuilder sb, BError error, StackTraceElement[] enclosingTrace) {
         // Append function/action/resource name with package path (if any)
-        StackTraceElement[] stackTrace = error.getStackTrace();
+        StackTraceElement[] stackTrace = error instanceof ErrorValue ?
+                ((ErrorValue) error).getFilteredStackTrace() : error.getStackTrace();
         if (stackTrace.length == 0) {
             return;
         }
@@ -342,7 +427,7 @@ public class ErrorValue extends BError implements RefValue {
     @Override
     public List<StackTraceElement> getCallStack() {
         StackTraceElement[] stackTrace = Thread.currentThread().getStackTrace();
-        List<StackTraceElement> filteredStack = new LinkedList<>();
+        List<StackTraceElement> filteredStack = new ArrayList<>();
         int index = 0;
         for (StackTraceElement stackFrame : stackTrace) {
             Optional<StackTraceElement> stackTraceElement = filterStackTraceElement(stackFrame, index++);
@@ -0,0 +1,267 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.types.FiniteType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.UnionType;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.TableUtils;
+import io.ballerina.runtime.internal.TypeChecker;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Secondary index on a field of the rows of a table, which is maintained by the table as rows are added and removed.
+ * <p>
+ * A hash index groups the rows by the hash of the field value, as done for the keys of the table. An ordered index
+ * keeps the rows sorted by the field value, hence it also answers range lookups. Only fields which can not be
+ * updated after the row is added to the table are indexed, so that the index does not need to track updates of rows.
+ *
+ * @param <V> the type of the rows
+ * @since 2.0.0
+ */
+class TableIndex<V> {
+
+    /**
+     * Orders simple values. Nil comes first, and values of different basic types are ordered by the basic type.
+     */
+    static final Comparator<Object> VALUE_COMPARATOR = TableIndex::compareValues;
+
+    private final BString fieldName;
+    private final TableKeyIndex<List<V>> hashBuckets;
+    private final NavigableMap<Object, List<V>> orderedBuckets;
+
+    TableIndex(BString fieldName, boolean ordered) {
+        this.fieldName = fieldName;
+        if (ordered) {
+            this.hashBuckets = null;
+            this.orderedBuckets = new TreeMap<>(VALUE_COMPARATOR);
+        } else {
+            this.hashBuckets = new TableKeyIndex<>();
+            this.orderedBuckets = null;
+        }
+    }
+
+    boolean isOrdered() {
+        return orderedBuckets != null;
+    }
+
+    void add(V row) {
+        Object value = getFieldValue(row);
+        if (orderedBuckets != null) {
+            orderedBuckets.computeIfAbsent(value, k -> new ArrayList<>(1)).add(row);
+            return;
+        }
+        long hash = TableUtils.hashKey(value);
+        List<V> bucket = hashBuckets.get(hash);
+        if (bucket == null) {
+            bucket = new ArrayList<>(1);
+            hashBuckets.put(hash, bucket);
+        }
+        bucket.add(row);
+    }
+
+    void remove(V row) {
+        Object value = getFieldValue(row);
+        if (orderedBuckets != null) {
+            List<V> bucket = orderedBuckets.get(value);
+            if (bucket != null && removeFromBucket(bucket, row)) {
+                orderedBuckets.remove(value);
+            }
+            return;
+        }
+        long hash = TableUtils.hashKey(value);
+        List<V> bucket = hashBuckets.get(hash);
+        if (bucket != null && removeFromBucket(bucket, row)) {
+            hashBuckets.remove(hash);
+        }
+    }
+
+    // Returns whether the bucket is empty after removing the row.
+    private static <V> boolean removeFromBucket(List<V> bucket, V row) {
+        for (int i = 0; i < bucket.size(); i++) {
+            if (bucket.get(i) == row) {
+                bucket.remove(i);
+                break;
+            }
+        }
+        return bucket.isEmpty();
+    }
+
+    void clear() {
+        if (orderedBuckets != null) {
+            orderedBuckets.clear();
+        } else {
+            hashBuckets.clear();
+        }
+    }
+
+    /**
+     * Returns the rows of which the field value is equal to the given value, in the order they were added.
+     */
+    List<V> get(Object value) {
+        if (orderedBuckets != null) {
+            if (!isOrderable(value)) {
+                return Collections.emptyList();
+            }
+            List<V> bucket = orderedBuckets.get(value);
+            return bucket == null ? Collections.emptyList() : new ArrayList<>(bucket);
+        }
+
+        List<V> bucket = hashBuckets.get(TableUtils.hashKey(value));
+        if (bucket == null) {
+            return Collections.emptyList();
+        }
+        List<V> rows = new ArrayList<>(bucket.size());
+        for (V row : bucket) {
+            // Values of which the hashes collide are in the same bucket.
+            if (TypeChecker.isEqual(getFieldValue(row), value)) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Returns the rows of which the field value is in the given range, ordered by the field value. Must only be called
+     * on an ordered index.
+     *
+     * @param lowerBound inclusive lower bound, or {@code null} if there is no lower bound
+     * @param upperBound exclusive upper bound, or {@code null} if there is no upper bound
+     */
+    List<V> getRange(Object lowerBound, Object upperBound) {
+        NavigableMap<Object, List<V>> range = orderedBuckets;
+        if (lowerBound != null) {
+            range = range.tailMap(lowerBound, true);
+        }
+        if (upperBound != null) {
+            range = range.headMap(upperBound, false);
+        }
+        List<V> rows = new ArrayList<>();
+        for (List<V> bucket : range.values()) {
+            rows.addAll(bucket);
+        }
+        return rows;
+    }
+
+    private Object getFieldValue(V row) {
+        return ((MapValue<?, ?>) row).get(fieldName);
+    }
+
+    /**
+     * Returns whether the values of the given type can be kept in an ordered index.
+     */
+    static boolean isOrderable(Type type) {
+        switch (type.getTag()) {
+            case TypeTags.NULL_TAG:
+            case TypeTags.BOOLEAN_TAG:
+            case TypeTags.FLOAT_TAG:
+            case TypeTags.DECIMAL_TAG:
+            case TypeTags.BYTE_TAG:
+            case TypeTags.STRING_TAG:
+            case TypeTags.CHAR_STRING_TAG:
+                return true;
+            case TypeTags.FINITE_TYPE_TAG:
+                for (Object value : ((FiniteType) type).getValueSpace()) {
+                    if (!isOrderable(value)) {
+                        return false;
+                    }
+                }
+                return true;
+            case TypeTags.UNION_TAG:
+                for (Type memberType : ((UnionType) type).getMemberTypes()) {
+                    if (!isOrderable(memberType)) {
+                        return false;
+                    }
+                }
+                return true;
+            default:
+                return TypeTags.isIntegerTypeTag(type.getTag());
+        }
+    }
+
+    static boolean isOrderable(Object value) {
+        return value == null || value instanceof Number || value instanceof DecimalValue ||
+                value instanceof BString || value instanceof Boolean;
+    }
+
+    private static int compareValues(Object lhs, Object rhs) {
+        int lhsRank = getRank(lhs);
+        int rhsRank = getRank(rhs);
+        if (lhsRank != rhsRank) {
+            return Integer.compare(lhsRank, rhsRank);
+        }
+        switch (lhsRank) {
+            case 0:
+                return 0;
+            case 1:
+                return Boolean.compare((Boolean) lhs, (Boolean) rhs);
+            case 2:
+                return Long.compare(((Number) lhs).longValue(), ((Number) rhs).longValue());
+            case 3:
+                double lhsFloat = (Double) lhs;
+                double rhsFloat = (Double) rhs;
+                // Positive and negative zero are equal, as done by the equality of floats.
+                return lhsFloat == rhsFloat ? 0 : Double.compare(lhsFloat, rhsFloat);
+            case 4:
+                return ((DecimalValue) lhs).value().compareTo(((DecimalValue) rhs).value());
+            default:
+                return compareCodePoints(((BString) lhs).getValue(), ((BString) rhs).getValue());
+        }
+    }
+
+    private static int getRank(Object value) {
+        if (value == null) {
+            return 0;
+        } else if (value instanceof Boolean) {
+            return 1;
+        } else if (value instanceof Double) {
+            return 3;
+        } else if (value instanceof Number) {
+            return 2;
+        } else if (value instanceof DecimalValue) {
+            return 4;
+        } else if (value instanceof BString) {
+            return 5;
+        }
+        throw new IllegalArgumentException("value can not be ordered: " + value);
+    }
+
+    private static int compareCodePoints(String lhs, String rhs) {
+        int length = Math.min(lhs.length(), rhs.length());
+        for (int i = 0; i < length; i++) {
+            char lhsChar = lhs.charAt(i);
+            char rhsChar = rhs.charAt(i);
+            if (lhsChar != rhsChar) {
+                // Surrogates are ordered after the other characters, as done by their code points.
+                if (Character.isSurrogate(lhsChar) != Character.isSurrogate(rhsChar)) {
+                    return Character.isSurrogate(lhsChar) ? 1 : -1;
+                }
+                return lhsChar - rhsChar;
+            }
+        }
+        return lhs.length() - rhs.length();
+    }
+}
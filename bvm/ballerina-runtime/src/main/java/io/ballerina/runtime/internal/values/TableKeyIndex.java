@@ -0,0 +1,155 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.internal.values;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Open addressing hash table from the hashes of the keys of a table to the entries with that hash.
+ * <p>
+ * The hashes are kept in a primitive array, so that looking up a key does not box the hash or allocate map entries.
+ * Collisions are resolved with linear probing, and removals shift the following entries back instead of leaving
+ * tombstones.
+ *
+ * @param <T> the type of the entries
+ * @since 2.0.0
+ */
+class TableKeyIndex<T> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private long[] hashes;
+    private Object[] slots;
+    private int size;
+
+    TableKeyIndex() {
+        this.hashes = new long[INITIAL_CAPACITY];
+        this.slots = new Object[INITIAL_CAPACITY];
+    }
+
+    T get(long hash) {
+        int mask = slots.length - 1;
+        for (int slot = getSlot(hash, mask); slots[slot] != null; slot = (slot + 1) & mask) {
+            if (hashes[slot] == hash) {
+                return (T) slots[slot];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Associates the given value with the given hash, and returns the value which was replaced if any.
+     */
+    T put(long hash, T value) {
+        int mask = slots.length - 1;
+        int slot = getSlot(hash, mask);
+        for (; slots[slot] != null; slot = (slot + 1) & mask) {
+            if (hashes[slot] == hash) {
+                T replacedValue = (T) slots[slot];
+                slots[slot] = value;
+                return replacedValue;
+            }
+        }
+        hashes[slot] = hash;
+        slots[slot] = value;
+        // The table is kept at most half full, since probe sequences get long beyond that with linear probing.
+        if (++size * 2 > slots.length) {
+            resize(slots.length * 2);
+        }
+        return null;
+    }
+
+    T remove(long hash) {
+        int mask = slots.length - 1;
+        int slot = getSlot(hash, mask);
+        for (; slots[slot] != null; slot = (slot + 1) & mask) {
+            if (hashes[slot] == hash) {
+                break;
+            }
+        }
+        T removedValue = (T) slots[slot];
+        if (removedValue == null) {
+            return null;
+        }
+
+        // Moves back the entries after the removed entry, which would not be found otherwise.
+        int emptySlot = slot;
+        for (slot = (slot + 1) & mask; slots[slot] != null; slot = (slot + 1) & mask) {
+            int homeSlot = getSlot(hashes[slot], mask);
+            if (((slot - homeSlot) & mask) >= ((slot - emptySlot) & mask)) {
+                hashes[emptySlot] = hashes[slot];
+                slots[emptySlot] = slots[slot];
+                emptySlot = slot;
+            }
+        }
+        slots[emptySlot] = null;
+        size--;
+        return removedValue;
+    }
+
+    Collection<T> values() {
+        List<T> values = new ArrayList<>(size);
+        for (Object value : slots) {
+            if (value != null) {
+                values.add((T) value);
+            }
+        }
+        return values;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    void clear() {
+        Arrays.fill(slots, null);
+        size = 0;
+    }
+
+    private void resize(int capacity) {
+        long[] oldHashes = hashes;
+        Object[] oldSlots = slots;
+        hashes = new long[capacity];
+        slots = new Object[capacity];
+        int mask = capacity - 1;
+        for (int i = 0; i < oldSlots.length; i++) {
+            if (oldSlots[i] == null) {
+                continue;
+            }
+            int slot = getSlot(oldHashes[i], mask);
+            while (slots[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            hashes[slot] = oldHashes[i];
+            slots[slot] = oldSlots[i];
+        }
+    }
+
+    private static int getSlot(long hash, int mask) {
+        // Hashes of int keys are often sequential, hence the bits are mixed before they are masked.
+        long mixed = hash * 0x9E3779B97F4A7C15L;
+        return (int) (mixed ^ (mixed >>> 32)) & mask;
+    }
+}
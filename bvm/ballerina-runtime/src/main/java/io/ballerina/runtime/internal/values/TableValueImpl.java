@@ -20,6 +20,7 @@ package io.ballerina.runtime.internal.values;
 import io.ballerina.runtime.api.TypeTags;
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
 import io.ballerina.runtime.api.types.Field;
 import io.ballerina.runtime.api.types.TableType;
 import io.ballerina.runtime.api.types.Type;
@@ -49,6 +50,7 @@ import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -59,8 +61,9 @@ import java.util.Map;
 import java.util.Set;
 import java.util.StringJoiner;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
+import static io.ballerina.runtime.api.constants.RuntimeConstants.BALLERINA_COLUMNAR_TABLES_ENV_VAR;
+import static io.ballerina.runtime.api.constants.RuntimeConstants.BALLERINA_COLUMNAR_TABLES_PROPERTY;
 import static io.ballerina.runtime.api.constants.RuntimeConstants.TABLE_LANG_LIB;
 import static io.ballerina.runtime.internal.ValueUtils.createSingletonTypedesc;
 import static io.ballerina.runtime.internal.ValueUtils.getTypedescValue;
@@ -80,9 +83,11 @@ import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReason
  */
 public class TableValueImpl<K, V> implements TableValue<K, V> {
 
+    private static final String COLUMNAR_STORAGE_ENV_VALUE = System.getenv(BALLERINA_COLUMNAR_TABLES_ENV_VAR);
+
     private TableType type;
     private Type iteratorNextReturnType;
-    private ConcurrentHashMap<Long, List<Map.Entry<K, V>>> entries;
+    private TableKeyIndex<List<Map.Entry<K, V>>> entries;
     private LinkedHashMap<Long, List<V>> values;
     private LinkedHashMap<Long, K> keys;
     private String[] fieldNames;
@@ -99,11 +104,16 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     private final Map<String, Object> nativeData = new HashMap<>();
     private BTypedesc typedesc;
+    // Indexes on fields of the values, which are replaced as a whole when an index is added, so that the indexes of
+    // a read-only table can be looked up by any strand.
+    private volatile Map<String, TableIndex<V>> fieldIndexes = Collections.emptyMap();
+    // Rows of a read-only table which are stored as columns, in which case the maps above are empty.
+    private ColumnarTableRows<V> columnarRows;
 
     public TableValueImpl(TableType type) {
         this.type = type;
 
-        this.entries = new ConcurrentHashMap<>();
+        this.entries = new TableKeyIndex<>();
         this.keys = new LinkedHashMap<>();
         this.values = new LinkedHashMap<>();
         this.keyToIndexMap = new LinkedHashMap<>();
@@ -127,6 +137,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
         addData(data);
         if (type.isReadOnly()) {
             this.typedesc = createSingletonTypedesc(this);
+            storeAsColumns();
         }
     }
 
@@ -157,6 +168,14 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
         if (fieldNames != null) {
             clone.fieldNames = fieldNames;
         }
+        if (!fieldIndexes.isEmpty()) {
+            Map<String, TableIndex<V>> cloneIndexes = new LinkedHashMap<>();
+            for (Map.Entry<String, TableIndex<V>> index : fieldIndexes.entrySet()) {
+                BString indexedField = StringUtils.fromString(index.getKey());
+                cloneIndexes.put(index.getKey(), new TableIndex<>(indexedField, index.getValue().isOrdered()));
+            }
+            clone.fieldIndexes = cloneIndexes;
+        }
 
         IteratorValue itr = getIterator();
         while (itr.hasNext()) {
@@ -198,6 +217,10 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public V get(Object key) {
+        if (columnarRows != null && columnarRows.isKeyed()) {
+            int row = columnarRows.findRow(key);
+            return row < 0 ? null : columnarRows.getRow(row);
+        }
         return valueHolder.getData((K) key);
     }
 
@@ -222,17 +245,32 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     @Override
     public V remove(Object key) {
         handleFrozenTableValue();
-        return valueHolder.remove((K) key);
+        V removedValue = valueHolder.remove((K) key);
+        if (removedValue != null) {
+            removeFromFieldIndexes(removedValue);
+        }
+        return removedValue;
     }
 
     @Override
     public boolean containsKey(Object key) {
+        if (columnarRows != null && columnarRows.isKeyed()) {
+            return columnarRows.findRow(key) >= 0;
+        }
         return valueHolder.containsKey((K) key);
     }
 
     @Override
     public Set<Map.Entry<K, V>> entrySet() {
         LinkedHashSet<Map.Entry<K, V>> entrySet = new LinkedHashSet<>();
+        if (columnarRows != null) {
+            for (int row = 0; row < columnarRows.size(); row++) {
+                V value = columnarRows.getRow(row);
+                K key = columnarRows.isKeyed() ? (K) columnarRows.getKey(row) : (K) value;
+                entrySet.add(new AbstractMap.SimpleEntry<>(key, value));
+            }
+            return entrySet;
+        }
         for (List<Map.Entry<K, V>> entry: entries.values()) {
             entrySet.addAll(entry);
         }
@@ -241,6 +279,13 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public Collection<V> values() {
+        if (columnarRows != null) {
+            List<V> rows = new ArrayList<>(columnarRows.size());
+            for (int row = 0; row < columnarRows.size(); row++) {
+                rows.add(columnarRows.getRow(row));
+            }
+            return rows;
+        }
         ArrayList<V> newValues = new ArrayList<>();
         Set<Long> keys = values.keySet();
         for (long key: keys) {
@@ -258,6 +303,9 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
         keyToIndexMap.clear();
         indexToKeyMap.clear();
         noOfAddedEntries = 0;
+        for (TableIndex<V> index : fieldIndexes.values()) {
+            index.clear();
+        }
     }
 
     @Override
@@ -286,13 +334,116 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
                                                                         + "The key sequence should only have an " +
                                                                            "Integer field."));
         }
-        return keys.size() == 0 ? 0 : (this.maxIntKey + 1);
+        return keys.size() == 0 && columnarRows == null ? 0 : (this.maxIntKey + 1);
     }
 
     public Type getKeyType() {
         return this.valueHolder.getKeyType();
     }
 
+    @Override
+    public synchronized void addIndex(BString fieldName, boolean ordered) {
+        String field = fieldName.getValue();
+        TableIndex<V> existingIndex = fieldIndexes.get(field);
+        if (existingIndex != null && existingIndex.isOrdered() == ordered) {
+            return;
+        }
+
+        Type constraintType = type.getConstrainedType();
+        Type fieldType = getIndexableFieldType(constraintType, field, constraintType.isReadOnly());
+        if (fieldType == null) {
+            throw ErrorCreator.createError(OPERATION_NOT_SUPPORTED_ERROR, StringUtils.fromString(
+                    "cannot index field '" + field + "' of table: field is not a read-only field"));
+        }
+        if (ordered && !TableIndex.isOrderable(fieldType)) {
+            throw ErrorCreator.createError(OPERATION_NOT_SUPPORTED_ERROR, StringUtils.fromString(
+                    "cannot create an ordered index on field '" + field + "' of table: values of type '" +
+                            fieldType + "' are not ordered"));
+        }
+
+        TableIndex<V> index = new TableIndex<>(fieldName, ordered);
+        for (V value : values()) {
+            index.add(value);
+        }
+        Map<String, TableIndex<V>> indexes = new LinkedHashMap<>(fieldIndexes);
+        indexes.put(field, index);
+        fieldIndexes = indexes;
+    }
+
+    @Override
+    public List<V> lookup(BString fieldName, Object value) {
+        TableIndex<V> index = fieldIndexes.get(fieldName.getValue());
+        if (index != null) {
+            return index.get(value);
+        }
+
+        List<V> matchingValues = new ArrayList<>();
+        int[] matchingRows = columnarRows == null ? null : columnarRows.findRows(fieldName, value);
+        if (matchingRows != null) {
+            for (int row : matchingRows) {
+                matchingValues.add(columnarRows.getRow(row));
+            }
+            return matchingValues;
+        }
+        for (V data : values()) {
+            if (TypeChecker.isEqual(((MapValue<?, ?>) data).get(fieldName), value)) {
+                matchingValues.add(data);
+            }
+        }
+        return matchingValues;
+    }
+
+    @Override
+    public List<V> lookupRange(BString fieldName, Object lowerBound, Object upperBound) {
+        TableIndex<V> index = fieldIndexes.get(fieldName.getValue());
+        if (index == null || !index.isOrdered()) {
+            throw ErrorCreator.createError(OPERATION_NOT_SUPPORTED_ERROR, StringUtils.fromString(
+                    "range lookup requires an ordered index on field '" + fieldName + "'"));
+        }
+        if (!TableIndex.isOrderable(lowerBound) || !TableIndex.isOrderable(upperBound)) {
+            throw ErrorCreator.createError(OPERATION_NOT_SUPPORTED_ERROR, StringUtils.fromString(
+                    "range lookup on field '" + fieldName + "' requires bounds of an ordered type"));
+        }
+        return index.getRange(lowerBound, upperBound);
+    }
+
+    // Returns the type of the given field if the field can not be updated once the value is in the table, so that it
+    // can be indexed. Returns null otherwise.
+    private Type getIndexableFieldType(Type constraintType, String fieldName, boolean readOnly) {
+        switch (constraintType.getTag()) {
+            case TypeTags.RECORD_TYPE_TAG:
+                BRecordType recordType = (BRecordType) constraintType;
+                Field field = recordType.getFields().get(fieldName);
+                if (field == null) {
+                    return null;
+                }
+                if (readOnly || recordType.isReadOnly() ||
+                        SymbolFlags.isFlagOn(field.getFlags(), SymbolFlags.READONLY)) {
+                    return field.getFieldType();
+                }
+                return null;
+            case TypeTags.MAP_TAG:
+                return readOnly ? ((BMapType) constraintType).getConstrainedType() : null;
+            case TypeTags.INTERSECTION_TAG:
+                return getIndexableFieldType(((BIntersectionType) constraintType).getEffectiveType(), fieldName,
+                                             readOnly || constraintType.isReadOnly());
+            default:
+                return null;
+        }
+    }
+
+    private void addToFieldIndexes(V data) {
+        for (TableIndex<V> index : fieldIndexes.values()) {
+            index.add(data);
+        }
+    }
+
+    private void removeFromFieldIndexes(V data) {
+        for (TableIndex<V> index : fieldIndexes.values()) {
+            index.remove(data);
+        }
+    }
+
     @Override
     public V fillAndGet(Object key) {
         if (containsKey(key)) {
@@ -314,17 +465,27 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public K[] getKeys() {
+        if (columnarRows != null && columnarRows.isKeyed()) {
+            Object[] rowKeys = new Object[columnarRows.size()];
+            for (int row = 0; row < rowKeys.length; row++) {
+                rowKeys[row] = columnarRows.getKey(row);
+            }
+            return (K[]) rowKeys;
+        }
         return (K[]) keys.values().toArray(new Object[]{});
     }
 
     @Override
     public int size() {
+        if (columnarRows != null) {
+            return columnarRows.size();
+        }
         return values().size();
     }
 
     @Override
     public boolean isEmpty() {
-        return entries.isEmpty();
+        return entries.isEmpty() && columnarRows == null;
     }
 
     @Override
@@ -347,10 +508,47 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
         //we know that values are always RefValues
         this.values().forEach(val -> ((RefValue) val).freezeDirect());
         this.typedesc = createSingletonTypedesc(this);
+        storeAsColumns();
+    }
+
+    // Stores the rows as columns if enabled and the rows are of a closed record type with simple fields. Must only be
+    // called once the table is read-only, since the rows are copied into the columns. The system property takes
+    // precedence over the environment variable, and is read whenever a table becomes read-only.
+    private void storeAsColumns() {
+        if (columnarRows != null || !Boolean.parseBoolean(
+                System.getProperty(BALLERINA_COLUMNAR_TABLES_PROPERTY, COLUMNAR_STORAGE_ENV_VALUE))) {
+            return;
+        }
+
+        boolean keyed = valueHolder instanceof KeyHashValueHolder;
+        Type keyType = keyed ? valueHolder.getKeyType() : null;
+        BTupleType multiKeyType = keyType instanceof BTupleType ? (BTupleType) keyType : null;
+        ColumnarTableRows<V> rows = ColumnarTableRows.create(values(), keyed ? fieldNames : null, multiKeyType);
+        if (rows == null) {
+            return;
+        }
+        this.columnarRows = rows;
+        this.entries = new TableKeyIndex<>();
+        this.keys = new LinkedHashMap<>();
+        this.values = new LinkedHashMap<>();
+        this.keyToIndexMap = new LinkedHashMap<>();
+        this.indexToKeyMap = new LinkedHashMap<>();
+        this.keyValues = new LinkedHashMap<>();
+    }
+
+    private Iterator<Map.Entry<Long, List<V>>> getValueEntries() {
+        if (columnarRows == null) {
+            return values.entrySet().iterator();
+        }
+        List<Map.Entry<Long, List<V>>> rows = new ArrayList<>(columnarRows.size());
+        for (int row = 0; row < columnarRows.size(); row++) {
+            rows.add(new AbstractMap.SimpleEntry<>((long) row, Collections.singletonList(columnarRows.getRow(row))));
+        }
+        return rows.iterator();
     }
 
     public String stringValue(BLink parent) {
-        Iterator<Map.Entry<Long, List<V>>> itr = values.entrySet().iterator();
+        Iterator<Map.Entry<Long, List<V>>> itr = getValueEntries();
         return createStringValueDataEntry(itr, parent);
     }
 
@@ -361,7 +559,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public String expressionStringValue(BLink parent) {
-        Iterator<Map.Entry<Long, List<V>>> itr = values.entrySet().iterator();
+        Iterator<Map.Entry<Long, List<V>>> itr = getValueEntries();
         return createExpressionStringValueDataEntry(itr, parent);
     }
 
@@ -454,28 +652,40 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
         @Override
         public Object next() {
+            if (columnarRows != null) {
+                int row = (int) cursor++;
+                Object value = columnarRows.getRow(row);
+                return createTuple(columnarRows.isKeyed() ? columnarRows.getKey(row) : value, value);
+            }
+
             K key = (K) indexToKeyMap.get(cursor);
             if (key != null) {
                 V value = (V) keyValues.get(key);
-
-                List<Type> types = new ArrayList<>();
-                types.add(TypeChecker.getType(key));
-                types.add(TypeChecker.getType(value));
-                BTupleType tupleType = new BTupleType(types);
-
-                TupleValueImpl tuple = new TupleValueImpl(tupleType);
-                tuple.add(0, key);
-                tuple.add(1, value);
                 cursor++;
-                return tuple;
+                return createTuple(key, value);
             } else {
                 cursor++;
                 return next();
             }
         }
 
+        private TupleValueImpl createTuple(Object key, Object value) {
+            List<Type> types = new ArrayList<>();
+            types.add(TypeChecker.getType(key));
+            types.add(TypeChecker.getType(value));
+            BTupleType tupleType = new BTupleType(types);
+
+            TupleValueImpl tuple = new TupleValueImpl(tupleType);
+            tuple.add(0, key);
+            tuple.add(1, value);
+            return tuple;
+        }
+
         @Override
         public boolean hasNext() {
+            if (columnarRows != null) {
+                return cursor < columnarRows.size();
+            }
            return cursor < noOfAddedEntries;
         }
     }
@@ -510,6 +720,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
             updateIndexKeyMappings((K) data);
             values.put((long) uuid.hashCode(), newData);
             keyValues.put((K) data, data);
+            addToFieldIndexes(data);
             return data;
         }
 
@@ -555,16 +766,16 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
                 maxIntKey = ((Long) TypeChecker.anyToInt(key)).intValue();
             }
 
-            Long hash = TableUtils.hash(key, null);
-
-            if (keys.containsKey(hash)) {
-                List<Map.Entry<K, V>> extEntries = entries.get(hash);
+            long hash = TableUtils.hashKey(key);
+            List<Map.Entry<K, V>> extEntries = entries.get(hash);
+            if (extEntries != null) {
                 Map.Entry<K, V> entry = new AbstractMap.SimpleEntry(key, data);
                 extEntries.add(entry);
                 List<V> extValues = values.get(hash);
                 extValues.add(data);
                 keyValues.put(key, data);
                 updateIndexKeyMappings(key);
+                addToFieldIndexes(data);
                 return;
             }
 
@@ -575,7 +786,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
         }
 
         public V getData(K key) {
-            List<Map.Entry<K, V>> entryList = entries.get(TableUtils.hash(key, null));
+            List<Map.Entry<K, V>> entryList = entries.get(TableUtils.hashKey(key));
             if (entryList == null) {
                 return null;
             }
@@ -595,10 +806,10 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
             Map.Entry<K, V> entry = new AbstractMap.SimpleEntry(key, data);
             Object actualKey = this.keyWrapper.wrapKey((MapValue) data);
-            Long actualHash = TableUtils.hash(actualKey, null);
-            Long hash = TableUtils.hash(key, null);
+            long actualHash = TableUtils.hashKey(actualKey);
+            long hash = TableUtils.hashKey(key);
 
-            if (!hash.equals(actualHash)) {
+            if (hash != actualHash) {
                 throw ErrorCreator.createError(TABLE_KEY_NOT_FOUND_ERROR,
                         BLangExceptionHelper.getErrorDetails(RuntimeErrors.KEY_NOT_FOUND_IN_VALUE, key, data));
             }
@@ -606,7 +817,43 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
             return putData(key, data, newData, entry, hash);
         }
 
-        private V putData(K key, V value, List<V> data, Map.Entry<K, V> entry, Long hash) {
+        private V putData(K key, V value, List<V> data, Map.Entry<K, V> entry, long hash) {
+            List<Map.Entry<K, V>> extEntries = entries.get(hash);
+            if (extEntries != null && (extEntries.size() > 1 ||
+                    !TypeChecker.isEqual(extEntries.get(0).getKey(), key))) {
+                // Rows of which the key hashes collide with the key are kept, and only the row with the key is
+                // replaced, in place.
+                List<V> extValues = values.get(hash);
+                int replacedIndex = -1;
+                for (int i = 0; i < extEntries.size(); i++) {
+                    if (TypeChecker.isEqual(extEntries.get(i).getKey(), key)) {
+                        replacedIndex = i;
+                        break;
+                    }
+                }
+                if (replacedIndex < 0) {
+                    extEntries.add(entry);
+                    extValues.add(value);
+                } else {
+                    V replacedValue = extEntries.set(replacedIndex, entry).getValue();
+                    removeFromFieldIndexes(replacedValue);
+                    for (int i = 0; i < extValues.size(); i++) {
+                        if (extValues.get(i) == replacedValue) {
+                            extValues.set(i, value);
+                            break;
+                        }
+                    }
+                }
+                updateIndexKeyMappings(key);
+                keyValues.put(key, value);
+                addToFieldIndexes(value);
+                return value;
+            }
+
+            if (extEntries != null) {
+                removeFromFieldIndexes(extEntries.get(0).getValue());
+            }
+            addToFieldIndexes(value);
 
             List<Map.Entry<K, V>> entryList = new ArrayList<>();
             entryList.add(entry);
@@ -627,13 +874,13 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
             newData.add(data);
 
             Map.Entry<K, V> entry = new AbstractMap.SimpleEntry<>(key, data);
-            Long hash = TableUtils.hash(key, null);
+            long hash = TableUtils.hashKey(key);
             return putData((K) key, data, newData, entry, hash);
         }
 
         public V remove(K key) {
             keyValues.remove(key);
-            Long hash = TableUtils.hash(key, null);
+            long hash = TableUtils.hashKey(key);
             List<Map.Entry<K, V>> entryList = entries.get(hash);
             if (entryList != null && entryList.size() > 1) {
                 for (Map.Entry<K, V> entry: entryList) {
@@ -665,8 +912,8 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
         }
 
         public boolean containsKey(K key) {
-            if (keys.containsKey(TableUtils.hash(key, null))) {
-                List<Map.Entry<K, V>> entryList = entries.get(TableUtils.hash(key, null));
+            List<Map.Entry<K, V>> entryList = entries.get(TableUtils.hashKey(key));
+            if (entryList != null) {
                 for (Map.Entry<K, V> entry: entryList) {
                     if (TypeChecker.isEqual(entry.getKey(), key)) {
                         return true;
@@ -647,6 +647,17 @@ public final class XmlItem extends XmlValue implements BXmlItem {
         return children;
     }
 
+    /**
+     * Sets the children list of an element which is being read by the XML parser. Unlike {@link #setChildren}, the
+     * list is not accessed, so that a list which reads the children from the source only when it is first accessed
+     * can be used.
+     *
+     * @param childrenList children of the element
+     */
+    public void setChildrenList(List<BXml> childrenList) {
+        this.children = new XmlSequence(childrenList);
+    }
+
     @Override
     public IteratorValue getIterator() {
         XmlItem that = this;
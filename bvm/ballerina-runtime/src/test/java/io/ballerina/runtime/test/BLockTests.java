@@ -0,0 +1,172 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.internal.BLock;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.State;
+import io.ballerina.runtime.internal.scheduling.Strand;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test cases for sharing a {@link BLock} between the lock statements which only read the locked variables.
+ */
+public class BLockTests {
+
+    private RecordingScheduler scheduler;
+    private BLock lock;
+
+    @BeforeMethod
+    void init() {
+        scheduler = new RecordingScheduler();
+        lock = new BLock();
+    }
+
+    @Test
+    void testReadersShareLock() {
+        Strand reader1 = newStrand("reader1");
+        Strand reader2 = newStrand("reader2");
+        Assert.assertTrue(lock.lockShared(reader1));
+        Assert.assertTrue(lock.lockShared(reader2));
+        Assert.assertFalse(lock.isLockFree());
+
+        lock.unlockShared(reader1);
+        Assert.assertFalse(lock.isLockFree());
+        lock.unlockShared(reader2);
+        Assert.assertTrue(lock.isLockFree());
+        Assert.assertTrue(scheduler.unblocked.isEmpty());
+    }
+
+    @Test
+    void testWriterWaitsForReaders() {
+        Strand reader1 = newStrand("reader1");
+        Strand reader2 = newStrand("reader2");
+        Strand writer = newStrand("writer");
+        lock.lockShared(reader1);
+        lock.lockShared(reader2);
+
+        Assert.assertFalse(lock.lock(writer));
+        Assert.assertEquals(writer.getState(), State.BLOCK_AND_YIELD);
+
+        lock.unlockShared(reader1);
+        Assert.assertTrue(scheduler.unblocked.isEmpty());
+        lock.unlockShared(reader2);
+        Assert.assertEquals(scheduler.unblocked, List.of(writer));
+
+        // The lock is handed over to the writer, which gets it when it runs the lock statement again
+        Assert.assertTrue(lock.lock(writer));
+        Assert.assertFalse(lock.lockShared(newStrand("reader3")));
+        lock.unlock();
+    }
+
+    @Test
+    void testReadersWaitForWriter() {
+        Strand writer = newStrand("writer");
+        Strand reader1 = newStrand("reader1");
+        Strand reader2 = newStrand("reader2");
+        Assert.assertTrue(lock.lock(writer));
+
+        Assert.assertFalse(lock.lockShared(reader1));
+        Assert.assertFalse(lock.lockShared(reader2));
+        Assert.assertEquals(reader1.getState(), State.BLOCK_AND_YIELD);
+        Assert.assertEquals(reader2.getState(), State.BLOCK_AND_YIELD);
+
+        // All the waiting readers get the lock together
+        lock.unlock();
+        Assert.assertEquals(scheduler.unblocked, List.of(reader1, reader2));
+        Assert.assertTrue(lock.lockShared(reader1));
+        Assert.assertTrue(lock.lockShared(reader2));
+
+        lock.unlockShared(reader1);
+        lock.unlockShared(reader2);
+        Assert.assertTrue(lock.isLockFree());
+    }
+
+    @Test
+    void testWaitingWriterKeepsNewReadersWaiting() {
+        Strand reader1 = newStrand("reader1");
+        Strand reader2 = newStrand("reader2");
+        Strand writer = newStrand("writer");
+        lock.lockShared(reader1);
+        Assert.assertFalse(lock.lock(writer));
+
+        // A reader arriving after the writer waits behind it, even though the lock is only held by a reader
+        Assert.assertFalse(lock.lockShared(reader2));
+
+        lock.unlockShared(reader1);
+        Assert.assertEquals(scheduler.unblocked, List.of(writer));
+        Assert.assertTrue(lock.lock(writer));
+
+        lock.unlock();
+        Assert.assertEquals(scheduler.unblocked, List.of(writer, reader2));
+        Assert.assertTrue(lock.lockShared(reader2));
+        lock.unlockShared(reader2);
+        Assert.assertTrue(lock.isLockFree());
+    }
+
+    @Test
+    void testNestedLocksOfHolder() {
+        Strand reader = newStrand("reader");
+        Strand writer = newStrand("writer");
+        lock.lockShared(reader);
+        lock.lock(writer);
+
+        // A reader which holds the lock gets it again for a nested lock statement, despite the waiting writer
+        Assert.assertTrue(lock.lockShared(reader));
+        lock.unlockShared(reader);
+        Assert.assertTrue(scheduler.unblocked.isEmpty());
+        lock.unlockShared(reader);
+        Assert.assertEquals(scheduler.unblocked, List.of(writer));
+        Assert.assertTrue(lock.lock(writer));
+
+        // A writer which holds the lock gets it again, both for reads and writes
+        Assert.assertTrue(lock.lockShared(writer));
+        Assert.assertTrue(lock.lock(writer));
+        lock.unlock();
+        lock.unlockShared(writer);
+        Assert.assertFalse(lock.lockShared(reader));
+        lock.unlock();
+        Assert.assertEquals(scheduler.unblocked, List.of(writer, reader));
+    }
+
+    private Strand newStrand(String name) {
+        return new Strand(name, null, scheduler, null, null);
+    }
+
+    /**
+     * Scheduler which records the strands unblocked by the lock, instead of scheduling them.
+     */
+    private static class RecordingScheduler extends Scheduler {
+
+        private final List<Strand> unblocked = new ArrayList<>();
+
+        RecordingScheduler() {
+            super(2, false);
+        }
+
+        @Override
+        public void unblockStrand(Strand strand) {
+            unblocked.add(strand);
+        }
+    }
+}
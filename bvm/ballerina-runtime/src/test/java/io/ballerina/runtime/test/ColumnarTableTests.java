@@ -0,0 +1,225 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BIterator;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTable;
+import io.ballerina.runtime.internal.TypeChecker;
+import io.ballerina.runtime.internal.values.RefValue;
+import io.ballerina.runtime.internal.values.TableValueImpl;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static io.ballerina.runtime.api.constants.RuntimeConstants.BALLERINA_COLUMNAR_TABLES_PROPERTY;
+
+/**
+ * Test cases for read-only tables of which the rows are stored as columns.
+ */
+public class ColumnarTableTests {
+
+    private static final Module MODULE = new Module("testOrg", "testMod", "1");
+    private static final BString NAME = StringUtils.fromString("name");
+    private static final BString AGE = StringUtils.fromString("age");
+    private static final BString NAME_OF_ANNE = StringUtils.fromString("anne");
+
+    private static final RecordType PERSON_TYPE = TypeCreator.createRecordType("Person", MODULE, 0, Map.ofEntries(
+            Map.entry("name", TypeCreator.createField(PredefinedTypes.TYPE_STRING, "name", SymbolFlags.REQUIRED)),
+            Map.entry("age", TypeCreator.createField(PredefinedTypes.TYPE_INT, "age", SymbolFlags.REQUIRED))),
+            null, true, 0);
+
+    @AfterMethod
+    public void clearColumnarStorage() {
+        System.clearProperty(BALLERINA_COLUMNAR_TABLES_PROPERTY);
+    }
+
+    @Test
+    void testColumnarTableEqualsTable() {
+        BTable<BString, BMap<BString, Object>> table = createReadOnlyTable(false);
+        BTable<BString, BMap<BString, Object>> columnarTable = createReadOnlyTable(true);
+        Assert.assertFalse(isColumnar(table));
+        Assert.assertTrue(isColumnar(columnarTable));
+
+        Assert.assertTrue(TypeChecker.isEqual(columnarTable, table));
+        Assert.assertEquals(columnarTable.size(), table.size());
+        Assert.assertEquals(columnarTable.stringValue(null), table.stringValue(null));
+        Assert.assertTrue(TypeChecker.isEqual(columnarTable.get(StringUtils.fromString("bob")),
+                                              table.get(StringUtils.fromString("bob"))));
+        Assert.assertNull(columnarTable.get(StringUtils.fromString("emma")));
+        Assert.assertEquals(getNames(columnarTable.lookup(AGE, 30L)), List.of("anne", "carl"));
+    }
+
+    @Test
+    void testColumnarTableEntries() {
+        BTable<BString, BMap<BString, Object>> table = createReadOnlyTable(false);
+        BTable<BString, BMap<BString, Object>> columnarTable = createReadOnlyTable(true);
+
+        List<Map.Entry<BString, BMap<BString, Object>>> entries = new ArrayList<>(table.entrySet());
+        List<Map.Entry<BString, BMap<BString, Object>>> columnarEntries = new ArrayList<>(columnarTable.entrySet());
+        Assert.assertEquals(columnarEntries.size(), entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            Map.Entry<BString, BMap<BString, Object>> columnarEntry = columnarEntries.get(i);
+            Assert.assertEquals(columnarEntry.getKey(), entries.get(i).getKey());
+            Assert.assertTrue(TypeChecker.isEqual(columnarEntry.getValue(), entries.get(i).getValue()));
+            Assert.assertSame(columnarEntry.getValue(), columnarTable.get(columnarEntry.getKey()));
+        }
+    }
+
+    @Test
+    void testColumnarTableIteration() {
+        BTable<BString, BMap<BString, Object>> columnarTable = createReadOnlyTable(true);
+        List<BMap<BString, Object>> rows = new ArrayList<>(columnarTable.values());
+
+        BIterator<?> iterator = columnarTable.getIterator();
+        List<String> names = new ArrayList<>();
+        int row = 0;
+        while (iterator.hasNext()) {
+            BArray entry = (BArray) iterator.next();
+            names.add(((BString) entry.get(0)).getValue());
+            Assert.assertSame(entry.get(1), rows.get(row++));
+        }
+        Assert.assertEquals(names, List.of("anne", "bob", "carl", "dave"));
+    }
+
+    @Test
+    void testColumnarTableRowIdentity() {
+        System.setProperty(BALLERINA_COLUMNAR_TABLES_PROPERTY, "true");
+        BMap<BString, Object> anne = createPerson("anne", 30);
+        BTable<BString, BMap<BString, Object>> columnarTable = createTable();
+        columnarTable.add(anne);
+        columnarTable.add(createPerson("bob", 25));
+        ((RefValue) columnarTable).freezeDirect();
+        Assert.assertTrue(isColumnar(columnarTable));
+
+        // The row which was added is still in use, hence it is the row of the table.
+        Assert.assertSame(columnarTable.get(NAME_OF_ANNE), anne);
+        Assert.assertSame(columnarTable.lookup(AGE, 30L).get(0), anne);
+
+        // The row which is no longer in use elsewhere keeps the identity of its first access.
+        BString bob = StringUtils.fromString("bob");
+        System.gc();
+        BMap<BString, Object> bobRow = columnarTable.get(bob);
+        System.gc();
+        Assert.assertSame(columnarTable.get(bob), bobRow);
+        Assert.assertSame(columnarTable.values().toArray()[1], bobRow);
+    }
+
+    @Test
+    void testColumnarTableRowsNotRetained() throws InterruptedException {
+        BTable<BString, BMap<BString, Object>> columnarTable = createReadOnlyTable(true);
+        Assert.assertTrue(isColumnar(columnarTable));
+
+        // A row which is no longer in use is reclaimed, and is materialized again when it is accessed again.
+        WeakReference<BMap<BString, Object>> anneRow = new WeakReference<>(columnarTable.get(NAME_OF_ANNE));
+        for (int i = 0; i < 10 && anneRow.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        Assert.assertNull(anneRow.get());
+        BMap<BString, Object> anne = columnarTable.get(NAME_OF_ANNE);
+        Assert.assertEquals(anne.getStringValue(NAME).getValue(), "anne");
+        Assert.assertEquals(anne.getIntValue(AGE).longValue(), 30L);
+    }
+
+    @Test
+    void testColumnarTableRowIdentityAcrossThreads() throws Exception {
+        BTable<BString, BMap<BString, Object>> columnarTable = createReadOnlyTable(true);
+        Assert.assertTrue(isColumnar(columnarTable));
+
+        // Threads which access a row which is not yet materialized at the same time get the same value.
+        int threadCount = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<BMap<BString, Object>>> rows = new ArrayList<>();
+            for (int i = 0; i < threadCount; i++) {
+                rows.add(executor.submit(() -> {
+                    start.await();
+                    return columnarTable.get(NAME_OF_ANNE);
+                }));
+            }
+            start.countDown();
+            BMap<BString, Object> anne = rows.get(0).get();
+            for (Future<BMap<BString, Object>> row : rows) {
+                Assert.assertSame(row.get(), anne);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static BTable<BString, BMap<BString, Object>> createReadOnlyTable(boolean columnar) {
+        System.setProperty(BALLERINA_COLUMNAR_TABLES_PROPERTY, Boolean.toString(columnar));
+        BTable<BString, BMap<BString, Object>> table = createTable();
+        table.add(createPerson("anne", 30));
+        table.add(createPerson("bob", 25));
+        table.add(createPerson("carl", 30));
+        table.add(createPerson("dave", 40));
+        ((RefValue) table).freezeDirect();
+        return table;
+    }
+
+    private static BTable<BString, BMap<BString, Object>> createTable() {
+        return ValueCreator.createTableValue(TypeCreator.createTableType(PERSON_TYPE, new String[]{"name"}, false));
+    }
+
+    private static BMap<BString, Object> createPerson(String name, long age) {
+        BMap<BString, Object> person = ValueCreator.createMapValue(PERSON_TYPE);
+        person.put(NAME, StringUtils.fromString(name));
+        person.put(AGE, age);
+        return person;
+    }
+
+    private static List<String> getNames(List<BMap<BString, Object>> people) {
+        List<String> names = new ArrayList<>();
+        for (BMap<BString, Object> person : people) {
+            names.add(person.getStringValue(NAME).getValue());
+        }
+        return names;
+    }
+
+    private static boolean isColumnar(BTable<?, ?> table) {
+        try {
+            Field columnarRows = TableValueImpl.class.getDeclaredField("columnarRows");
+            columnarRows.setAccessible(true);
+            return columnarRows.get(table) != null;
+        } catch (ReflectiveOperationException e) {
+            throw new AssertionError(e);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.types.BField;
+import io.ballerina.runtime.internal.types.BRecordType;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Test cases for serializing JSON values as UTF-8 to byte sinks.
+ */
+public class JsonSerializationTests {
+
+    private static final String JSON = "{\"name\":\"caf\u00e9 \u4e2d \ud83d\ude00\", \"path\":\"a/b\", " +
+            "\"quote\":\"say \\\"hi\\\"\\n\", \"values\":[1, -20, 3.5, true, null, {}, []], " +
+            "\"nested\":{\"id\":9223372036854775807, \"amount\":-9223372036854775808}}";
+
+    @Test
+    void testSerializeToOutputStream() {
+        Object json = JsonUtils.parse(JSON);
+        Assert.assertEquals(serializeUtf8(json), serialize(json));
+    }
+
+    @Test
+    void testSerializeLargeValueToOutputStream() {
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < 10000; i++) {
+            builder.append(i == 0 ? "" : ", ").append(JSON);
+        }
+        Object json = JsonUtils.parse(builder.append("]").toString());
+        Assert.assertEquals(serializeUtf8(json), serialize(json));
+    }
+
+    @Test
+    void testSerializeToByteBuffer() {
+        Object json = JsonUtils.parse(JSON);
+        byte[] expected = serialize(json);
+        ByteBuffer buffer = ByteBuffer.allocate(expected.length + 10);
+        buffer.position(10);
+        JsonUtils.serializeUtf8(json, buffer);
+        Assert.assertEquals(buffer.position(), expected.length + 10);
+        byte[] actual = new byte[expected.length];
+        buffer.position(10);
+        buffer.get(actual);
+        Assert.assertEquals(actual, expected);
+    }
+
+    @Test(expectedExceptions = BError.class)
+    void testSerializeToSmallByteBuffer() {
+        JsonUtils.serializeUtf8(JsonUtils.parse(JSON), ByteBuffer.allocate(16));
+    }
+
+    @Test
+    void testSerializeRecord() {
+        MapValueImpl<BString, Object> person = createPerson();
+        person.put(StringUtils.fromString("age"), 30L);
+        Assert.assertEquals(new String(serializeUtf8(person), StandardCharsets.UTF_8),
+                            "{\"name\":\"Anne\", \"age\":30}");
+    }
+
+    @Test
+    void testSerializeRecordWithIncompatibleValue() {
+        MapValueImpl<BString, Object> person = createPerson();
+        person.put(StringUtils.fromString("note"), ValueCreator.createXmlText("text"));
+        try {
+            serializeUtf8(person);
+            Assert.fail("expected an error for the xml value of the record");
+        } catch (BError e) {
+            Assert.assertTrue(e.getMessage().startsWith("incompatible types: expected 'json', found 'xml"),
+                              e.getMessage());
+        }
+    }
+
+    private static MapValueImpl<BString, Object> createPerson() {
+        Map<String, Field> fields = new LinkedHashMap<>();
+        fields.put("name", new BField(PredefinedTypes.TYPE_STRING, "name", SymbolFlags.REQUIRED));
+        BRecordType personType = new BRecordType("Person", new Module("test", "json_serialization", "1"), 0,
+                                                 fields, PredefinedTypes.TYPE_ANYDATA, false, 0);
+        MapValueImpl<BString, Object> person = new MapValueImpl<>(personType);
+        person.put(StringUtils.fromString("name"), StringUtils.fromString("Anne"));
+        return person;
+    }
+
+    private static byte[] serialize(Object json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonUtils.serialize(json, out, StandardCharsets.UTF_8);
+        return out.toByteArray();
+    }
+
+    private static byte[] serializeUtf8(Object json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonUtils.serializeUtf8(json, out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.internal.scheduling.SpscQueue;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Test cases for {@link SpscQueue} which is used for worker message passing.
+ */
+public class SpscQueueTests {
+
+    @Test
+    void testEmptyQueue() {
+        SpscQueue<Integer> queue = new SpscQueue<>(4);
+        Assert.assertTrue(queue.isEmpty());
+        Assert.assertNull(queue.peek());
+        Assert.assertNull(queue.poll());
+    }
+
+    @Test
+    void testOrderWithinRing() {
+        SpscQueue<Integer> queue = new SpscQueue<>(4);
+        for (int round = 0; round < 10; round++) {
+            queue.offer(round);
+            queue.offer(round + 1);
+            Assert.assertEquals(queue.size(), 2);
+            Assert.assertEquals(queue.peek(), Integer.valueOf(round));
+            Assert.assertEquals(queue.poll(), Integer.valueOf(round));
+            Assert.assertEquals(queue.poll(), Integer.valueOf(round + 1));
+            Assert.assertTrue(queue.isEmpty());
+        }
+    }
+
+    @Test
+    void testOrderWhenRingIsFull() {
+        SpscQueue<Integer> queue = new SpscQueue<>(4);
+        for (int i = 0; i < 100; i++) {
+            queue.offer(i);
+        }
+        Assert.assertEquals(queue.size(), 100);
+        for (int i = 0; i < 100; i++) {
+            Assert.assertEquals(queue.peek(), Integer.valueOf(i));
+            Assert.assertEquals(queue.poll(), Integer.valueOf(i));
+        }
+        Assert.assertTrue(queue.isEmpty());
+        Assert.assertNull(queue.poll());
+    }
+
+    @Test
+    void testConcurrentProducerAndConsumer() throws InterruptedException {
+        int count = 1_000_000;
+        SpscQueue<Integer> queue = new SpscQueue<>(8);
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < count; i++) {
+                queue.offer(i);
+            }
+        });
+        producer.start();
+
+        int expected = 0;
+        while (expected < count) {
+            Integer value = queue.poll();
+            if (value == null) {
+                Thread.onSpinWait();
+                continue;
+            }
+            Assert.assertEquals(value.intValue(), expected++);
+        }
+        producer.join();
+        Assert.assertTrue(queue.isEmpty());
+    }
+}
@@ -1,5 +1,9 @@
 package io.ballerina.runtime.test;
 
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.values.ConcatStringValue;
+import io.ballerina.runtime.internal.values.IteratorValue;
 import io.ballerina.runtime.internal.values.NonBmpStringValue;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -40,4 +44,52 @@ public class StringValueTests {
         Assert.assertEquals(SUBJECT.length(), 16);
     }
 
+
+    @Test
+    void testRepeatedConcat() {
+        BString str = StringUtils.fromString("");
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 10000; i++) {
+            str = str.concat(StringUtils.fromString(i + ","));
+            expected.append(i).append(',');
+        }
+        Assert.assertTrue(str instanceof ConcatStringValue);
+        Assert.assertEquals(str.length(), expected.length());
+        Assert.assertEquals(str.getValue(), expected.toString());
+        Assert.assertEquals(str, StringUtils.fromString(expected.toString()));
+        Assert.assertEquals(str.hashCode(), expected.toString().hashCode());
+        Assert.assertEquals(str.getCodePoint(expected.length() - 2), '9');
+    }
+
+    @Test
+    void testConcatWithNonBmp() {
+        BString prefix = StringUtils.fromString("a".repeat(200));
+        BString str = prefix.concat(SUBJECT).concat(prefix).concat(SUBJECT);
+        Assert.assertTrue(str instanceof ConcatStringValue);
+        Assert.assertEquals(str.length(), 432);
+        Assert.assertEquals(str.getCodePoint(201), 0x1F6F8);
+        Assert.assertEquals(str.getCodePoint(431), 'r');
+        Assert.assertEquals(str.getCodePoint(430), 0x1F47D);
+        Assert.assertEquals(str.substring(200, 216).getValue(), UNICODE_STR);
+        Assert.assertEquals(str.indexOf(StringUtils.fromString("Frav"), 211), Long.valueOf(426));
+        Assert.assertEquals(str.getValue(), "a".repeat(200) + UNICODE_STR + "a".repeat(200) + UNICODE_STR);
+
+        IteratorValue iterator = str.getIterator();
+        int count = 0;
+        while (iterator.hasNext()) {
+            Object ch = iterator.next();
+            if (count == 201) {
+                Assert.assertEquals(ch, "\uD83D\uDEF8");
+            }
+            count++;
+        }
+        Assert.assertEquals(count, 432);
+    }
+
+    @Test
+    void testShortConcatIsFlat() {
+        BString str = StringUtils.fromString("abc").concat(StringUtils.fromString("def"));
+        Assert.assertFalse(str instanceof ConcatStringValue);
+        Assert.assertEquals(str.getValue(), "abcdef");
+    }
 }
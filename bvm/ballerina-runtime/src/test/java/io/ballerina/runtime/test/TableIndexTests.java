@@ -0,0 +1,186 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTable;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Test cases for the secondary indexes of table values.
+ */
+public class TableIndexTests {
+
+    private static final Module MODULE = new Module("testOrg", "testMod", "1");
+    private static final BString NAME = StringUtils.fromString("name");
+    private static final BString AGE = StringUtils.fromString("age");
+    private static final BString CITY = StringUtils.fromString("city");
+
+    private static final RecordType PERSON_TYPE = TypeCreator.createRecordType("Person", MODULE, 0, Map.ofEntries(
+            Map.entry("name", TypeCreator.createField(PredefinedTypes.TYPE_STRING, "name",
+                                                      SymbolFlags.REQUIRED | SymbolFlags.READONLY)),
+            Map.entry("age", TypeCreator.createField(PredefinedTypes.TYPE_INT, "age",
+                                                     SymbolFlags.REQUIRED | SymbolFlags.READONLY)),
+            Map.entry("city", TypeCreator.createField(PredefinedTypes.TYPE_STRING, "city", SymbolFlags.REQUIRED))),
+            null, true, 0);
+
+    @Test
+    void testHashIndexLookup() {
+        BTable<BString, BMap<BString, Object>> table = createTable();
+        table.addIndex(AGE, false);
+        Assert.assertEquals(getNames(table.lookup(AGE, 30L)), List.of("anne", "carl"));
+        Assert.assertTrue(table.lookup(AGE, 99L).isEmpty());
+
+        table.add(createPerson("emma", 30, "paris"));
+        table.remove(StringUtils.fromString("anne"));
+        Assert.assertEquals(getNames(table.lookup(AGE, 30L)), List.of("carl", "emma"));
+    }
+
+    @Test
+    void testOrderedIndexRangeLookup() {
+        BTable<BString, BMap<BString, Object>> table = createTable();
+        table.addIndex(AGE, true);
+        Assert.assertEquals(getNames(table.lookupRange(AGE, 25L, 41L)), List.of("anne", "carl", "dave"));
+        Assert.assertEquals(getNames(table.lookupRange(AGE, null, 30L)), List.of("bob"));
+        Assert.assertEquals(getNames(table.lookupRange(AGE, 31L, null)), List.of("dave"));
+
+        table.put(createPerson("bob", 35, "rome"));
+        Assert.assertEquals(getNames(table.lookupRange(AGE, null, null)), List.of("anne", "carl", "bob", "dave"));
+
+        table.clear();
+        Assert.assertTrue(table.lookupRange(AGE, null, null).isEmpty());
+    }
+
+    @Test
+    void testLookupWithoutIndex() {
+        BTable<BString, BMap<BString, Object>> table = createTable();
+        Assert.assertEquals(getNames(table.lookup(CITY, StringUtils.fromString("oslo"))), List.of("bob", "dave"));
+    }
+
+    @Test
+    void testCopyKeepsIndexes() {
+        BTable<BString, BMap<BString, Object>> table = createTable();
+        table.addIndex(NAME, true);
+        BTable<BString, BMap<BString, Object>> copy =
+                (BTable<BString, BMap<BString, Object>>) table.copy(new HashMap<>());
+        copy.remove(StringUtils.fromString("bob"));
+        Assert.assertEquals(getNames(copy.lookupRange(NAME, StringUtils.fromString("b"), null)),
+                            List.of("carl", "dave"));
+        Assert.assertEquals(getNames(table.lookupRange(NAME, StringUtils.fromString("b"), null)),
+                            List.of("bob", "carl", "dave"));
+    }
+
+    @Test
+    void testPutReplacingRowWithCollidingKeyHash() {
+        // The hashes of the keys "Aa" and "BB" collide
+        BString aa = StringUtils.fromString("Aa");
+        BString bb = StringUtils.fromString("BB");
+        Assert.assertEquals(aa.hashCode(), bb.hashCode());
+        BTable<BString, BMap<BString, Object>> table = createTable();
+        table.add(createPerson("Aa", 50, "lima"));
+        table.add(createPerson("BB", 60, "oslo"));
+        table.addIndex(AGE, false);
+        table.addIndex(NAME, true);
+
+        table.put(createPerson("Aa", 70, "rome"));
+        Assert.assertEquals(table.size(), 6);
+        Assert.assertEquals(table.get(aa).getIntValue(AGE).longValue(), 70L);
+        Assert.assertEquals(table.get(bb).getIntValue(AGE).longValue(), 60L);
+        Assert.assertTrue(table.lookup(AGE, 50L).isEmpty());
+        Assert.assertEquals(getNames(table.lookup(AGE, 60L)), List.of("BB"));
+        Assert.assertEquals(getNames(table.lookup(AGE, 70L)), List.of("Aa"));
+        Assert.assertEquals(getNames(table.lookupRange(NAME, null, StringUtils.fromString("C"))), List.of("Aa", "BB"));
+
+        table.remove(bb);
+        Assert.assertTrue(table.lookup(AGE, 60L).isEmpty());
+        Assert.assertEquals(getNames(table.lookup(AGE, 70L)), List.of("Aa"));
+        Assert.assertEquals(getNames(table.lookupRange(NAME, null, StringUtils.fromString("C"))), List.of("Aa"));
+    }
+
+    @Test
+    void testPutAddingRowWithCollidingKeyHash() {
+        BString aa = StringUtils.fromString("Aa");
+        BTable<BString, BMap<BString, Object>> table = createTable();
+        table.add(createPerson("Aa", 50, "lima"));
+        table.addIndex(AGE, false);
+
+        // Putting a row of which the key hash collides with the key of another row adds the row
+        table.put(createPerson("BB", 50, "oslo"));
+        Assert.assertEquals(table.size(), 6);
+        Assert.assertEquals(table.get(aa).getIntValue(AGE).longValue(), 50L);
+        Assert.assertEquals(getNames(table.lookup(AGE, 50L)), List.of("Aa", "BB"));
+
+        table.put(createPerson("BB", 55, "oslo"));
+        Assert.assertEquals(table.size(), 6);
+        Assert.assertEquals(getNames(table.lookup(AGE, 50L)), List.of("Aa"));
+        Assert.assertEquals(getNames(table.lookup(AGE, 55L)), List.of("BB"));
+    }
+
+    @Test(expectedExceptions = BError.class)
+    void testIndexOnMutableField() {
+        createTable().addIndex(CITY, false);
+    }
+
+    @Test(expectedExceptions = BError.class)
+    void testRangeLookupWithoutOrderedIndex() {
+        BTable<BString, BMap<BString, Object>> table = createTable();
+        table.addIndex(AGE, false);
+        table.lookupRange(AGE, 0L, 10L);
+    }
+
+    private static BTable<BString, BMap<BString, Object>> createTable() {
+        BTable<BString, BMap<BString, Object>> table =
+                ValueCreator.createTableValue(TypeCreator.createTableType(PERSON_TYPE, new String[]{"name"}, false));
+        table.add(createPerson("anne", 30, "lima"));
+        table.add(createPerson("bob", 25, "oslo"));
+        table.add(createPerson("carl", 30, "kyiv"));
+        table.add(createPerson("dave", 40, "oslo"));
+        return table;
+    }
+
+    private static BMap<BString, Object> createPerson(String name, long age, String city) {
+        BMap<BString, Object> person = ValueCreator.createMapValue(PERSON_TYPE);
+        person.put(NAME, StringUtils.fromString(name));
+        person.put(AGE, age);
+        person.put(CITY, StringUtils.fromString(city));
+        return person;
+    }
+
+    private static List<String> getNames(List<BMap<BString, Object>> people) {
+        List<String> names = new ArrayList<>();
+        for (BMap<BString, Object> person : people) {
+            names.add(person.getStringValue(NAME).getValue());
+        }
+        return names;
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTable;
+import io.ballerina.runtime.internal.TableUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Test cases for hashing the keys of table values.
+ */
+public class TableKeyHashTests {
+
+    private static final Module MODULE = new Module("testOrg", "testMod", "1");
+    private static final BString ID = StringUtils.fromString("id");
+    private static final BString NAME = StringUtils.fromString("name");
+
+    private static final RecordType ITEM_TYPE = TypeCreator.createRecordType("Item", MODULE, 0, Map.ofEntries(
+            Map.entry("id", TypeCreator.createField(PredefinedTypes.TYPE_INT, "id",
+                                                    SymbolFlags.REQUIRED | SymbolFlags.READONLY)),
+            Map.entry("name", TypeCreator.createField(PredefinedTypes.TYPE_STRING, "name",
+                                                      SymbolFlags.REQUIRED | SymbolFlags.READONLY))),
+            null, true, 0);
+
+    @Test
+    void testHashKeyMatchesHash() {
+        BArray ints = ValueCreator.createArrayValue(new long[]{1, -2, Long.MAX_VALUE});
+        BArray floats = ValueCreator.createArrayValue(new double[]{1.5, -0.0, Double.NaN});
+        BArray bytes = ValueCreator.createArrayValue(new byte[]{1, (byte) 200});
+        BArray tuple = ValueCreator.createTupleValue(TypeCreator.createTupleType(
+                List.of(PredefinedTypes.TYPE_STRING, PredefinedTypes.TYPE_INT)));
+        tuple.add(0, StringUtils.fromString("key"));
+        tuple.add(1, 42L);
+        BArray nested = ValueCreator.createArrayValue(new Object[]{ints, StringUtils.fromString("a"), null},
+                                                       TypeCreator.createArrayType(PredefinedTypes.TYPE_ANY));
+        for (Object key : new Object[]{null, 42L, 1.5, true, StringUtils.fromString("key"), ints, floats, bytes,
+                tuple, nested}) {
+            Assert.assertEquals(TableUtils.hashKey(key), (long) TableUtils.hash(key, null));
+        }
+    }
+
+    @Test
+    void testPutGetAndRemoveIntKeys() {
+        BTable<Long, BMap<BString, Object>> table =
+                ValueCreator.createTableValue(TypeCreator.createTableType(ITEM_TYPE, new String[]{"id"}, false));
+        for (long i = 0; i < 5000; i++) {
+            table.put(createItem(i, "item" + i));
+        }
+        for (long i = 0; i < 5000; i += 2) {
+            table.remove(i);
+        }
+        Assert.assertEquals(table.size(), 2500);
+        for (long i = 0; i < 5000; i++) {
+            Assert.assertEquals(table.containsKey(i), i % 2 == 1);
+        }
+        Assert.assertEquals(table.get(4999L).getStringValue(NAME).getValue(), "item4999");
+        Assert.assertNull(table.get(5000L));
+    }
+
+    @Test
+    void testGetCompositeKey() {
+        BTable<BArray, BMap<BString, Object>> table = ValueCreator.createTableValue(
+                TypeCreator.createTableType(ITEM_TYPE, new String[]{"name", "id"}, false));
+        for (long i = 0; i < 100; i++) {
+            table.add(createItem(i, "item" + (i % 10)));
+        }
+        BArray key = ValueCreator.createTupleValue(TypeCreator.createTupleType(
+                List.of(PredefinedTypes.TYPE_STRING, PredefinedTypes.TYPE_INT)));
+        key.add(0, StringUtils.fromString("item3"));
+        key.add(1, 53L);
+        Assert.assertEquals(table.get(key).getIntValue(ID).longValue(), 53L);
+        key.add(1, 54L);
+        Assert.assertFalse(table.containsKey(key));
+    }
+
+    private static BMap<BString, Object> createItem(long id, String name) {
+        BMap<BString, Object> item = ValueCreator.createMapValue(ITEM_TYPE);
+        item.put(ID, id);
+        item.put(NAME, StringUtils.fromString(name));
+        return item;
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.api.utils.JsonUtils.NonStringValueProcessingMode;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Test cases for parsing UTF-8 encoded JSON content from bytes.
+ */
+public class Utf8JsonParserTests {
+
+    private static final String JSON = "{\"name\": \"caf\u00e9 \u4e2d \ud83d\ude00\", " +
+            "\"escaped\": \"a\\\"b\\\\c\\/\\n\\u00e9\\ud83d\\ude00\", " +
+            "\"values\": [1, -20, 3.50, 0.1, -0, -0.0, 1.5e3, 123456789012345678901.25, 9223372036854775807, " +
+            "true, false, null, {}, []],\n \"nested\": {\"a\": {\"b\": [{\"c\": 1}, {\"c\": 2}]}}}";
+
+    @DataProvider
+    public Object[][] modes() {
+        return new Object[][]{
+                {NonStringValueProcessingMode.FROM_JSON_FLOAT_STRING},
+                {NonStringValueProcessingMode.FROM_JSON_DECIMAL_STRING}
+        };
+    }
+
+    @Test
+    void testParseInputStream() {
+        Object expected = JsonUtils.parse(JSON);
+        Object actual = JsonUtils.parseUtf8(new ByteArrayInputStream(JSON.getBytes(StandardCharsets.UTF_8)));
+        Assert.assertEquals(StringUtils.getJsonString(actual), StringUtils.getJsonString(expected));
+    }
+
+    @Test(dataProvider = "modes")
+    void testParseByteBuffer(NonStringValueProcessingMode mode) {
+        Object expected = JsonUtils.parse(JSON, mode);
+        ByteBuffer buffer = ByteBuffer.wrap(JSON.getBytes(StandardCharsets.UTF_8));
+        Assert.assertEquals(StringUtils.getJsonString(JsonUtils.parse(buffer, mode)),
+                            StringUtils.getJsonString(expected));
+        Assert.assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    void testParseDirectByteBuffer() {
+        byte[] bytes = JSON.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+        buffer.put(bytes).flip();
+        Assert.assertEquals(StringUtils.getJsonString(JsonUtils.parse(buffer)),
+                            StringUtils.getJsonString(JsonUtils.parse(JSON)));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testRepeatedFieldNames() {
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < 1000; i++) {
+            builder.append(i == 0 ? "" : ", ").append("{\"id\": ").append(i).append(", \"label\": \"item\"}");
+        }
+        String json = builder.append("]").toString();
+        Object actual = JsonUtils.parseUtf8(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+        Assert.assertEquals(StringUtils.getJsonString(actual), StringUtils.getJsonString(JsonUtils.parse(json)));
+        BMap<BString, Object> last = (BMap<BString, Object>) ((BArray) actual).get(999);
+        Assert.assertEquals(last.get(StringUtils.fromString("id")), 999L);
+    }
+
+    @Test(expectedExceptions = BError.class, expectedExceptionsMessageRegExp = "expected ',' or '}' at line: 2.*")
+    void testInvalidDocument() {
+        JsonUtils.parse(ByteBuffer.wrap("{\"a\": 1\n \"b\": 2}".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test(expectedExceptions = BError.class, expectedExceptionsMessageRegExp = "unrecognized token '1e5'.*")
+    void testIntWithExponent() {
+        JsonUtils.parse(ByteBuffer.wrap("[1e5]".getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.types.XmlNodeType;
+import io.ballerina.runtime.api.values.BXml;
+import io.ballerina.runtime.internal.XmlTreeBuilder;
+import io.ballerina.runtime.internal.util.exceptions.BallerinaException;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Test cases for {@link XmlTreeBuilder} which compare the lazily read tree with the eagerly built tree.
+ */
+public class XmlTreeBuilderTests {
+
+    private static final String DOCUMENT = "<?xml version=\"1.0\"?><!-- books -->" +
+            "<bs:books xmlns:bs=\"http://books.com\" xmlns=\"http://default.com\" kind=\"a>b\">" +
+            "<bs:book id=\"1\"><title>Foo &amp; Bar</title><![CDATA[<raw/>]]><empty/></bs:book>" +
+            "<?sort by='id'?><!-- <bs:book id=\"2\"/> -->" +
+            "<book xmlns:au=\"http://authors.com\" id='3'><au:author>Baz</au:author><title/></book>" +
+            "</bs:books>";
+
+    @Test
+    void testLazyTreeEqualsEagerTree() {
+        BXml eager = new XmlTreeBuilder(DOCUMENT, false).parse();
+        BXml lazy = new XmlTreeBuilder(DOCUMENT, true).parse();
+        Assert.assertEquals(lazy.toString(), eager.toString());
+    }
+
+    @Test
+    void testLazyChildNavigation() {
+        BXml eager = new XmlTreeBuilder(DOCUMENT, false).parse();
+        BXml lazy = new XmlTreeBuilder(DOCUMENT, true).parse();
+        BXml eagerBooks = eager.getItem(1).children();
+        BXml lazyBooks = lazy.getItem(1).children();
+        Assert.assertEquals(lazyBooks.size(), eagerBooks.size());
+        for (int i = 0; i < eagerBooks.size(); i++) {
+            Assert.assertEquals(lazyBooks.getItem(i).toString(), eagerBooks.getItem(i).toString());
+            Assert.assertEquals(lazyBooks.getItem(i).children().toString(),
+                                eagerBooks.getItem(i).children().toString());
+        }
+    }
+
+    @Test(expectedExceptions = BallerinaException.class)
+    void testLazyParsingValidatesWholeDocument() {
+        new XmlTreeBuilder("<a><b><c></b></c></a>", true).parse();
+    }
+
+    @Test
+    void testLazyNestedChildNavigation() {
+        String document = "<a><b>1<c><d>2</d><d/><d>3<e x='>'/></d></c>4</b><b><c/></b>5</a>";
+        BXml eager = new XmlTreeBuilder(document, false).parse();
+        BXml lazy = new XmlTreeBuilder(document, true).parse();
+        assertSameChildren(lazy, eager);
+    }
+
+    @DataProvider
+    Object[][] malformedDocuments() {
+        return new Object[][]{
+                {"<a><!--<!-- x"},
+                {"<a><![CDATA[x"},
+                {"<a><?pi x"},
+                {"abc<"},
+                {"<a>x</"},
+                {"<a><b x='1></b></a>"},
+                {"<a><b>"},
+                {"</a>"}
+        };
+    }
+
+    @Test(dataProvider = "malformedDocuments", expectedExceptions = BallerinaException.class, timeOut = 10000)
+    void testLazyParsingOfMalformedDocument(String document) {
+        new XmlTreeBuilder(document, true).parse();
+    }
+
+    private static void assertSameChildren(BXml lazy, BXml eager) {
+        Assert.assertEquals(lazy.size(), eager.size());
+        for (int i = 0; i < eager.size(); i++) {
+            BXml lazyItem = lazy.getItem(i);
+            BXml eagerItem = eager.getItem(i);
+            Assert.assertEquals(lazyItem.getNodeType(), eagerItem.getNodeType());
+            Assert.assertEquals(lazyItem.toString(), eagerItem.toString());
+            if (eagerItem.getNodeType() == XmlNodeType.ELEMENT) {
+                assertSameChildren(lazyItem.children(), eagerItem.children());
+            }
+        }
+    }
+}
@@ -36,10 +36,12 @@ import io.ballerina.projects.Project;
 import io.ballerina.projects.ProjectException;
 import io.ballerina.projects.directory.BuildProject;
 import io.ballerina.projects.directory.SingleFileProject;
+import io.ballerina.projects.internal.CompilationProfiler;
 import io.ballerina.projects.util.ProjectConstants;
 import io.ballerina.toml.semantic.TomlType;
 import io.ballerina.toml.semantic.ast.TomlTableNode;
 import org.ballerinalang.toml.exceptions.SettingsTomlException;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.util.RepoUtils;
 import picocli.CommandLine;
 
@@ -83,7 +85,7 @@ public class BuildCommand implements BLauncherCmd {
         this.outStream = outStream;
         this.errStream = errStream;
         this.exitWhenFinish = false;
-        this.dumpBuildTime = dumpBuildTime;
+        this.dumpBuildTime = Boolean.toString(dumpBuildTime);
     }
 
     public BuildCommand(Path projectPath, PrintStream outStream, PrintStream errStream, boolean exitWhenFinish,
@@ -170,6 +172,8 @@ public class BuildCommand implements BLauncherCmd {
     @CommandLine.Option(names = "--debug", description = "run tests in remote debugging mode")
     private String debugPort;
 
+    private static final String DUMP_BUILD_TIME_DETAILED = "detailed";
+
     private static final String buildCmd = "bal build [-o <output>] [--offline] [--with-tests] [--taint-check]\n" +
             "                    [<ballerina-file | package-path>]";
 
@@ -197,12 +201,18 @@ public class BuildCommand implements BLauncherCmd {
             description = "list conflicted classes when generating executable")
     private Boolean listConflictedClasses;
 
-    @CommandLine.Option(names = "--dump-build-time", hidden = true, description = "calculate and dump build time")
-    private Boolean dumpBuildTime;
+    @CommandLine.Option(names = "--dump-build-time", hidden = true, arity = "0..1", fallbackValue = "true",
+            description = "calculate and dump build time. Use '--dump-build-time=detailed' to dump the time spent " +
+                    "in each compiler phase per module and per compiler plugin")
+    private String dumpBuildTime;
 
     @CommandLine.Option(names = "--sticky", description = "stick to exact versions locked (if exists)")
     private Boolean sticky;
 
+    @CommandLine.Option(names = "--cds", description = "generate a class data sharing archive for the executable " +
+            "by performing a training run")
+    private boolean generateCdsArchive;
+
     public void execute() {
         long start = 0;
         if (this.helpFlag) {
@@ -231,6 +241,16 @@ public class BuildCommand implements BLauncherCmd {
             sticky = false;
         }
 
+        if (this.dumpBuildTime != null && !DUMP_BUILD_TIME_DETAILED.equals(this.dumpBuildTime)
+                && !Boolean.TRUE.toString().equals(this.dumpBuildTime)
+                && !Boolean.FALSE.toString().equals(this.dumpBuildTime)) {
+            CommandUtil.printError(this.errStream, "unsupported value '" + this.dumpBuildTime +
+                    "' for --dump-build-time. Supported values are 'true', 'false' and '" +
+                    DUMP_BUILD_TIME_DETAILED + "'", null, false);
+            CommandUtil.exitError(this.exitWhenFinish);
+            return;
+        }
+
         // If withTests flag is not provided, we change the skipTests flag accordingly
         if (withTests != null) {
             this.skipTests = !withTests;
@@ -392,6 +412,12 @@ public class BuildCommand implements BLauncherCmd {
             this.outStream.println("warning: " + e.getMessage());
         }
 
+        boolean detailedBuildTime = DUMP_BUILD_TIME_DETAILED.equals(this.dumpBuildTime);
+        if (detailedBuildTime) {
+            CompilerContext compilerContext = project.projectEnvironmentContext().getService(CompilerContext.class);
+            CompilationProfiler.getInstance(compilerContext).setEnabled(true);
+        }
+
         TaskExecutor taskExecutor = new TaskExecutor.TaskBuilder()
                 // clean the target directory(projects only)
                 .addTask(new CleanTargetDirTask(), isSingleFileBuild)
@@ -406,8 +432,8 @@ public class BuildCommand implements BLauncherCmd {
                 // create the BALA if -c provided (build projects only)
                 .addTask(new CreateBalaTask(outStream), isSingleFileBuild || !this.compile)
                 // create the executable jar, skip if -c flag is provided
-                .addTask(new CreateExecutableTask(outStream, this.output), this.compile)
-                .addTask(new DumpBuildTimeTask(outStream), !project.buildOptions().dumpBuildTime())
+                .addTask(new CreateExecutableTask(outStream, this.output, this.generateCdsArchive), this.compile)
+                .addTask(new DumpBuildTimeTask(outStream, detailedBuildTime), !project.buildOptions().dumpBuildTime())
                 .build();
 
         taskExecutor.executeTasks(project);
@@ -440,7 +466,7 @@ public class BuildCommand implements BLauncherCmd {
                 .dumpGraph(dumpGraph)
                 .dumpRawGraphs(dumpRawGraphs)
                 .listConflictedClasses(listConflictedClasses)
-                .dumpBuildTime(dumpBuildTime)
+                .dumpBuildTime(dumpBuildTime == null ? null : !Boolean.FALSE.toString().equals(dumpBuildTime))
                 .sticky(sticky)
                 .build();
     }
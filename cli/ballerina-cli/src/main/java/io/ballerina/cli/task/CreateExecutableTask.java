@@ -19,6 +19,7 @@
 package io.ballerina.cli.task;
 
 import io.ballerina.cli.utils.BuildTime;
+import io.ballerina.cli.utils.CdsArchiveGenerator;
 import io.ballerina.cli.utils.FileUtils;
 import io.ballerina.projects.JBallerinaBackend;
 import io.ballerina.projects.JvmTarget;
@@ -51,12 +52,18 @@ public class CreateExecutableTask implements Task {
     private final transient PrintStream out;
     private Path output;
     private Path currentDir;
+    private final boolean generateCdsArchive;
 
     public CreateExecutableTask(PrintStream out, String output) {
+        this(out, output, false);
+    }
+
+    public CreateExecutableTask(PrintStream out, String output, boolean generateCdsArchive) {
         this.out = out;
         if (output != null) {
             this.output = Paths.get(output);
         }
+        this.generateCdsArchive = generateCdsArchive;
     }
 
     @Override
@@ -123,6 +130,27 @@ public class CreateExecutableTask implements Task {
         } else {
             this.out.println("\t" + relativePathToExecutable.toString());
         }
+
+        if (this.generateCdsArchive) {
+            createCdsArchive(executablePath);
+        }
+    }
+
+    private void createCdsArchive(Path executablePath) {
+        this.out.println();
+        this.out.println("Generating class data sharing archive");
+        Path archivePath;
+        try {
+            archivePath = new CdsArchiveGenerator(this.out).generate(executablePath);
+        } catch (IOException e) {
+            throw createLauncherException("unable to create class data sharing archive: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw createLauncherException("class data sharing archive generation interrupted");
+        }
+        this.out.println("\t" + archivePath.toString());
+        this.out.println("\tRun the executable with 'java -XX:SharedArchiveFile=" + archivePath.getFileName() +
+                " -jar " + executablePath.getFileName() + "' to use the archive");
     }
 
     private void notifyPlugins(Project project, Target target) {
@@ -18,10 +18,14 @@
 package io.ballerina.cli.task;
 
 import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 import io.ballerina.cli.utils.BuildTime;
 import io.ballerina.projects.Project;
 import io.ballerina.projects.ProjectKind;
+import io.ballerina.projects.internal.CompilationProfiler;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
 
 import java.io.File;
 import java.io.FileOutputStream;
@@ -32,6 +36,8 @@ import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import static io.ballerina.cli.launcher.LauncherUtils.createLauncherException;
 
@@ -42,11 +48,25 @@ import static io.ballerina.cli.launcher.LauncherUtils.createLauncherException;
  */
 public class DumpBuildTimeTask implements Task {
     private static final String BUILD_TIME_JSON = "build-time.json";
+    private static final String BUILD_TIME_DETAILED_JSON = "build-time-detailed.json";
+    private static final String BUILD_TIME_TRACE_JSON = "build-time-trace.json";
     private final transient PrintStream out;
+    private final boolean detailed;
     private final Path currentDir = Paths.get(System.getProperty("user.dir"));
 
     public DumpBuildTimeTask(PrintStream out) {
+        this(out, false);
+    }
+
+    /**
+     * Create a task to dump the build time.
+     *
+     * @param out      output stream
+     * @param detailed whether to dump the per phase, per module report recorded by the {@code CompilationProfiler}
+     */
+    public DumpBuildTimeTask(PrintStream out, boolean detailed) {
         this.out = out;
+        this.detailed = detailed;
     }
 
     @Override
@@ -58,6 +78,100 @@ public class DumpBuildTimeTask implements Task {
             Path buildTimeFileRelativePath = Paths.get(System.getProperty("user.dir")).relativize(buildTimeFile);
             this.out.println("\nDumping build time information\n\t" + buildTimeFileRelativePath);
             persistBuildTimeToFile(buildTimeFile);
+            if (this.detailed) {
+                dumpDetailedBuildTime(project, buildTimeFile);
+            }
+        }
+    }
+
+    private void dumpDetailedBuildTime(Project project, Path buildTimeFile) {
+        CompilerContext compilerContext = project.projectEnvironmentContext().getService(CompilerContext.class);
+        List<CompilationProfiler.ProfiledEvent> events = CompilationProfiler.getInstance(compilerContext).events();
+        Path detailedFile = buildTimeFile.resolveSibling(BUILD_TIME_DETAILED_JSON);
+        Path traceFile = buildTimeFile.resolveSibling(BUILD_TIME_TRACE_JSON);
+        Gson gson = new GsonBuilder().setPrettyPrinting().create();
+        writeJson(detailedFile, gson.toJson(createDetailedReport(events)));
+        writeJson(traceFile, new Gson().toJson(createChromeTrace(events)));
+        this.out.println("\t" + currentDir.relativize(detailedFile));
+        this.out.println("\t" + currentDir.relativize(traceFile));
+    }
+
+    /**
+     * Creates a summary of the recorded events in milliseconds, grouped by phase, by module and by compiler plugin.
+     */
+    private static JsonObject createDetailedReport(List<CompilationProfiler.ProfiledEvent> events) {
+        JsonObject phases = new JsonObject();
+        JsonObject modules = new JsonObject();
+        JsonObject plugins = new JsonObject();
+        for (CompilationProfiler.ProfiledEvent event : events) {
+            double millis = event.durationNanos() / (double) TimeUnit.MILLISECONDS.toNanos(1);
+            if (event.plugin() != null) {
+                addDuration(getOrCreate(plugins, event.plugin()), event.module(), millis);
+                continue;
+            }
+            addDuration(phases, event.phase(), millis);
+            addDuration(getOrCreate(modules, event.module()), event.phase(), millis);
+        }
+
+        JsonObject report = new JsonObject();
+        report.add("phases", phases);
+        report.add("modules", modules);
+        report.add("compilerPlugins", plugins);
+        return report;
+    }
+
+    /**
+     * Creates a trace in the Chrome trace event format, which can be loaded in chrome://tracing or Perfetto.
+     */
+    private static JsonObject createChromeTrace(List<CompilationProfiler.ProfiledEvent> events) {
+        long origin = Long.MAX_VALUE;
+        for (CompilationProfiler.ProfiledEvent event : events) {
+            origin = Math.min(origin, event.startNanos());
+        }
+
+        JsonArray traceEvents = new JsonArray();
+        for (CompilationProfiler.ProfiledEvent event : events) {
+            JsonObject traceEvent = new JsonObject();
+            traceEvent.addProperty("name", event.plugin() != null ? event.plugin() : event.phase());
+            traceEvent.addProperty("cat", event.plugin() != null ? "compilerPlugin" : "compiler");
+            traceEvent.addProperty("ph", "X");
+            traceEvent.addProperty("ts", TimeUnit.NANOSECONDS.toMicros(event.startNanos() - origin));
+            traceEvent.addProperty("dur", TimeUnit.NANOSECONDS.toMicros(event.durationNanos()));
+            traceEvent.addProperty("pid", 1);
+            traceEvent.addProperty("tid", event.threadId());
+            JsonObject args = new JsonObject();
+            args.addProperty("module", event.module());
+            args.addProperty("phase", event.phase());
+            traceEvent.add("args", args);
+            traceEvents.add(traceEvent);
+        }
+
+        JsonObject trace = new JsonObject();
+        trace.add("traceEvents", traceEvents);
+        trace.addProperty("displayTimeUnit", "ms");
+        return trace;
+    }
+
+    private static JsonObject getOrCreate(JsonObject parent, String key) {
+        JsonObject child = parent.getAsJsonObject(key);
+        if (child == null) {
+            child = new JsonObject();
+            parent.add(key, child);
+        }
+        return child;
+    }
+
+    private static void addDuration(JsonObject durations, String key, double millis) {
+        double current = durations.has(key) ? durations.get(key).getAsDouble() : 0;
+        durations.addProperty(key, current + millis);
+    }
+
+    private void writeJson(Path filepath, String json) {
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(filepath.toFile()),
+                StandardCharsets.UTF_8)) {
+            writer.write(json);
+        } catch (IOException e) {
+            throw createLauncherException("couldn't write build time to file : " + e.getMessage());
         }
     }
 
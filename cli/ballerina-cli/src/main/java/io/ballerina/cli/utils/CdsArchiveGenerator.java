@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.cli.utils;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generates an AppCDS (class data sharing) archive for an executable jar.
+ * <p>
+ * The archive is created in two steps which are supported from JDK 11 onwards. First the executable is run once
+ * with {@code -XX:DumpLoadedClassList} to record the classes loaded at startup. Then the recorded class list is
+ * dumped into a shared archive with {@code -Xshare:dump}. The JVM validates the archive against the classpath when
+ * it is used, hence a stale archive is ignored instead of failing the program.
+ *
+ * @since 2.0.0
+ */
+public class CdsArchiveGenerator {
+
+    public static final String CDS_ARCHIVE_EXT = ".jsa";
+    private static final String CLASS_LIST_EXT = ".classlist";
+    private static final String TRAINING_TIMEOUT_PROP = "ballerina.cds.training.timeout";
+    private static final long DEFAULT_TRAINING_TIMEOUT_SECONDS = 30;
+    private static final String DUMP_TIMEOUT_PROP = "ballerina.cds.dump.timeout";
+    private static final long DEFAULT_DUMP_TIMEOUT_SECONDS = 120;
+
+    private final PrintStream out;
+    private final String javaCommand;
+    private final long trainingTimeout;
+    private final long dumpTimeout;
+
+    public CdsArchiveGenerator(PrintStream out) {
+        this.out = out;
+        this.javaCommand = System.getProperty("java.command", "java");
+        this.trainingTimeout = Long.getLong(TRAINING_TIMEOUT_PROP, DEFAULT_TRAINING_TIMEOUT_SECONDS);
+        this.dumpTimeout = Long.getLong(DUMP_TIMEOUT_PROP, DEFAULT_DUMP_TIMEOUT_SECONDS);
+    }
+
+    /**
+     * Returns the path of the CDS archive generated for the given executable jar.
+     *
+     * @param executablePath path of the executable jar
+     * @return path of the CDS archive
+     */
+    public static Path getArchivePath(Path executablePath) {
+        return executablePath.resolveSibling(FileUtils.getFileNameWithoutExtension(executablePath) +
+                CDS_ARCHIVE_EXT);
+    }
+
+    /**
+     * Performs a training run of the executable jar and emits a CDS archive next to it.
+     *
+     * @param executablePath path of the executable jar
+     * @return path of the generated archive
+     * @throws IOException          if the training run or the archive dump fails, or the dump does not finish in time
+     * @throws InterruptedException if interrupted while waiting for a child JVM
+     */
+    public Path generate(Path executablePath) throws IOException, InterruptedException {
+        Path archivePath = getArchivePath(executablePath);
+        Path classListPath = executablePath.resolveSibling(
+                FileUtils.getFileNameWithoutExtension(executablePath) + CLASS_LIST_EXT);
+        Files.deleteIfExists(archivePath);
+        Files.deleteIfExists(classListPath);
+
+        try {
+            // Training run which records the classes loaded by the program.
+            List<String> trainingCmd = new ArrayList<>();
+            trainingCmd.add(javaCommand);
+            trainingCmd.add("-Xshare:off");
+            trainingCmd.add("-XX:DumpLoadedClassList=" + classListPath);
+            trainingCmd.add("-jar");
+            trainingCmd.add(executablePath.toString());
+            boolean trainingCompleted = runTimed(trainingCmd) >= 0;
+            if (!trainingCompleted) {
+                out.println("\twarning: CDS training run did not finish within " + trainingTimeout +
+                        " seconds, the classes loaded until then are archived");
+            }
+            if (!Files.exists(classListPath)) {
+                throw new IOException("training run did not produce a class list");
+            }
+
+            // Dump the recorded classes into the shared archive.
+            List<String> dumpCmd = new ArrayList<>();
+            dumpCmd.add(javaCommand);
+            dumpCmd.add("-Xshare:dump");
+            dumpCmd.add("-XX:SharedClassListFile=" + classListPath);
+            dumpCmd.add("-XX:SharedArchiveFile=" + archivePath);
+            dumpCmd.add("-cp");
+            dumpCmd.add(executablePath.toString());
+            Process dumpProcess = new ProcessBuilder(dumpCmd)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .redirectError(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+            if (!waitFor(dumpProcess, dumpTimeout)) {
+                // Unlike the training run, a partially dumped archive is of no use.
+                dumpProcess.destroyForcibly().waitFor();
+                Files.deleteIfExists(archivePath);
+                throw new IOException("dumping the class data sharing archive did not finish within " + dumpTimeout +
+                        " seconds");
+            }
+            if (dumpProcess.exitValue() != 0 || !Files.exists(archivePath)) {
+                throw new IOException("dumping the class data sharing archive failed");
+            }
+
+            // Startup time comparison is only meaningful for programs which terminate on their own.
+            if (trainingCompleted) {
+                reportStartupTime(executablePath, archivePath);
+            }
+        } finally {
+            Files.deleteIfExists(classListPath);
+        }
+        return archivePath;
+    }
+
+    private void reportStartupTime(Path executablePath, Path archivePath) throws IOException, InterruptedException {
+        List<String> defaultCmd = new ArrayList<>();
+        defaultCmd.add(javaCommand);
+        defaultCmd.add("-jar");
+        defaultCmd.add(executablePath.toString());
+
+        List<String> cdsCmd = new ArrayList<>();
+        cdsCmd.add(javaCommand);
+        cdsCmd.add("-XX:SharedArchiveFile=" + archivePath);
+        cdsCmd.add("-jar");
+        cdsCmd.add(executablePath.toString());
+
+        long before = runTimed(defaultCmd);
+        long after = runTimed(cdsCmd);
+        if (before >= 0 && after >= 0) {
+            out.println("\tstartup time without CDS archive : " + before + "ms, with CDS archive : " + after + "ms");
+        }
+    }
+
+    /**
+     * Runs the given command discarding its output and returns the elapsed time in milliseconds, or -1 if it had to
+     * be stopped after the training timeout.
+     */
+    private long runTimed(List<String> command) throws IOException, InterruptedException {
+        long start = System.currentTimeMillis();
+        Process process = new ProcessBuilder(command)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectError(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        if (!waitFor(process, trainingTimeout)) {
+            // A graceful shutdown lets the JVM flush the loaded class list.
+            process.destroy();
+            if (!waitFor(process, trainingTimeout)) {
+                process.destroyForcibly();
+            }
+            return -1;
+        }
+        return System.currentTimeMillis() - start;
+    }
+
+    /**
+     * Waits for the given process to exit within the given timeout. The process is killed if the wait is
+     * interrupted, so that it does not outlive the build.
+     */
+    private static boolean waitFor(Process process, long timeoutSeconds) throws InterruptedException {
+        try {
+            return process.waitFor(timeoutSeconds, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            process.destroyForcibly();
+            throw e;
+        }
+    }
+}
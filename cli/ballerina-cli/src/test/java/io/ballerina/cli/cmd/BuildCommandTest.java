@@ -19,15 +19,18 @@
 package io.ballerina.cli.cmd;
 
 import io.ballerina.cli.launcher.BLauncherException;
+import io.ballerina.projects.util.ProjectConstants;
 import io.ballerina.projects.util.ProjectUtils;
 import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
+import org.wso2.ballerinalang.util.RepoUtils;
 import picocli.CommandLine;
 
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -35,7 +38,17 @@ import java.nio.file.Paths;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.StandardCopyOption;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
 
 import static io.ballerina.cli.cmd.CommandOutputUtils.getOutput;
 import static io.ballerina.projects.util.ProjectConstants.USER_NAME;
@@ -289,6 +302,102 @@ public class BuildCommandTest extends BaseCommandTest {
                                   .resolve("pramodya-conflictProject-0.1.7.jar").toFile().exists());
     }
 
+    @Test(description = "Build a ballerina project twice reusing the merged dependency archive")
+    public void testBuildBalProjectReusingDependencyArchive() throws IOException {
+        Path projectPath = this.testResources.resolve("projectWithConflictedJarsReused");
+        Files.walkFileTree(this.testResources.resolve("projectWithConflictedJars"),
+                new BuildCommandTest.Copy(this.testResources.resolve("projectWithConflictedJars"), projectPath));
+        System.setProperty("user.dir", projectPath.toString());
+        // Archives are named by the content of the dependency jars, hence an earlier run would be reused
+        for (Path existingArchive : getDependencyArchives("conflictProject-")) {
+            Files.deleteIfExists(existingArchive);
+        }
+
+        BuildCommand buildCommand = new BuildCommand(projectPath, printStream, printStream, false, true);
+        new CommandLine(buildCommand).parse();
+        buildCommand.execute();
+        Assert.assertEquals(readOutput(true).replaceAll("\r", ""),
+                getOutput("build-bal-project-with-jar-conflicts.txt"));
+
+        Set<Path> archives = getDependencyArchives("conflictProject-");
+        Assert.assertEquals(archives.size(), 1);
+        Path archivePath = archives.iterator().next();
+        Path executablePath = projectPath.resolve("target").resolve("bin").resolve("conflictProject.jar");
+        List<String> executableEntries = getEntryNames(executablePath);
+        FileTime createdTime = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(archivePath, createdTime);
+
+        // The archive is reused and the conflicts are still reported against the dependency jars
+        buildCommand = new BuildCommand(projectPath, printStream, printStream, false, true);
+        new CommandLine(buildCommand).parse();
+        buildCommand.execute();
+        Assert.assertEquals(readOutput(true).replaceAll("\r", ""),
+                getOutput("build-bal-project-with-jar-conflicts.txt"));
+        Assert.assertEquals(Files.getLastModifiedTime(archivePath), createdTime);
+        Assert.assertEquals(getEntryNames(executablePath), executableEntries);
+
+        // The archive is keyed by the content of the dependency jars, hence touching a jar does not invalidate it
+        Path dependencyJarPath = projectPath.resolve("libs").resolve("one-1.0.0.jar");
+        Files.setLastModifiedTime(dependencyJarPath,
+                FileTime.fromMillis(Files.getLastModifiedTime(dependencyJarPath).toMillis() + 10000));
+        buildCommand = new BuildCommand(projectPath, printStream, printStream, false, true);
+        new CommandLine(buildCommand).parse();
+        buildCommand.execute();
+        Assert.assertEquals(readOutput(true).replaceAll("\r", ""),
+                getOutput("build-bal-project-with-jar-conflicts.txt"));
+        Assert.assertEquals(Files.getLastModifiedTime(archivePath), createdTime);
+
+        // Modifying the content of a dependency jar creates a new archive, and evicts the old one
+        addJarEntry(dependencyJarPath, "one-resource.txt");
+        buildCommand = new BuildCommand(projectPath, printStream, printStream, false, true);
+        new CommandLine(buildCommand).parse();
+        buildCommand.execute();
+        Assert.assertEquals(readOutput(true).replaceAll("\r", ""),
+                getOutput("build-bal-project-with-jar-conflicts.txt"));
+        Assert.assertFalse(Files.exists(archivePath));
+        archives = getDependencyArchives("conflictProject-");
+        Assert.assertEquals(archives.size(), 1);
+        List<String> newExecutableEntries = getEntryNames(executablePath);
+        Assert.assertTrue(newExecutableEntries.contains("one-resource.txt"));
+        newExecutableEntries.remove("one-resource.txt");
+        Assert.assertEquals(newExecutableEntries, executableEntries);
+    }
+
+    private static void addJarEntry(Path jarPath, String entryName) throws IOException {
+        Path tempJarPath = Files.createTempFile(jarPath.getParent(), "modified-", ".jar");
+        try (ZipFile zipFile = new ZipFile(jarPath.toFile());
+             ZipOutputStream outStream = new ZipOutputStream(Files.newOutputStream(tempJarPath))) {
+            for (ZipEntry entry : Collections.list(zipFile.entries())) {
+                outStream.putNextEntry(new ZipEntry(entry.getName()));
+                zipFile.getInputStream(entry).transferTo(outStream);
+                outStream.closeEntry();
+            }
+            outStream.putNextEntry(new ZipEntry(entryName));
+            outStream.write(entryName.getBytes(StandardCharsets.UTF_8));
+            outStream.closeEntry();
+        }
+        Files.move(tempJarPath, jarPath, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static Set<Path> getDependencyArchives(String prefix) throws IOException {
+        Path archivesDir = RepoUtils.createAndGetHomeReposPath()
+                .resolve(ProjectConstants.CACHES_DIR_NAME)
+                .resolve("executable-dependencies");
+        if (!Files.exists(archivesDir)) {
+            return new HashSet<>();
+        }
+        try (Stream<Path> archives = Files.list(archivesDir)) {
+            return archives.filter(path -> path.getFileName().toString().startsWith(prefix))
+                    .collect(Collectors.toSet());
+        }
+    }
+
+    private static List<String> getEntryNames(Path jarPath) throws IOException {
+        try (ZipFile zipFile = new ZipFile(jarPath.toFile())) {
+            return zipFile.stream().map(ZipEntry::getName).sorted().collect(Collectors.toList());
+        }
+    }
+
     @Test(description = "Build a valid ballerina project with java imports")
     public void testBuildJava11BalProject() throws IOException {
         Path projectPath = this.testResources.resolve("validJava11Project");
@@ -697,5 +806,80 @@ public class BuildCommandTest extends BaseCommandTest {
                 this.testResources.resolve("valid-bal-file").resolve("build-time.json").toFile().length() > 0);
     }
 
+    @Test
+    public void testDumpDetailedBuildTimeForPackage() throws IOException {
+        Path projectPath = this.testResources.resolve("validApplicationProject");
+        System.setProperty("user.dir", projectPath.toString());
+        BuildCommand buildCommand = new BuildCommand(projectPath, printStream, printStream, false, true);
+        new CommandLine(buildCommand).parse("--dump-build-time=detailed");
+        buildCommand.execute();
+        String buildLog = readOutput(true);
+        Assert.assertTrue(buildLog.contains("build-time-detailed.json"));
+
+        Path targetPath = projectPath.resolve("target");
+        Assert.assertTrue(Files.exists(targetPath.resolve("build-time.json")));
+        String detailedReport = Files.readString(targetPath.resolve("build-time-detailed.json"));
+        Assert.assertTrue(detailedReport.contains("\"typeCheck\""));
+        Assert.assertTrue(detailedReport.contains("\"jvmCodeGen\""));
+        String trace = Files.readString(targetPath.resolve("build-time-trace.json"));
+        Assert.assertTrue(trace.contains("\"traceEvents\""));
+    }
+
+    @Test
+    public void testDumpBuildTimeWithUnsupportedValue() throws IOException {
+        Path projectPath = this.testResources.resolve("validApplicationProject");
+        BuildCommand buildCommand = new BuildCommand(projectPath, printStream, printStream, false, true);
+        new CommandLine(buildCommand).parse("--dump-build-time=all");
+        buildCommand.execute();
+        String buildLog = readOutput(true);
+        Assert.assertTrue(buildLog.contains("unsupported value 'all' for --dump-build-time"));
+    }
+
+    @Test(description = "Build a valid ballerina file with a class data sharing archive")
+    public void testBuildBalFileWithCdsArchive() throws IOException, InterruptedException {
+        Path validBalFilePath = this.testResources.resolve("valid-bal-file").resolve("hello_world.bal");
+        Path executableDir = Files.createTempDirectory("hello_cds-");
+
+        System.setProperty("user.dir", this.testResources.resolve("valid-bal-file").toString());
+        BuildCommand buildCommand = new BuildCommand(validBalFilePath, printStream, printStream, false, true,
+                executableDir.toString());
+        new CommandLine(buildCommand).parse("--cds", "-o", executableDir.toString(), validBalFilePath.toString());
+        buildCommand.execute();
+
+        String buildLog = readOutput(true);
+        Path executablePath = executableDir.resolve("hello_world.jar");
+        Path archivePath = executableDir.resolve("hello_world.jsa");
+        Assert.assertTrue(buildLog.contains("Generating class data sharing archive"));
+        Assert.assertTrue(buildLog.contains("-XX:SharedArchiveFile=hello_world.jsa -jar hello_world.jar"));
+        Assert.assertTrue(Files.exists(executablePath));
+        Assert.assertTrue(Files.exists(archivePath));
+        Assert.assertTrue(Files.size(archivePath) > 0);
+        Assert.assertFalse(Files.exists(executableDir.resolve("hello_world.classlist")));
+
+        // -Xshare:on makes the JVM fail instead of silently ignoring an archive it cannot map
+        Process process = new ProcessBuilder(System.getProperty("java.command", "java"), "-Xshare:on",
+                "-XX:SharedArchiveFile=" + archivePath, "-jar", executablePath.toString())
+                .redirectErrorStream(true)
+                .start();
+        String output = new String(process.getInputStream().readAllBytes());
+        Assert.assertEquals(process.waitFor(), 0, output);
+    }
+
+    @Test(description = "Build a valid ballerina file without a class data sharing archive")
+    public void testBuildBalFileWithoutCdsArchive() throws IOException {
+        Path validBalFilePath = this.testResources.resolve("valid-bal-file").resolve("hello_world.bal");
+        Path executableDir = Files.createTempDirectory("hello_no_cds-");
+
+        System.setProperty("user.dir", this.testResources.resolve("valid-bal-file").toString());
+        BuildCommand buildCommand = new BuildCommand(validBalFilePath, printStream, printStream, false, true,
+                executableDir.toString());
+        new CommandLine(buildCommand).parse("-o", executableDir.toString(), validBalFilePath.toString());
+        buildCommand.execute();
+
+        String buildLog = readOutput(true);
+        Assert.assertFalse(buildLog.contains("class data sharing archive"));
+        Assert.assertTrue(Files.exists(executableDir.resolve("hello_world.jar")));
+        Assert.assertFalse(Files.exists(executableDir.resolve("hello_world.jsa")));
+    }
 
 }
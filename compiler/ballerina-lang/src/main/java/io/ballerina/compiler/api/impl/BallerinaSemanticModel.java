@@ -61,12 +61,13 @@ import org.wso2.ballerinalang.util.Flags;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Stream;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static io.ballerina.compiler.api.symbols.SymbolKind.CLASS_FIELD;
 import static io.ballerina.compiler.api.symbols.SymbolKind.OBJECT_FIELD;
@@ -90,10 +91,15 @@ public class BallerinaSemanticModel implements SemanticModel {
     private final SymbolFactory symbolFactory;
     private final TypesFactory typesFactory;
     private final SymbolTable symbolTable;
+    private final ReferenceIndex referenceIndex;
+    private final Map<BLangCompilationUnit, TopLevelNodeIndex> topLevelNodeIndexes;
+    private volatile Map<String, BLangCompilationUnit> compilationUnits;
 
     public BallerinaSemanticModel(BLangPackage bLangPackage, CompilerContext context) {
         this.compilerContext = context;
         this.bLangPackage = bLangPackage;
+        this.referenceIndex = new ReferenceIndex(bLangPackage);
+        this.topLevelNodeIndexes = new ConcurrentHashMap<>();
         this.symbolFactory = SymbolFactory.getInstance(context);
         this.typesFactory = TypesFactory.getInstance(context);
         this.symbolTable = SymbolTable.getInstance(context);
@@ -257,10 +263,19 @@ public class BallerinaSemanticModel implements SemanticModel {
     private BSymbol findSymbolAtCursorPosition(Document sourceDocument, LinePosition linePosition) {
         BLangCompilationUnit sourceCompilationUnit = getCompilationUnit(sourceDocument);
         SymbolFinder symbolFinder = new SymbolFinder();
-        return symbolFinder.lookup(sourceCompilationUnit, linePosition);
+        return symbolFinder.lookup(getTopLevelNodeIndex(sourceCompilationUnit), linePosition);
     }
 
     private List<Location> getReferences(BSymbol symbol, BLangNode node, boolean withDefinition) {
+        // References of module level symbols are looked up from the index, instead of walking the module or the
+        // document every time.
+        if (node == this.bLangPackage) {
+            return this.referenceIndex.references(symbol, withDefinition);
+        }
+        if (node instanceof BLangCompilationUnit) {
+            return this.referenceIndex.references((BLangCompilationUnit) node, symbol, withDefinition);
+        }
+
         ReferenceFinder refFinder = new ReferenceFinder(withDefinition);
         return refFinder.findReferences(node, symbol);
     }
@@ -272,7 +287,7 @@ public class BallerinaSemanticModel implements SemanticModel {
     public Optional<TypeSymbol> type(LineRange range) {
         BLangCompilationUnit compilationUnit = getCompilationUnit(range.filePath());
         NodeFinder nodeFinder = new NodeFinder(true);
-        BLangNode node = nodeFinder.lookup(compilationUnit, range);
+        BLangNode node = nodeFinder.lookup(getTopLevelNodeIndex(compilationUnit), range);
 
         if (node == null) {
             return Optional.empty();
@@ -285,7 +300,7 @@ public class BallerinaSemanticModel implements SemanticModel {
     public Optional<TypeSymbol> typeOf(LineRange range) {
         BLangCompilationUnit compilationUnit = getCompilationUnit(range.filePath());
         NodeFinder nodeFinder = new NodeFinder(false);
-        BLangNode node = nodeFinder.lookup(compilationUnit, range);
+        BLangNode node = nodeFinder.lookup(getTopLevelNodeIndex(compilationUnit), range);
 
         if (!(node instanceof BLangExpression) && !isObjectConstructorExpr(node) && !isAnonFunctionExpr(node)) {
             return Optional.empty();
@@ -350,7 +365,7 @@ public class BallerinaSemanticModel implements SemanticModel {
 
     private Optional<Symbol> lookupSymbol(BLangCompilationUnit compilationUnit, LinePosition position) {
         SymbolFinder symbolFinder = new SymbolFinder();
-        BSymbol symbolAtCursor = symbolFinder.lookup(compilationUnit, position);
+        BSymbol symbolAtCursor = symbolFinder.lookup(getTopLevelNodeIndex(compilationUnit), position);
 
         if (symbolAtCursor == null || symbolAtCursor == symbolTable.notFoundSymbol) {
             return Optional.empty();
@@ -405,16 +420,26 @@ public class BallerinaSemanticModel implements SemanticModel {
     }
 
     private BLangCompilationUnit getCompilationUnit(String srcFile) {
-        List<BLangCompilationUnit> testSrcs = new ArrayList<>();
-        for (BLangTestablePackage pkg : bLangPackage.testablePkgs) {
-            testSrcs.addAll(pkg.compUnits);
+        Map<String, BLangCompilationUnit> units = this.compilationUnits;
+        if (units == null) {
+            units = new HashMap<>();
+            for (BLangCompilationUnit unit : bLangPackage.compUnits) {
+                units.putIfAbsent(unit.name, unit);
+            }
+            for (BLangTestablePackage pkg : bLangPackage.testablePkgs) {
+                for (BLangCompilationUnit unit : pkg.compUnits) {
+                    units.putIfAbsent(unit.name, unit);
+                }
+            }
+            this.compilationUnits = units;
         }
+        return Optional.ofNullable(units.get(srcFile)).orElseThrow();
+    }
 
-        Stream<BLangCompilationUnit> units = Stream.concat(bLangPackage.compUnits.stream(), testSrcs.stream());
-        return units
-                .filter(unit -> unit.name.equals(srcFile))
-                .findFirst()
-                .get();
+    // The position table is built when the compilation unit is looked into for the first time. It lets the finders
+    // skip the top level nodes which do not enclose the position looked up.
+    private TopLevelNodeIndex getTopLevelNodeIndex(BLangCompilationUnit compilationUnit) {
+        return this.topLevelNodeIndexes.computeIfAbsent(compilationUnit, TopLevelNodeIndex::from);
     }
 
     private boolean isCursorPosAtDefinition(BLangCompilationUnit compilationUnit, BSymbol symbolAtCursor,
@@ -217,6 +217,10 @@ class NodeFinder extends BaseVisitor {
         return lookupTopLevelNodes(unit.topLevelNodes, range);
     }
 
+    BLangNode lookup(TopLevelNodeIndex index, LineRange range) {
+        return lookupTopLevelNodes(index.nodesAt(range.startLine()), range);
+    }
+
     BLangNode lookupEnclosingContainer(BLangPackage module, LineRange range) {
         this.enclosingContainer = module;
         lookup(module, range);
@@ -18,6 +18,8 @@
 
 package io.ballerina.compiler.api.impl;
 
+import io.ballerina.compiler.api.impl.ReferenceIndex.Reference;
+import io.ballerina.compiler.api.impl.ReferenceIndex.SymbolKey;
 import io.ballerina.tools.diagnostics.Location;
 import org.ballerinalang.model.clauses.OrderKeyNode;
 import org.ballerinalang.model.elements.Flag;
@@ -186,7 +188,9 @@ import org.wso2.ballerinalang.compiler.tree.types.BLangUnionTypeNode;
 import org.wso2.ballerinalang.compiler.tree.types.BLangUserDefinedType;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import static org.ballerinalang.model.symbols.SymbolOrigin.VIRTUAL;
@@ -202,6 +206,7 @@ public class ReferenceFinder extends BaseVisitor {
     private final boolean withDefinition;
     private List<Location> referenceLocations;
     private BSymbol targetSymbol;
+    private Map<SymbolKey, List<Reference>> referenceIndex;
 
     public ReferenceFinder(boolean withDefinition) {
         this.withDefinition = withDefinition;
@@ -214,6 +219,18 @@ public class ReferenceFinder extends BaseVisitor {
         return this.referenceLocations;
     }
 
+    /**
+     * Finds the references of all the symbols within the given AST node in a single walk.
+     *
+     * @param node AST node to be indexed
+     * @return references within the node, mapped by the symbol they refer to
+     */
+    Map<SymbolKey, List<Reference>> indexReferences(BLangNode node) {
+        this.referenceIndex = new HashMap<>();
+        find(node);
+        return this.referenceIndex;
+    }
+
     void find(BLangNode node) {
         if (node == null) {
             return;
@@ -251,6 +268,13 @@ public class ReferenceFinder extends BaseVisitor {
 
     @Override
     public void visit(BLangImportPackage importPkgNode) {
+        if (this.referenceIndex != null) {
+            if (importPkgNode.symbol != null) {
+                addToIndex(importPkgNode.symbol, importPkgNode.alias.pos, true);
+            }
+            return;
+        }
+
         if (importPkgNode.symbol != null
                 && this.targetSymbol.name.equals(importPkgNode.symbol.name)
                 && this.targetSymbol.pkgID.equals(importPkgNode.symbol.pkgID)
@@ -1284,6 +1308,14 @@ public class ReferenceFinder extends BaseVisitor {
     // Private methods
 
     private boolean addIfSameSymbol(BSymbol symbol, Location location) {
+        if (this.referenceIndex != null) {
+            // Every symbol is indexed, hence the references found after this one have to be indexed too
+            if (symbol != null) {
+                addToIndex(symbol, location, symbol.pos != null && symbol.pos.equals(location));
+            }
+            return false;
+        }
+
         if (symbol != null
                 && this.targetSymbol.name.equals(symbol.name)
                 && this.targetSymbol.pkgID.equals(symbol.pkgID)
@@ -1295,6 +1327,11 @@ public class ReferenceFinder extends BaseVisitor {
         return false;
     }
 
+    private void addToIndex(BSymbol symbol, Location location, boolean definition) {
+        this.referenceIndex.computeIfAbsent(new SymbolKey(symbol), key -> new ArrayList<>())
+                .add(new Reference(location, definition));
+    }
+
     private boolean isGeneratedClassDefForService(BLangClassDefinition clazz) {
         return clazz.flagSet.contains(Flag.ANONYMOUS) && clazz.flagSet.contains(Flag.SERVICE);
     }
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.compiler.api.impl;
+
+import io.ballerina.tools.diagnostics.Location;
+import org.ballerinalang.model.elements.PackageID;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BSymbol;
+import org.wso2.ballerinalang.compiler.tree.BLangCompilationUnit;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+import org.wso2.ballerinalang.compiler.util.Name;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the references of all the symbols referred within a module, so that the references of a symbol can be looked
+ * up without walking the module AST.
+ * <p>
+ * The index of the whole module and the index of each of its compilation units are built lazily, when the references
+ * within them are first looked up. The index belongs to a single compilation of the module, hence a modified document
+ * gets indexed afresh with the next compilation.
+ *
+ * @since 2.0.0
+ */
+class ReferenceIndex {
+
+    private final BLangPackage bLangPackage;
+    private final Map<BLangCompilationUnit, Map<SymbolKey, List<Reference>>> compilationUnitIndexes;
+    private volatile Map<SymbolKey, List<Reference>> moduleIndex;
+
+    ReferenceIndex(BLangPackage bLangPackage) {
+        this.bLangPackage = bLangPackage;
+        this.compilationUnitIndexes = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns the references of the given symbol within the whole module.
+     *
+     * @param symbol         symbol of which the references are looked up
+     * @param withDefinition whether the definition of the symbol is included
+     * @return locations of the references
+     */
+    List<Location> references(BSymbol symbol, boolean withDefinition) {
+        Map<SymbolKey, List<Reference>> index = this.moduleIndex;
+        if (index == null) {
+            synchronized (this) {
+                index = this.moduleIndex;
+                if (index == null) {
+                    index = new ReferenceFinder(true).indexReferences(this.bLangPackage);
+                    this.moduleIndex = index;
+                }
+            }
+        }
+        return lookup(index, symbol, withDefinition);
+    }
+
+    /**
+     * Returns the references of the given symbol within the given compilation unit of the module.
+     *
+     * @param compilationUnit compilation unit within which the references are looked up
+     * @param symbol          symbol of which the references are looked up
+     * @param withDefinition  whether the definition of the symbol is included
+     * @return locations of the references
+     */
+    List<Location> references(BLangCompilationUnit compilationUnit, BSymbol symbol, boolean withDefinition) {
+        Map<SymbolKey, List<Reference>> index = this.compilationUnitIndexes.computeIfAbsent(compilationUnit,
+                unit -> new ReferenceFinder(true).indexReferences(unit));
+        return lookup(index, symbol, withDefinition);
+    }
+
+    private static List<Location> lookup(Map<SymbolKey, List<Reference>> index, BSymbol symbol,
+                                         boolean withDefinition) {
+        List<Reference> references = index.get(new SymbolKey(symbol));
+        if (references == null) {
+            return Collections.emptyList();
+        }
+
+        List<Location> locations = new ArrayList<>(references.size());
+        for (Reference reference : references) {
+            if (withDefinition || !reference.definition) {
+                locations.add(reference.location);
+            }
+        }
+        return locations;
+    }
+
+    /**
+     * Identifies a symbol the same way the {@link ReferenceFinder} matches a reference with its target symbol.
+     */
+    static class SymbolKey {
+
+        private final Name name;
+        private final PackageID pkgID;
+        private final Location pos;
+
+        SymbolKey(BSymbol symbol) {
+            this.name = symbol.name;
+            this.pkgID = symbol.pkgID;
+            this.pos = symbol.pos;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof SymbolKey)) {
+                return false;
+            }
+            SymbolKey that = (SymbolKey) obj;
+            return Objects.equals(this.name, that.name)
+                    && Objects.equals(this.pkgID, that.pkgID)
+                    && Objects.equals(this.pos, that.pos);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, pkgID, pos);
+        }
+    }
+
+    /**
+     * A reference to a symbol and whether it is the definition of the symbol.
+     */
+    static class Reference {
+
+        private final Location location;
+        private final boolean definition;
+
+        Reference(Location location, boolean definition) {
+            this.location = location;
+            this.definition = definition;
+        }
+    }
+}
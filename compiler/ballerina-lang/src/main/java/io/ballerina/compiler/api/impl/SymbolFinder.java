@@ -221,10 +221,18 @@ class SymbolFinder extends BaseVisitor {
     private BSymbol symbolAtCursor;
 
     BSymbol lookup(BLangCompilationUnit unit, LinePosition cursorPos) {
+        return lookup(unit.topLevelNodes, cursorPos);
+    }
+
+    BSymbol lookup(TopLevelNodeIndex index, LinePosition cursorPos) {
+        return lookup(index.nodesAt(cursorPos), cursorPos);
+    }
+
+    private BSymbol lookup(List<TopLevelNode> topLevelNodes, LinePosition cursorPos) {
         this.cursorPos = cursorPos;
         this.symbolAtCursor = null;
 
-        for (TopLevelNode node : unit.topLevelNodes) {
+        for (TopLevelNode node : topLevelNodes) {
             if ((!PositionUtil.withinBlock(this.cursorPos, node.getPosition()) && !isWithinNodeMetaData(node))
                     || isLambdaFunction(node)) {
                 continue;
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.compiler.api.impl;
+
+import io.ballerina.tools.diagnostics.Location;
+import io.ballerina.tools.text.LinePosition;
+import org.ballerinalang.model.tree.AnnotatableNode;
+import org.ballerinalang.model.tree.AnnotationAttachmentNode;
+import org.ballerinalang.model.tree.DocumentableNode;
+import org.ballerinalang.model.tree.TopLevelNode;
+import org.wso2.ballerinalang.compiler.tree.BLangCompilationUnit;
+import org.wso2.ballerinalang.compiler.tree.BLangMarkdownDocumentation;
+import org.wso2.ballerinalang.compiler.tree.BLangMarkdownParameterDocumentation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * A position table of the top level nodes of a compilation unit, sorted by their start positions.
+ * <p>
+ * Looking up the top level nodes which enclose a position is a binary search followed by a scan over the nodes which
+ * start before the position, which stops as soon as none of the remaining nodes can reach the position. The span of a
+ * node covers its annotations and documentation as well, hence the nodes found are the ones which have to be looked
+ * into for the position.
+ *
+ * @since 2.0.0
+ */
+class TopLevelNodeIndex {
+
+    private final TopLevelNode[] nodesInOrder;
+    private final int[] order;
+    private final long[] starts;
+    private final long[] ends;
+    private final long[] maxEnds;
+
+    private TopLevelNodeIndex(List<TopLevelNode> topLevelNodes, List<Entry> entries) {
+        int size = entries.size();
+        this.nodesInOrder = topLevelNodes.toArray(new TopLevelNode[0]);
+        this.order = new int[size];
+        this.starts = new long[size];
+        this.ends = new long[size];
+        this.maxEnds = new long[size];
+
+        long maxEnd = Long.MIN_VALUE;
+        for (int i = 0; i < size; i++) {
+            Entry entry = entries.get(i);
+            this.order[i] = entry.order;
+            this.starts[i] = entry.start;
+            this.ends[i] = entry.end;
+            maxEnd = Math.max(maxEnd, entry.end);
+            this.maxEnds[i] = maxEnd;
+        }
+    }
+
+    static TopLevelNodeIndex from(BLangCompilationUnit compilationUnit) {
+        List<Entry> entries = new ArrayList<>(compilationUnit.topLevelNodes.size());
+        int order = 0;
+        for (TopLevelNode node : compilationUnit.topLevelNodes) {
+            Entry entry = new Entry(order++);
+            entry.include(node.getPosition());
+            includeMetaData(entry, node);
+            if (entry.start <= entry.end) {
+                entries.add(entry);
+            }
+        }
+
+        entries.sort(Comparator.comparingLong(entry -> entry.start));
+        return new TopLevelNodeIndex(compilationUnit.topLevelNodes, entries);
+    }
+
+    /**
+     * Returns the top level nodes which may enclose the given position, in the order they appear in the compilation
+     * unit.
+     *
+     * @param position position to be looked up
+     * @return top level nodes which span over the position
+     */
+    List<TopLevelNode> nodesAt(LinePosition position) {
+        long key = key(position);
+
+        // Find the last node which starts at or before the position
+        int low = 0;
+        int high = this.starts.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (this.starts[mid] <= key) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+
+        int[] found = new int[4];
+        int count = 0;
+        for (int i = high; i >= 0 && this.maxEnds[i] >= key; i--) {
+            if (this.ends[i] < key) {
+                continue;
+            }
+            if (count == found.length) {
+                found = Arrays.copyOf(found, count * 2);
+            }
+            found[count++] = this.order[i];
+        }
+
+        // Visit the nodes in the order of the compilation unit, as the finders expect
+        Arrays.sort(found, 0, count);
+        List<TopLevelNode> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(this.nodesInOrder[found[i]]);
+        }
+        return result;
+    }
+
+    private static void includeMetaData(Entry entry, TopLevelNode node) {
+        if (node instanceof AnnotatableNode) {
+            for (AnnotationAttachmentNode annotAttachment : ((AnnotatableNode) node).getAnnotationAttachments()) {
+                entry.include(annotAttachment.getPosition());
+            }
+        }
+
+        if (node instanceof DocumentableNode) {
+            BLangMarkdownDocumentation markdown = ((DocumentableNode) node).getMarkdownDocumentationAttachment();
+            if (markdown != null) {
+                for (BLangMarkdownParameterDocumentation parameter : markdown.getParameters()) {
+                    entry.include(parameter.getPosition());
+                }
+            }
+        }
+    }
+
+    private static long key(LinePosition position) {
+        return ((long) position.line() << 32) | (position.offset() & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Span of a top level node, while the index is being built.
+     */
+    private static class Entry {
+
+        private final int order;
+        private long start = Long.MAX_VALUE;
+        private long end = Long.MIN_VALUE;
+
+        private Entry(int order) {
+            this.order = order;
+        }
+
+        private void include(Location location) {
+            if (location == null) {
+                return;
+            }
+            this.start = Math.min(this.start, key(location.lineRange().startLine()));
+            this.end = Math.max(this.end, key(location.lineRange().endLine()));
+        }
+    }
+}
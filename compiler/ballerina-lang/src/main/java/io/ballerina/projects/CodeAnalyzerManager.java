@@ -18,6 +18,7 @@
 package io.ballerina.projects;
 
 import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.projects.internal.CompilationProfiler;
 import io.ballerina.projects.plugins.AnalysisTask;
 import io.ballerina.projects.plugins.CodeAnalysisContext;
 import io.ballerina.projects.plugins.CodeAnalyzer;
@@ -88,10 +89,17 @@ class CodeAnalyzerManager {
     private void runCompilationAnalysisTask(List<CompilationAnalysisTask> compilationAnalysisTasks,
                                             List<Diagnostic> reportedDiagnostics) {
 
+        CompilationProfiler profiler = CompilationProfiler.getInstance(compilation.compilerContext());
         for (CompilationAnalysisTask compilationAnalysisTask : compilationAnalysisTasks) {
             CompilationAnalysisContextIml analysisContext = new CompilationAnalysisContextIml(
                     currentPackage, compilation);
+            long start = profiler.start();
             compilationAnalysisTask.perform(analysisContext);
+            if (profiler.isEnabled()) {
+                profiler.endPlugin(CompilationProfiler.COMPILER_PLUGIN, currentPackage.descriptor().toString(),
+                        compilationAnalysisTask.codeAnalyzerInfo.compilerPluginInfo().compilerPlugin()
+                                .getClass().getName(), start);
+            }
             reportedDiagnostics.addAll(analysisContext.reportedDiagnostics());
         }
     }
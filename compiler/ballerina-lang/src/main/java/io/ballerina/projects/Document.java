@@ -75,12 +75,14 @@ public class Document {
         private String name;
         private DocumentId documentId;
         private Module oldModule;
+        private DocumentContext oldDocumentContext;
 
         private Modifier(Document oldDocument) {
             this.documentId = oldDocument.documentId();
             this.name = oldDocument.name();
             this.content = oldDocument.textDocument().toString();
             this.oldModule = oldDocument.module();
+            this.oldDocumentContext = oldDocument.documentContext;
         }
 
         /**
@@ -102,7 +104,7 @@ public class Document {
         public Document apply() {
             DocumentConfig documentConfig = DocumentConfig.from(this.documentId, this.content,
                     this.name);
-            DocumentContext documentContext = DocumentContext.from(documentConfig);
+            DocumentContext documentContext = DocumentContext.from(documentConfig, this.oldDocumentContext);
             Module newModule = oldModule.modify().updateDocument(documentContext).apply();
             return newModule.document(this.documentId);
         }
@@ -32,6 +32,7 @@ import org.ballerinalang.model.tree.SourceKind;
 import org.wso2.ballerinalang.compiler.diagnostic.BLangDiagnosticLog;
 import org.wso2.ballerinalang.compiler.parser.BLangNodeTransformer;
 import org.wso2.ballerinalang.compiler.parser.NodeCloner;
+import org.wso2.ballerinalang.compiler.parser.TransformedModuleMembers;
 import org.wso2.ballerinalang.compiler.tree.BLangCompilationUnit;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.Names;
@@ -56,6 +57,8 @@ class DocumentContext {
     private Set<ModuleLoadRequest> moduleLoadRequests;
     private BLangCompilationUnit compilationUnit;
     private NodeCloner nodeCloner;
+    private TransformedModuleMembers previousMembers;
+    private TransformedModuleMembers transformedMembers;
     private DocumentId documentId;
     private String name;
     private String content;
@@ -70,6 +73,22 @@ class DocumentContext {
         return new DocumentContext(documentConfig.documentId(), documentConfig.name(), documentConfig.content());
     }
 
+    /**
+     * Creates the context of a modified version of a document, which reuses the transformed BLang nodes of the module
+     * members left unchanged by the modification.
+     *
+     * @param documentConfig configuration of the modified document
+     * @param oldContext     context of the previous version of the document
+     * @return document context
+     */
+    static DocumentContext from(DocumentConfig documentConfig, DocumentContext oldContext) {
+        DocumentContext documentContext = from(documentConfig);
+        // Take over only the members of the previous version, so that contexts do not hold on to older versions
+        documentContext.previousMembers = oldContext.transformedMembers != null ?
+                oldContext.transformedMembers : oldContext.previousMembers;
+        return documentContext;
+    }
+
     DocumentId documentId() {
         return this.documentId;
     }
@@ -78,7 +97,7 @@ class DocumentContext {
         return this.name;
     }
 
-    void parse() {
+    synchronized void parse() {
         if (syntaxTree != null) {
             return;
         }
@@ -86,6 +105,10 @@ class DocumentContext {
         syntaxTree = SyntaxTree.from(this.textDocument(), name);
     }
 
+    synchronized boolean isParsed() {
+        return syntaxTree != null;
+    }
+
     SyntaxTree syntaxTree() {
         parse();
         return syntaxTree;
@@ -108,7 +131,10 @@ class DocumentContext {
         SyntaxTree syntaxTree = syntaxTree();
         reportSyntaxDiagnostics(pkgID, syntaxTree, dlog);
         BLangNodeTransformer bLangNodeTransformer = new BLangNodeTransformer(compilerContext, pkgID, this.name);
+        bLangNodeTransformer.reuseMembers(this.previousMembers);
         compilationUnit = (BLangCompilationUnit) bLangNodeTransformer.accept(syntaxTree.rootNode()).get(0);
+        this.transformedMembers = bLangNodeTransformer.transformedMembers();
+        this.previousMembers = null;
         compilationUnit.setSourceKind(sourceKind);
         return nodeCloner.cloneCUnit(compilationUnit);
     }
@@ -0,0 +1,116 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.projects;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Parses the documents of a package in parallel, on a bounded pool of threads shared by all the packages.
+ * <p>
+ * Documents are otherwise parsed one after the other, when their imports are first looked up. Parsing them all up
+ * front lets the independent documents of a large package be parsed at the same time. Only the syntax trees are built
+ * here; the syntax diagnostics are still reported, in the order of the documents, when the compilation units are
+ * created.
+ *
+ * @since 2.0.0
+ */
+final class DocumentParser {
+
+    private static final int PARALLELISM = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+    private static final ExecutorService PARSER_POOL = Executors.newFixedThreadPool(PARALLELISM,
+            new ParserThreadFactory());
+
+    private DocumentParser() {
+    }
+
+    /**
+     * Parses the source and test documents of the given modules, which are not parsed yet.
+     *
+     * @param moduleContexts modules of which the documents are parsed
+     */
+    static void parse(Collection<ModuleContext> moduleContexts) {
+        List<DocumentContext> documentContexts = new ArrayList<>();
+        for (ModuleContext moduleContext : moduleContexts) {
+            for (DocumentId documentId : moduleContext.srcDocumentIds()) {
+                addIfNotParsed(documentContexts, moduleContext.documentContext(documentId));
+            }
+            for (DocumentId documentId : moduleContext.testSrcDocumentIds()) {
+                addIfNotParsed(documentContexts, moduleContext.documentContext(documentId));
+            }
+        }
+
+        if (documentContexts.size() < 2 || PARALLELISM == 1) {
+            // Not worth handing over to other threads
+            documentContexts.forEach(DocumentContext::parse);
+            return;
+        }
+
+        List<Future<?>> parseTasks = new ArrayList<>(documentContexts.size());
+        for (DocumentContext documentContext : documentContexts) {
+            parseTasks.add(PARSER_POOL.submit(documentContext::parse));
+        }
+        try {
+            for (Future<?> parseTask : parseTasks) {
+                parseTask.get();
+            }
+        } catch (InterruptedException e) {
+            parseTasks.forEach(parseTask -> parseTask.cancel(false));
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Parsing of the package documents is interrupted");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private static void addIfNotParsed(List<DocumentContext> documentContexts, DocumentContext documentContext) {
+        if (documentContext != null && !documentContext.isParsed()) {
+            documentContexts.add(documentContext);
+        }
+    }
+
+    /**
+     * Creates the daemon threads of the parser pool, so that the pool does not keep the VM alive.
+     */
+    private static class ParserThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "ballerina-parser-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -19,14 +19,17 @@ package io.ballerina.projects;
 
 import io.ballerina.projects.environment.PackageCache;
 import io.ballerina.projects.environment.ProjectEnvironment;
+import io.ballerina.projects.internal.CompilationProfiler;
 import io.ballerina.projects.internal.DefaultDiagnosticResult;
 import io.ballerina.projects.internal.PackageDiagnostic;
 import io.ballerina.projects.internal.jballerina.JarWriter;
 import io.ballerina.projects.internal.model.Target;
+import io.ballerina.projects.util.ProjectConstants;
 import io.ballerina.projects.util.ProjectUtils;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import io.ballerina.tools.diagnostics.DiagnosticSeverity;
 import org.apache.commons.compress.archivers.jar.JarArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
 import org.apache.commons.compress.archivers.zip.ZipArchiveEntryPredicate;
 import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
 import org.apache.commons.compress.archivers.zip.ZipFile;
@@ -42,23 +45,29 @@ import org.wso2.ballerinalang.compiler.spi.ObservabilitySymbolCollector;
 import org.wso2.ballerinalang.compiler.tree.BLangPackage;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.util.Lists;
+import org.wso2.ballerinalang.util.RepoUtils;
 
-import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.PrintStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -67,6 +76,7 @@ import java.util.jar.JarFile;
 import java.util.jar.JarInputStream;
 import java.util.jar.Manifest;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static io.ballerina.projects.util.FileUtils.getFileNameWithoutExtension;
 import static io.ballerina.projects.util.ProjectUtils.getThinJarFileName;
@@ -83,6 +93,9 @@ public class JBallerinaBackend extends CompilerBackend {
     private static final String JAR_FILE_EXTENSION = ".jar";
     private static final String TEST_JAR_FILE_NAME_SUFFIX = "-testable";
     private static final String JAR_FILE_NAME_SUFFIX = "";
+    private static final String EXECUTABLE_DEPENDENCIES_DIR_NAME = "executable-dependencies";
+    private static final String DEPENDENCY_CONFLICTS_ENTRY = "META-INF/ballerina/dependency-conflicts";
+    private static final String DEPENDENCY_ENTRIES_ENTRY = "META-INF/ballerina/dependency-entries";
     private static final HashSet<String> excludeExtensions = new HashSet<>(Lists.of("DSA", "SF"));
     private static final PrintStream out = System.out;
 
@@ -93,6 +106,7 @@ public class JBallerinaBackend extends CompilerBackend {
     private final CompilerContext compilerContext;
     private final CodeGenerator jvmCodeGenerator;
     private final InteropValidator interopValidator;
+    private final CompilationProfiler profiler;
     private final JarResolver jarResolver;
     private final PackageCompilation packageCompilation;
     private DiagnosticResult diagnosticResult;
@@ -124,6 +138,7 @@ public class JBallerinaBackend extends CompilerBackend {
         this.compilerContext = projectEnvContext.getService(CompilerContext.class);
         this.interopValidator = InteropValidator.getInstance(compilerContext);
         this.jvmCodeGenerator = CodeGenerator.getInstance(compilerContext);
+        this.profiler = CompilationProfiler.getInstance(compilerContext);
         // TODO: Move to a compiler extension once Compiler revamp is complete
         if (packageContext.compilationOptions().observabilityIncluded()) {
             ObservabilitySymbolCollector observabilitySymbolCollector
@@ -297,14 +312,18 @@ public class JBallerinaBackend extends CompilerBackend {
         if (bLangPackage.getErrorCount() > 0) {
             return;
         }
+        long start = profiler.start();
         CompiledJarFile compiledJarFile = jvmCodeGenerator.generate(bLangPackage);
+        profiler.end(CompilationProfiler.JVM_CODE_GEN, bLangPackage.packageID, start);
         if (compiledJarFile == null) {
             return;
         }
         String jarFileName = getJarFileName(moduleContext) + JAR_FILE_NAME_SUFFIX;
         try {
+            start = profiler.start();
             ByteArrayOutputStream byteStream = JarWriter.write(compiledJarFile);
             compilationCache.cachePlatformSpecificLibrary(this, jarFileName, byteStream);
+            profiler.end(CompilationProfiler.JAR_WRITE, bLangPackage.packageID, start);
         } catch (IOException e) {
             throw new ProjectException("Failed to cache generated jar, module: " + moduleContext.moduleName());
         }
@@ -366,24 +385,303 @@ public class JBallerinaBackend extends CompilerBackend {
         // service loader related information should be merged together in the final executable jar creation.
         HashMap<String, StringBuilder> serviceEntries = new HashMap<>();
 
+        // The jars generated for the root package change with every build, whereas the rest of the jars up to the
+        // runtime jar usually do not. The latter are merged into a dependency archive which is reused as long as
+        // none of those jars change.
+        List<JarLibrary> rootPackageLibraries = new ArrayList<>();
+        List<JarLibrary> dependencyLibraries = new ArrayList<>();
+        List<JarLibrary> trailingLibraries = new ArrayList<>();
+        splitLibraries(jarLibraries, rootPackageLibraries, dependencyLibraries, trailingLibraries);
+        DependencyArchive dependencyArchive = getDependencyArchive(dependencyLibraries);
+
         try (ZipArchiveOutputStream outStream = new ZipArchiveOutputStream(
                 new BufferedOutputStream(new FileOutputStream(executableFilePath.toString())))) {
             writeManifest(manifest, outStream);
 
             // Copy all the jars
-            for (JarLibrary library : jarLibraries) {
+            for (JarLibrary library : rootPackageLibraries) {
+                copyJar(outStream, library, copiedEntries, serviceEntries);
+            }
+            if (dependencyArchive != null) {
+                copyDependencyArchive(outStream, dependencyArchive, copiedEntries, serviceEntries);
+            } else {
+                for (JarLibrary library : dependencyLibraries) {
+                    copyJar(outStream, library, copiedEntries, serviceEntries);
+                }
+            }
+            for (JarLibrary library : trailingLibraries) {
                 copyJar(outStream, library, copiedEntries, serviceEntries);
             }
 
             // Copy merged spi services.
-            for (Map.Entry<String, StringBuilder> entry : serviceEntries.entrySet()) {
-                String s = entry.getKey();
-                StringBuilder service = entry.getValue();
-                JarArchiveEntry e = new JarArchiveEntry(s);
-                outStream.putArchiveEntry(e);
-                outStream.write(service.toString().getBytes(StandardCharsets.UTF_8));
-                outStream.closeArchiveEntry();
+            writeServiceEntries(outStream, serviceEntries);
+        }
+    }
+
+    private void splitLibraries(Collection<JarLibrary> jarLibraries, List<JarLibrary> rootPackageLibraries,
+                                List<JarLibrary> dependencyLibraries, List<JarLibrary> trailingLibraries) {
+        HashSet<Path> rootPackageLibraryPaths = new HashSet<>();
+        for (ModuleId moduleId : packageContext.moduleIds()) {
+            ModuleContext moduleContext = packageContext.moduleContext(moduleId);
+            rootPackageLibraryPaths.add(codeGeneratedLibrary(packageContext.packageId(),
+                    moduleContext.moduleName()).path());
+        }
+        Path runtimeLibraryPath = runtimeLibrary().path();
+
+        boolean runtimeLibraryFound = false;
+        for (JarLibrary library : jarLibraries) {
+            if (runtimeLibraryFound) {
+                trailingLibraries.add(library);
+            } else if (rootPackageLibraryPaths.contains(library.path()) && dependencyLibraries.isEmpty()) {
+                rootPackageLibraries.add(library);
+            } else {
+                dependencyLibraries.add(library);
+                runtimeLibraryFound = library.path().equals(runtimeLibraryPath);
+            }
+        }
+    }
+
+    /**
+     * Returns the merged archive of the given dependency libraries, creating it if the cached archive is missing or
+     * outdated. Returns {@code null} if the archive cannot be used, in which case the libraries are copied directly.
+     */
+    private DependencyArchive getDependencyArchive(List<JarLibrary> dependencyLibraries) {
+        if (dependencyLibraries.isEmpty()) {
+            return null;
+        }
+        try {
+            String fingerprint = getFingerprint(dependencyLibraries);
+            Path archivePath = getDependencyArchivePath(fingerprint);
+            if (Files.exists(archivePath)) {
+                // The fingerprint of the libraries an archive was created from is kept in its comment.
+                try (java.util.zip.ZipFile archive = new java.util.zip.ZipFile(archivePath.toFile())) {
+                    if (fingerprint.equals(archive.getComment())
+                            && archive.getEntry(DEPENDENCY_CONFLICTS_ENTRY) != null
+                            && archive.getEntry(DEPENDENCY_ENTRIES_ENTRY) != null) {
+                        return new DependencyArchive(archivePath, dependencyLibraries, true);
+                    }
+                }
+            }
+
+            Files.createDirectories(archivePath.getParent());
+            Path tempArchivePath = Files.createTempFile(archivePath.getParent(), "dependencies-", ".tmp");
+            int conflictCount = this.conflictedJars.size();
+            try {
+                HashMap<String, JarLibrary> copiedEntries = new HashMap<>();
+                HashMap<String, StringBuilder> serviceEntries = new HashMap<>();
+                try (ZipArchiveOutputStream outStream = new ZipArchiveOutputStream(tempArchivePath.toFile())) {
+                    outStream.setComment(fingerprint);
+                    for (JarLibrary library : dependencyLibraries) {
+                        copyJar(outStream, library, copiedEntries, serviceEntries);
+                    }
+                    writeServiceEntries(outStream, serviceEntries);
+                    writeConflicts(outStream, this.conflictedJars.subList(conflictCount, this.conflictedJars.size()));
+                    writeEntryLibraries(outStream, dependencyLibraries, copiedEntries);
+                }
+                Files.move(tempArchivePath, archivePath, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(tempArchivePath);
+            }
+            evictDependencyArchives(archivePath);
+            return new DependencyArchive(archivePath, dependencyLibraries, false);
+        } catch (IOException | RuntimeException e) {
+            // Caching is an optimization, fall back to copying the libraries one by one.
+            return null;
+        }
+    }
+
+    private Path getDependencyArchivePath(String fingerprint) throws IOException {
+        // Archives are kept outside the target directory since it is cleaned at the beginning of each build.
+        return RepoUtils.createAndGetHomeReposPath()
+                .resolve(ProjectConstants.CACHES_DIR_NAME)
+                .resolve(EXECUTABLE_DEPENDENCIES_DIR_NAME)
+                .resolve(getDependencyArchivePrefix() + fingerprint.substring(0, 16) + JAR_FILE_EXTENSION);
+    }
+
+    private String getDependencyArchivePrefix() {
+        // Archives of a project are named after it, so that the outdated ones can be found and evicted.
+        String sourceRoot = packageContext.project().sourceRoot().toAbsolutePath().toString();
+        return packageContext.packageName().toString() + "-" +
+                toHex(sha256().digest(sourceRoot.getBytes(StandardCharsets.UTF_8))).substring(0, 16) + "-";
+    }
+
+    /**
+     * Deletes the archives of the project other than the given one, which is the latest. An archive which cannot be
+     * deleted, such as one used by another build, is left to be evicted by a later build.
+     */
+    private void evictDependencyArchives(Path latestArchivePath) {
+        String prefix = getDependencyArchivePrefix();
+        // Archives used to be named after the project only
+        String unversionedName = prefix.substring(0, prefix.length() - 1) + JAR_FILE_EXTENSION;
+        try (Stream<Path> archives = Files.list(latestArchivePath.getParent())) {
+            archives.filter(path -> !path.equals(latestArchivePath))
+                    .filter(path -> {
+                        String fileName = path.getFileName().toString();
+                        return fileName.equals(unversionedName) ||
+                                (fileName.startsWith(prefix) && fileName.endsWith(JAR_FILE_EXTENSION));
+                    })
+                    .forEach(path -> {
+                        try {
+                            Files.deleteIfExists(path);
+                        } catch (IOException e) {
+                            // Evicted by a later build
+                        }
+                    });
+        } catch (IOException e) {
+            // Evicted by a later build
+        }
+    }
+
+    /**
+     * Returns the fingerprint of the given libraries, which is a hash of their content. The paths of the libraries
+     * are included as well, since the conflicts kept in an archive refer to the libraries by their paths.
+     */
+    private String getFingerprint(List<JarLibrary> libraries) throws IOException {
+        MessageDigest digest = sha256();
+        digest.update(RepoUtils.getBallerinaVersion().getBytes(StandardCharsets.UTF_8));
+        byte[] buffer = new byte[8192];
+        for (JarLibrary library : libraries) {
+            Path path = library.path();
+            String header = "\n" + path.toAbsolutePath() + "|" + library.packageName().orElse("") + "|" +
+                    Files.size(path) + "|";
+            digest.update(header.getBytes(StandardCharsets.UTF_8));
+            try (InputStream inputStream = Files.newInputStream(path)) {
+                int length;
+                while ((length = inputStream.read(buffer)) != -1) {
+                    digest.update(buffer, 0, length);
+                }
+            }
+        }
+        return toHex(digest.digest());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String toHex(byte[] hash) {
+        StringBuilder hex = new StringBuilder(hash.length * 2);
+        for (byte b : hash) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+
+    /**
+     * Copies the entries of the merged dependency archive into the executable jar. Unlike {@code copyJar}, the
+     * archive is free of duplicates and excluded entries, hence only the entries already copied from the root
+     * package jars have to be skipped. Each entry is attributed to the library it was merged from, so that conflicts
+     * with the libraries copied around the archive name the actual jars.
+     */
+    private void copyDependencyArchive(ZipArchiveOutputStream outStream, DependencyArchive dependencyArchive,
+                                       HashMap<String, JarLibrary> copiedEntries,
+                                       HashMap<String, StringBuilder> services) throws IOException {
+        try (ZipFile zipFile = new ZipFile(dependencyArchive.path.toFile())) {
+            ZipArchiveEntry conflictsEntry = zipFile.getEntry(DEPENDENCY_CONFLICTS_ENTRY);
+            if (dependencyArchive.reused && conflictsEntry != null) {
+                readConflicts(zipFile.getInputStream(conflictsEntry));
+            }
+            Map<String, JarLibrary> entryLibraries = readEntryLibraries(
+                    zipFile.getInputStream(zipFile.getEntry(DEPENDENCY_ENTRIES_ENTRY)), dependencyArchive.libraries);
+
+            ZipArchiveEntryPredicate predicate = entry -> {
+                String entryName = entry.getName();
+                if (entryName.equals(DEPENDENCY_CONFLICTS_ENTRY) || entryName.equals(DEPENDENCY_ENTRIES_ENTRY)) {
+                    return false;
+                }
+                if (entryName.startsWith("META-INF/services")) {
+                    appendServiceEntry(zipFile, entry, services);
+                    return false;
+                }
+                JarLibrary library = entryLibraries.get(entryName);
+                if (isCopiedEntry(entryName, copiedEntries)) {
+                    addConflictedJars(library, copiedEntries, entryName);
+                    return false;
+                }
+                copiedEntries.put(entryName, library);
+                return true;
+            };
+            zipFile.copyRawEntries(outStream, predicate);
+        }
+    }
+
+    private void writeServiceEntries(ZipArchiveOutputStream outStream, HashMap<String, StringBuilder> serviceEntries)
+            throws IOException {
+        for (Map.Entry<String, StringBuilder> entry : serviceEntries.entrySet()) {
+            String s = entry.getKey();
+            StringBuilder service = entry.getValue();
+            JarArchiveEntry e = new JarArchiveEntry(s);
+            outStream.putArchiveEntry(e);
+            outStream.write(service.toString().getBytes(StandardCharsets.UTF_8));
+            outStream.closeArchiveEntry();
+        }
+    }
+
+    private void writeConflicts(ZipArchiveOutputStream outStream, List<JarConflict> conflicts) throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (JarConflict conflict : conflicts) {
+            content.append(conflict.firstJarLibrary.path()).append('\t')
+                    .append(conflict.firstJarLibrary.packageName().orElse("")).append('\t')
+                    .append(conflict.secondJarLibrary.path()).append('\t')
+                    .append(conflict.secondJarLibrary.packageName().orElse(""));
+            for (String conflictedClass : conflict.classes) {
+                content.append('\t').append(conflictedClass);
+            }
+            content.append('\n');
+        }
+        JarArchiveEntry e = new JarArchiveEntry(DEPENDENCY_CONFLICTS_ENTRY);
+        outStream.putArchiveEntry(e);
+        outStream.write(content.toString().getBytes(StandardCharsets.UTF_8));
+        outStream.closeArchiveEntry();
+    }
+
+    private void writeEntryLibraries(ZipArchiveOutputStream outStream, List<JarLibrary> libraries,
+                                     HashMap<String, JarLibrary> copiedEntries) throws IOException {
+        // Libraries are referred to by their index, since the archive is reused only for the same list of libraries.
+        Map<JarLibrary, Integer> libraryIndexes = new IdentityHashMap<>();
+        for (int i = 0; i < libraries.size(); i++) {
+            libraryIndexes.put(libraries.get(i), i);
+        }
+        StringBuilder content = new StringBuilder();
+        for (Map.Entry<String, JarLibrary> entry : copiedEntries.entrySet()) {
+            content.append(libraryIndexes.get(entry.getValue())).append('\t').append(entry.getKey()).append('\n');
+        }
+        JarArchiveEntry e = new JarArchiveEntry(DEPENDENCY_ENTRIES_ENTRY);
+        outStream.putArchiveEntry(e);
+        outStream.write(content.toString().getBytes(StandardCharsets.UTF_8));
+        outStream.closeArchiveEntry();
+    }
+
+    private static Map<String, JarLibrary> readEntryLibraries(InputStream inputStream, List<JarLibrary> libraries)
+            throws IOException {
+        String content = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        Map<String, JarLibrary> entryLibraries = new HashMap<>();
+        for (String line : content.split("\n")) {
+            int separator = line.indexOf('\t');
+            if (separator < 0) {
+                continue;
+            }
+            int index = Integer.parseInt(line.substring(0, separator));
+            entryLibraries.put(line.substring(separator + 1), libraries.get(index));
+        }
+        return entryLibraries;
+    }
+
+    private void readConflicts(InputStream inputStream) throws IOException {
+        String content = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        for (String line : content.split("\n")) {
+            String[] parts = line.split("\t");
+            if (parts.length < 5) {
+                continue;
             }
+            JarLibrary first = new JarLibrary(Paths.get(parts[0]), PlatformLibraryScope.DEFAULT, parts[1]);
+            JarLibrary second = new JarLibrary(Paths.get(parts[2]), PlatformLibraryScope.DEFAULT, parts[3]);
+            List<String> classes = new ArrayList<>(Arrays.asList(parts).subList(4, parts.length));
+            this.conflictedJars.add(new JarConflict(first, second, classes));
         }
     }
 
@@ -435,25 +733,7 @@ public class JBallerinaBackend extends CompilerBackend {
             }
 
             if (entryName.startsWith("META-INF/services")) {
-                StringBuilder s = services.get(entryName);
-                if (s == null) {
-                    s = new StringBuilder();
-                    services.put(entryName, s);
-                }
-                char c = '\n';
-
-                int len;
-                try (BufferedInputStream inStream = new BufferedInputStream(zipFile.getInputStream(entry))) {
-                    while ((len = inStream.read()) != -1) {
-                        c = (char) len;
-                        s.append(c);
-                    }
-                } catch (IOException e) {
-                    throw new RuntimeException(e);
-                }
-                if (c != '\n') {
-                    s.append('\n');
-                }
+                appendServiceEntry(zipFile, entry, services);
 
                 // Its not required to copy SPI entries in here as we'll be adding merged SPI related entries
                 // separately. Therefore the predicate should be set as false.
@@ -479,6 +759,21 @@ public class JBallerinaBackend extends CompilerBackend {
         zipFile.close();
     }
 
+    private static void appendServiceEntry(ZipFile zipFile, ZipArchiveEntry entry,
+                                           HashMap<String, StringBuilder> services) {
+        StringBuilder s = services.computeIfAbsent(entry.getName(), name -> new StringBuilder());
+        String content;
+        try (InputStream inStream = zipFile.getInputStream(entry)) {
+            content = new String(inStream.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        s.append(content);
+        if (!content.isEmpty() && content.charAt(content.length() - 1) != '\n') {
+            s.append('\n');
+        }
+    }
+
     private static boolean isCopiedEntry(String entryName, HashMap<String, JarLibrary> copiedEntries) {
         return copiedEntries.keySet().contains(entryName);
     }
@@ -507,7 +802,9 @@ public class JBallerinaBackend extends CompilerBackend {
         Collection<JarLibrary> jarLibraries = jarResolver.getJarFilePathsRequiredForExecution();
 
         try {
+            long start = profiler.start();
             assembleExecutableJar(executableFilePath, manifest, jarLibraries);
+            profiler.end(CompilationProfiler.EXECUTABLE_JAR_WRITE, packageContext.descriptor().toString(), start);
         } catch (IOException e) {
             throw new ProjectException("error while creating the executable jar file for package '" +
                     this.packageContext.packageName().toString() + "' : " + e.getMessage(), e);
@@ -569,6 +866,21 @@ public class JBallerinaBackend extends CompilerBackend {
         return jdkVersion;
     }
 
+    /**
+     * A merged archive of the dependency section of an executable jar.
+     */
+    private static class DependencyArchive {
+        private final Path path;
+        private final List<JarLibrary> libraries;
+        private final boolean reused;
+
+        DependencyArchive(Path path, List<JarLibrary> libraries, boolean reused) {
+            this.path = path;
+            this.libraries = libraries;
+            this.reused = reused;
+        }
+    }
+
     /**
      * Inner class to represent jar conflict.
      */
@@ -21,6 +21,7 @@ import io.ballerina.projects.PackageResolution.DependencyResolution;
 import io.ballerina.projects.environment.ModuleLoadRequest;
 import io.ballerina.projects.environment.PackageResolver;
 import io.ballerina.projects.environment.ProjectEnvironment;
+import io.ballerina.projects.internal.CompilationProfiler;
 import io.ballerina.projects.internal.CompilerPhaseRunner;
 import io.ballerina.projects.internal.ModuleContextDataHolder;
 import io.ballerina.projects.util.ProjectUtils;
@@ -52,6 +53,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
 
 import static org.ballerinalang.model.tree.SourceKind.REGULAR_SOURCE;
 import static org.ballerinalang.model.tree.SourceKind.TEST_SOURCE;
@@ -364,6 +366,8 @@ class ModuleContext {
 
     static void compileInternal(ModuleContext moduleContext, CompilerContext compilerContext) {
         PackageID moduleCompilationId = moduleContext.descriptor().moduleCompilationId();
+        // Stop a cancelled compilation before it touches the package cache
+        CompilerPhaseRunner.checkCancelled(moduleCompilationId);
         String bootstrapLangLibName = System.getProperty("BOOTSTRAP_LANG_LIB");
         if (bootstrapLangLibName != null) {
             moduleContext.bootstrap.loadLangLib(compilerContext, moduleCompilationId);
@@ -382,6 +386,8 @@ class ModuleContext {
                 moduleContext.project.buildOptions().skipTests());
         packageCache.put(moduleCompilationId, pkgNode);
 
+        CompilationProfiler profiler = CompilationProfiler.getInstance(compilerContext);
+        long start = profiler.start();
         // Parse source files
         for (DocumentContext documentContext : moduleContext.srcDocContextMap.values()) {
             pkgNode.addCompilationUnit(documentContext.compilationUnit(compilerContext, moduleCompilationId,
@@ -391,10 +397,14 @@ class ModuleContext {
         if (!moduleContext.testSrcDocumentIds().isEmpty()) {
             moduleContext.parseTestSources(pkgNode, moduleCompilationId, compilerContext);
         }
+        profiler.end(CompilationProfiler.PARSE, moduleCompilationId, start);
 
         pkgNode.pos = new BLangDiagnosticLocation(moduleContext.moduleName().toString(), 0, 0, 0, 0);
         try {
+            CompilerPhaseRunner.checkCancelled(moduleCompilationId);
+            start = profiler.start();
             symbolEnter.definePackage(pkgNode);
+            profiler.end(CompilationProfiler.SYMBOL_ENTER, moduleCompilationId, start);
             packageCache.putSymbol(pkgNode.packageID, pkgNode.symbol);
 
             if (bootstrapLangLibName != null) {
@@ -402,7 +412,18 @@ class ModuleContext {
             } else {
                 compilerPhaseRunner.performTypeCheckPhases(pkgNode);
             }
+        } catch (CancellationException e) {
+            // Drop the partially compiled module. Its compilation state is not updated, hence it is compiled
+            // again from the start when it is needed next.
+            packageCache.remove(moduleCompilationId);
+            throw e;
         } catch (Throwable t) {
+            if (CompilerPhaseRunner.isCancellation(t)) {
+                // An interrupt also fails the I/O in progress, such as reading the BIR of a dependency, which is
+                // a cancellation rather than a compiler error.
+                packageCache.remove(moduleCompilationId);
+                throw CompilerPhaseRunner.cancellation(moduleCompilationId, t);
+            }
             compilerPhaseRunner.addDiagnosticForUnhandledException(pkgNode, t);
         }
         moduleContext.bLangPackage = pkgNode;
@@ -419,14 +440,24 @@ class ModuleContext {
         } else {
             try {
                 compilerPhaseRunner.performBirGenPhases(moduleContext.bLangPackage);
+            } catch (CancellationException e) {
+                discardCompilation(moduleContext, compilerContext);
+                throw e;
             } catch (Throwable t) {
+                if (CompilerPhaseRunner.isCancellation(t)) {
+                    discardCompilation(moduleContext, compilerContext);
+                    throw CompilerPhaseRunner.cancellation(moduleContext.descriptor().moduleCompilationId(), t);
+                }
                 compilerPhaseRunner.addDiagnosticForUnhandledException(moduleContext.bLangPackage, t);
                 return;
             }
         }
 
         // Serialize the BIR  model
+        CompilationProfiler profiler = CompilationProfiler.getInstance(compilerContext);
+        long start = profiler.start();
         cacheBIR(moduleContext, compilerContext);
+        profiler.end(CompilationProfiler.BIR_SERIALIZE, moduleContext.descriptor().moduleCompilationId(), start);
 
         // Skip the code generation phase if there are diagnostics
         if (Diagnostics.hasErrors(moduleContext.diagnostics())) {
@@ -435,6 +466,15 @@ class ModuleContext {
         compilerBackend.performCodeGen(moduleContext, moduleContext.compilationCache);
     }
 
+    private static void discardCompilation(ModuleContext moduleContext, CompilerContext compilerContext) {
+        // The package node is partially desugared, hence the module is compiled again from the start when it is
+        // needed next.
+        org.wso2.ballerinalang.compiler.PackageCache.getInstance(compilerContext)
+                .remove(moduleContext.descriptor().moduleCompilationId());
+        moduleContext.bLangPackage = null;
+        moduleContext.setCompilationState(ModuleCompilationState.DEPENDENCIES_RESOLVED_FROM_SOURCES);
+    }
+
     private static void cacheBIR(ModuleContext moduleContext, CompilerContext compilerContext) {
         // Skip caching BIR if there are diagnostics
         if (Diagnostics.hasErrors(moduleContext.diagnostics())) {
@@ -469,7 +509,20 @@ class ModuleContext {
     }
 
     static void loadBirBytesInternal(ModuleContext moduleContext) {
-        moduleContext.birBytes = moduleContext.compilationCache.getBir(moduleContext.moduleName());
+        PackageID moduleCompilationId = moduleContext.descriptor().moduleCompilationId();
+        CompilerPhaseRunner.checkCancelled(moduleCompilationId);
+        byte[] birBytes;
+        try {
+            birBytes = moduleContext.compilationCache.getBir(moduleContext.moduleName());
+        } catch (RuntimeException e) {
+            if (CompilerPhaseRunner.isCancellation(e)) {
+                throw CompilerPhaseRunner.cancellation(moduleCompilationId, e);
+            }
+            throw e;
+        }
+        // The BIR read by an interrupted thread may be incomplete, hence it is not kept
+        CompilerPhaseRunner.checkCancelled(moduleCompilationId);
+        moduleContext.birBytes = birBytes;
     }
 
     static void resolveDependenciesFromBALAInternal(ModuleContext moduleContext) {
@@ -35,6 +35,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import static org.ballerinalang.compiler.CompilerOptionName.CLOUD;
@@ -57,6 +58,7 @@ public class PackageCompilation {
     private CompilerContext compilerContext;
     private Map<TargetPlatform, CompilerBackend> compilerBackends;
     private List<Diagnostic> pluginDiagnostics;
+    private final Map<ModuleId, SemanticModel> semanticModels = new ConcurrentHashMap<>();
 
     private DiagnosticResult diagnosticResult;
     private volatile boolean compiled;
@@ -160,7 +162,9 @@ public class PackageCompilation {
                     "This is an internal error which will be fixed in a later release.");
         }
 
-        return new BallerinaSemanticModel(moduleContext.bLangPackage(), this.compilerContext);
+        // The semantic model of a module is shared, so that the reference index it builds is reused by every lookup
+        return semanticModels.computeIfAbsent(moduleId,
+                id -> new BallerinaSemanticModel(moduleContext.bLangPackage(), this.compilerContext));
     }
 
     public CodeActionManager getCodeActionManager() {
@@ -186,6 +190,10 @@ public class PackageCompilation {
         return rootPackageContext;
     }
 
+    CompilerContext compilerContext() {
+        return compilerContext;
+    }
+
     private void compileModules() {
         if (compiled) {
             return;
@@ -19,7 +19,9 @@ package io.ballerina.projects;
 
 import io.ballerina.projects.DependencyGraph.DependencyGraphBuilder;
 import io.ballerina.projects.PackageResolution.DependencyResolution;
+import io.ballerina.projects.internal.CompilerPhaseRunner;
 import io.ballerina.projects.internal.model.CompilerPluginDescriptor;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
 
 import java.util.Collection;
 import java.util.Collections;
@@ -60,7 +62,7 @@ class PackageContext {
     private Set<PackageDependency> packageDependencies;
     private DependencyGraph<ModuleId> moduleDependencyGraph;
     private PackageResolution packageResolution;
-    private PackageCompilation packageCompilation;
+    private volatile PackageCompilation packageCompilation;
 
     // TODO Try to reuse the unaffected compilations if possible
     private final Map<ModuleId, ModuleCompilation> moduleCompilationMap;
@@ -210,10 +212,31 @@ class PackageContext {
     }
 
     PackageCompilation getPackageCompilation() {
-        if (packageCompilation == null) {
-            packageCompilation = PackageCompilation.from(this);
+        PackageCompilation compilation = this.packageCompilation;
+        if (compilation != null) {
+            return compilation;
+        }
+        // The compilations of all the snapshots of a project share the compiler context, which is not thread-safe.
+        // Hence the package is compiled while holding the compiler context, as the modules are compiled.
+        synchronized (compilerContext()) {
+            compilation = this.packageCompilation;
+            if (compilation == null) {
+                boolean resolved = this.packageResolution != null;
+                try {
+                    compilation = PackageCompilation.from(this);
+                    checkCancelled();
+                } catch (RuntimeException e) {
+                    if (!resolved && CompilerPhaseRunner.isCancellation(e)) {
+                        // The resolution may be missing the dependencies which were read when the thread was
+                        // interrupted, hence it is resolved again by the next compilation.
+                        this.packageResolution = null;
+                    }
+                    throw cancellationOf(e);
+                }
+                this.packageCompilation = compilation;
+            }
+            return compilation;
         }
-        return packageCompilation;
     }
 
     PackageCompilation getPackageCompilation(CompilationOptions compilationOptions) {
@@ -229,7 +252,33 @@ class PackageContext {
                 .listConflictedClasses(this.compilationOptions.listConflictedClasses())
                 .build();
         CompilationOptions mergedOptions = options.acceptTheirs(compilationOptions);
-        return PackageCompilation.from(this, mergedOptions);
+        synchronized (compilerContext()) {
+            PackageCompilation compilation;
+            try {
+                compilation = PackageCompilation.from(this, mergedOptions);
+                checkCancelled();
+            } catch (RuntimeException e) {
+                throw cancellationOf(e);
+            }
+            return compilation;
+        }
+    }
+
+    private void checkCancelled() {
+        // An interrupt fails the I/O in progress, such as reading a dependency, which is reported as a diagnostic
+        // by some readers. Hence the compilation of an interrupted thread is not used.
+        CompilerPhaseRunner.checkCancelled(defaultModuleContext().descriptor().moduleCompilationId());
+    }
+
+    private RuntimeException cancellationOf(RuntimeException e) {
+        if (CompilerPhaseRunner.isCancellation(e)) {
+            return CompilerPhaseRunner.cancellation(defaultModuleContext().descriptor().moduleCompilationId(), e);
+        }
+        return e;
+    }
+
+    private CompilerContext compilerContext() {
+        return project.projectEnvironmentContext().getService(CompilerContext.class);
     }
 
     PackageCompilation cachedCompilation() {
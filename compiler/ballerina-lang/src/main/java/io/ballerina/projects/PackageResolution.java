@@ -211,6 +211,13 @@ public class PackageResolution {
 
     private LinkedHashSet<ModuleLoadRequest> getModuleLoadRequestsOfDirectDependencies() {
         LinkedHashSet<ModuleLoadRequest> allModuleLoadRequests = new LinkedHashSet<>();
+        // Parse all the documents of the package at once, before their imports are looked up one by one
+        List<ModuleContext> moduleContexts = new ArrayList<>();
+        for (ModuleId moduleId : rootPackageContext.moduleIds()) {
+            moduleContexts.add(rootPackageContext.moduleContext(moduleId));
+        }
+        DocumentParser.parse(moduleContexts);
+
         for (ModuleId moduleId : rootPackageContext.moduleIds()) {
             ModuleContext moduleContext = rootPackageContext.moduleContext(moduleId);
             allModuleLoadRequests.addAll(moduleContext.populateModuleLoadRequests());
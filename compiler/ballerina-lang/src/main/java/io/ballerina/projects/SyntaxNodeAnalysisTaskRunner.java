@@ -19,6 +19,7 @@ package io.ballerina.projects;
 
 import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.projects.internal.CompilationProfiler;
 import io.ballerina.tools.diagnostics.Diagnostic;
 
 import java.util.ArrayList;
@@ -54,11 +55,15 @@ class SyntaxNodeAnalysisTaskRunner {
     }
 
     private void runTasks(ModuleContext moduleContext, List<Diagnostic> reportedDiagnostics) {
+        CompilationProfiler profiler = CompilationProfiler.getInstance(compilation.compilerContext());
+        long start = profiler.start();
         for (DocumentId srcDocumentId : moduleContext.srcDocumentIds()) {
             DocumentContext documentContext = moduleContext.documentContext(srcDocumentId);
             runTasks(documentContext.syntaxTree(), moduleContext.moduleId(),
                     srcDocumentId, reportedDiagnostics);
         }
+        profiler.end(CompilationProfiler.SYNTAX_NODE_ANALYSIS, moduleContext.descriptor().moduleCompilationId(),
+                start);
     }
 
     private void runTasks(SyntaxTree syntaxTree,
@@ -0,0 +1,199 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.projects.internal;
+
+import org.ballerinalang.model.elements.PackageID;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Records the time spent in each compiler phase per module and per compiler plugin.
+ * <p>
+ * The profiler is disabled by default, in which case {@link #start()} and the {@code end} methods are no-ops.
+ * Durations are measured with {@link System#nanoTime()}; nested events (e.g. BIR optimization inside BIR
+ * generation) are recorded separately and are not subtracted from their enclosing event.
+ *
+ * @since 2.0.0
+ */
+public class CompilationProfiler {
+
+    public static final String PARSE = "parse";
+    public static final String SYMBOL_ENTER = "symbolEnter";
+    public static final String TYPE_CHECK = "typeCheck";
+    public static final String CODE_ANALYZE = "codeAnalyze";
+    public static final String DATAFLOW_ANALYZE = "dataflowAnalyze";
+    public static final String ISOLATION_ANALYZE = "isolationAnalyze";
+    public static final String DOCUMENTATION_ANALYZE = "documentationAnalyze";
+    public static final String CONSTANT_PROPAGATION = "constantPropagation";
+    public static final String COMPILER_PLUGIN = "compilerPlugin";
+    public static final String SYNTAX_NODE_ANALYSIS = "syntaxNodeAnalysis";
+    public static final String DESUGAR = "desugar";
+    public static final String BIR_GEN = "birGen";
+    public static final String BIR_OPTIMIZE = "birOptimize";
+    public static final String BIR_EMIT = "birEmit";
+    public static final String BIR_SERIALIZE = "birSerialize";
+    public static final String JVM_CODE_GEN = "jvmCodeGen";
+    public static final String JAR_WRITE = "jarWrite";
+    public static final String EXECUTABLE_JAR_WRITE = "executableJarWrite";
+
+    private static final CompilerContext.Key<CompilationProfiler> COMPILATION_PROFILER_KEY =
+            new CompilerContext.Key<>();
+
+    private final List<ProfiledEvent> events = new ArrayList<>();
+    private volatile boolean enabled;
+
+    public static CompilationProfiler getInstance(CompilerContext context) {
+        CompilationProfiler profiler = context.get(COMPILATION_PROFILER_KEY);
+        if (profiler == null) {
+            profiler = new CompilationProfiler(context);
+        }
+        return profiler;
+    }
+
+    private CompilationProfiler(CompilerContext context) {
+        context.put(COMPILATION_PROFILER_KEY, this);
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the start timestamp of an event to be passed to one of the {@code end} methods.
+     *
+     * @return start timestamp in nanoseconds, or zero if profiling is disabled
+     */
+    public long start() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    public void end(String phase, PackageID moduleId, long startNanos) {
+        if (!enabled) {
+            return;
+        }
+        record(phase, String.valueOf(moduleId), null, startNanos);
+    }
+
+    public void end(String phase, String module, long startNanos) {
+        if (!enabled) {
+            return;
+        }
+        record(phase, module, null, startNanos);
+    }
+
+    /**
+     * Records an event which belongs to a compiler plugin.
+     *
+     * @param phase      phase the plugin was run in
+     * @param module     module or package the plugin was run on
+     * @param plugin     name of the compiler plugin
+     * @param startNanos value returned by {@link #start()}
+     */
+    public void endPlugin(String phase, String module, String plugin, long startNanos) {
+        if (!enabled) {
+            return;
+        }
+        record(phase, module, plugin, startNanos);
+    }
+
+    public void endPlugin(String phase, PackageID moduleId, String plugin, long startNanos) {
+        if (!enabled) {
+            return;
+        }
+        record(phase, String.valueOf(moduleId), plugin, startNanos);
+    }
+
+    private synchronized void record(String phase, String module, String plugin, long startNanos) {
+        long endNanos = System.nanoTime();
+        events.add(new ProfiledEvent(phase, module, plugin, startNanos, endNanos - startNanos,
+                Thread.currentThread().getId()));
+    }
+
+    /**
+     * Returns the recorded events in the order they were completed.
+     *
+     * @return recorded events
+     */
+    public synchronized List<ProfiledEvent> events() {
+        return Collections.unmodifiableList(new ArrayList<>(events));
+    }
+
+    public synchronized void clear() {
+        events.clear();
+    }
+
+    /**
+     * Represents a single timed compiler phase.
+     *
+     * @since 2.0.0
+     */
+    public static class ProfiledEvent {
+        private final String phase;
+        private final String module;
+        private final String plugin;
+        private final long startNanos;
+        private final long durationNanos;
+        private final long threadId;
+
+        ProfiledEvent(String phase, String module, String plugin, long startNanos, long durationNanos,
+                      long threadId) {
+            this.phase = phase;
+            this.module = module;
+            this.plugin = plugin;
+            this.startNanos = startNanos;
+            this.durationNanos = durationNanos;
+            this.threadId = threadId;
+        }
+
+        public String phase() {
+            return phase;
+        }
+
+        public String module() {
+            return module;
+        }
+
+        /**
+         * Returns the name of the compiler plugin, or {@code null} if the event belongs to the compiler itself.
+         *
+         * @return compiler plugin name
+         */
+        public String plugin() {
+            return plugin;
+        }
+
+        public long startNanos() {
+            return startNanos;
+        }
+
+        public long durationNanos() {
+            return durationNanos;
+        }
+
+        public long threadId() {
+            return threadId;
+        }
+    }
+}
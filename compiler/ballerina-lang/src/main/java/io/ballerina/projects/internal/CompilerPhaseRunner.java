@@ -19,6 +19,7 @@ package io.ballerina.projects.internal;
 
 import io.ballerina.runtime.internal.util.RuntimeUtils;
 import org.ballerinalang.compiler.CompilerPhase;
+import org.ballerinalang.model.elements.PackageID;
 import org.wso2.ballerinalang.compiler.PackageCache;
 import org.wso2.ballerinalang.compiler.bir.BIRGen;
 import org.wso2.ballerinalang.compiler.bir.emit.BIREmitter;
@@ -40,6 +41,10 @@ import org.wso2.ballerinalang.compiler.tree.BLangPackage;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.CompilerOptions;
 
+import java.io.InterruptedIOException;
+import java.nio.channels.ClosedByInterruptException;
+import java.util.concurrent.CancellationException;
+
 import static org.ballerinalang.compiler.CompilerOptionName.TOOLING_COMPILATION;
 
 /**
@@ -71,6 +76,7 @@ public class CompilerPhaseRunner {
     private final CompilerPhase compilerPhase;
     private final DataflowAnalyzer dataflowAnalyzer;
     private final IsolationAnalyzer isolationAnalyzer;
+    private final CompilationProfiler profiler;
     private boolean isToolingCompilation;
 
 
@@ -102,6 +108,7 @@ public class CompilerPhaseRunner {
         this.compilerPhase = this.options.getCompilerPhase();
         this.dataflowAnalyzer = DataflowAnalyzer.getInstance(context);
         this.isolationAnalyzer = IsolationAnalyzer.getInstance(context);
+        this.profiler = CompilationProfiler.getInstance(context);
         this.isToolingCompilation = this.options.isSet(TOOLING_COMPILATION)
                 && Boolean.parseBoolean(this.options.get(TOOLING_COMPILATION));
     }
@@ -199,50 +206,86 @@ public class CompilerPhaseRunner {
     }
 
     public BLangPackage define(BLangPackage pkgNode) {
-        return this.symbolEnter.definePackage(pkgNode);
+        long start = this.profiler.start();
+        BLangPackage result = this.symbolEnter.definePackage(pkgNode);
+        this.profiler.end(CompilationProfiler.SYMBOL_ENTER, pkgNode.packageID, start);
+        return result;
     }
 
     private BLangPackage typeCheck(BLangPackage pkgNode) {
-        return this.semAnalyzer.analyze(pkgNode);
+        long start = this.profiler.start();
+        BLangPackage result = this.semAnalyzer.analyze(pkgNode);
+        this.profiler.end(CompilationProfiler.TYPE_CHECK, pkgNode.packageID, start);
+        return result;
     }
 
     private BLangPackage documentationAnalyze(BLangPackage pkgNode) {
-        return this.documentationAnalyzer.analyze(pkgNode);
+        long start = this.profiler.start();
+        BLangPackage result = this.documentationAnalyzer.analyze(pkgNode);
+        this.profiler.end(CompilationProfiler.DOCUMENTATION_ANALYZE, pkgNode.packageID, start);
+        return result;
     }
 
     private BLangPackage codeAnalyze(BLangPackage pkgNode) {
-        return this.codeAnalyzer.analyze(pkgNode);
+        long start = this.profiler.start();
+        BLangPackage result = this.codeAnalyzer.analyze(pkgNode);
+        this.profiler.end(CompilationProfiler.CODE_ANALYZE, pkgNode.packageID, start);
+        return result;
     }
 
     private BLangPackage dataflowAnalyze(BLangPackage pkgNode) {
-        return this.dataflowAnalyzer.analyze(pkgNode);
+        long start = this.profiler.start();
+        BLangPackage result = this.dataflowAnalyzer.analyze(pkgNode);
+        this.profiler.end(CompilationProfiler.DATAFLOW_ANALYZE, pkgNode.packageID, start);
+        return result;
     }
 
     private BLangPackage isolationAnalyze(BLangPackage pkgNode) {
-        return this.isolationAnalyzer.analyze(pkgNode);
+        long start = this.profiler.start();
+        BLangPackage result = this.isolationAnalyzer.analyze(pkgNode);
+        this.profiler.end(CompilationProfiler.ISOLATION_ANALYZE, pkgNode.packageID, start);
+        return result;
     }
 
     private BLangPackage propagateConstants(BLangPackage pkgNode) {
-        return this.constantPropagation.perform(pkgNode);
+        long start = this.profiler.start();
+        BLangPackage result = this.constantPropagation.perform(pkgNode);
+        this.profiler.end(CompilationProfiler.CONSTANT_PROPAGATION, pkgNode.packageID, start);
+        return result;
     }
 
     private BLangPackage annotationProcess(BLangPackage pkgNode) {
-        return this.compilerPluginRunner.runPlugins(pkgNode);
+        long start = this.profiler.start();
+        BLangPackage result = this.compilerPluginRunner.runPlugins(pkgNode);
+        this.profiler.end(CompilationProfiler.COMPILER_PLUGIN, pkgNode.packageID, start);
+        return result;
     }
 
     public BLangPackage desugar(BLangPackage pkgNode) {
-        return this.desugar.perform(pkgNode);
+        long start = this.profiler.start();
+        BLangPackage result = this.desugar.perform(pkgNode);
+        this.profiler.end(CompilationProfiler.DESUGAR, pkgNode.packageID, start);
+        return result;
     }
 
     public BLangPackage birGen(BLangPackage pkgNode) {
-        return this.birGenerator.genBIR(pkgNode);
+        long start = this.profiler.start();
+        BLangPackage result = this.birGenerator.genBIR(pkgNode);
+        this.profiler.end(CompilationProfiler.BIR_GEN, pkgNode.packageID, start);
+        return result;
     }
 
     private BLangPackage birEmit(BLangPackage pkgNode) {
-        return this.birEmitter.emit(pkgNode);
+        long start = this.profiler.start();
+        BLangPackage result = this.birEmitter.emit(pkgNode);
+        this.profiler.end(CompilationProfiler.BIR_EMIT, pkgNode.packageID, start);
+        return result;
     }
 
     private boolean stopCompilation(BLangPackage pkgNode, CompilerPhase nextPhase) {
+        // A compilation which is no longer needed, such as one of outdated sources in the language server, is
+        // cancelled by interrupting the compiling thread. It is stopped between phases, where it can be stopped safely.
+        checkCancelled(pkgNode.packageID);
         if (compilerPhase.compareTo(nextPhase) < 0) {
             return true;
         }
@@ -255,6 +298,55 @@ public class CompilerPhaseRunner {
                 nextPhase == CompilerPhase.DESUGAR;
     }
 
+    /**
+     * Throws a {@link CancellationException} if the compiling thread is interrupted.
+     *
+     * @param packageID ID of the module being compiled
+     */
+    public static void checkCancelled(PackageID packageID) {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new CancellationException("compilation of module '" + packageID + "' is cancelled");
+        }
+    }
+
+    /**
+     * Returns whether the given exception is caused by interrupting the compiling thread. An interrupt closes the
+     * channel being read, and the resulting {@link ClosedByInterruptException} is usually wrapped by the reader.
+     *
+     * @param throwable exception thrown while compiling a module
+     * @return whether the compilation is cancelled
+     */
+    public static boolean isCancellation(Throwable throwable) {
+        if (Thread.currentThread().isInterrupted()) {
+            return true;
+        }
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (cause instanceof CancellationException || cause instanceof ClosedByInterruptException ||
+                    cause instanceof InterruptedIOException || cause instanceof InterruptedException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Creates the exception which cancels the compilation of a module, when the given exception is caused by
+     * interrupting the compiling thread.
+     *
+     * @param packageID ID of the module being compiled
+     * @param cause     exception caused by the interrupt
+     * @return exception which cancels the compilation
+     */
+    public static CancellationException cancellation(PackageID packageID, Throwable cause) {
+        if (cause instanceof CancellationException) {
+            return (CancellationException) cause;
+        }
+        CancellationException cancellation =
+                new CancellationException("compilation of module '" + packageID + "' is cancelled");
+        cancellation.initCause(cause);
+        return cancellation;
+    }
+
     public void addDiagnosticForUnhandledException(BLangPackage pkgNode, Throwable throwable) {
         pkgNode.addDiagnostic(new CompilerBadSadDiagnostic(pkgNode.pos, throwable));
         RuntimeUtils.logBadSad(throwable);
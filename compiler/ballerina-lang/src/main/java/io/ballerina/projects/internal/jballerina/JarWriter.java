@@ -17,24 +17,49 @@
  */
 package io.ballerina.projects.internal.jballerina;
 
+import org.apache.commons.compress.archivers.jar.JarArchiveEntry;
+import org.apache.commons.compress.archivers.jar.JarArchiveOutputStream;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
 import org.wso2.ballerinalang.compiler.CompiledJarFile;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.jar.Attributes;
-import java.util.jar.JarEntry;
-import java.util.jar.JarOutputStream;
+import java.util.jar.JarFile;
 import java.util.jar.Manifest;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
 
 /**
  * Write jar binary content to target path.
+ * <p>
+ * Entries are deflated independently of each other, in parallel for larger modules, and then written to the jar
+ * as raw (already compressed) entries in their original order. Parallel compression runs on a bounded pool of daemon
+ * threads shared by all the modules, rather than on the common fork-join pool, which is shared with the rest of the
+ * compiler.
  *
  * @since 2.0.0
  */
 public class JarWriter {
 
+    // Below this many entries the cost of splitting the work is higher than compressing sequentially.
+    private static final int PARALLEL_COMPRESSION_THRESHOLD = 64;
+    private static final int PARALLELISM = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+    private static final ExecutorService COMPRESSION_POOL = Executors.newFixedThreadPool(PARALLELISM,
+            new CompressionThreadFactory());
+
     public static ByteArrayOutputStream write(CompiledJarFile compiledJarFile) throws IOException {
         ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
         writeJar(compiledJarFile, byteArrayOutputStream);
@@ -52,15 +77,117 @@ public class JarWriter {
 
     private static void writeJar(CompiledJarFile compiledJarFile, OutputStream outputStream) throws IOException {
         Manifest manifest = getManifest(compiledJarFile);
-        try (JarOutputStream target = new JarOutputStream(outputStream, manifest)) {
-            Map<String, byte[]> jarEntries = compiledJarFile.getJarEntries();
-            for (Map.Entry<String, byte[]> keyVal : jarEntries.entrySet()) {
-                byte[] entryContent = keyVal.getValue();
-                JarEntry entry = new JarEntry(keyVal.getKey());
-                target.putNextEntry(entry);
-                target.write(entryContent);
-                target.closeEntry();
+        List<Map.Entry<String, byte[]>> jarEntries = new ArrayList<>(compiledJarFile.getJarEntries().entrySet());
+        List<CompressedEntry> compressedEntries = compress(jarEntries);
+
+        try (JarArchiveOutputStream target = new JarArchiveOutputStream(outputStream)) {
+            target.putArchiveEntry(new JarArchiveEntry(JarFile.MANIFEST_NAME));
+            manifest.write(target);
+            target.closeArchiveEntry();
+
+            for (CompressedEntry compressedEntry : compressedEntries) {
+                target.addRawArchiveEntry(compressedEntry.entry, new ByteArrayInputStream(compressedEntry.content));
+            }
+        }
+    }
+
+    private static List<CompressedEntry> compress(List<Map.Entry<String, byte[]>> jarEntries) throws IOException {
+        List<CompressedEntry> compressedEntries = new ArrayList<>(jarEntries.size());
+        if (jarEntries.size() < PARALLEL_COMPRESSION_THRESHOLD || PARALLELISM == 1) {
+            for (Map.Entry<String, byte[]> entry : jarEntries) {
+                compressedEntries.add(compress(entry.getKey(), entry.getValue()));
+            }
+            return compressedEntries;
+        }
+
+        // Each task compresses a contiguous batch of entries, and the batches are collected in order, hence the jar
+        // layout is deterministic.
+        int batchSize = (jarEntries.size() + PARALLELISM - 1) / PARALLELISM;
+        List<Future<List<CompressedEntry>>> compressionTasks = new ArrayList<>(PARALLELISM);
+        for (int start = 0; start < jarEntries.size(); start += batchSize) {
+            List<Map.Entry<String, byte[]>> batch = jarEntries.subList(start,
+                    Math.min(start + batchSize, jarEntries.size()));
+            compressionTasks.add(COMPRESSION_POOL.submit(() -> {
+                List<CompressedEntry> compressedBatch = new ArrayList<>(batch.size());
+                for (Map.Entry<String, byte[]> entry : batch) {
+                    compressedBatch.add(compress(entry.getKey(), entry.getValue()));
+                }
+                return compressedBatch;
+            }));
+        }
+        try {
+            for (Future<List<CompressedEntry>> compressionTask : compressionTasks) {
+                compressedEntries.addAll(compressionTask.get());
+            }
+        } catch (InterruptedException e) {
+            compressionTasks.forEach(compressionTask -> compressionTask.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Compression of the jar entries is interrupted");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+        return compressedEntries;
+    }
+
+    private static CompressedEntry compress(String name, byte[] content) {
+        CRC32 crc = new CRC32();
+        crc.update(content);
+
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(64, content.length / 2));
+        try {
+            deflater.setInput(content);
+            deflater.finish();
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                int length = deflater.deflate(buffer);
+                compressed.write(buffer, 0, length);
             }
+        } finally {
+            deflater.end();
+        }
+
+        JarArchiveEntry entry = new JarArchiveEntry(name);
+        entry.setMethod(ZipArchiveEntry.DEFLATED);
+        entry.setSize(content.length);
+        entry.setCompressedSize(compressed.size());
+        entry.setCrc(crc.getValue());
+        entry.setTime(System.currentTimeMillis());
+        return new CompressedEntry(entry, compressed.toByteArray());
+    }
+
+    /**
+     * Creates the daemon threads of the compression pool, so that the pool does not keep the VM alive.
+     */
+    private static class CompressionThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "ballerina-jar-compression-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+    /**
+     * Holds an entry together with its deflated content.
+     */
+    private static class CompressedEntry {
+        private final JarArchiveEntry entry;
+        private final byte[] content;
+
+        CompressedEntry(JarArchiveEntry entry, byte[] content) {
+            this.entry = entry;
+            this.content = content;
         }
     }
 }
@@ -18,6 +18,7 @@
 
 package org.wso2.ballerinalang.compiler.bir;
 
+import io.ballerina.projects.internal.CompilationProfiler;
 import io.ballerina.tools.diagnostics.Location;
 import org.ballerinalang.model.TreeBuilder;
 import org.ballerinalang.model.elements.Flag;
@@ -214,6 +215,7 @@ public class BIRGen extends BLangNodeVisitor {
     private Names names;
     private final SymbolTable symTable;
     private BIROptimizer birOptimizer;
+    private CompilationProfiler profiler;
     private final Types types;
 
     // Required variables to generate code for assignment statements
@@ -253,6 +255,7 @@ public class BIRGen extends BLangNodeVisitor {
         this.names = Names.getInstance(context);
         this.symTable = SymbolTable.getInstance(context);
         this.birOptimizer = BIROptimizer.getInstance(context);
+        this.profiler = CompilationProfiler.getInstance(context);
         this.unifier = new Unifier();
         this.types = Types.getInstance(context);
     }
@@ -266,7 +269,9 @@ public class BIRGen extends BLangNodeVisitor {
         this.env = new BIRGenEnv(birPkg);
         astPkg.accept(this);
 
+        long start = this.profiler.start();
         this.birOptimizer.optimizePackage(birPkg);
+        this.profiler.end(CompilationProfiler.BIR_OPTIMIZE, astPkg.packageID, start);
         if (!astPkg.moduleContextDataHolder.skipTests() && astPkg.hasTestablePackage()) {
             BIRPackage testBirPkg = new BIRPackage(astPkg.pos, astPkg.packageID.orgName, astPkg.packageID.pkgName,
                     astPkg.packageID.name, astPkg.packageID.version, astPkg.packageID.sourceFileName);
@@ -2419,6 +2424,7 @@ public class BIRGen extends BLangNodeVisitor {
         addToTrapStack(lockedBB);
         this.env.enclBasicBlocks.add(lockedBB);
         BIRTerminator.Lock lock = new BIRTerminator.Lock(lockStmt.pos, lockedBB, this.currentScope);
+        lock.shared = lockStmt.readOnlyBody;
         this.env.enclBB.terminator = lock;
         lockStmtMap.put(lockStmt, lock); // Populate the cache.
         this.env.unlockVars.peek().addLock(lock);
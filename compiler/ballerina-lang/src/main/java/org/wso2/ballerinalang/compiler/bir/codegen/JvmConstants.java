@@ -292,6 +292,10 @@ public class JvmConstants {
     public static final String MODULE_INIT_METHOD_PREFIX = "$module_init";
     public static final String CONSTANT_INIT_METHOD_PREFIX = "$constant_init";
     public static final String ANNOTATIONS_METHOD_PREFIX = "$process_annotations";
+    public static final String APPLY_ANNOTATIONS_METHOD = "$apply_annotations";
+    public static final String TYPES_CREATED_METHOD = "$types_created";
+    public static final String ANNOTATIONS_READY_FIELD = "$annotationsReady";
+    public static final String TYPES_CREATED_FIELD = "$typesCreated";
     public static final String CURRENT_MODULE_INIT = "$currentModuleInit";
     public static final String MODULE_INIT_METHOD = "$moduleInit";
     public static final String MODULE_START_METHOD = "$moduleStart";
@@ -328,6 +332,7 @@ public class JvmConstants {
     public static final String POPULATE_INITIAL_VALUES_METHOD = "populateInitialValues";
     public static final String CREATE_TYPES_METHOD = "$createTypes";
     public static final String CREATE_TYPE_INSTANCES_METHOD = "$createTypeInstances";
+    public static final String ENSURE_TYPES_METHOD = "$ensureTypes";
     public static final String GLOBAL_LOCK_NAME = "lock";
     public static final String SERVICE_EP_AVAILABLE = "$serviceEPAvailable";
     public static final String LOCK_STORE_VAR_NAME = "$LOCK_STORE";
@@ -103,6 +103,7 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_ER
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_INIT_CLASS_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_OBJECTS_CREATOR_CLASS_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_RECORDS_CREATOR_CLASS_NAME;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_TYPES_CLASS_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.PARAMETERIZED_TYPE_IMPL;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.PREDEFINED_TYPES;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.SET;
@@ -206,7 +207,7 @@ public class JvmTypeGen {
      * @param cw       class writer
      * @param typeDefs array of type definitions
      */
-    void generateUserDefinedTypeFields(ClassWriter cw, List<BIRTypeDefinition> typeDefs) {
+    public void generateUserDefinedTypeFields(ClassWriter cw, List<BIRTypeDefinition> typeDefs) {
         // create the type
         for (BIRTypeDefinition typeDef : typeDefs) {
             BType bType = typeDef.type;
@@ -662,8 +663,7 @@ public class JvmTypeGen {
             mv.visitFieldInsn(GETSTATIC, PREDEFINED_TYPES, TYPES_ERROR, GET_ERROR_TYPE);
             return;
         }
-        String typeOwner =
-                JvmCodeGenUtil.getPackageName(pkgID) + MODULE_INIT_CLASS_NAME;
+        String typeOwner = getModuleLevelClassName(pkgID, MODULE_TYPES_CLASS_NAME);
         String fieldName = getTypeFieldName(toNameString(errorType));
         mv.visitFieldInsn(GETSTATIC, typeOwner, fieldName, GET_TYPE);
     }
@@ -809,7 +809,6 @@ public class JvmTypeGen {
         BTypeSymbol typeSymbol = bType.tsymbol.isTypeParamResolved ? bType.tsymbol.typeParamTSymbol : bType.tsymbol;
         BType typeToLoad = bType.tsymbol.isTypeParamResolved ? typeSymbol.type : bType;
         PackageID pkgID = typeSymbol.pkgID;
-        String typeOwner = JvmCodeGenUtil.getPackageName(pkgID) + MODULE_INIT_CLASS_NAME;
         String fieldName = getTypeFieldName(toNameString(typeToLoad));
         boolean samePackage = JvmCodeGenUtil.isSameModule(this.packageID, packageID);
 
@@ -820,6 +819,7 @@ public class JvmTypeGen {
             String shape = typeToLoad.toString();
             typeHashVisitor.reset();
 
+            String typeOwner = JvmCodeGenUtil.getPackageName(pkgID) + MODULE_INIT_CLASS_NAME;
             mv.visitTypeInsn(NEW, typeOwner);
             mv.visitInsn(DUP);
             mv.visitMethodInsn(INVOKESPECIAL, typeOwner, JVM_INIT_METHOD, "()V", false);
@@ -828,7 +828,9 @@ public class JvmTypeGen {
             mv.visitLdcInsn("Package: " + typeOwner + ", TypeName: " + fieldName + ", Shape: " + shape + "");
             mv.visitMethodInsn(INVOKEVIRTUAL, typeOwner, GET_ANON_TYPE_METHOD, JvmSignatures.GET_ANON_TYPE, false);
         } else {
-            mv.visitFieldInsn(GETSTATIC, typeOwner, fieldName, GET_TYPE);
+            // Reading the field triggers the creation of the module's types on first use.
+            mv.visitFieldInsn(GETSTATIC, getModuleLevelClassName(pkgID, MODULE_TYPES_CLASS_NAME), fieldName,
+                              GET_TYPE);
         }
     }
 
@@ -20,6 +20,7 @@ package org.wso2.ballerinalang.compiler.bir.codegen.split;
 
 import org.ballerinalang.model.elements.PackageID;
 import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
 import org.wso2.ballerinalang.compiler.bir.codegen.BallerinaClassWriter;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil;
@@ -35,20 +36,29 @@ import java.util.List;
 import java.util.Map;
 
 import static org.objectweb.asm.ClassWriter.COMPUTE_FRAMES;
+import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
 import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
 import static org.objectweb.asm.Opcodes.ACC_STATIC;
 import static org.objectweb.asm.Opcodes.ACC_SUPER;
+import static org.objectweb.asm.Opcodes.ACC_VOLATILE;
 import static org.objectweb.asm.Opcodes.GETSTATIC;
+import static org.objectweb.asm.Opcodes.ICONST_1;
+import static org.objectweb.asm.Opcodes.IFEQ;
 import static org.objectweb.asm.Opcodes.INVOKESTATIC;
+import static org.objectweb.asm.Opcodes.PUTSTATIC;
 import static org.objectweb.asm.Opcodes.RETURN;
 import static org.objectweb.asm.Opcodes.V1_8;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil.getModuleLevelClassName;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ANNOTATIONS_METHOD_PREFIX;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ANNOTATIONS_READY_FIELD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ANNOTATION_MAP_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ANNOTATION_UTILS;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.APPLY_ANNOTATIONS_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_ANNOTATIONS_CLASS_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_INIT_CLASS_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.OBJECT;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.TYPES_CREATED_FIELD;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.TYPES_CREATED_METHOD;
 
 /**
  * Generates Jvm class for the ballerina annotation processing.
@@ -72,16 +82,19 @@ public class JvmAnnotationsGen {
     public void generateAnnotationsClass(Map<String, byte[]> jarEntries) {
         ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES);
         cw.visit(V1_8, ACC_PUBLIC + ACC_SUPER, annotationsClass, null, OBJECT, null);
-        generateProcessAnnotationsMethod(cw, module.typeDefs, module.packageID);
+        generateApplyAnnotationsMethod(cw, module.typeDefs, module.packageID);
+        generateStateFields(cw);
+        generateProcessAnnotationsMethod(cw);
+        generateTypesCreatedMethod(cw);
         cw.visitEnd();
         byte[] bytes = jvmPackageGen.getBytes(cw, module);
         jarEntries.put(annotationsClass + ".class", bytes);
     }
 
-    private void generateProcessAnnotationsMethod(ClassWriter cw, List<BIRNode.BIRTypeDefinition> typeDefs,
-                                                  PackageID packageID) {
+    private void generateApplyAnnotationsMethod(ClassWriter cw, List<BIRNode.BIRTypeDefinition> typeDefs,
+                                                PackageID packageID) {
         int annotationsCount = generateAnnotationsLoad(cw, typeDefs, packageID, jvmTypeGen);
-        MethodVisitor mv = cw.visitMethod(ACC_PUBLIC + ACC_STATIC, ANNOTATIONS_METHOD_PREFIX, "()V", null, null);
+        MethodVisitor mv = cw.visitMethod(ACC_PUBLIC + ACC_STATIC, APPLY_ANNOTATIONS_METHOD, "()V", null, null);
         mv.visitCode();
         for (int i = 0; i < annotationsCount; i++) {
             mv.visitMethodInsn(INVOKESTATIC, annotationsClass, ANNOTATIONS_METHOD_PREFIX + i, "()V", false);
@@ -91,6 +104,45 @@ public class JvmAnnotationsGen {
         mv.visitEnd();
     }
 
+    /**
+     * Annotations can be attached to the types only after both the module is initialized and the types of the module
+     * are created, where the latter happens lazily and possibly in a different thread. Each side sets its own flag and
+     * then checks the other's, hence at least one of them applies the annotations. Applying them twice is harmless.
+     */
+    private void generateStateFields(ClassWriter cw) {
+        cw.visitField(ACC_PRIVATE + ACC_STATIC + ACC_VOLATILE, ANNOTATIONS_READY_FIELD, "Z", null, null).visitEnd();
+        cw.visitField(ACC_PRIVATE + ACC_STATIC + ACC_VOLATILE, TYPES_CREATED_FIELD, "Z", null, null).visitEnd();
+    }
+
+    /**
+     * Generates the method invoked at the end of the module initialization.
+     */
+    private void generateProcessAnnotationsMethod(ClassWriter cw) {
+        generateApplyIfReadyMethod(cw, ANNOTATIONS_METHOD_PREFIX, ANNOTATIONS_READY_FIELD, TYPES_CREATED_FIELD);
+    }
+
+    /**
+     * Generates the method invoked by the static initializer of the types class once the types are created.
+     */
+    private void generateTypesCreatedMethod(ClassWriter cw) {
+        generateApplyIfReadyMethod(cw, TYPES_CREATED_METHOD, TYPES_CREATED_FIELD, ANNOTATIONS_READY_FIELD);
+    }
+
+    private void generateApplyIfReadyMethod(ClassWriter cw, String methodName, String ownField, String otherField) {
+        MethodVisitor mv = cw.visitMethod(ACC_PUBLIC + ACC_STATIC, methodName, "()V", null, null);
+        mv.visitCode();
+        mv.visitInsn(ICONST_1);
+        mv.visitFieldInsn(PUTSTATIC, annotationsClass, ownField, "Z");
+        mv.visitFieldInsn(GETSTATIC, annotationsClass, otherField, "Z");
+        Label notReadyLabel = new Label();
+        mv.visitJumpInsn(IFEQ, notReadyLabel);
+        mv.visitMethodInsn(INVOKESTATIC, annotationsClass, APPLY_ANNOTATIONS_METHOD, "()V", false);
+        mv.visitLabel(notReadyLabel);
+        mv.visitInsn(RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
     private int generateAnnotationsLoad(ClassWriter cw, List<BIRNode.BIRTypeDefinition> typeDefs,
                                         PackageID packageID, JvmTypeGen jvmTypeGen) {
         int methodCount = 0;
@@ -38,6 +38,11 @@ import org.wso2.ballerinalang.compiler.util.TypeTags;
 
 import java.util.Map;
 
+import static org.objectweb.asm.Opcodes.INVOKESTATIC;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil.getModuleLevelClassName;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ENSURE_TYPES_METHOD;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_TYPES_CLASS_NAME;
+
 /**
  * Class holder keep constants used by class generation and generate class for each constant type.
  *
@@ -59,9 +64,12 @@ public class JvmConstantsGen {
 
     public final BTypeHashComparator bTypeHashComparator;
 
+    private final String typesClass;
+
     public JvmConstantsGen(BIRNode.BIRPackage module, String moduleInitClass, CompilerContext compilerContext,
                            TypeHashVisitor typeHashVisitor) {
         this.bTypeHashComparator = new BTypeHashComparator(typeHashVisitor);
+        this.typesClass = getModuleLevelClassName(module.packageID, MODULE_TYPES_CLASS_NAME);
         this.stringConstantsGen = new JvmBStringConstantsGen(module.packageID);
         this.moduleConstantsGen = new JvmModuleConstantsGen(module);
         this.jvmBallerinaConstantsGen = new JvmBallerinaConstantsGen(module, moduleInitClass, this);
@@ -95,13 +103,26 @@ public class JvmConstantsGen {
     }
 
     public void generateGetBUnionType(MethodVisitor mv, String varName) {
+        generateEnsureTypes(mv);
         unionTypeConstantsGen.generateGetBUnionType(mv, varName);
     }
 
     public void generateGetBTupleType(MethodVisitor mv, String varName) {
+        generateEnsureTypes(mv);
         tupleTypeConstantsGen.generateGetBTupleType(mv, varName);
     }
 
+    /**
+     * Type constants may refer to the types of the module, which are created lazily by the static initializer of the
+     * types class. The types class is initialized before the constants class so that the class initialization locks
+     * are always acquired in the same order, which prevents a deadlock when both are first used concurrently.
+     *
+     * @param mv method visitor
+     */
+    private void generateEnsureTypes(MethodVisitor mv) {
+        mv.visitMethodInsn(INVOKESTATIC, typesClass, ENSURE_TYPES_METHOD, "()V", false);
+    }
+
     public String getTypeConstantsVar(BType type) {
         switch (type.tag) {
             case TypeTags.ARRAY:
@@ -126,6 +147,7 @@ public class JvmConstantsGen {
     }
 
     public void generateGetBArrayType(MethodVisitor mv, String varName) {
+        generateEnsureTypes(mv);
         arrayTypeConstantsGen.generateGetBArrayType(mv, varName);
     }
 }
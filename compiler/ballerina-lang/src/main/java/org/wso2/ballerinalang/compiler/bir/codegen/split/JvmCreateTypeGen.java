@@ -90,18 +90,22 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil.createD
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil.getModuleLevelClassName;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CREATE_TYPES_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CREATE_TYPE_INSTANCES_METHOD;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ENSURE_TYPES_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.FIELD_IMPL;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.GET_ANON_TYPE_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.JVM_INIT_METHOD;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.JVM_STATIC_INIT_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MAP;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MAX_FIELDS_PER_SPLIT_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MAX_TYPES_PER_METHOD;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_ANNOTATIONS_CLASS_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_ANON_TYPES_CLASS_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_TYPES_CLASS_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.OBJECT;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.SET_IMMUTABLE_TYPE_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.STRING_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.TYPE;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.TYPES_CREATED_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.TYPE_ID_SET;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.ADD_TYPE_ID;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.ANY_TO_JBOOLEAN;
@@ -152,9 +156,11 @@ public class JvmCreateTypeGen {
     }
 
     public void generateTypeClass(JvmPackageGen jvmPackageGen, BIRNode.BIRPackage module,
-                                  Map<String, byte[]> jarEntries,
-                                  String moduleInitClass, SymbolTable symbolTable) {
-        generateCreateTypesMethod(typesCw, module.typeDefs, moduleInitClass, symbolTable);
+                                  Map<String, byte[]> jarEntries, SymbolTable symbolTable) {
+        jvmTypeGen.generateUserDefinedTypeFields(typesCw, module.typeDefs);
+        generateCreateTypesMethod(typesCw, module.typeDefs, typesClass, symbolTable);
+        generateEnsureTypesMethod(typesCw);
+        generateStaticInitializer(typesCw, module.packageID);
         typesCw.visitEnd();
         jvmRecordTypeGen.visitEnd(jvmPackageGen, module, jarEntries);
         jvmObjectTypeGen.visitEnd(jvmPackageGen, module, jarEntries);
@@ -165,10 +171,10 @@ public class JvmCreateTypeGen {
     }
 
     void generateCreateTypesMethod(ClassWriter cw, List<BIRTypeDefinition> typeDefs,
-                                   String moduleInitClass, SymbolTable symbolTable) {
+                                   String typeOwnerClass, SymbolTable symbolTable) {
 
-        createTypesInstance(cw, typeDefs, moduleInitClass);
-        Map<String, String> populateTypeFuncNames = populateTypes(cw, typeDefs, moduleInitClass, symbolTable);
+        createTypesInstance(cw, typeDefs, typeOwnerClass);
+        Map<String, String> populateTypeFuncNames = populateTypes(cw, typeDefs, typeOwnerClass, symbolTable);
 
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC + ACC_STATIC, CREATE_TYPES_METHOD, "()V", null, null);
         mv.visitCode();
@@ -187,8 +193,41 @@ public class JvmCreateTypeGen {
         mv.visitEnd();
     }
 
-    private void createTypesInstance(ClassWriter cw, List<BIRTypeDefinition> typeDefs, String moduleInitClass) {
-        int instanceSplits = createTypesInstanceSplits(cw, typeDefs, moduleInitClass);
+    /**
+     * Generates an empty method which can be invoked to make sure that the types of the module are created, since
+     * invoking a static method triggers the static initializer of its class.
+     *
+     * @param cw class writer of the types class
+     */
+    private void generateEnsureTypesMethod(ClassWriter cw) {
+        MethodVisitor mv = cw.visitMethod(ACC_PUBLIC + ACC_STATIC, ENSURE_TYPES_METHOD, "()V", null, null);
+        mv.visitCode();
+        mv.visitInsn(RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
+    /**
+     * Types of a module are created when the types class is initialized, i.e. when a type of the module is used for
+     * the first time, instead of at program start. Annotations are attached afterwards if the module is already
+     * initialized, otherwise at the end of the module initialization.
+     *
+     * @param cw        class writer of the types class
+     * @param packageID module of the types
+     */
+    private void generateStaticInitializer(ClassWriter cw, PackageID packageID) {
+        MethodVisitor mv = cw.visitMethod(ACC_STATIC, JVM_STATIC_INIT_METHOD, "()V", null, null);
+        mv.visitCode();
+        mv.visitMethodInsn(INVOKESTATIC, typesClass, CREATE_TYPES_METHOD, "()V", false);
+        mv.visitMethodInsn(INVOKESTATIC, getModuleLevelClassName(packageID, MODULE_ANNOTATIONS_CLASS_NAME),
+                           TYPES_CREATED_METHOD, "()V", false);
+        mv.visitInsn(RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
+    private void createTypesInstance(ClassWriter cw, List<BIRTypeDefinition> typeDefs, String typeOwnerClass) {
+        int instanceSplits = createTypesInstanceSplits(cw, typeDefs, typeOwnerClass);
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC + ACC_STATIC, CREATE_TYPE_INSTANCES_METHOD, "()V", null, null);
         mv.visitCode();
         for (int i = 0; i < instanceSplits; i++) {
@@ -435,17 +474,17 @@ public class JvmCreateTypeGen {
     // -------------------------------------------------------
 
     public void generateAnonTypeClass(JvmPackageGen jvmPackageGen, BIRNode.BIRPackage module,
-                                      String moduleInitClass, Map<String, byte[]> jarEntries) {
+                                      Map<String, byte[]> jarEntries) {
         ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES);
         cw.visit(V1_8, ACC_PUBLIC + ACC_SUPER, anonTypesClass, null, OBJECT, null);
-        generateGetAnonTypeMainMethod(cw, module.typeDefs, moduleInitClass);
+        generateGetAnonTypeMainMethod(cw, module.typeDefs, typesClass);
         cw.visitEnd();
         byte[] bytes = jvmPackageGen.getBytes(cw, module);
         jarEntries.put(anonTypesClass + ".class", bytes);
     }
 
     private void generateGetAnonTypeMainMethod(ClassWriter cw, List<BIRTypeDefinition> typeDefinitions,
-                                               String moduleInitClass) {
+                                               String typeOwnerClass) {
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC + ACC_STATIC, GET_ANON_TYPE_METHOD,
                 JvmSignatures.GET_ANON_TYPE, null, null);
         mv.visitCode();
@@ -467,7 +506,7 @@ public class JvmCreateTypeGen {
             mv.visitMethodInsn(INVOKESTATIC, anonTypesClass, GET_ANON_TYPE_METHOD + 0,
                     JvmSignatures.GET_ANON_TYPE, false);
             mv.visitInsn(ARETURN);
-            generateGetAnonTypeSplitMethods(cw, anonTypeHashSwitch, moduleInitClass);
+            generateGetAnonTypeSplitMethods(cw, anonTypeHashSwitch, typeOwnerClass);
         }
         mv.visitMaxs(0, 0);
         mv.visitEnd();
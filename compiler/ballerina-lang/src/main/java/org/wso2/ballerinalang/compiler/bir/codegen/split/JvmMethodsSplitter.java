@@ -25,6 +25,9 @@ import org.wso2.ballerinalang.compiler.semantics.analyzer.TypeHashVisitor;
 
 import java.util.Map;
 
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil.getModuleLevelClassName;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_TYPES_CLASS_NAME;
+
 /**
  * Split initialization of types and other type related methods.
  *
@@ -37,13 +40,13 @@ public class JvmMethodsSplitter {
     private final JvmValueCreatorGen jvmValueCreatorGen;
     private final JvmAnnotationsGen jvmAnnotationsGen;
     private final BIRNode.BIRPackage module;
-    private final String moduleInitClass;
+    private final String typesClass;
 
     public JvmMethodsSplitter(JvmPackageGen jvmPackageGen, JvmConstantsGen jvmConstantsGen,
-                              BIRNode.BIRPackage module, String moduleInitClass, TypeHashVisitor typeHashVisitor) {
+                              BIRNode.BIRPackage module, TypeHashVisitor typeHashVisitor) {
         this.module = module;
         this.jvmPackageGen = jvmPackageGen;
-        this.moduleInitClass = moduleInitClass;
+        this.typesClass = getModuleLevelClassName(module.packageID, MODULE_TYPES_CLASS_NAME);
         JvmTypeGen jvmTypeGen = new JvmTypeGen(jvmConstantsGen, module.packageID, typeHashVisitor);
         this.jvmCreateTypeGen = new JvmCreateTypeGen(jvmTypeGen, jvmConstantsGen, module.packageID, typeHashVisitor);
         this.jvmAnnotationsGen = new JvmAnnotationsGen(module, jvmPackageGen, jvmTypeGen);
@@ -52,11 +55,10 @@ public class JvmMethodsSplitter {
     }
 
     public void generateMethods(Map<String, byte[]> jarEntries) {
-        jvmCreateTypeGen.generateTypeClass(jvmPackageGen, module, jarEntries, moduleInitClass,
-                jvmPackageGen.symbolTable);
-        jvmValueCreatorGen.generateValueCreatorClasses(jvmPackageGen, module, moduleInitClass, jarEntries,
+        jvmCreateTypeGen.generateTypeClass(jvmPackageGen, module, jarEntries, jvmPackageGen.symbolTable);
+        jvmValueCreatorGen.generateValueCreatorClasses(jvmPackageGen, module, typesClass, jarEntries,
                 jvmPackageGen.symbolTable);
-        jvmCreateTypeGen.generateAnonTypeClass(jvmPackageGen, module, moduleInitClass, jarEntries);
+        jvmCreateTypeGen.generateAnonTypeClass(jvmPackageGen, module, jarEntries);
         jvmAnnotationsGen.generateAnnotationsClass(jarEntries);
     }
 }
@@ -66,7 +66,7 @@ public class JvmValueCreatorGen {
     }
 
     public void generateValueCreatorClasses(JvmPackageGen jvmPackageGen, BIRNode.BIRPackage module,
-                                     String moduleInitClass, Map<String, byte[]> jarEntries,
+                                     String typesClass, Map<String, byte[]> jarEntries,
                                      SymbolTable symbolTable) {
 
         // due to structural type same name can appear twice, need to remove duplicates
@@ -85,11 +85,11 @@ public class JvmValueCreatorGen {
             }
         }
         ArrayList<BIRTypeDefinition> recordTypeDefList = new ArrayList<>(recordTypeDefSet);
-        jvmRecordCreatorGen.generateRecordsClass(jvmPackageGen, module, moduleInitClass, jarEntries,
+        jvmRecordCreatorGen.generateRecordsClass(jvmPackageGen, module, typesClass, jarEntries,
                 recordTypeDefList);
-        jvmObjectCreatorGen.generateObjectsClass(jvmPackageGen, module, moduleInitClass, jarEntries,
+        jvmObjectCreatorGen.generateObjectsClass(jvmPackageGen, module, typesClass, jarEntries,
                 objectTypeDefList, symbolTable);
-        jvmErrorCreatorGen.generateErrorsClass(jvmPackageGen, module, moduleInitClass, jarEntries, errorTypeDefList,
+        jvmErrorCreatorGen.generateErrorsClass(jvmPackageGen, module, typesClass, jarEntries, errorTypeDefList,
                 symbolTable);
     }
 
@@ -72,11 +72,11 @@ public class JvmErrorCreatorGen {
     }
 
     public void generateErrorsClass(JvmPackageGen jvmPackageGen, BIRNode.BIRPackage module,
-                                    String moduleInitClass, Map<String, byte[]> jarEntries,
+                                    String typesClass, Map<String, byte[]> jarEntries,
                                     List<BIRNode.BIRTypeDefinition> errorTypeDefList, SymbolTable symbolTable) {
         ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES);
         cw.visit(V1_8, ACC_PUBLIC + ACC_SUPER, errorsClass, null, OBJECT, null);
-        generateCreateErrorMethods(cw, errorTypeDefList, moduleInitClass, errorsClass, symbolTable);
+        generateCreateErrorMethods(cw, errorTypeDefList, typesClass, errorsClass, symbolTable);
         cw.visitEnd();
         byte[] bytes = jvmPackageGen.getBytes(cw, module);
         jarEntries.put(errorsClass + ".class", bytes);
@@ -84,7 +84,7 @@ public class JvmErrorCreatorGen {
 
 
     private void generateCreateErrorMethods(ClassWriter cw, List<BIRNode.BIRTypeDefinition> errorTypeDefList,
-                                            String moduleInitClass, String typeOwnerClass, SymbolTable symbolTable) {
+                                            String typesClass, String typeOwnerClass, SymbolTable symbolTable) {
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC + ACC_STATIC, CREATE_ERROR_VALUE,
                 CREATE_ERROR, null, null);
         mv.visitCode();
@@ -98,14 +98,14 @@ public class JvmErrorCreatorGen {
             mv.visitMethodInsn(INVOKESTATIC, typeOwnerClass, CREATE_ERROR_VALUE + 0,
                     CREATE_ERROR, false);
             mv.visitInsn(ARETURN);
-            generateCreateErrorMethodSplits(cw, errorTypeDefList, moduleInitClass, typeOwnerClass, symbolTable);
+            generateCreateErrorMethodSplits(cw, errorTypeDefList, typesClass, typeOwnerClass, symbolTable);
         }
         mv.visitMaxs(0, 0);
         mv.visitEnd();
     }
 
     private void generateCreateErrorMethodSplits(ClassWriter cw, List<BIRNode.BIRTypeDefinition> errorTypeDefList,
-                                                 String moduleInitClass, String typeOwnerClass,
+                                                 String typesClass, String typeOwnerClass,
                                                  SymbolTable symbolTable) {
         int bTypesCount = 0;
         int methodCount = 0;
@@ -144,7 +144,7 @@ public class JvmErrorCreatorGen {
             mv.visitLabel(targetLabel);
             mv.visitTypeInsn(NEW, ERROR_VALUE);
             mv.visitInsn(DUP);
-            mv.visitFieldInsn(GETSTATIC, moduleInitClass, fieldName, GET_TYPE);
+            mv.visitFieldInsn(GETSTATIC, typesClass, fieldName, GET_TYPE);
             mv.visitVarInsn(ALOAD, messageIndex);
             mv.visitVarInsn(ALOAD, causeIndex);
             mv.visitVarInsn(ALOAD, detailsIndex);
@@ -94,14 +94,14 @@ public class JvmObjectCreatorGen {
     }
 
     public void generateObjectsClass(JvmPackageGen jvmPackageGen, BIRNode.BIRPackage module,
-                                     String moduleInitClass, Map<String, byte[]> jarEntries,
+                                     String typesClass, Map<String, byte[]> jarEntries,
                                      List<BIRTypeDefinition> objectTypeDefList,
                                      SymbolTable symbolTable) {
         ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES);
         cw.visit(V1_8, ACC_PUBLIC + ACC_SUPER, objectsClass, null, OBJECT, null);
         String metadataVarName = JvmCodeGenUtil.getStrandMetadataVarName(CREATE_RECORD_VALUE);
         jvmValueCreatorGen.generateStaticInitializer(module, cw, objectsClass, CREATE_OBJECT_VALUE, metadataVarName);
-        generateCreateObjectMethods(cw, objectTypeDefList, module.packageID, moduleInitClass, objectsClass,
+        generateCreateObjectMethods(cw, objectTypeDefList, module.packageID, typesClass, objectsClass,
                 symbolTable, metadataVarName);
 
         cw.visitEnd();
@@ -111,7 +111,7 @@ public class JvmObjectCreatorGen {
 
 
     private void generateCreateObjectMethods(ClassWriter cw, List<BIRTypeDefinition> objectTypeDefList,
-                                             PackageID moduleId, String moduleInitClass, String typeOwnerClass,
+                                             PackageID moduleId, String typesClass, String typeOwnerClass,
                                              SymbolTable symbolTable, String metadataVarName) {
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC + ACC_STATIC, CREATE_OBJECT_VALUE,
                 CREATE_OBJECT, null, null);
@@ -127,7 +127,7 @@ public class JvmObjectCreatorGen {
             mv.visitMethodInsn(INVOKESTATIC, typeOwnerClass, CREATE_OBJECT_VALUE + 0,
                     CREATE_OBJECT, false);
             mv.visitInsn(ARETURN);
-            generateCreateObjectMethodSplits(cw, objectTypeDefList, moduleId, moduleInitClass, typeOwnerClass,
+            generateCreateObjectMethodSplits(cw, objectTypeDefList, moduleId, typesClass, typeOwnerClass,
                     symbolTable, metadataVarName);
         }
         mv.visitMaxs(0, 0);
@@ -135,7 +135,7 @@ public class JvmObjectCreatorGen {
     }
 
     private void generateCreateObjectMethodSplits(ClassWriter cw, List<BIRTypeDefinition> objectTypeDefList,
-                                                  PackageID moduleId, String moduleInitClass, String typeOwnerClass,
+                                                  PackageID moduleId, String typesClass, String typeOwnerClass,
                                                   SymbolTable symbolTable, String metadataVarName) {
         int bTypesCount = 0;
         int methodCount = 0;
@@ -175,7 +175,7 @@ public class JvmObjectCreatorGen {
             String className = getTypeValueClassName(moduleId, optionalTypeDef.internalName.value);
             mv.visitTypeInsn(NEW, className);
             mv.visitInsn(DUP);
-            mv.visitFieldInsn(GETSTATIC, moduleInitClass, fieldName, GET_TYPE);
+            mv.visitFieldInsn(GETSTATIC, typesClass, fieldName, GET_TYPE);
             mv.visitTypeInsn(CHECKCAST, OBJECT_TYPE_IMPL);
             mv.visitMethodInsn(INVOKESPECIAL, className, JVM_INIT_METHOD, OBJECT_TYPE_IMPL_INIT,
                     false);
@@ -84,13 +84,13 @@ public class JvmRecordCreatorGen {
     }
 
     public void generateRecordsClass(JvmPackageGen jvmPackageGen, BIRNode.BIRPackage module,
-                                     String moduleInitClass, Map<String, byte[]> jarEntries,
+                                     String typesClass, Map<String, byte[]> jarEntries,
                                      List<BIRTypeDefinition> recordTypeDefList) {
         ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES);
         cw.visit(V1_8, ACC_PUBLIC + ACC_SUPER, recordsClass, null, OBJECT, null);
         String metadataVarName = JvmCodeGenUtil.getStrandMetadataVarName(CREATE_RECORD_VALUE);
         jvmValueCreatorGen.generateStaticInitializer(module, cw, recordsClass, CREATE_RECORD_VALUE, metadataVarName);
-        generateCreateRecordMethods(cw, recordTypeDefList, module.packageID, moduleInitClass, recordsClass,
+        generateCreateRecordMethods(cw, recordTypeDefList, module.packageID, typesClass, recordsClass,
                 metadataVarName);
         cw.visitEnd();
         byte[] bytes = jvmPackageGen.getBytes(cw, module);
@@ -98,7 +98,7 @@ public class JvmRecordCreatorGen {
     }
 
     private void generateCreateRecordMethods(ClassWriter cw, List<BIRTypeDefinition> recordTypeDefList,
-                                             PackageID moduleId, String moduleInitClass, String typeOwnerClass,
+                                             PackageID moduleId, String typesClass, String typeOwnerClass,
                                              String metadataVarName) {
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC + ACC_STATIC, CREATE_RECORD_VALUE,
                 CREATE_RECORD,
@@ -111,7 +111,7 @@ public class JvmRecordCreatorGen {
             mv.visitMethodInsn(INVOKESTATIC, typeOwnerClass, CREATE_RECORD_VALUE + 0,
                     CREATE_RECORD, false);
             mv.visitInsn(ARETURN);
-            generateCreateRecordMethodSplits(cw, recordTypeDefList, moduleId, moduleInitClass, typeOwnerClass,
+            generateCreateRecordMethodSplits(cw, recordTypeDefList, moduleId, typesClass, typeOwnerClass,
                     metadataVarName);
         }
         mv.visitMaxs(0, 0);
@@ -119,7 +119,7 @@ public class JvmRecordCreatorGen {
     }
 
     private void generateCreateRecordMethodSplits(ClassWriter cw, List<BIRTypeDefinition> recordTypeDefList,
-                                                  PackageID moduleId, String moduleInitClass, String typeOwnerClass,
+                                                  PackageID moduleId, String typesClass, String typeOwnerClass,
                                                   String metadataVarName) {
         int bTypesCount = 0;
         int methodCount = 0;
@@ -158,7 +158,7 @@ public class JvmRecordCreatorGen {
             String className = getTypeValueClassName(moduleId, optionalTypeDef.internalName.value);
             mv.visitTypeInsn(NEW, className);
             mv.visitInsn(DUP);
-            mv.visitFieldInsn(GETSTATIC, moduleInitClass, fieldName, GET_TYPE);
+            mv.visitFieldInsn(GETSTATIC, typesClass, fieldName, GET_TYPE);
             mv.visitMethodInsn(INVOKESPECIAL, className, JVM_INIT_METHOD, RECORD_INIT, false);
 
             mv.visitInsn(DUP);
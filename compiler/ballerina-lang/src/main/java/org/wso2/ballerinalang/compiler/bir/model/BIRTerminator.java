@@ -352,6 +352,9 @@ public abstract class BIRTerminator extends BIRAbstractInstruction implements BI
 
         public Integer lockId = -1;
 
+        // Whether the lock is shared with the other lock statements which only read the locked variables.
+        public boolean shared;
+
         public Lock(Location pos, BIRBasicBlock lockedBB) {
             super(pos, InstructionKind.LOCK);
             this.lockedBB = lockedBB;
@@ -5347,6 +5347,7 @@ public class Desugar extends BLangNodeVisitor {
             rewrite(lockNode.onFailClause, env);
         }
         BLangLockStmt lockStmt = new BLangLockStmt(lockNode.pos);
+        lockStmt.readOnlyBody = lockNode.readOnlyBody;
         blockStmt.addStatement(lockStmt);
 
         enclLocks.push(lockStmt);
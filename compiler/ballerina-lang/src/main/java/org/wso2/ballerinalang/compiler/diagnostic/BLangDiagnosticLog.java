@@ -64,6 +64,7 @@ public class BLangDiagnosticLog implements DiagnosticLog {
     private static final ResourceBundle MESSAGES = ResourceBundle.getBundle("compiler", Locale.getDefault());
 
     private int errorCount = 0;
+    private int diagnosticCount = 0;
     private PackageCache packageCache;
     private TypesFactory typesFactory;
     private SymbolFactory symbolFactory;
@@ -147,6 +148,15 @@ public class BLangDiagnosticLog implements DiagnosticLog {
         return this.errorCount;
     }
 
+    /**
+     * Get the number of diagnostics of any severity reported by this logger, including the ones reported while muted.
+     *
+     * @return Number of diagnostics reported.
+     */
+    public int diagnosticCount() {
+        return this.diagnosticCount;
+    }
+
     /**
      * Set the error count.
      * 
@@ -208,6 +218,7 @@ public class BLangDiagnosticLog implements DiagnosticLog {
         if (diagnostic.diagnosticInfo().severity() == DiagnosticSeverity.ERROR) {
             this.errorCount++;
         }
+        this.diagnosticCount++;
 
         storeDiagnosticInModule(pkgId, diagnostic);
     }
@@ -235,6 +246,7 @@ public class BLangDiagnosticLog implements DiagnosticLog {
         if (severity == DiagnosticSeverity.ERROR) {
             this.errorCount++;
         }
+        this.diagnosticCount++;
 
         if (this.isMute) {
             return;
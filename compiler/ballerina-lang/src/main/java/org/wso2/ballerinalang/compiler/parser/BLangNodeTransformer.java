@@ -474,6 +474,7 @@ import static org.wso2.ballerinalang.compiler.util.Constants.WORKER_LAMBDA_VAR_P
 public class BLangNodeTransformer extends NodeTransformer<BLangNode> {
     private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 10; // -10 was added due to the JVM limitations
     private static final String IDENTIFIER_LITERAL_PREFIX = "'";
+    private CompilerContext compilerContext;
     private BLangDiagnosticLog dlog;
     private SymbolTable symTable;
 
@@ -491,9 +492,15 @@ public class BLangNodeTransformer extends NodeTransformer<BLangNode> {
     private boolean isInLocalContext = false;
 
     private  HashSet<String> constantSet = new HashSet<String>();
+    /* Constants declared by the module member being transformed, to be recorded with its transformed nodes */
+    private List<String> memberConstantNames = new ArrayList<>();
+
+    private TransformedModuleMembers previousMembers;
+    private TransformedModuleMembers transformedMembers;
 
     public BLangNodeTransformer(CompilerContext context,
                                 PackageID packageID, String entryName) {
+        this.compilerContext = context;
         this.dlog = BLangDiagnosticLog.getInstance(context);
         this.dlog.setCurrentPackageId(packageID);
         this.symTable = SymbolTable.getInstance(context);
@@ -503,6 +510,27 @@ public class BLangNodeTransformer extends NodeTransformer<BLangNode> {
         this.missingNodesHelper = BLangMissingNodesHelper.getInstance(context);
     }
 
+    /**
+     * Reuse the BLang nodes of the unchanged module members of a previous version of the document, instead of
+     * transforming them again.
+     *
+     * @param previousMembers members transformed from the previous version of the document
+     */
+    public void reuseMembers(TransformedModuleMembers previousMembers) {
+        if (previousMembers != null && previousMembers.isTransformedIn(this.compilerContext, this.packageID)) {
+            this.previousMembers = previousMembers;
+        }
+    }
+
+    /**
+     * Returns the module members transformed from the document, which can be reused for the next version of it.
+     *
+     * @return transformed module members
+     */
+    public TransformedModuleMembers transformedMembers() {
+        return this.transformedMembers;
+    }
+
     public List<org.ballerinalang.model.tree.Node> accept(Node node) {
         BLangNode bLangNode = node.apply(this);
         List<org.ballerinalang.model.tree.Node> nodes = new ArrayList<>();
@@ -604,9 +632,11 @@ public class BLangNodeTransformer extends NodeTransformer<BLangNode> {
         }
 
         // Generate other module-level declarations
+        this.transformedMembers = new TransformedModuleMembers(compilerContext, packageID);
         for (ModuleMemberDeclarationNode member : modulePart.members()) {
-            compilationUnit.addTopLevelNode((TopLevelNode) member.apply(this));
+            transformModuleMember(member, compilationUnit);
         }
+        this.previousMembers = null;
 
         Location newLocation = new BLangDiagnosticLocation(pos.lineRange().filePath(), 0, 0, 0, 0, 0, 0);
 
@@ -617,6 +647,34 @@ public class BLangNodeTransformer extends NodeTransformer<BLangNode> {
         return compilationUnit;
     }
 
+    private void transformModuleMember(ModuleMemberDeclarationNode member, BLangCompilationUnit compilationUnit) {
+        int startOffset = member.textRange().startOffset();
+        LinePosition startPosition = member.lineRange().startLine();
+        String source = member.toSourceCode();
+
+        TransformedModuleMembers.Member previous = this.previousMembers == null ? null :
+                this.previousMembers.get(startOffset, startPosition, source);
+        if (previous != null && Collections.disjoint(previous.constantNames, constantSet)) {
+            compilationUnit.topLevelNodes.addAll(previous.topLevelNodes);
+            constantSet.addAll(previous.constantNames);
+            this.transformedMembers.add(previous);
+            return;
+        }
+
+        int topLevelNodeCount = compilationUnit.topLevelNodes.size();
+        int diagnosticCount = dlog.diagnosticCount();
+        this.memberConstantNames = new ArrayList<>();
+        compilationUnit.addTopLevelNode((TopLevelNode) member.apply(this));
+        if (dlog.diagnosticCount() != diagnosticCount) {
+            return;
+        }
+
+        List<TopLevelNode> topLevelNodes = new ArrayList<>(compilationUnit.topLevelNodes.subList(topLevelNodeCount,
+                compilationUnit.topLevelNodes.size()));
+        this.transformedMembers.add(new TransformedModuleMembers.Member(startOffset, startPosition, source,
+                topLevelNodes, this.memberConstantNames));
+    }
+
     @Override
     public BLangNode transform(ModuleVariableDeclarationNode modVarDeclrNode) {
         TypedBindingPatternNode typedBindingPattern = modVarDeclrNode.typedBindingPattern();
@@ -844,6 +902,7 @@ public class BLangNodeTransformer extends NodeTransformer<BLangNode> {
             dlog.error(constantNode.name.pos, DiagnosticErrorCode.REDECLARED_SYMBOL, constantName);
         } else {
             constantSet.add(constantName);
+            memberConstantNames.add(constantName);
         }
         return constantNode;
     }
@@ -236,6 +236,10 @@ public class NodeCloner extends BLangNodeVisitor {
     private static final CompilerContext.Key<NodeCloner> NODE_CLONER_KEY = new CompilerContext.Key<>();
 
     int currentCloneAttempt;
+    // Nodes may be shared by the compilation units of different versions of a document, hence every clone attempt
+    // gets a number which is unique across all the nodes cloned with this compiler context. Nodes are reused only
+    // within the compiler context which transformed them.
+    private int cloneAttemptCount;
 
     private NodeCloner() {
 
@@ -253,7 +257,7 @@ public class NodeCloner extends BLangNodeVisitor {
 
     public synchronized BLangCompilationUnit cloneCUnit(BLangCompilationUnit source) {
 
-        source.cloneAttempt += 1;
+        source.cloneAttempt = ++cloneAttemptCount;
         currentCloneAttempt = source.cloneAttempt;
         source.accept(this);
         BLangCompilationUnit clone = (BLangCompilationUnit) source.cloneRef;
@@ -262,13 +266,13 @@ public class NodeCloner extends BLangNodeVisitor {
         return clone;
     }
 
-    public <T extends Node> T cloneNode(T source) {
+    public synchronized <T extends Node> T cloneNode(T source) {
 
         if (source == null) {
             return null;
         }
         BLangNode sourceNode = (BLangNode) source;
-        sourceNode.cloneAttempt += 1;
+        sourceNode.cloneAttempt = ++cloneAttemptCount;
         int prevCloneAttempt = currentCloneAttempt;
         currentCloneAttempt = ((BLangNode) source).cloneAttempt;
         sourceNode.accept(this);
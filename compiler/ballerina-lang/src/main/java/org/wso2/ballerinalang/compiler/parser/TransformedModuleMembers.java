@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.ballerinalang.compiler.parser;
+
+import io.ballerina.tools.text.LinePosition;
+import org.ballerinalang.model.elements.PackageID;
+import org.ballerinalang.model.tree.TopLevelNode;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link TransformedModuleMembers} holds the BLang nodes transformed from each module member declaration of a
+ * document, so that the unchanged members of a modified version of the document can reuse them instead of being
+ * transformed again.
+ * <p>
+ * A member is reused only if its source, including its minutiae, and its start position are the same, since the
+ * positions of the BLang nodes are absolute. Members whose transformation reported diagnostics are not recorded, as
+ * the diagnostics would not be reported again if they are reused. Members are reused only by transformations in the
+ * same compiler context, since the names generated for anonymous types and the clone attempts of the nodes are
+ * numbered per compiler context.
+ *
+ * @since 2.0.0
+ */
+public class TransformedModuleMembers {
+
+    private final CompilerContext compilerContext;
+    private final PackageID packageID;
+    private final Map<Integer, Member> membersByStartOffset = new HashMap<>();
+
+    TransformedModuleMembers(CompilerContext compilerContext, PackageID packageID) {
+        this.compilerContext = compilerContext;
+        this.packageID = packageID;
+    }
+
+    boolean isTransformedIn(CompilerContext compilerContext, PackageID packageID) {
+        return this.compilerContext == compilerContext && this.packageID.equals(packageID);
+    }
+
+    void add(Member member) {
+        membersByStartOffset.put(member.startOffset, member);
+    }
+
+    Member get(int startOffset, LinePosition startPosition, String source) {
+        Member member = membersByStartOffset.get(startOffset);
+        if (member == null || !member.startPosition.equals(startPosition) || !member.source.equals(source)) {
+            return null;
+        }
+        return member;
+    }
+
+    /**
+     * Top level BLang nodes transformed from a module member declaration, including the ones generated while
+     * transforming it, and the constants it declared.
+     */
+    static class Member {
+
+        final int startOffset;
+        final LinePosition startPosition;
+        final String source;
+        final List<TopLevelNode> topLevelNodes;
+        final List<String> constantNames;
+
+        Member(int startOffset, LinePosition startPosition, String source, List<TopLevelNode> topLevelNodes,
+               List<String> constantNames) {
+            this.startOffset = startOffset;
+            this.startPosition = startPosition;
+            this.source = source;
+            this.topLevelNodes = topLevelNodes;
+            this.constantNames = constantNames;
+        }
+    }
+}
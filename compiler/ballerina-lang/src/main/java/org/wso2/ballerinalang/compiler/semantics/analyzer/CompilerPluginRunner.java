@@ -17,6 +17,7 @@
  */
 package org.wso2.ballerinalang.compiler.semantics.analyzer;
 
+import io.ballerina.projects.internal.CompilationProfiler;
 import io.ballerina.runtime.internal.util.RuntimeUtils;
 import io.ballerina.tools.diagnostics.Location;
 import org.ballerinalang.compiler.CompilerPhase;
@@ -90,6 +91,7 @@ public class CompilerPluginRunner extends BLangNodeVisitor {
     private Names names;
     private final Types types;
     private BLangDiagnosticLog dlog;
+    private final CompilationProfiler profiler;
 
     private Location defaultPos;
     private CompilerContext context;
@@ -118,6 +120,7 @@ public class CompilerPluginRunner extends BLangNodeVisitor {
         this.names = Names.getInstance(context);
         this.types = Types.getInstance(context);
         this.dlog = BLangDiagnosticLog.getInstance(context);
+        this.profiler = CompilationProfiler.getInstance(context);
         this.context = context;
 
         this.pluginList = new ArrayList<>();
@@ -168,6 +171,7 @@ public class CompilerPluginRunner extends BLangNodeVisitor {
         if (failedPlugins.contains(plugin)) {
             return;
         }
+        long start = profiler.start();
         try {
             consumer.accept(arg);
         } catch (Throwable e) {
@@ -175,6 +179,8 @@ public class CompilerPluginRunner extends BLangNodeVisitor {
             printErrorLog(e);
             failedPlugins.add(plugin);
         }
+        profiler.endPlugin(CompilationProfiler.COMPILER_PLUGIN, pkgNode.packageID, plugin.getClass().getName(),
+                start);
     }
 
     public void visit(BLangTestablePackage testablePkgNode) {
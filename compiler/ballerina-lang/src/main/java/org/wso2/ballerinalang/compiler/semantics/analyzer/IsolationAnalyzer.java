@@ -23,6 +23,7 @@ import io.ballerina.tools.text.LineRange;
 import org.ballerinalang.compiler.CompilerPhase;
 import org.ballerinalang.model.clauses.OrderKeyNode;
 import org.ballerinalang.model.elements.Flag;
+import org.ballerinalang.model.elements.PackageID;
 import org.ballerinalang.model.symbols.SymbolKind;
 import org.ballerinalang.model.tree.NodeKind;
 import org.ballerinalang.model.tree.expressions.ExpressionNode;
@@ -277,6 +278,12 @@ public class IsolationAnalyzer extends BLangNodeVisitor {
     private static final String VALUE_LANG_LIB = "lang.value";
     private static final String CLONE_LANG_LIB_METHOD = "clone";
     private static final String CLONE_READONLY_LANG_LIB_METHOD = "cloneReadOnly";
+    // Lang library functions which neither mutate values nor call back into user code, hence may be called in a lock
+    // statement which is shared with other strands.
+    private static final Set<String> NON_MUTATING_LANG_LIB_FUNCTIONS = Set.of(
+            "length", "get", "hasKey", "keys", "entries", "toArray", "nextKey", "indexOf", "lastIndexOf", "slice",
+            "substring", "startsWith", "endsWith", "includes", "elements", "children", "getName", "clone",
+            "cloneReadOnly", "isReadOnly", "toJson", "toJsonString");
 
     private SymbolEnv env;
     private final SymbolTable symTable;
@@ -562,6 +569,10 @@ public class IsolationAnalyzer extends BLangNodeVisitor {
         BLangExpression varRef = assignNode.varRef;
         analyzeNode(varRef, env);
 
+        if (!isStrandLocalVarRef(varRef)) {
+            markEnclosingLockBodiesAsMutating();
+        }
+
         BLangExpression expr = assignNode.expr;
         analyzeNode(expr, env);
 
@@ -582,18 +593,23 @@ public class IsolationAnalyzer extends BLangNodeVisitor {
 
     @Override
     public void visit(BLangCompoundAssignment compoundAssignNode) {
+        if (!isStrandLocalVarRef(compoundAssignNode.varRef)) {
+            markEnclosingLockBodiesAsMutating();
+        }
         analyzeNode(compoundAssignNode.varRef, env);
         analyzeNode(compoundAssignNode.expr, env);
     }
 
     @Override
     public void visit(BLangRetry retryNode) {
+        markEnclosingLockBodiesAsMutating();
         analyzeNode(retryNode.retrySpec, env);
         analyzeNode(retryNode.retryBody, env);
     }
 
     @Override
     public void visit(BLangRetryTransaction retryTransaction) {
+        markEnclosingLockBodiesAsMutating();
         analyzeNode(retryTransaction.retrySpec, env);
         analyzeNode(retryTransaction.transaction, env);
     }
@@ -649,6 +665,7 @@ public class IsolationAnalyzer extends BLangNodeVisitor {
 
     @Override
     public void visit(BLangQueryAction queryAction) {
+        markEnclosingLockBodiesAsMutating();
         for (BLangNode clause : queryAction.getQueryClauses()) {
             analyzeNode(clause, env);
         }
@@ -854,6 +871,9 @@ public class IsolationAnalyzer extends BLangNodeVisitor {
 
     @Override
     public void visit(BLangForeach foreach) {
+        if (!isIteratedWithoutCallingUserCode(foreach.collection)) {
+            markEnclosingLockBodiesAsMutating();
+        }
         analyzeNode(foreach.collection, env);
         analyzeNode(foreach.body, env);
 
@@ -955,6 +975,7 @@ public class IsolationAnalyzer extends BLangNodeVisitor {
         analyzeNode(lockNode.body, SymbolEnv.createLockEnv(lockNode, env));
 
         LockInfo copyInLockInfo = copyInLockInfoStack.pop();
+        lockNode.readOnlyBody = copyInLockInfo.readOnlyBody;
 
         this.inLockStatement = prevInLockStatement;
 
@@ -1043,11 +1064,14 @@ public class IsolationAnalyzer extends BLangNodeVisitor {
 
     @Override
     public void visit(BLangTransaction transactionNode) {
+        markEnclosingLockBodiesAsMutating();
         analyzeNode(transactionNode.transactionBody, env);
     }
 
     @Override
     public void visit(BLangTupleDestructure stmt) {
+        markEnclosingLockBodiesAsMutating();
+
         BLangTupleVarRef varRef = stmt.varRef;
         BLangExpression expr = stmt.expr;
 
@@ -1059,6 +1083,8 @@ public class IsolationAnalyzer extends BLangNodeVisitor {
 
     @Override
     public void visit(BLangRecordDestructure stmt) {
+        markEnclosingLockBodiesAsMutating();
+
         BLangRecordVarRef varRef = stmt.varRef;
         BLangExpression expr = stmt.expr;
 
@@ -1070,6 +1096,8 @@ public class IsolationAnalyzer extends BLangNodeVisitor {
 
     @Override
     public void visit(BLangErrorDestructure stmt) {
+        markEnclosingLockBodiesAsMutating();
+
         BLangErrorVarRef varRef = stmt.varRef;
         BLangExpression expr = stmt.expr;
 
@@ -1091,14 +1119,17 @@ public class IsolationAnalyzer extends BLangNodeVisitor {
 
     @Override
     public void visit(BLangWorkerSend workerSendNode) {
+        markEnclosingLockBodiesAsMutating();
     }
 
     @Override
     public void visit(BLangWorkerReceive workerReceiveNode) {
+        markEnclosingLockBodiesAsMutating();
     }
 
     @Override
     public void visit(BLangRollback rollbackNode) {
+        markEnclosingLockBodiesAsMutating();
         analyzeNode(rollbackNode.expr, env);
     }
 
@@ -1400,6 +1431,9 @@ public class IsolationAnalyzer extends BLangNodeVisitor {
 
     @Override
     public void visit(BLangInvocation invocationExpr) {
+        if (!isNonMutatingLangLibInvocation(invocationExpr)) {
+            markEnclosingLockBodiesAsMutating();
+        }
         analyzeInvocation(invocationExpr);
     }
 
@@ -1415,6 +1449,8 @@ public class IsolationAnalyzer extends BLangNodeVisitor {
 
     @Override
     public void visit(BLangInvocation.BLangActionInvocation actionInvocationExpr) {
+        markEnclosingLockBodiesAsMutating();
+
         if (!actionInvocationExpr.async) {
             analyzeInvocation(actionInvocationExpr);
             return;
@@ -1434,6 +1470,8 @@ public class IsolationAnalyzer extends BLangNodeVisitor {
 
     @Override
     public void visit(BLangTypeInit typeInitExpr) {
+        markEnclosingLockBodiesAsMutating();
+
         BInvokableSymbol initInvocationSymbol = (BInvokableSymbol) typeInitExpr.initInvocation.symbol;
         if (initInvocationSymbol != null && !isIsolated(initInvocationSymbol.flags)) {
             analyzeFunctionForInference(initInvocationSymbol);
@@ -1471,6 +1509,7 @@ public class IsolationAnalyzer extends BLangNodeVisitor {
 
     @Override
     public void visit(BLangWaitExpr waitExpr) {
+        markEnclosingLockBodiesAsMutating();
         for (BLangExpression expression : waitExpr.exprList) {
             analyzeNode(expression, env);
         }
@@ -1692,6 +1731,7 @@ public class IsolationAnalyzer extends BLangNodeVisitor {
 
     @Override
     public void visit(BLangQueryExpr queryExpr) {
+        markEnclosingLockBodiesAsMutating();
         for (BLangNode clause : queryExpr.getQueryClauses()) {
             analyzeNode(clause, env);
         }
@@ -1710,6 +1750,7 @@ public class IsolationAnalyzer extends BLangNodeVisitor {
 
     @Override
     public void visit(BLangCommitExpr commitExpr) {
+        markEnclosingLockBodiesAsMutating();
     }
 
     @Override
@@ -1929,14 +1970,17 @@ public class IsolationAnalyzer extends BLangNodeVisitor {
 
     @Override
     public void visit(BLangWorkerFlushExpr workerFlushExpr) {
+        markEnclosingLockBodiesAsMutating();
     }
 
     @Override
     public void visit(BLangWorkerSyncSendExpr syncSendExpr) {
+        markEnclosingLockBodiesAsMutating();
     }
 
     @Override
     public void visit(BLangWaitForAllExpr waitForAllExpr) {
+        markEnclosingLockBodiesAsMutating();
         for (BLangWaitForAllExpr.BLangWaitKeyValue keyValuePair : waitForAllExpr.keyValuePairs) {
             analyzeNode(keyValuePair, env);
         }
@@ -3221,6 +3265,55 @@ public class IsolationAnalyzer extends BLangNodeVisitor {
         this.isolationInferenceInfoMap.get(enclInvokableSymbol).dependsOnlyOnInferableConstructs = false;
     }
 
+    private void markEnclosingLockBodiesAsMutating() {
+        for (LockInfo lockInfo : copyInLockInfoStack) {
+            lockInfo.readOnlyBody = false;
+        }
+    }
+
+    private boolean isStrandLocalVarRef(BLangExpression varRef) {
+        if (varRef.getKind() != NodeKind.SIMPLE_VARIABLE_REF) {
+            return false;
+        }
+
+        BLangSimpleVarRef simpleVarRef = (BLangSimpleVarRef) varRef;
+        if (Names.IGNORE.value.equals(simpleVarRef.variableName.value)) {
+            return true;
+        }
+
+        // Variables captured by closures, such as workers, may be accessed by other strands.
+        BSymbol symbol = simpleVarRef.symbol;
+        return symbol != null && !symbol.closure && symbol.owner != null &&
+                (symbol.owner.tag & SymTag.PACKAGE) != SymTag.PACKAGE;
+    }
+
+    private boolean isNonMutatingLangLibInvocation(BLangInvocation invocationExpr) {
+        BSymbol symbol = invocationExpr.symbol;
+        return symbol != null && PackageID.isLangLibPackageID(symbol.pkgID) && !symbol.pkgID.name.equals(Names.JAVA) &&
+                NON_MUTATING_LANG_LIB_FUNCTIONS.contains(symbol.name.value);
+    }
+
+    private boolean isIteratedWithoutCallingUserCode(BLangExpression collection) {
+        BType type = collection.getBType();
+        if (type == symTable.intRangeType) {
+            return true;
+        }
+        if (type.tag == TypeTags.INTERSECTION) {
+            type = ((BIntersectionType) type).effectiveType;
+        }
+
+        switch (type.tag) {
+            case TypeTags.ARRAY:
+            case TypeTags.TUPLE:
+            case TypeTags.MAP:
+            case TypeTags.RECORD:
+            case TypeTags.TABLE:
+                return true;
+            default:
+                return TypeTags.isStringTypeTag(type.tag) || TypeTags.isXMLTypeTag(type.tag);
+        }
+    }
+
     private void analyzeFunctionForInference(BInvokableSymbol symbol) {
         if (Symbols.isFlagOn(symbol.flags, Flags.PUBLIC)) {
             markDependsOnIsolationNonInferableConstructs();
@@ -3866,6 +3959,9 @@ public class IsolationAnalyzer extends BLangNodeVisitor {
 
         Set<BSymbol> accessedPotentiallyIsolatedVars = new HashSet<>();
 
+        // Whether the lock statement only reads values, and writes only variables local to the strand.
+        boolean readOnlyBody = true;
+
         private LockInfo(BLangLock lockNode) {
             this.lockNode = lockNode;
         }
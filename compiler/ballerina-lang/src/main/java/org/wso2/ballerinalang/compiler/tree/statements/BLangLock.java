@@ -43,6 +43,9 @@ public class BLangLock extends BLangStatement implements LockNode {
 
     public BLangOnFailClause onFailClause;
 
+    // Whether the body only reads the variables it accesses, in which case the lock can be shared by such bodies.
+    public boolean readOnlyBody;
+
     public BLangLock() {
     }
 
@@ -0,0 +1,232 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.wso2.ballerinalang.compiler.parser;
+
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.tools.diagnostics.Diagnostic;
+import io.ballerina.tools.text.TextDocuments;
+import org.ballerinalang.compiler.CompilerOptionName;
+import org.ballerinalang.model.TreeBuilder;
+import org.ballerinalang.model.elements.PackageID;
+import org.ballerinalang.model.tree.TopLevelNode;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.PackageCache;
+import org.wso2.ballerinalang.compiler.tree.BLangCompilationUnit;
+import org.wso2.ballerinalang.compiler.tree.BLangFunction;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+import org.wso2.ballerinalang.compiler.tree.BLangSimpleVariable;
+import org.wso2.ballerinalang.compiler.tree.BLangTypeDefinition;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
+import org.wso2.ballerinalang.compiler.util.Name;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Tests for reusing the {@link TransformedModuleMembers} of a previous version of a document.
+ *
+ * @since 2.0.0
+ */
+public class TransformedModuleMembersTest {
+
+    private static final String FILE_NAME = "main.bal";
+
+    private CompilerContext context;
+    private PackageID packageID;
+    private BLangPackage pkgNode;
+
+    @BeforeMethod
+    public void setup() {
+        packageID = new PackageID(new Name("transform"), new Name("members"), new Name("1.0.0"));
+        context = createCompilerContext();
+    }
+
+    @Test
+    public void testUnchangedMembersReused() {
+        String source = "function foo() returns int {\n    return 1;\n}\n\n" +
+                "function bar() returns int {\n    return 2;\n}\n\n" +
+                "function baz() returns int {\n    return 3;\n}\n";
+        BLangNodeTransformer transformer = createTransformer(context, null);
+        BLangCompilationUnit oldUnit = transform(transformer, source);
+        TransformedModuleMembers oldMembers = transformer.transformedMembers();
+
+        // Modify the body of bar without changing the positions of the other members
+        transformer = createTransformer(context, oldMembers);
+        BLangCompilationUnit newUnit = transform(transformer, source.replace("return 2;", "return 4;"));
+
+        Assert.assertSame(getFunction(newUnit, "foo"), getFunction(oldUnit, "foo"));
+        Assert.assertNotSame(getFunction(newUnit, "bar"), getFunction(oldUnit, "bar"));
+        Assert.assertSame(getFunction(newUnit, "baz"), getFunction(oldUnit, "baz"));
+        Assert.assertEquals(newUnit.topLevelNodes.size(), oldUnit.topLevelNodes.size());
+
+        // The reused nodes are cloned afresh for the new version
+        NodeCloner nodeCloner = NodeCloner.getInstance(context);
+        BLangCompilationUnit oldClone = nodeCloner.cloneCUnit(oldUnit);
+        BLangCompilationUnit newClone = nodeCloner.cloneCUnit(newUnit);
+        Assert.assertNotSame(getFunction(newClone, "foo"), getFunction(oldClone, "foo"));
+        Assert.assertEquals(getFunction(newClone, "foo").name.value, "foo");
+    }
+
+    @Test
+    public void testMovedMembersTransformedAgain() {
+        String source = "function foo() returns int {\n    return 1;\n}\n\n" +
+                "function bar() returns int {\n    return 2;\n}\n";
+        BLangNodeTransformer transformer = createTransformer(context, null);
+        BLangCompilationUnit oldUnit = transform(transformer, source);
+
+        // Lengthening foo moves bar, hence its nodes have different positions
+        transformer = createTransformer(context, transformer.transformedMembers());
+        BLangCompilationUnit newUnit = transform(transformer, source.replace("return 1;", "return 10;"));
+
+        Assert.assertNotSame(getFunction(newUnit, "foo"), getFunction(oldUnit, "foo"));
+        Assert.assertNotSame(getFunction(newUnit, "bar"), getFunction(oldUnit, "bar"));
+        Assert.assertEquals(getFunction(newUnit, "bar").pos.lineRange().startLine().line(), 4);
+    }
+
+    @Test
+    public void testDiagnosticsOfUnchangedMembersReportedAgain() {
+        String source = "function foo() {\n    int i = 99999999999999999999;\n}\n\n" +
+                "function bar() returns int {\n    return 2;\n}\n";
+        BLangNodeTransformer transformer = createTransformer(context, null);
+        BLangCompilationUnit oldUnit = transform(transformer, source);
+        Assert.assertEquals(getDiagnosticCodes(), List.of("BCE2109"));
+
+        transformer = createTransformer(context, transformer.transformedMembers());
+        BLangCompilationUnit newUnit = transform(transformer, source.replace("return 2;", "return 4;"));
+
+        // The member which reported a diagnostic is transformed again, hence the diagnostic is reported again
+        Assert.assertNotSame(getFunction(newUnit, "foo"), getFunction(oldUnit, "foo"));
+        Assert.assertEquals(getDiagnosticCodes(), List.of("BCE2109"));
+    }
+
+    @Test
+    public void testRedeclaredConstantOfUnchangedMember() {
+        String source = "const B = 1;\nconst A = 2;\n";
+        BLangNodeTransformer transformer = createTransformer(context, null);
+        BLangCompilationUnit oldUnit = transform(transformer, source);
+        Assert.assertTrue(pkgNode.getDiagnostics().isEmpty());
+
+        // The first constant now declares A, which is already declared by the unchanged second constant
+        transformer = createTransformer(context, transformer.transformedMembers());
+        BLangCompilationUnit newUnit = transform(transformer, source.replace("const B", "const A"));
+
+        Assert.assertNotSame(newUnit.topLevelNodes.get(1), oldUnit.topLevelNodes.get(1));
+        List<Diagnostic> diagnostics = pkgNode.getDiagnostics();
+        Assert.assertEquals(diagnostics.size(), 1);
+        Assert.assertEquals(diagnostics.get(0).message(), "redeclared symbol 'A'");
+        Assert.assertEquals(diagnostics.get(0).location().lineRange().startLine().line(), 1);
+
+        // Redeclaring a constant of an unchanged member is reported for every version of the document
+        transformer = createTransformer(context, transformer.transformedMembers());
+        transform(transformer, source.replace("const B", "const A").replace("= 1;", "= 3;"));
+        Assert.assertEquals(getDiagnosticCodes(), List.of("BCE2008"));
+    }
+
+    @Test
+    public void testAnonymousTypeNamesOfUnchangedMembers() {
+        String source = "record {| int a; |} a = {a: 1};\n\nrecord {| int b; |} b = {b: 2};\n";
+        BLangNodeTransformer transformer = createTransformer(context, null);
+        BLangCompilationUnit oldUnit = transform(transformer, source);
+        Set<String> oldTypeNames = getTypeDefinitionNames(oldUnit);
+        Assert.assertEquals(oldTypeNames.size(), 2);
+
+        transformer = createTransformer(context, transformer.transformedMembers());
+        BLangCompilationUnit newUnit = transform(transformer, source.replace("{a: 1}", "{a: 3}"));
+        Set<String> newTypeNames = getTypeDefinitionNames(newUnit);
+
+        // The type of b keeps its generated name, while the type of a gets a name which is not used by any version
+        Assert.assertEquals(newTypeNames.size(), 2);
+        Assert.assertSame(getVariable(newUnit, "b"), getVariable(oldUnit, "b"));
+        Assert.assertNotSame(getVariable(newUnit, "a"), getVariable(oldUnit, "a"));
+        Set<String> commonTypeNames = new HashSet<>(newTypeNames);
+        commonTypeNames.retainAll(oldTypeNames);
+        Assert.assertEquals(commonTypeNames.size(), 1);
+    }
+
+    @Test
+    public void testMembersNotReusedInOtherCompilerContext() {
+        String source = "function foo() returns int {\n    return 1;\n}\n";
+        BLangNodeTransformer transformer = createTransformer(context, null);
+        BLangCompilationUnit oldUnit = transform(transformer, source);
+
+        transformer = createTransformer(createCompilerContext(), transformer.transformedMembers());
+        BLangCompilationUnit newUnit = transform(transformer, source);
+
+        Assert.assertNotSame(getFunction(newUnit, "foo"), getFunction(oldUnit, "foo"));
+    }
+
+    private CompilerContext createCompilerContext() {
+        CompilerContext compilerContext = new CompilerContext();
+        CompilerOptions options = CompilerOptions.getInstance(compilerContext);
+        options.put(CompilerOptionName.PROJECT_API_INITIATED_COMPILATION, String.valueOf(true));
+        PackageCache.getInstance(compilerContext).put(packageID, (BLangPackage) TreeBuilder.createPackageNode());
+        return compilerContext;
+    }
+
+    private BLangNodeTransformer createTransformer(CompilerContext compilerContext,
+                                                   TransformedModuleMembers previousMembers) {
+        BLangNodeTransformer transformer = new BLangNodeTransformer(compilerContext, packageID, FILE_NAME);
+        transformer.reuseMembers(previousMembers);
+        return transformer;
+    }
+
+    private BLangCompilationUnit transform(BLangNodeTransformer transformer, String source) {
+        // Every compilation reports its diagnostics to a new package node
+        pkgNode = (BLangPackage) TreeBuilder.createPackageNode();
+        PackageCache.getInstance(context).put(packageID, pkgNode);
+        SyntaxTree syntaxTree = SyntaxTree.from(TextDocuments.from(source), FILE_NAME);
+        return (BLangCompilationUnit) transformer.accept(syntaxTree.rootNode()).get(0);
+    }
+
+    private List<String> getDiagnosticCodes() {
+        return pkgNode.getDiagnostics().stream()
+                .map(diagnostic -> diagnostic.diagnosticInfo().code())
+                .collect(Collectors.toList());
+    }
+
+    private static BLangFunction getFunction(BLangCompilationUnit compilationUnit, String name) {
+        for (TopLevelNode topLevelNode : compilationUnit.topLevelNodes) {
+            if (topLevelNode instanceof BLangFunction && ((BLangFunction) topLevelNode).name.value.equals(name)) {
+                return (BLangFunction) topLevelNode;
+            }
+        }
+        throw new AssertionError("function not found: " + name);
+    }
+
+    private static BLangSimpleVariable getVariable(BLangCompilationUnit compilationUnit, String name) {
+        for (TopLevelNode topLevelNode : compilationUnit.topLevelNodes) {
+            if (topLevelNode instanceof BLangSimpleVariable
+                    && ((BLangSimpleVariable) topLevelNode).name.value.equals(name)) {
+                return (BLangSimpleVariable) topLevelNode;
+            }
+        }
+        throw new AssertionError("variable not found: " + name);
+    }
+
+    private static Set<String> getTypeDefinitionNames(BLangCompilationUnit compilationUnit) {
+        return compilationUnit.topLevelNodes.stream()
+                .filter(topLevelNode -> topLevelNode instanceof BLangTypeDefinition)
+                .map(topLevelNode -> ((BLangTypeDefinition) topLevelNode).name.value)
+                .collect(Collectors.toSet());
+    }
+}
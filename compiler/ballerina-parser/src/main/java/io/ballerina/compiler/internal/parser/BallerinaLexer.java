@@ -34,6 +34,10 @@ import java.util.List;
  */
 public class BallerinaLexer extends AbstractLexer {
 
+    private static final String LF = "\n";
+    private static final String CR = "\r";
+    private static final String CRLF = "\r\n";
+
     public BallerinaLexer(CharReader charReader) {
         super(charReader, ParserMode.DEFAULT);
     }
@@ -244,8 +248,11 @@ public class BallerinaLexer extends AbstractLexer {
     }
 
     private STToken getIdentifierToken() {
+        return getIdentifierToken(getLexeme());
+    }
+
+    private STToken getIdentifierToken(String lexeme) {
         STNode leadingTrivia = getLeadingTrivia();
-        String lexeme = getLexeme();
         STNode trailingTrivia = processTrailingTrivia();
         return STNodeFactory.createIdentifierToken(lexeme, leadingTrivia, trailingTrivia);
     }
@@ -257,6 +264,13 @@ public class BallerinaLexer extends AbstractLexer {
         return STNodeFactory.createLiteralValueToken(kind, lexeme, leadingTrivia, trailingTrivia);
     }
 
+    @Override
+    protected STNode getLeadingTrivia() {
+        STNode trivia = LexerNodeCache.trivia(this.leadingTriviaList);
+        this.leadingTriviaList = new ArrayList<>(INITIAL_TRIVIA_CAPACITY);
+        return trivia;
+    }
+
     /**
      * Process leading trivia.
      */
@@ -272,7 +286,7 @@ public class BallerinaLexer extends AbstractLexer {
     private STNode processTrailingTrivia() {
         List<STNode> triviaList = new ArrayList<>(INITIAL_TRIVIA_CAPACITY);
         processSyntaxTrivia(triviaList, false);
-        return STNodeFactory.createNodeList(triviaList);
+        return LexerNodeCache.trivia(triviaList);
     }
 
     /**
@@ -320,13 +334,20 @@ public class BallerinaLexer extends AbstractLexer {
      * @return Whitespace trivia
      */
     private STNode processWhitespaces() {
+        int length = 0;
+        boolean onlySpaces = true;
         while (!reader.isEOF()) {
             char c = reader.peek();
             switch (c) {
                 case LexerTerminals.SPACE:
+                    reader.advance();
+                    length++;
+                    continue;
                 case LexerTerminals.TAB:
                 case LexerTerminals.FORM_FEED:
                     reader.advance();
+                    length++;
+                    onlySpaces = false;
                     continue;
                 case LexerTerminals.CARRIAGE_RETURN:
                 case LexerTerminals.NEWLINE:
@@ -337,7 +358,11 @@ public class BallerinaLexer extends AbstractLexer {
             break;
         }
 
-        return STNodeFactory.createMinutiae(SyntaxKind.WHITESPACE_MINUTIAE, getLexeme());
+        // Indentation and separating spaces need not be copied out of the input
+        if (onlySpaces) {
+            return LexerNodeCache.spaces(length);
+        }
+        return LexerNodeCache.minutiae(SyntaxKind.WHITESPACE_MINUTIAE, getLexeme());
     }
 
     /**
@@ -352,13 +377,14 @@ public class BallerinaLexer extends AbstractLexer {
         switch (c) {
             case LexerTerminals.NEWLINE:
                 reader.advance();
-                return STNodeFactory.createMinutiae(SyntaxKind.END_OF_LINE_MINUTIAE, getLexeme());
+                return LexerNodeCache.minutiae(SyntaxKind.END_OF_LINE_MINUTIAE, LF);
             case LexerTerminals.CARRIAGE_RETURN:
                 reader.advance();
                 if (reader.peek() == LexerTerminals.NEWLINE) {
                     reader.advance();
+                    return LexerNodeCache.minutiae(SyntaxKind.END_OF_LINE_MINUTIAE, CRLF);
                 }
-                return STNodeFactory.createMinutiae(SyntaxKind.END_OF_LINE_MINUTIAE, getLexeme());
+                return LexerNodeCache.minutiae(SyntaxKind.END_OF_LINE_MINUTIAE, CR);
             default:
                 throw new IllegalStateException();
         }
@@ -1015,7 +1041,7 @@ public class BallerinaLexer extends AbstractLexer {
                 if (this.keywordModes.contains(KeywordMode.QUERY)) {
                     return getQueryCtxKeywordOrIdentifier(tokenText);
                 }
-                return getIdentifierToken();
+                return getIdentifierToken(tokenText);
         }
     }
 
@@ -1042,7 +1068,7 @@ public class BallerinaLexer extends AbstractLexer {
             case LexerTerminals.DESCENDING:
                 return getSyntaxToken(SyntaxKind.DESCENDING_KEYWORD);
             default:
-                return getIdentifierToken();
+                return getIdentifierToken(tokenText);
         }
     }
 
@@ -1627,7 +1653,7 @@ public class BallerinaLexer extends AbstractLexer {
 
     private STToken getSyntaxTokenWithoutTrailingTrivia(SyntaxKind kind) {
         STNode leadingTrivia = getLeadingTrivia();
-        STNode trailingTrivia = STNodeFactory.createNodeList(new ArrayList<>(0));
+        STNode trailingTrivia = STNodeFactory.createEmptyNodeList();
         return STNodeFactory.createToken(kind, leadingTrivia, trailingTrivia);
     }
 
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.compiler.internal.parser;
+
+import io.ballerina.compiler.internal.parser.tree.STMinutiae;
+import io.ballerina.compiler.internal.parser.tree.STNode;
+import io.ballerina.compiler.internal.parser.tree.STNodeFactory;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A cache of internal tree nodes which are shared by all the trees created by the lexer.
+ * <p>
+ * Internal tree nodes are immutable and do not know their position or parent. Hence the same node instance can be
+ * used wherever the same minutiae occurs, in any tree. This cache keeps the whitespace and end of line minutiae and
+ * the short trivia lists made of them, so that the lexer does not allocate a new node for every occurrence of them.
+ * <p>
+ * Tokens are never shared. The parser replaces tokens in the nodes it has built, for example to attach invalid
+ * node minutiae or diagnostics to them, and such a replacement finds its target by identity. A token shared by
+ * more than one place of a tree would be replaced in all of them.
+ * <p>
+ * Each cache is bounded. Once it is full, nodes are created afresh without being cached.
+ *
+ * @since 2.0.0
+ */
+final class LexerNodeCache {
+
+    private static final int MAX_CACHE_SIZE = 1 << 14;
+    private static final int MAX_CACHED_MINUTIAE_LENGTH = 64;
+    private static final int MAX_CACHED_TRIVIA_SIZE = 2;
+
+    private static final Map<String, STNode> WHITESPACE_MINUTIAE = new ConcurrentHashMap<>();
+    private static final Map<String, STNode> END_OF_LINE_MINUTIAE = new ConcurrentHashMap<>();
+    private static final Map<List<STNode>, STNode> TRIVIA = new ConcurrentHashMap<>();
+
+    private static final String[] SPACES = new String[MAX_CACHED_MINUTIAE_LENGTH + 1];
+
+    static {
+        for (int i = 0; i < SPACES.length; i++) {
+            SPACES[i] = " ".repeat(i);
+        }
+    }
+
+    private LexerNodeCache() {
+    }
+
+    /**
+     * Returns a minutiae node of the given kind and text.
+     *
+     * @param kind Kind of the minutiae
+     * @param text Text of the minutiae
+     * @return Minutiae node
+     */
+    static STNode minutiae(SyntaxKind kind, String text) {
+        Map<String, STNode> cache;
+        switch (kind) {
+            case WHITESPACE_MINUTIAE:
+                cache = WHITESPACE_MINUTIAE;
+                break;
+            case END_OF_LINE_MINUTIAE:
+                cache = END_OF_LINE_MINUTIAE;
+                break;
+            default:
+                return STNodeFactory.createMinutiae(kind, text);
+        }
+
+        STNode minutiae = cache.get(text);
+        if (minutiae != null) {
+            return minutiae;
+        }
+
+        minutiae = STNodeFactory.createMinutiae(kind, text);
+        if (text.length() > MAX_CACHED_MINUTIAE_LENGTH || cache.size() >= MAX_CACHE_SIZE) {
+            return minutiae;
+        }
+        STNode existing = cache.putIfAbsent(text, minutiae);
+        return existing != null ? existing : minutiae;
+    }
+
+    /**
+     * Returns a whitespace minutiae node made of the given number of spaces, without reading its text from the source.
+     *
+     * @param count Number of spaces
+     * @return Whitespace minutiae node
+     */
+    static STNode spaces(int count) {
+        if (count < SPACES.length) {
+            return minutiae(SyntaxKind.WHITESPACE_MINUTIAE, SPACES[count]);
+        }
+        return STNodeFactory.createMinutiae(SyntaxKind.WHITESPACE_MINUTIAE, " ".repeat(count));
+    }
+
+    /**
+     * Returns a trivia list of the given minutiae. The list is shared if all the minutiae in it are shared.
+     *
+     * @param minutiaeList Minutiae in the trivia
+     * @return Trivia list
+     */
+    static STNode trivia(List<STNode> minutiaeList) {
+        if (minutiaeList.isEmpty()) {
+            return STNodeFactory.createEmptyNodeList();
+        }
+        if (minutiaeList.size() > MAX_CACHED_TRIVIA_SIZE || !isSharedMinutiae(minutiaeList)) {
+            return STNodeFactory.createNodeList(minutiaeList);
+        }
+
+        // Minutiae nodes do not override equals, hence the key compares the shared minutiae by identity
+        List<STNode> key = List.copyOf(minutiaeList);
+        STNode trivia = TRIVIA.get(key);
+        if (trivia != null) {
+            return trivia;
+        }
+
+        trivia = STNodeFactory.createNodeList(key);
+        if (TRIVIA.size() >= MAX_CACHE_SIZE) {
+            return trivia;
+        }
+        STNode existing = TRIVIA.putIfAbsent(key, trivia);
+        return existing != null ? existing : trivia;
+    }
+
+    private static boolean isSharedMinutiae(List<STNode> minutiaeList) {
+        for (STNode minutiae : minutiaeList) {
+            Map<String, STNode> cache;
+            if (minutiae.kind == SyntaxKind.WHITESPACE_MINUTIAE) {
+                cache = WHITESPACE_MINUTIAE;
+            } else if (minutiae.kind == SyntaxKind.END_OF_LINE_MINUTIAE) {
+                cache = END_OF_LINE_MINUTIAE;
+            } else {
+                return false;
+            }
+            if (cache.get(((STMinutiae) minutiae).text()) != minutiae) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
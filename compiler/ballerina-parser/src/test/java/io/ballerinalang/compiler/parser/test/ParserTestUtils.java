@@ -107,6 +107,19 @@ public class ParserTestUtils {
 
         // Validate the tree against the assertion file
         assertNode(syntaxTree, assertJson);
+
+        // Validate that the tree of the whole source gives back the same source
+        assertSourceCode(source);
+    }
+
+    /**
+     * Asserts that the syntax tree of the given source, parsed as a compilation unit, gives back the same source.
+     *
+     * @param source Input source that represent a ballerina code
+     */
+    public static void assertSourceCode(String source) {
+        STNode syntaxTree = ParserFactory.getParser(source).parse(ParserRuleContext.COMP_UNIT);
+        Assert.assertEquals(syntaxTree.toSourceCode(), source);
     }
 
     /**
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerinalang.compiler.parser.test.lexer;
+
+import io.ballerina.compiler.internal.parser.tree.STMinutiae;
+import io.ballerina.compiler.internal.parser.tree.STNode;
+import io.ballerina.compiler.internal.parser.tree.STToken;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * This class contains cases to test the whitespace and end of line minutiae created by the {@code BallerinaLexer}.
+ *
+ * @since 2.0.0
+ */
+public class WhitespaceMinutiaeTest extends AbstractLexerTest {
+
+    // Longer than the longest whitespace minutiae kept by the lexer node cache
+    private static final int LONG_RUN_LENGTH = 100;
+
+    @Test(description = "Tests a run of spaces")
+    public void testSpaces() {
+        STToken token = lexToken("    foo");
+        assertMinutiae(token.leadingMinutiae(), SyntaxKind.WHITESPACE_MINUTIAE, "    ");
+        Assert.assertEquals(token.text(), "foo");
+    }
+
+    @Test(description = "Tests a run of spaces longer than the cached ones")
+    public void testLongSpaces() {
+        String spaces = " ".repeat(LONG_RUN_LENGTH);
+        STToken token = lexToken(spaces + "foo");
+        assertMinutiae(token.leadingMinutiae(), SyntaxKind.WHITESPACE_MINUTIAE, spaces);
+        Assert.assertEquals(token.widthWithLeadingMinutiae(), LONG_RUN_LENGTH + 3);
+        Assert.assertEquals(token.text(), "foo");
+    }
+
+    @Test(description = "Tests whitespace with tab characters")
+    public void testTabs() {
+        STToken token = lexToken("\t \t foo");
+        assertMinutiae(token.leadingMinutiae(), SyntaxKind.WHITESPACE_MINUTIAE, "\t \t ");
+        Assert.assertEquals(token.text(), "foo");
+    }
+
+    @Test(description = "Tests a run of whitespace with a tab, longer than the cached ones")
+    public void testLongWhitespaceWithTab() {
+        String whitespace = " ".repeat(LONG_RUN_LENGTH) + "\t";
+        STToken token = lexToken(whitespace + "foo");
+        assertMinutiae(token.leadingMinutiae(), SyntaxKind.WHITESPACE_MINUTIAE, whitespace);
+        Assert.assertEquals(token.text(), "foo");
+    }
+
+    @Test(description = "Tests the \\n end of line")
+    public void testLineFeed() {
+        STToken token = lexToken("foo  \nbar");
+        assertMinutiae(token.trailingMinutiae(), SyntaxKind.WHITESPACE_MINUTIAE, "  ",
+                SyntaxKind.END_OF_LINE_MINUTIAE, "\n");
+    }
+
+    @Test(description = "Tests the \\r end of line")
+    public void testCarriageReturn() {
+        STToken token = lexToken("foo\rbar");
+        assertMinutiae(token.trailingMinutiae(), SyntaxKind.END_OF_LINE_MINUTIAE, "\r");
+
+        token = lexToken("\r \rfoo");
+        assertMinutiae(token.leadingMinutiae(), SyntaxKind.END_OF_LINE_MINUTIAE, "\r",
+                SyntaxKind.WHITESPACE_MINUTIAE, " ", SyntaxKind.END_OF_LINE_MINUTIAE, "\r");
+    }
+
+    @Test(description = "Tests the \\r\\n end of line")
+    public void testCarriageReturnLineFeed() {
+        STToken token = lexToken("foo\r\nbar");
+        assertMinutiae(token.trailingMinutiae(), SyntaxKind.END_OF_LINE_MINUTIAE, "\r\n");
+
+        // A line feed followed by a carriage return ends two lines
+        token = lexToken("\n\r\r\nfoo");
+        assertMinutiae(token.leadingMinutiae(), SyntaxKind.END_OF_LINE_MINUTIAE, "\n",
+                SyntaxKind.END_OF_LINE_MINUTIAE, "\r", SyntaxKind.END_OF_LINE_MINUTIAE, "\r\n");
+    }
+
+    @Test(description = "Tests that the source of whitespace and end of line minutiae is not changed")
+    public void testSourceCode() {
+        String sourceText = " ".repeat(LONG_RUN_LENGTH) + "foo\t\r\n" + " \t".repeat(LONG_RUN_LENGTH) + "\rbar\n";
+        STToken foo = lexToken(sourceText);
+        Assert.assertEquals(foo.toSourceCode(), " ".repeat(LONG_RUN_LENGTH) + "foo\t\r\n");
+        Assert.assertEquals(foo.widthWithMinutiae(), LONG_RUN_LENGTH + 6);
+    }
+
+    private static void assertMinutiae(STNode minutiaeList, Object... expectedKindsAndTexts) {
+        Assert.assertEquals(minutiaeList.bucketCount(), expectedKindsAndTexts.length / 2);
+        for (int i = 0; i < minutiaeList.bucketCount(); i++) {
+            STMinutiae minutiae = (STMinutiae) minutiaeList.childInBucket(i);
+            Assert.assertEquals(minutiae.kind, expectedKindsAndTexts[2 * i]);
+            Assert.assertEquals(minutiae.text(), expectedKindsAndTexts[2 * i + 1]);
+            Assert.assertEquals(minutiae.width(), minutiae.text().length());
+        }
+    }
+}
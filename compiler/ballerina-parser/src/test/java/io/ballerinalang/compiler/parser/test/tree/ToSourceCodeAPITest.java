@@ -84,6 +84,26 @@ public class ToSourceCodeAPITest extends AbstractSyntaxTreeAPITest {
         assertSourceCode(expectedSourceCode);
     }
 
+    @Test
+    public void testWithInvalidNodeMinutiaOfRepeatedTokens() {
+        // Invalid nodes are attached to one of the identical backtick, brace and dollar tokens of the templates
+        String expectedSourceCode = "function testXMLTextLiteral() {\n" +
+                "    xml x0 = xml `${a${b}c}`;\n" +
+                "    xml x1 = xml `aaa${v1}b\\${bb${v2}c\\}cc{d{}e}{f{`;\n" +
+                "}\n";
+        assertSourceCode(expectedSourceCode);
+    }
+
+    @Test
+    public void testWithInvalidArrayLengthOfRepeatedTokens() {
+        // The invalid length is attached to the outer open bracket, which is identical to the inner one
+        String expectedSourceCode = "function foo() {\n" +
+                "    int[[1]] a = [];\n" +
+                "    int[[1]] b = [];\n" +
+                "}\n";
+        assertSourceCode(expectedSourceCode);
+    }
+
     private void assertSourceCode(String expectedSourceCode) {
         SyntaxTree syntaxTree = parseString(expectedSourceCode);
         String actualSourceCode = syntaxTree.toSourceCode();
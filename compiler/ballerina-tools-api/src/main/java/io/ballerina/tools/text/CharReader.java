@@ -17,8 +17,6 @@
  */
 package io.ballerina.tools.text;
 
-import java.util.Arrays;
-
 /**
  * A character reader utility used by the Ballerina lexer.
  *
@@ -91,7 +89,7 @@ public class CharReader {
      * @return {@link String} consist of the marked chars
      */
     public String getMarkedChars() {
-        return new String(Arrays.copyOfRange(charBuffer, lexemeStartPos, offset));
+        return new String(charBuffer, lexemeStartPos, offset - lexemeStartPos);
     }
 
     public boolean isEOF() {
@@ -84,6 +84,15 @@ public class CloneWithType {
 
     public static Object convert(Type convertType, Object inputValue, BTypedesc t) {
         try {
+            if (inputValue != null) {
+                ConversionPlan plan = ConversionPlan.of(convertType);
+                ConversionPlan.Context context = new ConversionPlan.Context(t);
+                // Values which do not match the plan go through the full analysis, which reports the same error as
+                // before if the value is not convertible.
+                if (plan.matches(inputValue, false, context)) {
+                    return plan.convert(inputValue, false, context);
+                }
+            }
             return convert(inputValue, convertType, new ArrayList<>(), t);
         } catch (BError e) {
             return e;
@@ -98,8 +107,8 @@ public class CloneWithType {
     }
 
 
-    private static Object convert(Object value, Type targetType, List<TypeValuePair> unresolvedValues,
-                                  boolean allowAmbiguity, BTypedesc t) {
+    static Object convert(Object value, Type targetType, List<TypeValuePair> unresolvedValues,
+                          boolean allowAmbiguity, BTypedesc t) {
         if (value == null) {
             if (targetType.isNilable()) {
                 return null;
@@ -111,11 +120,16 @@ public class CloneWithType {
         List<String> errors = new ArrayList<>();
         Set<Type> convertibleTypes;
         convertibleTypes = TypeConverter.getConvertibleTypes(value, targetType, null, false, errors);
-
-        Type sourceType = TypeChecker.getType(value);
         if (convertibleTypes.isEmpty()) {
             throw CloneUtils.createConversionError(value, targetType, errors);
-        } else if (!allowAmbiguity && convertibleTypes.size() > 1 && !convertibleTypes.contains(sourceType) &&
+        }
+        return convert(value, targetType, convertibleTypes, unresolvedValues, allowAmbiguity, t);
+    }
+
+    static Object convert(Object value, Type targetType, Set<Type> convertibleTypes,
+                          List<TypeValuePair> unresolvedValues, boolean allowAmbiguity, BTypedesc t) {
+        Type sourceType = TypeChecker.getType(value);
+        if (!allowAmbiguity && convertibleTypes.size() > 1 && !convertibleTypes.contains(sourceType) &&
                 !TypeConverter.hasIntegerSubTypes(convertibleTypes)) {
             throw createAmbiguousConversionError(value, targetType);
         }
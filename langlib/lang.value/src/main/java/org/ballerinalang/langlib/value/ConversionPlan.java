@@ -0,0 +1,656 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.langlib.value;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.IntersectionType;
+import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.TupleType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.UnionType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BListInitialValueEntry;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BMapInitialValueEntry;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.runtime.internal.TypeChecker;
+import io.ballerina.runtime.internal.TypeConverter;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Conversion plan of a target type of {@code cloneWithType}.
+ * <p>
+ * A plan is a tree of converters which follows the record, map, array and tuple structure of the target type. It is
+ * built once per target type and converts a value in a single pass, instead of checking the convertibility of the
+ * remaining value again at each level. Members which need the full analysis, e.g. json, anydata or unions with more
+ * than one possible member, are converted using {@link CloneWithType}.
+ * <p>
+ * A value is first matched against the plan, without creating any value. Only a value which matches the plan is
+ * converted using it, so that record values, whose default field initializers may have side effects, are never
+ * created by a conversion which is abandoned halfway. A value which does not match the plan is converted using the
+ * full analysis of {@link CloneWithType}, so that the result and the error messages do not change.
+ *
+ * @since 2.0.0
+ */
+abstract class ConversionPlan {
+
+    private static final int MAX_CACHED_PLANS = 1024;
+    private static final Map<TypeKey, ConversionPlan> PLANS = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the conversion plan of the given target type.
+     *
+     * @param targetType target type
+     * @return conversion plan
+     */
+    static ConversionPlan of(Type targetType) {
+        TypeKey key = new TypeKey(targetType);
+        ConversionPlan plan = PLANS.get(key);
+        if (plan != null) {
+            return plan;
+        }
+        plan = build(targetType, new IdentityHashMap<>());
+        // Target types are mostly defined types, but the cache is bounded in case types are created at runtime.
+        if (PLANS.size() < MAX_CACHED_PLANS) {
+            PLANS.putIfAbsent(key, plan);
+        }
+        return plan;
+    }
+
+    /**
+     * Checks whether the given value can be converted to the target type of the plan using the plan. This does not
+     * create any value.
+     *
+     * @param value   value to be converted
+     * @param unique  whether the value has to be convertible to exactly one type, as for record fields and map
+     *                members. Otherwise the value can be convertible to more than one type if one of them is the
+     *                type of the value, as for list members.
+     * @param context conversion context
+     * @return whether the value matches the plan
+     */
+    abstract boolean matches(Object value, boolean unique, Context context);
+
+    /**
+     * Converts the given value, which matches the plan, to the target type of the plan.
+     *
+     * @param value   value to be converted
+     * @param unique  whether the value has to be convertible to exactly one type
+     * @param context conversion context
+     * @return converted value
+     */
+    abstract Object convert(Object value, boolean unique, Context context);
+
+    private static ConversionPlan build(Type type, Map<Type, ConversionPlan> plans) {
+        ConversionPlan plan = plans.get(type);
+        if (plan != null) {
+            return plan;
+        }
+        switch (type.getTag()) {
+            case TypeTags.RECORD_TYPE_TAG:
+                RecordPlan recordPlan = new RecordPlan((RecordType) type);
+                plans.put(type, recordPlan);
+                recordPlan.init(plans);
+                return recordPlan;
+            case TypeTags.MAP_TAG:
+                MapPlan mapPlan = new MapPlan((MapType) type);
+                plans.put(type, mapPlan);
+                mapPlan.constraintPlan = build(mapPlan.type.getConstrainedType(), plans);
+                return mapPlan;
+            case TypeTags.ARRAY_TAG:
+                ArrayPlan arrayPlan = new ArrayPlan((ArrayType) type);
+                plans.put(type, arrayPlan);
+                arrayPlan.elementPlan = build(arrayPlan.type.getElementType(), plans);
+                return arrayPlan;
+            case TypeTags.TUPLE_TAG:
+                TuplePlan tuplePlan = new TuplePlan((TupleType) type);
+                plans.put(type, tuplePlan);
+                tuplePlan.init(plans);
+                return tuplePlan;
+            case TypeTags.UNION_TAG:
+                UnionPlan unionPlan = new UnionPlan((UnionType) type);
+                plans.put(type, unionPlan);
+                unionPlan.init(plans);
+                return unionPlan;
+            case TypeTags.INTERSECTION_TAG:
+                plan = build(((IntersectionType) type).getEffectiveType(), plans);
+                break;
+            default:
+                plan = isSimple(type) ? new SimplePlan(type) : new FallbackPlan(type);
+                break;
+        }
+        plans.put(type, plan);
+        return plan;
+    }
+
+    private static boolean isSimple(Type type) {
+        return type.getTag() <= TypeTags.BOOLEAN_TAG || type.getTag() == TypeTags.NULL_TAG;
+    }
+
+    private static Type getMatchingType(Object value, Type targetType) {
+        // Same as picking the type of the value when it is one of the convertible types.
+        Type sourceType = TypeChecker.getType(value);
+        return sourceType.equals(targetType) ? sourceType : targetType;
+    }
+
+    /**
+     * State of a single conversion.
+     */
+    static class Context {
+
+        private final BTypedesc typedesc;
+        // Mapping and list values which are being converted. A cyclic value does not match any plan.
+        private final Set<Object> path = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        Context(BTypedesc typedesc) {
+            this.typedesc = typedesc;
+        }
+
+        boolean enter(Object value) {
+            return path.add(value);
+        }
+
+        void exit(Object value) {
+            path.remove(value);
+        }
+    }
+
+    /**
+     * Plan of a closed or open record type.
+     */
+    private static class RecordPlan extends ConversionPlan {
+
+        private final RecordType type;
+        private final Map<String, ConversionPlan> fieldPlans = new HashMap<>();
+        private final List<BString> requiredFields = new ArrayList<>();
+        private ConversionPlan restFieldPlan;
+
+        RecordPlan(RecordType type) {
+            this.type = type;
+        }
+
+        void init(Map<Type, ConversionPlan> plans) {
+            for (Field field : type.getFields().values()) {
+                fieldPlans.put(field.getFieldName(), build(field.getFieldType(), plans));
+                if (SymbolFlags.isFlagOn(field.getFlags(), SymbolFlags.REQUIRED)) {
+                    requiredFields.add(StringUtils.fromString(field.getFieldName()));
+                }
+            }
+            if (!type.isSealed() && type.getRestFieldType() != null) {
+                restFieldPlan = build(type.getRestFieldType(), plans);
+            }
+        }
+
+        @Override
+        boolean matches(Object value, boolean unique, Context context) {
+            if (!(value instanceof BMap)) {
+                return false;
+            }
+            BMap<?, ?> map = (BMap<?, ?>) value;
+            for (BString fieldName : requiredFields) {
+                if (!map.containsKey(fieldName)) {
+                    return false;
+                }
+            }
+            if (!context.enter(value)) {
+                return false;
+            }
+            boolean matches = true;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                ConversionPlan fieldPlan = getFieldPlan(entry.getKey().toString());
+                if (fieldPlan == null || !fieldPlan.matches(entry.getValue(), true, context)) {
+                    matches = false;
+                    break;
+                }
+            }
+            context.exit(value);
+            return matches;
+        }
+
+        @Override
+        Object convert(Object value, boolean unique, Context context) {
+            BMap<?, ?> map = (BMap<?, ?>) value;
+            Type matchingType = getMatchingType(value, type);
+            BMap<?, ?> newRecord;
+            if (context.typedesc != null && context.typedesc.getDescribingType() == matchingType) {
+                BMapInitialValueEntry[] initialValues = new BMapInitialValueEntry[map.size()];
+                int count = 0;
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    String fieldName = entry.getKey().toString();
+                    Object newValue = getFieldPlan(fieldName).convert(entry.getValue(), true, context);
+                    initialValues[count++] =
+                            ValueCreator.createKeyFieldEntry(StringUtils.fromString(fieldName), newValue);
+                }
+                newRecord = (BMap<?, ?>) context.typedesc.instantiate(Scheduler.getStrand(), initialValues);
+            } else {
+                Map<String, Object> valueMap = new HashMap<>();
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    String fieldName = entry.getKey().toString();
+                    valueMap.put(fieldName, getFieldPlan(fieldName).convert(entry.getValue(), true, context));
+                }
+                RecordType recordType = (RecordType) matchingType;
+                newRecord = ValueCreator.createRecordValue(recordType.getPackage(), recordType.getName(), valueMap);
+            }
+            return newRecord;
+        }
+
+        private ConversionPlan getFieldPlan(String fieldName) {
+            ConversionPlan fieldPlan = fieldPlans.get(fieldName);
+            return fieldPlan != null ? fieldPlan : restFieldPlan;
+        }
+    }
+
+    /**
+     * Plan of a map type.
+     */
+    private static class MapPlan extends ConversionPlan {
+
+        private final MapType type;
+        private ConversionPlan constraintPlan;
+
+        MapPlan(MapType type) {
+            this.type = type;
+        }
+
+        @Override
+        boolean matches(Object value, boolean unique, Context context) {
+            if (!(value instanceof BMap) || !context.enter(value)) {
+                return false;
+            }
+            boolean matches = true;
+            for (Object member : ((BMap<?, ?>) value).values()) {
+                if (!constraintPlan.matches(member, true, context)) {
+                    matches = false;
+                    break;
+                }
+            }
+            context.exit(value);
+            return matches;
+        }
+
+        @Override
+        Object convert(Object value, boolean unique, Context context) {
+            BMap<?, ?> map = (BMap<?, ?>) value;
+            BMapInitialValueEntry[] initialValues = new BMapInitialValueEntry[map.size()];
+            int count = 0;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                Object newValue = constraintPlan.convert(entry.getValue(), true, context);
+                initialValues[count++] =
+                        ValueCreator.createKeyFieldEntry(StringUtils.fromString(entry.getKey().toString()), newValue);
+            }
+            return ValueCreator.createMapValue(getMatchingType(value, type), initialValues);
+        }
+    }
+
+    /**
+     * Plan of an array type.
+     */
+    private static class ArrayPlan extends ConversionPlan {
+
+        private final ArrayType type;
+        private ConversionPlan elementPlan;
+
+        ArrayPlan(ArrayType type) {
+            this.type = type;
+        }
+
+        @Override
+        boolean matches(Object value, boolean unique, Context context) {
+            if (!(value instanceof BArray)) {
+                return false;
+            }
+            BArray array = (BArray) value;
+            // Fixed length arrays are left to the full analysis.
+            if (type.getSize() != -1 || !context.enter(value)) {
+                return false;
+            }
+            boolean matches = true;
+            for (int i = 0, size = array.size(); i < size; i++) {
+                if (!elementPlan.matches(array.get(i), false, context)) {
+                    matches = false;
+                    break;
+                }
+            }
+            context.exit(value);
+            return matches;
+        }
+
+        @Override
+        Object convert(Object value, boolean unique, Context context) {
+            BArray array = (BArray) value;
+            int size = array.size();
+            BListInitialValueEntry[] arrayValues = new BListInitialValueEntry[size];
+            for (int i = 0; i < size; i++) {
+                Object newValue = elementPlan.convert(array.get(i), false, context);
+                arrayValues[i] = ValueCreator.createListInitialValueEntry(newValue);
+            }
+            ArrayType arrayType = (ArrayType) getMatchingType(value, type);
+            return ValueCreator.createArrayValue(arrayType, arrayType.getSize(), arrayValues);
+        }
+    }
+
+    /**
+     * Plan of a tuple type.
+     */
+    private static class TuplePlan extends ConversionPlan {
+
+        private final TupleType type;
+        private ConversionPlan[] memberPlans;
+        private ConversionPlan restPlan;
+
+        TuplePlan(TupleType type) {
+            this.type = type;
+        }
+
+        void init(Map<Type, ConversionPlan> plans) {
+            List<Type> tupleTypes = type.getTupleTypes();
+            memberPlans = new ConversionPlan[tupleTypes.size()];
+            for (int i = 0; i < memberPlans.length; i++) {
+                memberPlans[i] = build(tupleTypes.get(i), plans);
+            }
+            if (type.getRestType() != null) {
+                restPlan = build(type.getRestType(), plans);
+            }
+        }
+
+        @Override
+        boolean matches(Object value, boolean unique, Context context) {
+            if (!(value instanceof BArray)) {
+                return false;
+            }
+            BArray array = (BArray) value;
+            int size = array.size();
+            if (size < memberPlans.length || (restPlan == null && size > memberPlans.length)) {
+                return false;
+            }
+            if (!context.enter(value)) {
+                return false;
+            }
+            boolean matches = true;
+            for (int i = 0; i < size; i++) {
+                ConversionPlan memberPlan = i < memberPlans.length ? memberPlans[i] : restPlan;
+                if (!memberPlan.matches(array.get(i), false, context)) {
+                    matches = false;
+                    break;
+                }
+            }
+            context.exit(value);
+            return matches;
+        }
+
+        @Override
+        Object convert(Object value, boolean unique, Context context) {
+            BArray array = (BArray) value;
+            int size = array.size();
+            BListInitialValueEntry[] tupleValues = new BListInitialValueEntry[size];
+            for (int i = 0; i < size; i++) {
+                ConversionPlan memberPlan = i < memberPlans.length ? memberPlans[i] : restPlan;
+                tupleValues[i] = ValueCreator.createListInitialValueEntry(
+                        memberPlan.convert(array.get(i), false, context));
+            }
+            return ValueCreator.createTupleValue((TupleType) getMatchingType(value, type), size, tupleValues);
+        }
+    }
+
+    /**
+     * Plan of a union type. A value is converted using the plan of a member only if no other member can accept a
+     * value of the same basic type, i.e. if the member is the only convertible type whenever the value is
+     * convertible to it.
+     */
+    private static class UnionPlan extends ConversionPlan {
+
+        private final UnionType type;
+        private final FallbackPlan fallbackPlan;
+        private boolean nilable;
+        private ConversionPlan mappingPlan;
+        private ConversionPlan listPlan;
+
+        UnionPlan(UnionType type) {
+            this.type = type;
+            this.fallbackPlan = new FallbackPlan(type);
+        }
+
+        void init(Map<Type, ConversionPlan> plans) {
+            Type mappingMember = null;
+            Type listMember = null;
+            int mappingMembers = 0;
+            int listMembers = 0;
+            for (Type member : type.getMemberTypes()) {
+                if (member == PredefinedTypes.TYPE_NULL) {
+                    nilable = true;
+                }
+                if (mayAcceptMapping(member)) {
+                    mappingMember = member;
+                    mappingMembers++;
+                }
+                if (mayAcceptList(member)) {
+                    listMember = member;
+                    listMembers++;
+                }
+            }
+            if (mappingMembers == 1 && isMappingType(mappingMember)) {
+                mappingPlan = build(mappingMember, plans);
+            }
+            if (listMembers == 1 && isListType(listMember)) {
+                listPlan = build(listMember, plans);
+            }
+        }
+
+        @Override
+        boolean matches(Object value, boolean unique, Context context) {
+            ConversionPlan memberPlan = getMemberPlan(value);
+            return memberPlan == null || memberPlan.matches(value, unique, context);
+        }
+
+        @Override
+        Object convert(Object value, boolean unique, Context context) {
+            ConversionPlan memberPlan = getMemberPlan(value);
+            return memberPlan == null ? value : memberPlan.convert(value, unique, context);
+        }
+
+        /**
+         * Returns the plan which converts the given value, or {@code null} if the value is accepted as it is.
+         */
+        private ConversionPlan getMemberPlan(Object value) {
+            if (value == null) {
+                if (nilable) {
+                    return null;
+                }
+            } else if (value instanceof BMap) {
+                if (mappingPlan != null) {
+                    return mappingPlan;
+                }
+            } else if (value instanceof BArray) {
+                if (listPlan != null) {
+                    return listPlan;
+                }
+            } else {
+                Type sourceType = TypeChecker.getType(value);
+                if (sourceType.getTag() <= TypeTags.BOOLEAN_TAG) {
+                    for (Type member : type.getMemberTypes()) {
+                        if (member == sourceType) {
+                            return null;
+                        }
+                    }
+                }
+            }
+            return fallbackPlan;
+        }
+
+        private static boolean mayAcceptMapping(Type member) {
+            switch (member.getTag()) {
+                case TypeTags.NULL_TAG:
+                case TypeTags.ARRAY_TAG:
+                case TypeTags.TUPLE_TAG:
+                case TypeTags.ERROR_TAG:
+                    return false;
+                default:
+                    return !isSimpleOrXml(member);
+            }
+        }
+
+        private static boolean mayAcceptList(Type member) {
+            switch (member.getTag()) {
+                case TypeTags.NULL_TAG:
+                case TypeTags.MAP_TAG:
+                case TypeTags.RECORD_TYPE_TAG:
+                case TypeTags.ERROR_TAG:
+                    return false;
+                default:
+                    return !isSimpleOrXml(member);
+            }
+        }
+
+        private static boolean isSimpleOrXml(Type type) {
+            int tag = type.getTag();
+            return tag <= TypeTags.CHAR_STRING_TAG || tag == TypeTags.XML_TAG ||
+                    (tag >= TypeTags.XML_ELEMENT_TAG && tag <= TypeTags.XML_TEXT_TAG);
+        }
+
+        private static boolean isMappingType(Type type) {
+            type = getEffectiveType(type);
+            return type.getTag() == TypeTags.RECORD_TYPE_TAG || type.getTag() == TypeTags.MAP_TAG;
+        }
+
+        private static boolean isListType(Type type) {
+            type = getEffectiveType(type);
+            return type.getTag() == TypeTags.ARRAY_TAG || type.getTag() == TypeTags.TUPLE_TAG;
+        }
+
+        private static Type getEffectiveType(Type type) {
+            if (type.getTag() == TypeTags.INTERSECTION_TAG) {
+                return ((IntersectionType) type).getEffectiveType();
+            }
+            return type;
+        }
+    }
+
+    /**
+     * Plan of a simple basic type or nil, which accepts values of exactly the same type as they are.
+     */
+    private static class SimplePlan extends ConversionPlan {
+
+        private final Type type;
+        private final FallbackPlan fallbackPlan;
+
+        SimplePlan(Type type) {
+            this.type = type;
+            this.fallbackPlan = new FallbackPlan(type);
+        }
+
+        @Override
+        boolean matches(Object value, boolean unique, Context context) {
+            // Numeric conversions and subtypes of int and string are left to the fallback plan.
+            return TypeChecker.getType(value) == type || fallbackPlan.matches(value, unique, context);
+        }
+
+        @Override
+        Object convert(Object value, boolean unique, Context context) {
+            if (TypeChecker.getType(value) == type) {
+                return value;
+            }
+            return fallbackPlan.convert(value, unique, context);
+        }
+    }
+
+    /**
+     * Plan which converts the value using the full analysis of {@link CloneWithType}.
+     */
+    private static class FallbackPlan extends ConversionPlan {
+
+        private final Type type;
+
+        FallbackPlan(Type type) {
+            this.type = type;
+        }
+
+        @Override
+        boolean matches(Object value, boolean unique, Context context) {
+            if (value == null) {
+                return type.isNilable();
+            }
+            return getConvertibleTypes(value, unique) != null;
+        }
+
+        @Override
+        Object convert(Object value, boolean unique, Context context) {
+            if (value == null) {
+                return null;
+            }
+            return CloneWithType.convert(value, type, getConvertibleTypes(value, unique), new ArrayList<>(), true,
+                    context.typedesc);
+        }
+
+        /**
+         * Returns the types the value can be converted to, or {@code null} if the full analysis of the enclosing
+         * value is needed to decide how the value is converted, or to report the error.
+         */
+        private Set<Type> getConvertibleTypes(Object value, boolean unique) {
+            List<String> errors = new ArrayList<>();
+            Set<Type> convertibleTypes = TypeConverter.getConvertibleTypes(value, type, null, false, errors);
+            int size = convertibleTypes.size();
+            if (size == 0) {
+                return null;
+            }
+            if (size > 1 && (unique || (!convertibleTypes.contains(TypeChecker.getType(value)) &&
+                    !TypeConverter.hasIntegerSubTypes(convertibleTypes)))) {
+                return null;
+            }
+            return convertibleTypes;
+        }
+    }
+
+    /**
+     * Identity based key of a type, since types are compared structurally or by name.
+     */
+    private static class TypeKey {
+
+        private final Type type;
+
+        TypeKey(Type type) {
+            this.type = type;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof TypeKey && ((TypeKey) o).type == type;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(type);
+        }
+    }
+}
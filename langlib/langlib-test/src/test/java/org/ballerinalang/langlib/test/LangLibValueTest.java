@@ -360,7 +360,10 @@ public class LangLibValueTest {
                 { "testCloneWithTypeWithUnionTypeArrayFromIntArray" },
                 { "testCloneWithTypeWithFiniteTypeArrayFromIntArrayNegative" },
                 { "testConvertJsonToNestedRecordsWithErrors" },
-                { "testCloneWithTypeNestedStructuredTypesNegative"}
+                { "testCloneWithTypeNestedStructuredTypesNegative"},
+                { "testCloneWithTypeRecursiveRecord" },
+                { "testCloneWithTypeRecursiveRecordNegative" },
+                { "testCloneWithTypeDefaultValuesInitializedOnce" }
         };
     }
 
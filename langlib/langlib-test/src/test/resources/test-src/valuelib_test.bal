@@ -1589,6 +1589,88 @@ function testCloneWithTypeNestedStructuredTypesNegative() {
     assert(err.message(),"{ballerina/lang.value}ConversionError");
 }
 
+type TreeNode record {|
+    string name;
+    int weight = 0;
+    TreeNode? parent = ();
+    TreeNode[] children = [];
+    map<float> attributes?;
+|};
+
+function testCloneWithTypeRecursiveRecord() {
+    json j = {
+        name: "root",
+        children: [
+            {name: "a", weight: 1, attributes: {x: 1, y: 2.5}},
+            {name: "b", children: [{name: "c", weight: 3}]}
+        ]
+    };
+    // The second conversion uses the same conversion plan.
+    foreach int i in 0 ..< 2 {
+        TreeNode root = checkpanic j.cloneWithType(TreeNode);
+        assert(root.name, "root");
+        assert(root.parent is (), true);
+        assert(root.children.length(), 2);
+        assert(root.children[0].weight, 1);
+        assert(root.children[0]?.attributes, {x: 1.0, y: 2.5});
+        assert(root.children[1].children[0].name, "c");
+        assert(root.children[1].children[0].weight, 3);
+    }
+
+    TreeNode child = {name: "child"};
+    TreeNode parent = {name: "parent", children: [child]};
+    child.parent = {name: "grandparent"};
+    TreeNode cloned = checkpanic parent.cloneWithType(TreeNode);
+    assert(cloned, parent);
+    assert(cloned === parent, false);
+}
+
+function testCloneWithTypeRecursiveRecordNegative() {
+    json j = {name: "root", children: [{name: "a", weight: "heavy"}]};
+    TreeNode|error root = j.cloneWithType(TreeNode);
+    assert(root is error, true);
+    error err = <error> root;
+    assert(err.message(), "{ballerina/lang.value}ConversionError");
+    assert(<string> checkpanic err.detail()["message"], "'map<json>' value cannot be converted to 'TreeNode': " +
+        "\n\t\tfield 'children[0].weight' in record 'TreeNode' should be of type 'int', found '\"heavy\"'");
+
+    map<json> cyclic = {name: "cyclic"};
+    cyclic["children"] = [cyclic];
+    root = trap cyclic.cloneWithType(TreeNode);
+    assert(root is error, true);
+}
+
+int countedRecords = 0;
+
+function nextCountedId() returns int {
+    countedRecords += 1;
+    return countedRecords;
+}
+
+type Counted record {|
+    string name;
+    int id = nextCountedId();
+|};
+
+type CountedHolder record {|
+    Counted counted;
+    int count;
+|};
+
+function testCloneWithTypeDefaultValuesInitializedOnce() {
+    countedRecords = 0;
+    map<json> m = {counted: {name: "a"}, count: 1};
+    CountedHolder holder = checkpanic m.cloneWithType(CountedHolder);
+    assert(holder.counted.id, 1);
+    assert(countedRecords, 1);
+
+    // The conversion of the nested record does not start, since a sibling field is not convertible.
+    map<json> invalid = {counted: {name: "b"}, count: "many"};
+    CountedHolder|error result = invalid.cloneWithType(CountedHolder);
+    assert(result is error, true);
+    assert(countedRecords, 1);
+}
+
 /////////////////////////// Tests for `toJson()` ///////////////////////////
 
 type Student2 record {
@@ -170,6 +170,14 @@ public interface WorkspaceManager {
      */
     Optional<PackageCompilation> waitAndGetPackageCompilation(Path filePath, CancelChecker cancelChecker);
 
+    /**
+     * Returns whether the document of the given path is opened in the client.
+     *
+     * @param filePath file path of the document
+     * @return True if the document is opened, false otherwise
+     */
+    boolean isOpened(Path filePath);
+
     /**
      * The document open notification is sent from the client to the server to signal newly opened text documents.
      *
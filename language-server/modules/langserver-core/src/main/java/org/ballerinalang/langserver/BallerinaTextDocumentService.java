@@ -44,6 +44,7 @@ import org.ballerinalang.langserver.diagnostic.DiagnosticsHelper;
 import org.ballerinalang.langserver.exception.UserErrorException;
 import org.ballerinalang.langserver.foldingrange.FoldingRangeProvider;
 import org.ballerinalang.langserver.hover.HoverUtil;
+import org.ballerinalang.langserver.semantictokens.SemanticTokensCache;
 import org.ballerinalang.langserver.semantictokens.SemanticTokensUtils;
 import org.ballerinalang.langserver.signature.SignatureHelpUtil;
 import org.ballerinalang.langserver.util.LSClientUtil;
@@ -81,7 +82,10 @@ import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.ReferenceParams;
 import org.eclipse.lsp4j.RenameParams;
 import org.eclipse.lsp4j.SemanticTokens;
+import org.eclipse.lsp4j.SemanticTokensDelta;
+import org.eclipse.lsp4j.SemanticTokensDeltaParams;
 import org.eclipse.lsp4j.SemanticTokensParams;
+import org.eclipse.lsp4j.SemanticTokensRangeParams;
 import org.eclipse.lsp4j.SignatureHelp;
 import org.eclipse.lsp4j.SignatureHelpParams;
 import org.eclipse.lsp4j.SymbolInformation;
@@ -566,6 +570,7 @@ class BallerinaTextDocumentService implements TextDocumentService {
                     LSContextOperation.TXT_DID_CLOSE,
                     this.serverContext);
             workspaceManager.didClose(context.filePath(), params);
+            SemanticTokensCache.getInstance(this.serverContext).remove(fileUri);
             this.clientLogger.logTrace("Operation '" + LSContextOperation.TXT_DID_CLOSE.getName() +
                     "' {fileUri: '" + fileUri + "'} closed");
         } catch (Throwable e) {
@@ -629,4 +634,55 @@ class BallerinaTextDocumentService implements TextDocumentService {
             return new SemanticTokens(new ArrayList<>());
         });
     }
+
+    @Override
+    public CompletableFuture<Either<SemanticTokens, SemanticTokensDelta>> semanticTokensFullDelta(
+            SemanticTokensDeltaParams params) {
+        return CompletableFutures.computeAsync((cancelChecker) -> {
+            try {
+                SemanticTokensContext context = ContextBuilder.buildSemanticTokensContext(
+                        params.getTextDocument().getUri(),
+                        this.workspaceManager,
+                        LSContextOperation.TXT_SEMANTIC_TOKENS_DELTA,
+                        this.serverContext,
+                        cancelChecker);
+
+                return SemanticTokensUtils.getSemanticTokensDelta(context, params.getPreviousResultId());
+            } catch (CancellationException ignore) {
+                // Ignore cancellation exception
+            } catch (Throwable e) {
+                String msg = "Operation 'textDocument/semanticTokens/full/delta' failed!";
+                this.clientLogger.logError(LSContextOperation.TXT_SEMANTIC_TOKENS_DELTA, msg, e,
+                        new TextDocumentIdentifier(params.getTextDocument().getUri()),
+                        (Position) null);
+            }
+
+            return Either.forLeft(new SemanticTokens(new ArrayList<>()));
+        });
+    }
+
+    @Override
+    public CompletableFuture<SemanticTokens> semanticTokensRange(SemanticTokensRangeParams params) {
+        return CompletableFutures.computeAsync((cancelChecker) -> {
+            try {
+                SemanticTokensContext context = ContextBuilder.buildSemanticTokensContext(
+                        params.getTextDocument().getUri(),
+                        this.workspaceManager,
+                        LSContextOperation.TXT_SEMANTIC_TOKENS_RANGE,
+                        this.serverContext,
+                        cancelChecker);
+
+                return SemanticTokensUtils.getSemanticTokens(context, params.getRange());
+            } catch (CancellationException ignore) {
+                // Ignore cancellation exception
+            } catch (Throwable e) {
+                String msg = "Operation 'textDocument/semanticTokens/range' failed!";
+                this.clientLogger.logError(LSContextOperation.TXT_SEMANTIC_TOKENS_RANGE, msg, e,
+                        new TextDocumentIdentifier(params.getTextDocument().getUri()),
+                        params.getRange().getStart(), params.getRange().getEnd());
+            }
+
+            return new SemanticTokens(new ArrayList<>());
+        });
+    }
 }
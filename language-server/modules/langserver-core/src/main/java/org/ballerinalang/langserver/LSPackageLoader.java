@@ -15,6 +15,10 @@
  */
 package org.ballerinalang.langserver;
 
+import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonParseException;
+import io.ballerina.projects.Module;
 import io.ballerina.projects.Package;
 import io.ballerina.projects.PackageDependencyScope;
 import io.ballerina.projects.PackageDescriptor;
@@ -28,22 +32,38 @@ import io.ballerina.projects.internal.environment.BallerinaDistribution;
 import io.ballerina.projects.internal.environment.DefaultEnvironment;
 import org.ballerinalang.langserver.commons.LanguageServerContext;
 import org.wso2.ballerinalang.compiler.util.Names;
+import org.wso2.ballerinalang.util.RepoUtils;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 
 /**
  * Loads the Ballerina builtin core and builtin packages.
+ * <p>
+ * Loading the distribution packages is costly, hence the information the language server needs of them is kept in an
+ * index in the home repository, built once for each distribution. The index is used as long as the packages listed in
+ * the distribution repository are the ones it was built for.
  */
 public class LSPackageLoader {
     private static final LanguageServerContext.Key<LSPackageLoader> LS_PACKAGE_LOADER_KEY =
             new LanguageServerContext.Key<>();
+    private static final String INDEX_DIR = "ls-index";
+    private static final String INDEX_FILE = "distribution-packages.json";
+    private static final int INDEX_FORMAT_VERSION = 1;
 
-    private final List<Package> distRepoPackages;
+    private final List<PackageInfo> distRepoPackages;
     
     public static LSPackageLoader getInstance(LanguageServerContext context) {
         LSPackageLoader lsPackageLoader = context.get(LS_PACKAGE_LOADER_KEY);
@@ -59,14 +79,44 @@ public class LSPackageLoader {
         context.put(LS_PACKAGE_LOADER_KEY, this);
     }
 
-    private List<Package> getPackagesFromDistRepo() {
+    private List<PackageInfo> getPackagesFromDistRepo() {
         DefaultEnvironment environment = new DefaultEnvironment();
         // Creating a Ballerina distribution instance
         BallerinaDistribution ballerinaDistribution = BallerinaDistribution.from(environment);
-        PackageRepository packageRepository = ballerinaDistribution.packageRepository();
-        Map<String, List<String>> pkgMap = packageRepository.getPackages();
+        return getPackages(ballerinaDistribution.packageRepository(), getIndexPath());
+    }
 
-        List<Package> packages = new ArrayList<>();
+    /**
+     * Get the packages of a repository, from the index at the given path if it was built for the packages listed in
+     * the repository. Otherwise the packages are loaded, and the index is built again.
+     *
+     * @param packageRepository repository of the packages
+     * @param indexPath         path of the index, if there is a home repository to keep it in
+     * @return {@link List} of the packages
+     */
+    static List<PackageInfo> getPackages(PackageRepository packageRepository, Optional<Path> indexPath) {
+        // Sort the listing, so that it can be compared with the one the index was built for
+        Map<String, List<String>> pkgMap = new TreeMap<>();
+        packageRepository.getPackages().forEach((org, pkgList) -> {
+            List<String> sortedPkgList = new ArrayList<>(pkgList);
+            Collections.sort(sortedPkgList);
+            pkgMap.put(org, sortedPkgList);
+        });
+
+        Optional<PackageIndex> packageIndex = indexPath.flatMap(LSPackageLoader::readIndex)
+                .filter(index -> index.formatVersion == INDEX_FORMAT_VERSION && pkgMap.equals(index.listing));
+        if (packageIndex.isPresent()) {
+            return Collections.unmodifiableList(packageIndex.get().packages);
+        }
+
+        List<PackageInfo> packages = loadPackages(packageRepository, pkgMap);
+        indexPath.ifPresent(path -> writeIndex(path, new PackageIndex(pkgMap, packages)));
+        return Collections.unmodifiableList(packages);
+    }
+
+    private static List<PackageInfo> loadPackages(PackageRepository packageRepository,
+                                                  Map<String, List<String>> pkgMap) {
+        List<PackageInfo> packages = new ArrayList<>();
         List<String> skippedLangLibs = Arrays.asList("lang.annotations", "lang.__internal", "lang.query");
         pkgMap.forEach((key, value) -> {
             if (key.equals(Names.BALLERINA_INTERNAL_ORG.getValue())) {
@@ -87,11 +137,63 @@ public class LSPackageLoader {
 
                 Optional<Package> repoPackage = packageRepository.getPackage(request,
                         ResolutionOptions.builder().setOffline(true).build());
-                repoPackage.ifPresent(packages::add);
+                repoPackage.ifPresent(pkg -> packages.add(PackageInfo.from(pkg)));
             });
         });
 
-        return Collections.unmodifiableList(packages);
+        return packages;
+    }
+
+    private static Optional<Path> getIndexPath() {
+        try {
+            return Optional.of(RepoUtils.createAndGetHomeReposPath().resolve(INDEX_DIR)
+                    .resolve(RepoUtils.getBallerinaVersion()).resolve(INDEX_FILE));
+        } catch (RuntimeException e) {
+            // Without a home repository, the packages are loaded each time
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<PackageIndex> readIndex(Path indexPath) {
+        if (!Files.isRegularFile(indexPath)) {
+            return Optional.empty();
+        }
+        try (Reader reader = Files.newBufferedReader(indexPath, StandardCharsets.UTF_8)) {
+            return Optional.ofNullable(new Gson().fromJson(reader, PackageIndex.class))
+                    .filter(index -> index.listing != null && index.packages != null);
+        } catch (IOException | JsonParseException e) {
+            // A corrupted index is rebuilt
+            return Optional.empty();
+        }
+    }
+
+    private static void writeIndex(Path indexPath, PackageIndex packageIndex) {
+        Path tempPath = null;
+        try {
+            Files.createDirectories(indexPath.getParent());
+            // Write to a temporary file first, so that a concurrently starting server never reads a partial index
+            tempPath = Files.createTempFile(indexPath.getParent(), INDEX_FILE, ".tmp");
+            try (Writer writer = Files.newBufferedWriter(tempPath, StandardCharsets.UTF_8)) {
+                new Gson().toJson(packageIndex, writer);
+            }
+            Files.move(tempPath, indexPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | JsonIOException e) {
+            // The index is built again by the next server started
+        } finally {
+            // The temporary file is left behind only if it could not be moved to the index
+            deleteIfExists(tempPath);
+        }
+    }
+
+    private static void deleteIfExists(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            // A temporary file is never read as the index
+        }
     }
 
     /**
@@ -100,7 +202,70 @@ public class LSPackageLoader {
      *
      * @return {@link List} of distribution repo packages
      */
-    public List<Package> getDistributionRepoPackages() {
+    public List<PackageInfo> getDistributionRepoPackages() {
         return this.distRepoPackages;
     }
+
+    /**
+     * Information of a distribution repo package, which is kept in the index.
+     */
+    public static class PackageInfo {
+        private final String org;
+        private final String name;
+        private final String version;
+        private final List<String> moduleNames;
+
+        private PackageInfo(String org, String name, String version, List<String> moduleNames) {
+            this.org = org;
+            this.name = name;
+            this.version = version;
+            this.moduleNames = moduleNames;
+        }
+
+        private static PackageInfo from(Package pkg) {
+            List<String> moduleNames = new ArrayList<>();
+            for (Module module : pkg.modules()) {
+                moduleNames.add(module.moduleName().toString());
+            }
+            Collections.sort(moduleNames);
+            return new PackageInfo(pkg.packageOrg().value(), pkg.packageName().value(),
+                    pkg.packageVersion().toString(), moduleNames);
+        }
+
+        public PackageOrg packageOrg() {
+            return PackageOrg.from(this.org);
+        }
+
+        public PackageName packageName() {
+            return PackageName.from(this.name);
+        }
+
+        public PackageVersion packageVersion() {
+            return PackageVersion.from(this.version);
+        }
+
+        /**
+         * Returns the names of the modules of the package, including the default module.
+         *
+         * @return {@link List} of module names
+         */
+        public List<String> moduleNames() {
+            return Collections.unmodifiableList(this.moduleNames);
+        }
+    }
+
+    /**
+     * Persisted form of the index, along with the distribution repo listing it was built for.
+     */
+    private static class PackageIndex {
+        private final int formatVersion;
+        private final Map<String, List<String>> listing;
+        private final List<PackageInfo> packages;
+
+        private PackageIndex(Map<String, List<String>> listing, List<PackageInfo> packages) {
+            this.formatVersion = INDEX_FORMAT_VERSION;
+            this.listing = listing;
+            this.packages = packages;
+        }
+    }
 }
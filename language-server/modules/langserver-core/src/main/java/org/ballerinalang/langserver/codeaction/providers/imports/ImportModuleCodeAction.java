@@ -19,10 +19,10 @@ import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
 import io.ballerina.compiler.syntax.tree.ModulePartNode;
 import io.ballerina.compiler.syntax.tree.NodeList;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
-import io.ballerina.projects.Package;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import org.ballerinalang.annotation.JavaSPIService;
 import org.ballerinalang.langserver.LSPackageLoader;
+import org.ballerinalang.langserver.LSPackageLoader.PackageInfo;
 import org.ballerinalang.langserver.codeaction.CodeActionUtil;
 import org.ballerinalang.langserver.codeaction.providers.AbstractCodeActionProvider;
 import org.ballerinalang.langserver.common.constants.CommandConstants;
@@ -72,7 +72,7 @@ public class ImportModuleCodeAction extends AbstractCodeActionProvider {
         String packageAlias = diagnosticMessage.substring(diagnosticMessage.indexOf("'") + 1,
                 diagnosticMessage.lastIndexOf("'"));
         LanguageServerContext serverContext = context.languageServercontext();
-        List<Package> packagesList =
+        List<PackageInfo> packagesList =
                 new ArrayList<>(LSPackageLoader.getInstance(serverContext).getDistributionRepoPackages());
 
         packagesList.stream()
@@ -375,4 +375,26 @@ public class ContextBuilder {
                 .withCancelChecker(cancelChecker)
                 .build();
     }
+
+    /**
+     * Build the semantic tokens context for the given semantic tokens operation.
+     *
+     * @param uri              file uri
+     * @param workspaceManager workspace manager instance
+     * @param operation        semantic tokens operation
+     * @param serverContext    language server context
+     * @param cancelChecker    cancellation checker
+     * @return {@link SemanticTokensContext} generated semantic tokens context
+     */
+    public static SemanticTokensContext buildSemanticTokensContext(String uri,
+                                                                   WorkspaceManager workspaceManager,
+                                                                   LSContextOperation operation,
+                                                                   LanguageServerContext serverContext,
+                                                                   CancelChecker cancelChecker) {
+        return new SemanticTokensContextImpl.SemanticTokensContextBuilder(operation, serverContext)
+                .withFileUri(uri)
+                .withWorkspaceManager(workspaceManager)
+                .withCancelChecker(cancelChecker)
+                .build();
+    }
 }
@@ -46,6 +46,10 @@ public class SemanticTokensContextImpl extends AbstractDocumentServiceContext im
             super(LSContextOperation.TXT_SEMANTIC_TOKENS_FULL, serverContext);
         }
 
+        public SemanticTokensContextBuilder(LSOperation operation, LanguageServerContext serverContext) {
+            super(operation, serverContext);
+        }
+
         public SemanticTokensContext build() {
             return new SemanticTokensContextImpl(this.operation,
                     this.fileUri,
@@ -19,6 +19,7 @@ import io.ballerina.projects.PackageCompilation;
 import io.ballerina.projects.Project;
 import io.ballerina.projects.ProjectKind;
 import io.ballerina.tools.text.LineRange;
+import org.ballerinalang.langserver.common.utils.CommonUtil;
 import org.ballerinalang.langserver.commons.DocumentServiceContext;
 import org.ballerinalang.langserver.commons.LanguageServerContext;
 import org.ballerinalang.langserver.commons.WorkspaceServiceContext;
@@ -29,6 +30,7 @@ import org.eclipse.lsp4j.DiagnosticSeverity;
 import org.eclipse.lsp4j.Position;
 import org.eclipse.lsp4j.PublishDiagnosticsParams;
 import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -37,7 +39,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
@@ -55,7 +59,11 @@ public class DiagnosticsHelper {
      * Holds last sent diagnostics for the purpose of clear-off when publishing new diagnostics.
      */
     private final Map<Path, Map<String, List<Diagnostic>>> lastDiagnosticMap;
-    private CompletableFuture<Boolean> latestScheduled = null;
+    /**
+     * Holds the latest scheduled diagnostics publishing of each project, which supersedes the earlier ones, until it
+     * completes or the project is closed.
+     */
+    private final Map<Path, CompletableFuture<Boolean>> latestScheduled;
 
     public static DiagnosticsHelper getInstance(LanguageServerContext serverContext) {
         DiagnosticsHelper diagnosticsHelper = serverContext.get(DIAGNOSTICS_HELPER_KEY);
@@ -69,6 +77,7 @@ public class DiagnosticsHelper {
     private DiagnosticsHelper(LanguageServerContext serverContext) {
         serverContext.put(DIAGNOSTICS_HELPER_KEY, this);
         this.lastDiagnosticMap = new HashMap<>();
+        this.latestScheduled = new ConcurrentHashMap<>();
     }
 
     /**
@@ -126,21 +135,7 @@ public class DiagnosticsHelper {
         if (client == null) {
             return;
         }
-        Map<String, List<Diagnostic>> lastProjectDiagnostics =
-                lastDiagnosticMap.getOrDefault(project.get().sourceRoot(), new HashMap<>());
-
-        // Clear old diagnostic entries of the project with an empty list
-        lastProjectDiagnostics.forEach((key, value) -> {
-            if (!latestDiagnostics.containsKey(key)) {
-                client.publishDiagnostics(new PublishDiagnosticsParams(key, emptyDiagnosticList));
-            }
-        });
-
-        // Publish diagnostics for the project
-        latestDiagnostics.forEach((key, value) -> client.publishDiagnostics(new PublishDiagnosticsParams(key, value)));
-
-        // Replace old diagnostic map associated with the project
-        lastDiagnosticMap.put(project.get().sourceRoot(), latestDiagnostics);
+        publishDiagnostics(client, context.workspace(), project.get().sourceRoot(), latestDiagnostics);
     }
 
     /**
@@ -150,29 +145,80 @@ public class DiagnosticsHelper {
      * @param projectRoot project root
      * @param compilation package compilation
      */
-    private synchronized void compileAndSendDiagnostics(ExtendedLanguageClient client, Path projectRoot,
-                                                        PackageCompilation compilation) {
+    private synchronized void compileAndSendDiagnostics(ExtendedLanguageClient client,
+                                                        WorkspaceManager workspaceManager,
+                                                        Path projectRoot,
+                                                        PackageCompilation compilation,
+                                                        CompletableFuture<Boolean> scheduledFuture) {
+        if (latestScheduled.get(projectRoot) != scheduledFuture) {
+            // Superseded by a later schedule, which publishes the diagnostics instead
+            return;
+        }
         Map<String, List<Diagnostic>> diagnosticMap =
                 toDiagnosticsMap(compilation.diagnosticResult().diagnostics(false), projectRoot);
         // If the client is null, returns
         if (client == null) {
             return;
         }
+        publishDiagnostics(client, workspaceManager, projectRoot, diagnosticMap);
+    }
+
+    /**
+     * Publishes the diagnostics of a project, which have changed since they were last published.
+     * The diagnostics of the documents opened in the client are published first.
+     *
+     * @param client           Language server client
+     * @param workspaceManager Workspace manager
+     * @param projectKey       Key of the project's last published diagnostics
+     * @param diagnosticMap    Latest diagnostics of the project
+     */
+    private void publishDiagnostics(ExtendedLanguageClient client, WorkspaceManager workspaceManager,
+                                    Path projectKey, Map<String, List<Diagnostic>> diagnosticMap) {
         Map<String, List<Diagnostic>> lastProjectDiagnostics =
-                lastDiagnosticMap.getOrDefault(projectRoot, new HashMap<>());
+                lastDiagnosticMap.getOrDefault(projectKey, new HashMap<>());
 
         // Clear old diagnostic entries of the project with an empty list
+        Map<String, List<Diagnostic>> changedDiagnostics = new HashMap<>();
         lastProjectDiagnostics.forEach((key, value) -> {
             if (!diagnosticMap.containsKey(key)) {
-                client.publishDiagnostics(new PublishDiagnosticsParams(key, emptyDiagnosticList));
+                changedDiagnostics.put(key, emptyDiagnosticList);
+            }
+        });
+        // Skip the documents of which the diagnostics are the same as the ones last published
+        diagnosticMap.forEach((key, value) -> {
+            if (!value.equals(lastProjectDiagnostics.get(key))) {
+                changedDiagnostics.put(key, value);
             }
         });
 
         // Publish diagnostics for the project
-        diagnosticMap.forEach((key, value) -> client.publishDiagnostics(new PublishDiagnosticsParams(key, value)));
+        List<String> otherUris = new ArrayList<>();
+        changedDiagnostics.forEach((key, value) -> {
+            Optional<Path> filePath = CommonUtil.getPathFromURI(key);
+            if (filePath.isPresent() && workspaceManager.isOpened(filePath.get())) {
+                client.publishDiagnostics(new PublishDiagnosticsParams(key, value));
+            } else {
+                otherUris.add(key);
+            }
+        });
+        otherUris.forEach(key -> client.publishDiagnostics(new PublishDiagnosticsParams(key,
+                changedDiagnostics.get(key))));
 
         // Replace old diagnostic map associated with the project
-        lastDiagnosticMap.put(projectRoot, diagnosticMap);
+        lastDiagnosticMap.put(projectKey, diagnosticMap);
+    }
+
+    /**
+     * Cancels the scheduled diagnostics publishing of a closed project, and forgets its last published diagnostics.
+     *
+     * @param projectRoot project root
+     */
+    public synchronized void projectClosed(Path projectRoot) {
+        CompletableFuture<Boolean> scheduledFuture = latestScheduled.remove(projectRoot);
+        if (scheduledFuture != null && !scheduledFuture.isDone()) {
+            scheduledFuture.completeExceptionally(new Throwable("Cancelled diagnostic publisher"));
+        }
+        lastDiagnosticMap.remove(projectRoot);
     }
 
     public Map<String, List<Diagnostic>> getLatestDiagnostics(DocumentServiceContext context) {
@@ -239,18 +285,27 @@ public class DiagnosticsHelper {
     private synchronized void compileAndSendDiagnostics(WorkspaceManager workspaceManager,
                                                         Path projectRoot,
                                                         ExtendedLanguageClient client) {
-        if (latestScheduled != null && !latestScheduled.isDone()) {
-            latestScheduled.completeExceptionally(new Throwable("Cancelled diagnostic publisher"));
+        CompletableFuture<Boolean> previousScheduled = latestScheduled.get(projectRoot);
+        if (previousScheduled != null && !previousScheduled.isDone()) {
+            previousScheduled.completeExceptionally(new Throwable("Cancelled diagnostic publisher"));
         }
 
         Executor delayedExecutor = CompletableFuture.delayedExecutor(DIAGNOSTIC_DELAY, TimeUnit.SECONDS);
         CompletableFuture<Boolean> scheduledFuture = CompletableFuture.supplyAsync(() -> true, delayedExecutor);
-        latestScheduled = scheduledFuture;
+        latestScheduled.put(projectRoot, scheduledFuture);
 
+        // Stop waiting for the compilation once a later schedule supersedes this one. The compilation itself gets
+        // cancelled by the workspace manager when the project is modified.
+        CancelChecker cancelChecker = () -> {
+            if (latestScheduled.get(projectRoot) != scheduledFuture) {
+                throw new CancellationException("Superseded diagnostic publisher");
+            }
+        };
         scheduledFuture
-                .thenApplyAsync((bool) -> workspaceManager.waitAndGetPackageCompilation(projectRoot))
+                .thenApplyAsync((bool) -> workspaceManager.waitAndGetPackageCompilation(projectRoot, cancelChecker))
                 .thenAccept(compilation ->
-                        compilation.ifPresent(pkgCompilation ->
-                                compileAndSendDiagnostics(client, projectRoot, pkgCompilation)));
+                        compilation.ifPresent(pkgCompilation -> compileAndSendDiagnostics(client, workspaceManager,
+                                projectRoot, pkgCompilation, scheduledFuture)))
+                .whenComplete((result, throwable) -> latestScheduled.remove(projectRoot, scheduledFuture));
     }
 }
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ballerinalang.langserver.semantictokens;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import org.ballerinalang.langserver.commons.LanguageServerContext;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Holds the semantic tokens last sent to the client for each open document, along with their result IDs.
+ * <p>
+ * The tokens of a document remain valid as long as neither its syntax tree nor the semantic model of its module has
+ * changed. The result ID lets a delta request refer to the tokens it has to be computed against.
+ *
+ * @since 2.0.0
+ */
+public class SemanticTokensCache {
+
+    private static final LanguageServerContext.Key<SemanticTokensCache> SEMANTIC_TOKENS_CACHE_KEY =
+            new LanguageServerContext.Key<>();
+
+    private final Map<String, CachedTokens> tokensByUri = new ConcurrentHashMap<>();
+    private final AtomicLong resultIdCounter = new AtomicLong();
+
+    private SemanticTokensCache(LanguageServerContext serverContext) {
+        serverContext.put(SEMANTIC_TOKENS_CACHE_KEY, this);
+    }
+
+    public static SemanticTokensCache getInstance(LanguageServerContext serverContext) {
+        SemanticTokensCache semanticTokensCache = serverContext.get(SEMANTIC_TOKENS_CACHE_KEY);
+        if (semanticTokensCache == null) {
+            semanticTokensCache = new SemanticTokensCache(serverContext);
+        }
+
+        return semanticTokensCache;
+    }
+
+    /**
+     * Returns the tokens cached for the given document, if they were computed for the given syntax tree and
+     * semantic model.
+     *
+     * @param fileUri       URI of the document
+     * @param syntaxTree    Current syntax tree of the document
+     * @param semanticModel Current semantic model of the module, or null if there is none
+     * @return Cached tokens, or null if there are no valid tokens cached
+     */
+    CachedTokens get(String fileUri, SyntaxTree syntaxTree, SemanticModel semanticModel) {
+        CachedTokens cachedTokens = this.tokensByUri.get(fileUri);
+        if (cachedTokens == null || cachedTokens.syntaxTree != syntaxTree ||
+                cachedTokens.semanticModel != semanticModel) {
+            return null;
+        }
+        return cachedTokens;
+    }
+
+    /**
+     * Returns the tokens last sent for the given document, if their result ID is the given one.
+     *
+     * @param fileUri  URI of the document
+     * @param resultId Result ID of the tokens
+     * @return Cached tokens, or null if the tokens last sent have a different result ID
+     */
+    CachedTokens get(String fileUri, String resultId) {
+        CachedTokens cachedTokens = this.tokensByUri.get(fileUri);
+        if (cachedTokens == null || !cachedTokens.resultId.equals(resultId)) {
+            return null;
+        }
+        return cachedTokens;
+    }
+
+    /**
+     * Caches the tokens computed for a document with a new result ID.
+     *
+     * @param fileUri       URI of the document
+     * @param syntaxTree    Syntax tree the tokens are computed for
+     * @param semanticModel Semantic model the tokens are computed with
+     * @param data          Encoded tokens
+     * @return Cached tokens
+     */
+    CachedTokens put(String fileUri, SyntaxTree syntaxTree, SemanticModel semanticModel, List<Integer> data) {
+        String resultId = Long.toString(this.resultIdCounter.incrementAndGet());
+        CachedTokens cachedTokens = new CachedTokens(resultId, syntaxTree, semanticModel, data);
+        this.tokensByUri.put(fileUri, cachedTokens);
+        return cachedTokens;
+    }
+
+    /**
+     * Removes the tokens cached for a document, once it is closed.
+     *
+     * @param fileUri URI of the document
+     */
+    public void remove(String fileUri) {
+        this.tokensByUri.remove(fileUri);
+    }
+
+    /**
+     * Semantic tokens of a document and the result ID they were sent with.
+     */
+    static class CachedTokens {
+
+        private final String resultId;
+        private final SyntaxTree syntaxTree;
+        private final SemanticModel semanticModel;
+        private final List<Integer> data;
+
+        private CachedTokens(String resultId, SyntaxTree syntaxTree, SemanticModel semanticModel,
+                             List<Integer> data) {
+            this.resultId = resultId;
+            this.syntaxTree = syntaxTree;
+            this.semanticModel = semanticModel;
+            this.data = data;
+        }
+
+        String resultId() {
+            return resultId;
+        }
+
+        List<Integer> data() {
+            return data;
+        }
+    }
+}
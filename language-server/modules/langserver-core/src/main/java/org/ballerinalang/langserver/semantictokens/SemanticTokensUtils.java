@@ -15,20 +15,28 @@
  */
 package org.ballerinalang.langserver.semantictokens;
 
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.projects.Document;
 import org.ballerinalang.langserver.common.utils.CommonUtil;
 import org.ballerinalang.langserver.commons.SemanticTokensContext;
 import org.ballerinalang.langserver.commons.client.ExtendedLanguageClient;
+import org.ballerinalang.langserver.semantictokens.SemanticTokensCache.CachedTokens;
+import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.Registration;
 import org.eclipse.lsp4j.RegistrationParams;
 import org.eclipse.lsp4j.SemanticTokens;
+import org.eclipse.lsp4j.SemanticTokensDelta;
+import org.eclipse.lsp4j.SemanticTokensEdit;
 import org.eclipse.lsp4j.SemanticTokensLegend;
 import org.eclipse.lsp4j.SemanticTokensServerFull;
 import org.eclipse.lsp4j.SemanticTokensWithRegistrationOptions;
 import org.eclipse.lsp4j.Unregistration;
 import org.eclipse.lsp4j.UnregistrationParams;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -52,17 +60,107 @@ public class SemanticTokensUtils {
      * @return {@link SemanticTokens}
      */
     public static SemanticTokens getSemanticTokens(SemanticTokensContext semanticTokensContext) {
-        String fileUri = semanticTokensContext.fileUri();
-        Optional<Path> filePath = CommonUtil.getPathFromURI(fileUri);
-        if (filePath.isEmpty()) {
+        Optional<Document> document = getDocument(semanticTokensContext);
+        if (document.isEmpty()) {
             return new SemanticTokens(Collections.emptyList());
         }
-        Optional<Document> document = semanticTokensContext.currentDocument();
+        CachedTokens cachedTokens = getCachedTokens(semanticTokensContext, document.get());
+        return new SemanticTokens(cachedTokens.resultId(), cachedTokens.data());
+    }
+
+    /**
+     * Returns the semantic tokens for a given context, as edits to the tokens previously sent with the given result
+     * ID. The full set of tokens is returned if the previous tokens are no longer available.
+     *
+     * @param semanticTokensContext context
+     * @param previousResultId      result ID of the tokens previously sent to the client
+     * @return {@link SemanticTokens} or {@link SemanticTokensDelta}
+     */
+    public static Either<SemanticTokens, SemanticTokensDelta> getSemanticTokensDelta(
+            SemanticTokensContext semanticTokensContext, String previousResultId) {
+        Optional<Document> document = getDocument(semanticTokensContext);
+        if (document.isEmpty()) {
+            return Either.forLeft(new SemanticTokens(Collections.emptyList()));
+        }
+        SemanticTokensCache semanticTokensCache =
+                SemanticTokensCache.getInstance(semanticTokensContext.languageServercontext());
+        CachedTokens previousTokens = semanticTokensCache.get(semanticTokensContext.fileUri(), previousResultId);
+        CachedTokens cachedTokens = getCachedTokens(semanticTokensContext, document.get());
+        if (previousTokens == null) {
+            return Either.forLeft(new SemanticTokens(cachedTokens.resultId(), cachedTokens.data()));
+        }
+        return Either.forRight(new SemanticTokensDelta(getEdits(previousTokens.data(), cachedTokens.data()),
+                cachedTokens.resultId()));
+    }
+
+    /**
+     * Returns the semantic tokens within the given range, for a given context.
+     *
+     * @param semanticTokensContext context
+     * @param range                 range of the document to be highlighted
+     * @return {@link SemanticTokens}
+     */
+    public static SemanticTokens getSemanticTokens(SemanticTokensContext semanticTokensContext, Range range) {
+        Optional<Document> document = getDocument(semanticTokensContext);
         if (document.isEmpty()) {
             return new SemanticTokens(Collections.emptyList());
         }
         return new SemanticTokensVisitor(semanticTokensContext).getSemanticTokens(document.get().syntaxTree()
-                .rootNode());
+                .rootNode(), range);
+    }
+
+    private static Optional<Document> getDocument(SemanticTokensContext semanticTokensContext) {
+        Optional<Path> filePath = CommonUtil.getPathFromURI(semanticTokensContext.fileUri());
+        if (filePath.isEmpty()) {
+            return Optional.empty();
+        }
+        return semanticTokensContext.currentDocument();
+    }
+
+    /**
+     * Returns the tokens cached for the current version of the document, computing and caching them if they are not
+     * available.
+     */
+    private static CachedTokens getCachedTokens(SemanticTokensContext semanticTokensContext, Document document) {
+        SemanticTokensCache semanticTokensCache =
+                SemanticTokensCache.getInstance(semanticTokensContext.languageServercontext());
+        String fileUri = semanticTokensContext.fileUri();
+        SyntaxTree syntaxTree = document.syntaxTree();
+        SemanticModel semanticModel = semanticTokensContext.currentSemanticModel().orElse(null);
+        CachedTokens cachedTokens = semanticTokensCache.get(fileUri, syntaxTree, semanticModel);
+        if (cachedTokens != null) {
+            return cachedTokens;
+        }
+
+        SemanticTokens semanticTokens = new SemanticTokensVisitor(semanticTokensContext)
+                .getSemanticTokens(syntaxTree.rootNode());
+        return semanticTokensCache.put(fileUri, syntaxTree, semanticModel, semanticTokens.getData());
+    }
+
+    /**
+     * Returns the edit which turns the previous token data into the current one, leaving out the common prefix and
+     * suffix of the two.
+     */
+    private static List<SemanticTokensEdit> getEdits(List<Integer> previousData, List<Integer> currentData) {
+        int prefix = 0;
+        int maxPrefix = Math.min(previousData.size(), currentData.size());
+        while (prefix < maxPrefix && previousData.get(prefix).equals(currentData.get(prefix))) {
+            prefix++;
+        }
+        if (prefix == previousData.size() && prefix == currentData.size()) {
+            return Collections.emptyList();
+        }
+
+        int suffix = 0;
+        int maxSuffix = maxPrefix - prefix;
+        while (suffix < maxSuffix && previousData.get(previousData.size() - 1 - suffix)
+                .equals(currentData.get(currentData.size() - 1 - suffix))) {
+            suffix++;
+        }
+
+        int deleteCount = previousData.size() - prefix - suffix;
+        List<Integer> data = new ArrayList<>(currentData.subList(prefix, currentData.size() - suffix));
+        return Collections.singletonList(new SemanticTokensEdit(prefix, deleteCount, data));
     }
 
     /**
@@ -94,7 +192,8 @@ public class SemanticTokensUtils {
      */
     public static SemanticTokensWithRegistrationOptions getSemanticTokensRegistrationOptions() {
         SemanticTokensLegend semanticTokensLegend = new SemanticTokensLegend(getTokenTypes(), getTokenTypeModifiers());
-        return new SemanticTokensWithRegistrationOptions(semanticTokensLegend, new SemanticTokensServerFull(false));
+        return new SemanticTokensWithRegistrationOptions(semanticTokensLegend, new SemanticTokensServerFull(true),
+                true);
     }
 
     /**
@@ -45,6 +45,8 @@ import io.ballerina.compiler.syntax.tree.KeySpecifierNode;
 import io.ballerina.compiler.syntax.tree.MarkdownParameterDocumentationLineNode;
 import io.ballerina.compiler.syntax.tree.MethodCallExpressionNode;
 import io.ballerina.compiler.syntax.tree.MethodDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
 import io.ballerina.compiler.syntax.tree.NamedArgumentNode;
 import io.ballerina.compiler.syntax.tree.Node;
 import io.ballerina.compiler.syntax.tree.NodeVisitor;
@@ -68,6 +70,8 @@ import io.ballerina.tools.text.LineRange;
 import org.ballerinalang.langserver.commons.SemanticTokensContext;
 import org.ballerinalang.langserver.commons.SemanticTokensContext.TokenTypeModifiers;
 import org.ballerinalang.langserver.commons.SemanticTokensContext.TokenTypes;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.SemanticTokens;
 
 import java.util.ArrayList;
@@ -111,6 +115,36 @@ public class SemanticTokensVisitor extends NodeVisitor {
         return new SemanticTokens(data);
     }
 
+    /**
+     * Collects semantic tokens of the imports and module members which overlap with the given range and returns the
+     * processed list of semantic tokens within the range.
+     *
+     * @param modulePartNode Root node
+     * @param range          Range to be highlighted
+     * @return {@link SemanticTokens}
+     */
+    public SemanticTokens getSemanticTokens(ModulePartNode modulePartNode, Range range) {
+        for (ImportDeclarationNode importDeclarationNode : modulePartNode.imports()) {
+            if (isOverlapping(importDeclarationNode.lineRange(), range)) {
+                importDeclarationNode.accept(this);
+            }
+        }
+        for (ModuleMemberDeclarationNode member : modulePartNode.members()) {
+            if (isOverlapping(member.lineRange(), range)) {
+                member.accept(this);
+            }
+        }
+
+        List<Integer> data = new ArrayList<>();
+        SemanticToken previousToken = null;
+        for (SemanticToken semanticToken : this.semanticTokens) {
+            if (semanticToken.isWithin(range)) {
+                previousToken = semanticToken.processSemanticToken(data, previousToken);
+            }
+        }
+        return new SemanticTokens(data);
+    }
+
     public void visit(ImportDeclarationNode importDeclarationNode) {
         Optional<ImportPrefixNode> importPrefixNode = importDeclarationNode.prefix();
         importPrefixNode.ifPresent(prefixNode -> this.addSemanticToken(prefixNode.prefix(),
@@ -667,6 +701,18 @@ public class SemanticTokensVisitor extends NodeVisitor {
         });
     }
 
+    private static boolean isOverlapping(LineRange lineRange, Range range) {
+        LinePosition start = lineRange.startLine();
+        LinePosition end = lineRange.endLine();
+        Position rangeStart = range.getStart();
+        Position rangeEnd = range.getEnd();
+        boolean endsBeforeRange = end.line() < rangeStart.getLine() ||
+                (end.line() == rangeStart.getLine() && end.offset() < rangeStart.getCharacter());
+        boolean startsAfterRange = start.line() > rangeEnd.getLine() ||
+                (start.line() == rangeEnd.getLine() && start.offset() > rangeEnd.getCharacter());
+        return !endsBeforeRange && !startsAfterRange;
+    }
+
     /**
      * Represents semantic token data for a node.
      */
@@ -711,6 +757,14 @@ public class SemanticTokensVisitor extends NodeVisitor {
             return modifiers;
         }
 
+        private boolean isWithin(Range range) {
+            Position start = range.getStart();
+            Position end = range.getEnd();
+            boolean startsBefore = line < start.getLine() || (line == start.getLine() && column < start.getCharacter());
+            boolean startsAfter = line > end.getLine() || (line == end.getLine() && column >= end.getCharacter());
+            return !startsBefore && !startsAfter;
+        }
+
         public void setProperties(int length, int type, int modifiers) {
             this.length = length;
             this.type = type;
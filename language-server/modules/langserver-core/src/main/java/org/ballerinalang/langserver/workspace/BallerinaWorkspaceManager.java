@@ -52,6 +52,7 @@ import org.ballerinalang.langserver.commons.workspace.WorkspaceDocumentException
 import org.ballerinalang.langserver.commons.workspace.WorkspaceDocumentManager;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
 import org.ballerinalang.langserver.config.LSClientConfigHolder;
+import org.ballerinalang.langserver.diagnostic.DiagnosticsHelper;
 import org.eclipse.lsp4j.DidChangeTextDocumentParams;
 import org.eclipse.lsp4j.DidChangeWatchedFilesParams;
 import org.eclipse.lsp4j.DidCloseTextDocumentParams;
@@ -74,7 +75,17 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -99,9 +110,10 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
     private final Map<Path, ProjectPair> sourceRootToProject;
     private static final LanguageServerContext.Key<BallerinaWorkspaceManager> WORKSPACE_MANAGER_KEY =
             new LanguageServerContext.Key<>();
+    private static final long COMPILATION_POLL_INTERVAL_MS = 50;
     private final LSClientLogger clientLogger;
     private final LanguageServerContext serverContext;
-    private final Set<Path> openedDocuments = new HashSet<>();
+    private final Set<Path> openedDocuments = ConcurrentHashMap.newKeySet();
 
     private BallerinaWorkspaceManager(LanguageServerContext serverContext) {
         serverContext.put(WORKSPACE_MANAGER_KEY, this);
@@ -272,27 +284,50 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
      */
     @Override
     public Optional<PackageCompilation> waitAndGetPackageCompilation(Path filePath) {
-        // Get Project and Lock
+        return waitAndGetPackageCompilation(filePath, () -> {
+        });
+    }
+
+    @Override
+    public Optional<PackageCompilation> waitAndGetPackageCompilation(Path filePath,
+                                                                     @Nonnull CancelChecker cancelChecker) {
+        cancelChecker.checkCanceled();
+        // Get Project
         Optional<ProjectPair> projectPair = projectPair(projectRoot(filePath));
         if (projectPair.isEmpty()) {
             return Optional.empty();
         }
 
-        // Lock Project Instance
-        Lock lock = projectPair.get().lockAndGet();
-        try {
-            return Optional.of(projectPair.get().project().currentPackage().getCompilation());
-        } finally {
-            // Unlock Project Instance
-            lock.unlock();
+        // The compilation is waited for without locking the project instance, hence modifications to the project
+        // are not blocked by it. A compilation superseded by a newer modification gets cancelled, in which case the
+        // compilation of the latest snapshot is waited for instead.
+        while (true) {
+            cancelChecker.checkCanceled();
+            Future<PackageCompilation> compilation = projectPair.get().compilation();
+            try {
+                return Optional.of(compilation.get(COMPILATION_POLL_INTERVAL_MS, TimeUnit.MILLISECONDS));
+            } catch (TimeoutException | CancellationException e) {
+                // Check whether the request is cancelled and wait for the compilation of the latest snapshot
+                continue;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Optional.empty();
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new IllegalStateException(cause);
+            }
         }
     }
 
     @Override
-    public Optional<PackageCompilation> waitAndGetPackageCompilation(Path filePath,
-                                                                     @Nonnull CancelChecker cancelChecker) {
-        cancelChecker.checkCanceled();
-        return waitAndGetPackageCompilation(filePath);
+    public boolean isOpened(Path filePath) {
+        return this.openedDocuments.contains(filePath);
     }
 
     /**
@@ -595,7 +630,7 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
                 if (project.kind() == ProjectKind.SINGLE_FILE_PROJECT) {
                     // If it is a single-file-project, remove project from mapping
                     Path projectRoot = project.sourceRoot();
-                    sourceRootToProject.remove(projectRoot);
+                    removeProject(projectRoot);
                     clientLogger.logTrace(String.format("Operation '%s' {project: '%s' kind: '%s'} removed",
                             LSContextOperation.WS_WF_CHANGED.getName(),
                             projectRoot.toUri().toString(),
@@ -650,7 +685,7 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
                     Lock lock = projectPair.lockAndGet();
                     try {
                         Path projectRoot = project.sourceRoot();
-                        sourceRootToProject.remove(projectRoot);
+                        removeProject(projectRoot);
                         clientLogger.logTrace(
                                 String.format("Operation '%s' {project: '%s', kind: '%s'} removed",
                                         LSContextOperation.WS_WF_CHANGED.getName(),
@@ -821,7 +856,7 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
                         // This results upgrading a single-file-project into a build-project
                         // When changing project type; need to remove key as well
                         // First, remove single-file-project key
-                        sourceRootToProject.remove(projectPair.project().sourceRoot());
+                        removeProject(projectPair.project().sourceRoot());
                         // Then, add the project as a build-project
                         Path ballerinaTomlFilePath = projectPair.project().sourceRoot().getParent()
                                 .resolve(ProjectConstants.BALLERINA_TOML);
@@ -988,7 +1023,7 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
         // If it is a single file project, remove project from mapping
         if (project.get().kind() == ProjectKind.SINGLE_FILE_PROJECT) {
             Path projectRoot = project.get().sourceRoot();
-            sourceRootToProject.remove(projectRoot);
+            removeProject(projectRoot);
             clientLogger.logTrace("Operation '" + LSContextOperation.TXT_DID_CLOSE.getName() +
                     "' {project: '" + projectRoot.toUri().toString() +
                     "' kind: '" + project.get().kind().name().toLowerCase(Locale.getDefault()) +
@@ -996,6 +1031,14 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
         }
     }
 
+    private void removeProject(Path projectRoot) {
+        ProjectPair projectPair = sourceRootToProject.remove(projectRoot);
+        if (projectPair != null) {
+            projectPair.close();
+        }
+        DiagnosticsHelper.getInstance(serverContext).projectClosed(projectRoot);
+    }
+
     // ============================================================================================================== //
 
     private Path computeProjectRoot(Path path) {
@@ -1104,16 +1147,30 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
     }
 
     /**
-     * This class holds project and its lock.
+     * This class holds project, its lock and the compilation of its latest snapshot.
+     * <p>
+     * Every modification to the project produces a new immutable {@link Package} snapshot. The compilation of the
+     * latest snapshot is scheduled in the background and the compilation of a superseded snapshot is cancelled. The
+     * snapshots of a project share its compiler context, hence they are compiled one at a time by the executor of the
+     * project. A cancelled compilation stops at the next compiler phase, before the next compilation is started.
      */
     public static class ProjectPair {
 
+        private static final ThreadFactory COMPILATION_THREAD_FACTORY = new CompilationThreadFactory();
+        private static final long COMPILATION_THREAD_KEEP_ALIVE_SECONDS = 60;
+
         private final Lock lock;
-        private Project project;
+        private volatile Project project;
+        private SnapshotCompilation snapshotCompilation;
+        private final ThreadPoolExecutor compilationExecutor;
 
         private ProjectPair(Project project, Lock lock) {
             this.project = project;
             this.lock = lock;
+            // The compilation thread is stopped while the project is not modified.
+            this.compilationExecutor = new ThreadPoolExecutor(1, 1, COMPILATION_THREAD_KEEP_ALIVE_SECONDS,
+                    TimeUnit.SECONDS, new LinkedBlockingQueue<>(), COMPILATION_THREAD_FACTORY);
+            this.compilationExecutor.allowCoreThreadTimeOut(true);
         }
 
         public static ProjectPair from(Project project) {
@@ -1153,12 +1210,85 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
         }
 
         /**
-         * Set workspace document.
+         * Set workspace document and schedule the compilation of its current package.
          *
          * @param project {@link Project}
          */
         public void setProject(Project project) {
             this.project = project;
+            compilation();
+        }
+
+        /**
+         * Returns the compilation of the current package of the project, scheduling it if it is not scheduled yet.
+         * <p>
+         * The returned future gets cancelled if the package is modified before it is compiled.
+         *
+         * @return compilation of the current package
+         */
+        public Future<PackageCompilation> compilation() {
+            FutureTask<PackageCompilation> task;
+            synchronized (this) {
+                Package currentPackage = this.project.currentPackage();
+                if (snapshotCompilation != null && snapshotCompilation.snapshot == currentPackage) {
+                    return snapshotCompilation.task;
+                }
+                if (snapshotCompilation != null) {
+                    // Interrupts the compiling thread, which stops the compilation at the next compiler phase
+                    snapshotCompilation.task.cancel(true);
+                }
+                snapshotCompilation = new SnapshotCompilation(currentPackage);
+                task = snapshotCompilation.task;
+                if (!compilationExecutor.isShutdown()) {
+                    compilationExecutor.execute(task);
+                    return task;
+                }
+            }
+            // The project is closed, but a request which was received before is still using it. The package is
+            // compiled in the calling thread, without holding this project pair, since the compilation waits for the
+            // compiler context, which may be held by a thread waiting for this project pair.
+            task.run();
+            return task;
+        }
+
+        /**
+         * Cancels the compilation of the project, which is no longer used, and stops its compilation thread.
+         */
+        public synchronized void close() {
+            if (snapshotCompilation != null) {
+                snapshotCompilation.task.cancel(true);
+                snapshotCompilation = null;
+            }
+            compilationExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * Compilation of a package snapshot.
+     */
+    private static class SnapshotCompilation {
+
+        private final Package snapshot;
+        private final FutureTask<PackageCompilation> task;
+
+        private SnapshotCompilation(Package snapshot) {
+            this.snapshot = snapshot;
+            this.task = new FutureTask<>(snapshot::getCompilation);
+        }
+    }
+
+    /**
+     * Creates the daemon threads which compile the projects in the background.
+     */
+    private static class CompilationThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "ls-compilation-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
         }
     }
 
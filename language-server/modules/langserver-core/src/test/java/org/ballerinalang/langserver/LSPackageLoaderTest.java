@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ballerinalang.langserver;
+
+import io.ballerina.projects.Package;
+import io.ballerina.projects.PackageVersion;
+import io.ballerina.projects.environment.PackageMetadataResponse;
+import io.ballerina.projects.environment.PackageRepository;
+import io.ballerina.projects.environment.ResolutionOptions;
+import io.ballerina.projects.environment.ResolutionRequest;
+import io.ballerina.projects.internal.ImportModuleRequest;
+import io.ballerina.projects.internal.ImportModuleResponse;
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Tests the index of the distribution repo packages kept by {@link LSPackageLoader}.
+ *
+ * @since 2.0.0
+ */
+public class LSPackageLoaderTest {
+
+    private static final Map<String, List<String>> LISTING =
+            Map.of("ballerina", List.of("io:1.0.0", "http:2.0.0"), "ballerinai", List.of("transaction:1.0.0"));
+
+    private Path indexDir;
+    private Path indexPath;
+
+    @BeforeMethod
+    public void setup() throws IOException {
+        indexDir = Files.createTempDirectory("ls-index");
+        indexPath = indexDir.resolve("distribution-packages.json");
+    }
+
+    @Test(description = "Test reusing the index when the packages listed in the repository are unchanged")
+    public void testIndexReusedForUnchangedListing() {
+        TestPackageRepository repository = new TestPackageRepository(LISTING);
+        LSPackageLoader.getPackages(repository, Optional.of(indexPath));
+        Assert.assertEquals(repository.requestedPackages, List.of("http", "io"));
+        Assert.assertTrue(Files.isRegularFile(indexPath));
+
+        // The same listing in a different order
+        repository = new TestPackageRepository(Map.of("ballerinai", List.of("transaction:1.0.0"),
+                "ballerina", List.of("http:2.0.0", "io:1.0.0")));
+        LSPackageLoader.getPackages(repository, Optional.of(indexPath));
+        Assert.assertEquals(repository.requestedPackages, List.of());
+    }
+
+    @Test(description = "Test building the index again when the packages listed in the repository change")
+    public void testIndexRebuiltForChangedListing() {
+        LSPackageLoader.getPackages(new TestPackageRepository(LISTING), Optional.of(indexPath));
+
+        Map<String, List<String>> changedListing = Map.of("ballerina", List.of("io:1.1.0", "http:2.0.0"));
+        TestPackageRepository repository = new TestPackageRepository(changedListing);
+        LSPackageLoader.getPackages(repository, Optional.of(indexPath));
+        Assert.assertEquals(repository.requestedPackages, List.of("http", "io"));
+
+        // The index is now the one built for the changed listing
+        repository = new TestPackageRepository(changedListing);
+        LSPackageLoader.getPackages(repository, Optional.of(indexPath));
+        Assert.assertEquals(repository.requestedPackages, List.of());
+        repository = new TestPackageRepository(LISTING);
+        LSPackageLoader.getPackages(repository, Optional.of(indexPath));
+        Assert.assertEquals(repository.requestedPackages, List.of("http", "io"));
+    }
+
+    @Test(description = "Test building the index again when it is corrupted")
+    public void testCorruptedIndexRebuilt() throws IOException {
+        Files.write(indexPath, "{\"formatVersion\": 1, \"listing\": {".getBytes(StandardCharsets.UTF_8));
+
+        TestPackageRepository repository = new TestPackageRepository(LISTING);
+        LSPackageLoader.getPackages(repository, Optional.of(indexPath));
+        Assert.assertEquals(repository.requestedPackages, List.of("http", "io"));
+
+        repository = new TestPackageRepository(LISTING);
+        LSPackageLoader.getPackages(repository, Optional.of(indexPath));
+        Assert.assertEquals(repository.requestedPackages, List.of());
+    }
+
+    @Test(description = "Test that no temporary file is left behind when the index cannot be written")
+    public void testTemporaryFileDeletedWhenIndexNotWritten() throws IOException {
+        // A non empty directory in place of the index cannot be replaced by it
+        Files.createDirectories(indexPath);
+        Files.createFile(indexPath.resolve("entry"));
+
+        TestPackageRepository repository = new TestPackageRepository(LISTING);
+        LSPackageLoader.getPackages(repository, Optional.of(indexPath));
+        Assert.assertEquals(repository.requestedPackages, List.of("http", "io"));
+
+        try (Stream<Path> files = Files.list(indexDir)) {
+            Assert.assertEquals(files.collect(Collectors.toList()), List.of(indexPath));
+        }
+    }
+
+    @Test(description = "Test loading the packages without an index")
+    public void testPackagesLoadedWithoutIndex() {
+        TestPackageRepository repository = new TestPackageRepository(LISTING);
+        LSPackageLoader.getPackages(repository, Optional.empty());
+        Assert.assertEquals(repository.requestedPackages, List.of("http", "io"));
+        Assert.assertFalse(Files.exists(indexPath));
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void cleanUp() throws IOException {
+        FileUtils.deleteDirectory(indexDir.toFile());
+    }
+
+    /**
+     * Repository which lists the given packages, and records the packages requested from it.
+     */
+    private static class TestPackageRepository implements PackageRepository {
+
+        private final Map<String, List<String>> listing;
+        private final List<String> requestedPackages = new ArrayList<>();
+
+        private TestPackageRepository(Map<String, List<String>> listing) {
+            this.listing = listing;
+        }
+
+        @Override
+        public Optional<Package> getPackage(ResolutionRequest request, ResolutionOptions options) {
+            requestedPackages.add(request.packageName().value());
+            return Optional.empty();
+        }
+
+        @Override
+        public Collection<PackageVersion> getPackageVersions(ResolutionRequest request, ResolutionOptions options) {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public Map<String, List<String>> getPackages() {
+            return listing;
+        }
+
+        @Override
+        public Collection<PackageMetadataResponse> getPackageMetadata(Collection<ResolutionRequest> requests,
+                                                                      ResolutionOptions options) {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public Collection<ImportModuleResponse> getPackageNames(Collection<ImportModuleRequest> requests,
+                                                                ResolutionOptions options) {
+            return Collections.emptyList();
+        }
+    }
+}
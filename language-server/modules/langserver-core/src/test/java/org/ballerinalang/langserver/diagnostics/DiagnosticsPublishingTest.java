@@ -0,0 +1,191 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.langserver.diagnostics;
+
+import org.ballerinalang.langserver.LSContextOperation;
+import org.ballerinalang.langserver.commons.DocumentServiceContext;
+import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.commons.client.ExtendedLanguageClient;
+import org.ballerinalang.langserver.commons.workspace.WorkspaceDocumentException;
+import org.ballerinalang.langserver.contexts.ContextBuilder;
+import org.ballerinalang.langserver.contexts.LanguageServerContextImpl;
+import org.ballerinalang.langserver.diagnostic.DiagnosticsHelper;
+import org.ballerinalang.langserver.util.FileUtils;
+import org.ballerinalang.langserver.workspace.BallerinaWorkspaceManager;
+import org.eclipse.lsp4j.DidChangeTextDocumentParams;
+import org.eclipse.lsp4j.DidCloseTextDocumentParams;
+import org.eclipse.lsp4j.DidOpenTextDocumentParams;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+import org.eclipse.lsp4j.TextDocumentIdentifier;
+import org.eclipse.lsp4j.TextDocumentItem;
+import org.eclipse.lsp4j.VersionedTextDocumentIdentifier;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests the scheduled publishing of diagnostics by {@link DiagnosticsHelper}.
+ *
+ * @since 2.0.0
+ */
+public class DiagnosticsPublishingTest {
+
+    private static final long PUBLISH_TIMEOUT_MS = TimeUnit.SECONDS.toMillis(30);
+    // Longer than the delay of a scheduled publishing
+    private static final long QUIET_PERIOD_MS = TimeUnit.SECONDS.toMillis(3);
+
+    private final Path filePath = FileUtils.RES_DIR.resolve("diagnostics").resolve("sources")
+            .resolve("single_source.bal").toAbsolutePath();
+    private final String fileUri = filePath.toUri().toString();
+    private final List<PublishDiagnosticsParams> published = new CopyOnWriteArrayList<>();
+
+    private LanguageServerContext serverContext;
+    private BallerinaWorkspaceManager workspaceManager;
+    private DiagnosticsHelper diagnosticsHelper;
+    private ExtendedLanguageClient client;
+
+    @BeforeMethod
+    public void init() {
+        // Need a clean workspace manager and diagnostics helper before each test method
+        serverContext = new LanguageServerContextImpl();
+        workspaceManager = BallerinaWorkspaceManager.getInstance(serverContext);
+        diagnosticsHelper = DiagnosticsHelper.getInstance(serverContext);
+        published.clear();
+        client = (ExtendedLanguageClient) Proxy.newProxyInstance(ExtendedLanguageClient.class.getClassLoader(),
+                new Class<?>[]{ExtendedLanguageClient.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("publishDiagnostics")) {
+                        published.add((PublishDiagnosticsParams) args[0]);
+                    }
+                    return null;
+                });
+    }
+
+    @Test(description = "Test that rapid edits of a document publish its diagnostics once")
+    public void testRapidEditsPublishedOnce() throws Exception {
+        openFile(source(0));
+        for (int version = 1; version <= 5; version++) {
+            changeFile(version, source(version));
+            schedulePublishDiagnostics();
+        }
+
+        waitForPublishes(1);
+        Assert.assertEquals(published.size(), 1);
+        Assert.assertEquals(published.get(0).getUri(), fileUri);
+        // The diagnostics are the ones of the last edit
+        Assert.assertEquals(published.get(0).getDiagnostics().size(), 5);
+        waitForCompletedSchedules();
+    }
+
+    @Test(description = "Test that diagnostics same as the ones last published are not published again")
+    public void testUnchangedDiagnosticsSkipped() throws Exception {
+        openFile(source(2));
+        schedulePublishDiagnostics();
+        waitForPublishes(1);
+        Assert.assertEquals(published.get(0).getDiagnostics().size(), 2);
+
+        // Adding a function after the erroneous one changes none of the diagnostics
+        changeFile(1, source(2) + "\nfunction bar() {\n}\n");
+        schedulePublishDiagnostics();
+        workspaceManager.waitAndGetPackageCompilation(filePath);
+        Thread.sleep(QUIET_PERIOD_MS);
+        Assert.assertEquals(published.size(), 1);
+
+        changeFile(2, source(1));
+        schedulePublishDiagnostics();
+        waitForPublishes(2);
+        Assert.assertEquals(published.size(), 2);
+        Assert.assertEquals(published.get(1).getDiagnostics().size(), 1);
+        waitForCompletedSchedules();
+    }
+
+    @Test(description = "Test that closing a project drops its scheduled publishing")
+    public void testClosedProjectNotPublished() throws Exception {
+        openFile(source(1));
+        schedulePublishDiagnostics();
+
+        // Closing a single file closes its project
+        DidCloseTextDocumentParams params = new DidCloseTextDocumentParams(new TextDocumentIdentifier(fileUri));
+        workspaceManager.didClose(filePath, params);
+        Assert.assertTrue(getLatestScheduled().isEmpty());
+
+        Thread.sleep(QUIET_PERIOD_MS);
+        Assert.assertEquals(published.size(), 0);
+    }
+
+    private static String source(int errorCount) {
+        StringBuilder source = new StringBuilder("function foo() {\n");
+        for (int i = 0; i < errorCount; i++) {
+            source.append("    int x").append(i).append(" = \"a\";\n");
+        }
+        return source.append("}\n").toString();
+    }
+
+    private void schedulePublishDiagnostics() {
+        DocumentServiceContext context = ContextBuilder.buildDocumentServiceContext(fileUri, workspaceManager,
+                LSContextOperation.TXT_DID_CHANGE, serverContext);
+        diagnosticsHelper.schedulePublishDiagnostics(client, context);
+    }
+
+    private void waitForPublishes(int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + PUBLISH_TIMEOUT_MS;
+        while (published.size() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(100);
+        }
+        // Wait for publishes which should not happen
+        Thread.sleep(QUIET_PERIOD_MS);
+    }
+
+    private void waitForCompletedSchedules() throws Exception {
+        long deadline = System.currentTimeMillis() + PUBLISH_TIMEOUT_MS;
+        while (!getLatestScheduled().isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(100);
+        }
+        Assert.assertTrue(getLatestScheduled().isEmpty());
+    }
+
+    private Map<?, ?> getLatestScheduled() throws ReflectiveOperationException {
+        Field latestScheduled = DiagnosticsHelper.class.getDeclaredField("latestScheduled");
+        latestScheduled.setAccessible(true);
+        return (Map<?, ?>) latestScheduled.get(diagnosticsHelper);
+    }
+
+    private void openFile(String content) throws WorkspaceDocumentException {
+        DidOpenTextDocumentParams params = new DidOpenTextDocumentParams();
+        TextDocumentItem textDocumentItem = new TextDocumentItem();
+        textDocumentItem.setUri(fileUri);
+        textDocumentItem.setText(content);
+        params.setTextDocument(textDocumentItem);
+        workspaceManager.didOpen(filePath, params);
+    }
+
+    private void changeFile(int version, String content) throws WorkspaceDocumentException {
+        DidChangeTextDocumentParams params = new DidChangeTextDocumentParams();
+        params.setTextDocument(new VersionedTextDocumentIdentifier(fileUri, version));
+        params.getContentChanges().add(new TextDocumentContentChangeEvent(content));
+        workspaceManager.didChange(filePath, params);
+    }
+}
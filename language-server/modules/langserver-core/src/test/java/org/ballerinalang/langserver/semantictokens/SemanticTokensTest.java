@@ -1,9 +1,12 @@
 package org.ballerinalang.langserver.semantictokens;
 
 import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import org.ballerinalang.langserver.util.FileUtils;
 import org.ballerinalang.langserver.util.TestUtil;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.jsonrpc.Endpoint;
 import org.testng.Assert;
 import org.testng.annotations.AfterClass;
@@ -24,6 +27,8 @@ public class SemanticTokensTest {
     private static final String CONFIG = "config";
     private static final String EXPECTED = "expected";
     private static final String RESULT = "result";
+    private static final String RESULT_ID = "resultId";
+    private static final String EDITS = "edits";
 
     private static final List<String> TOKEN_TYPES = SemanticTokensUtils.getTokenTypes();
 
@@ -49,6 +54,37 @@ public class SemanticTokensTest {
         compareResponse(expected, response);
     }
 
+    @Test(description = "Test semantic tokens delta of an unchanged document")
+    public void semanticTokensDeltaTestCase() throws IOException {
+        Path sourcePath = RESOURCE_ROOT.resolve(CONFIG).resolve("single-file").resolve("main.bal");
+        TestUtil.openDocument(serviceEndpoint, sourcePath);
+        String filePath = sourcePath.toAbsolutePath().toString();
+        JsonObject fullResult = JsonParser.parseString(TestUtil.getSemanticTokensResponse(serviceEndpoint, filePath))
+                .getAsJsonObject().getAsJsonObject(RESULT);
+        String resultId = fullResult.get(RESULT_ID).getAsString();
+
+        JsonObject deltaResult = JsonParser.parseString(TestUtil.getSemanticTokensDeltaResponse(serviceEndpoint,
+                filePath, resultId)).getAsJsonObject().getAsJsonObject(RESULT);
+        Assert.assertEquals(deltaResult.get(RESULT_ID).getAsString(), resultId);
+        Assert.assertEquals(deltaResult.getAsJsonArray(EDITS).size(), 0);
+        TestUtil.closeDocument(serviceEndpoint, sourcePath);
+    }
+
+    @Test(description = "Test semantic tokens of a range covering the whole document")
+    public void semanticTokensRangeTestCase() throws IOException {
+        Path sourcePath = RESOURCE_ROOT.resolve(CONFIG).resolve("single-file").resolve("main.bal");
+        TestUtil.openDocument(serviceEndpoint, sourcePath);
+        String filePath = sourcePath.toAbsolutePath().toString();
+        JsonArray fullData = JsonParser.parseString(TestUtil.getSemanticTokensResponse(serviceEndpoint, filePath))
+                .getAsJsonObject().getAsJsonObject(RESULT).getAsJsonArray(DATA);
+
+        Range range = new Range(new Position(0, 0), new Position(Integer.MAX_VALUE, 0));
+        JsonArray rangeData = JsonParser.parseString(TestUtil.getSemanticTokensRangeResponse(serviceEndpoint,
+                filePath, range)).getAsJsonObject().getAsJsonObject(RESULT).getAsJsonArray(DATA);
+        Assert.assertEquals(rangeData, fullData);
+        TestUtil.closeDocument(serviceEndpoint, sourcePath);
+    }
+
     /**
      * Compares actual response and expected response.
      *
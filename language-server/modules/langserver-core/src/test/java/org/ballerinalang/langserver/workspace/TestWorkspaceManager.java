@@ -19,8 +19,11 @@ package org.ballerinalang.langserver.workspace;
 
 import io.ballerina.projects.Document;
 import io.ballerina.projects.Module;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.PackageCompilation;
 import io.ballerina.projects.Project;
 import io.ballerina.projects.ProjectKind;
+import io.ballerina.projects.directory.SingleFileProject;
 import io.ballerina.projects.util.ProjectConstants;
 import org.ballerinalang.langserver.common.utils.CommonUtil;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceDocumentException;
@@ -36,12 +39,19 @@ import org.testng.Assert;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Contains a set of utility methods to manage projects.
@@ -401,6 +411,87 @@ public class TestWorkspaceManager {
         }
     }
 
+    @Test(timeOut = 60000)
+    public void testCompilationAfterCancelledCompilations() throws WorkspaceDocumentException {
+        Path filePath = RESOURCE_DIRECTORY.resolve("single-file").resolve("main.bal").toAbsolutePath();
+        openFile(filePath);
+
+        // Each change cancels the compilation of the previous snapshot, which may be running
+        for (int i = 0; i < 10; i++) {
+            changeFile(filePath, 2 + i, "function foo() {" + CommonUtil.LINE_SEPARATOR +
+                    "    int x" + i + " = " + i + ";" + CommonUtil.LINE_SEPARATOR + "}");
+        }
+        changeFile(filePath, 12, "function foo() {" + CommonUtil.LINE_SEPARATOR +
+                "    int x = \"a\";" + CommonUtil.LINE_SEPARATOR + "}");
+
+        PackageCompilation compilation = workspaceManager.waitAndGetPackageCompilation(filePath).orElseThrow();
+        Assert.assertEquals(compilation.diagnosticResult().errorCount(), 1);
+        Assert.assertSame(workspaceManager.project(filePath).orElseThrow().currentPackage().getCompilation(),
+                compilation);
+    }
+
+    @Test(timeOut = 60000)
+    public void testConcurrentCompilationRequests() throws Exception {
+        Path filePath = RESOURCE_DIRECTORY.resolve("single-file").resolve("main.bal").toAbsolutePath();
+        openFile(filePath);
+        changeFile(filePath, 2, "function foo() {" + CommonUtil.LINE_SEPARATOR +
+                "    int x = 1;" + CommonUtil.LINE_SEPARATOR + "}");
+        Package currentPackage = workspaceManager.project(filePath).orElseThrow().currentPackage();
+
+        // Requests which wait for the background compilation race with requests which compile the package directly
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<PackageCompilation>> compilations = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                if (i % 2 == 0) {
+                    compilations.add(executor.submit(
+                            () -> workspaceManager.waitAndGetPackageCompilation(filePath).orElseThrow()));
+                } else {
+                    compilations.add(executor.submit(currentPackage::getCompilation));
+                }
+            }
+            PackageCompilation compilation = compilations.get(0).get();
+            Assert.assertEquals(compilation.diagnosticResult().errorCount(), 0);
+            for (Future<PackageCompilation> otherCompilation : compilations) {
+                Assert.assertSame(otherCompilation.get(), compilation);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(timeOut = 60000)
+    public void testCompilationOfClosedProjectOutsideProjectPair() throws Exception {
+        Path filePath = RESOURCE_DIRECTORY.resolve("single-file").resolve("main.bal").toAbsolutePath();
+        Project project = SingleFileProject.load(filePath);
+        BallerinaWorkspaceManager.ProjectPair projectPair = BallerinaWorkspaceManager.ProjectPair.from(project);
+        projectPair.close();
+
+        // A closed project is compiled by the requesting thread, which waits here for the compiler context
+        CompilerContext compilerContext = project.projectEnvironmentContext().getService(CompilerContext.class);
+        CompletableFuture<Future<PackageCompilation>> request = new CompletableFuture<>();
+        Thread requestThread = new Thread(() -> request.complete(projectPair.compilation()));
+        Future<PackageCompilation> compilation;
+        synchronized (compilerContext) {
+            requestThread.start();
+            while (requestThread.getState() != Thread.State.BLOCKED) {
+                Thread.sleep(10);
+            }
+            // The project pair is not held while compiling, hence this does not wait for the compilation
+            compilation = projectPair.compilation();
+            Assert.assertFalse(compilation.isDone());
+        }
+        Assert.assertSame(request.get(), compilation);
+        Assert.assertEquals(compilation.get().diagnosticResult().errorCount(), 0);
+    }
+
+    private void changeFile(Path filePath, int version, String content) throws WorkspaceDocumentException {
+        DidChangeTextDocumentParams params = new DidChangeTextDocumentParams();
+        params.setTextDocument(new VersionedTextDocumentIdentifier(filePath.toUri().toString(), version));
+        params.getContentChanges().add(new TextDocumentContentChangeEvent(content));
+        workspaceManager.didChange(filePath, params);
+    }
+
     private void openFile(Path singleFile) throws WorkspaceDocumentException {
         DidOpenTextDocumentParams params = new DidOpenTextDocumentParams();
         TextDocumentItem textDocumentItem = new TextDocumentItem();
@@ -55,8 +55,9 @@ import static org.ballerinalang.debugadapter.evaluation.utils.EvaluationUtils.JA
 import static org.ballerinalang.debugadapter.evaluation.utils.EvaluationUtils.MODULE_VERSION_SEPARATOR_REGEX;
 import static org.ballerinalang.debugadapter.evaluation.utils.EvaluationUtils.VALUE_FROM_STRING_METHOD;
 import static org.ballerinalang.debugadapter.evaluation.utils.EvaluationUtils.getRuntimeMethod;
-import static org.ballerinalang.debugadapter.utils.PackageUtils.INIT_CLASS_NAME;
+import static org.ballerinalang.debugadapter.evaluation.utils.EvaluationUtils.loadClass;
 import static org.ballerinalang.debugadapter.utils.PackageUtils.INIT_TYPE_INSTANCE_PREFIX;
+import static org.ballerinalang.debugadapter.utils.PackageUtils.TYPES_CLASS_NAME;
 
 /**
  * Ballerina type resolver implementation for resolving ballerina runtime types using type descriptors.
@@ -129,13 +130,13 @@ public abstract class EvaluationTypeResolver<T> {
                 .findAny();
     }
 
-    protected String constructInitClassNameFrom(Symbol typeSymbol) {
+    protected String constructTypesClassNameFrom(Symbol typeSymbol) {
         ModuleID moduleMeta = typeSymbol.getModule().get().id();
         return new StringJoiner(".")
                 .add(encodeModuleName(moduleMeta.orgName()))
                 .add(encodeModuleName(moduleMeta.moduleName()))
                 .add(moduleMeta.version().split(MODULE_VERSION_SEPARATOR_REGEX)[0])
-                .add(INIT_CLASS_NAME)
+                .add(TYPES_CLASS_NAME)
                 .toString();
     }
 
@@ -159,17 +160,42 @@ public abstract class EvaluationTypeResolver<T> {
             throw createEvaluationException(NON_PUBLIC_OR_UNDEFINED_ACCESS, modulePrefix + ":" + typeName);
         }
 
-        String packageInitClass = constructInitClassNameFrom(typeDefinition.get());
-        List<ReferenceType> classRef = context.getAttachedVm().classesByName(packageInitClass);
-        if (classRef.isEmpty()) {
+        String typesClass = constructTypesClassNameFrom(typeDefinition.get());
+        Optional<Value> type = getTypeFromTypesClass(typesClass, typeName);
+        if (type.isEmpty()) {
             throw createEvaluationException(TYPE_RESOLVING_ERROR, typeName);
         }
+        return type;
+    }
+
+    /**
+     * Returns the runtime type instance of the given type, which is held by the given types class of its module.
+     * <p>
+     * The types of a module are created lazily, when the types class gets initialized. Hence if the program has not
+     * used any type of the module yet, the types class is loaded and initialized through the debuggee class loader.
+     *
+     * @param typesClass qualified name of the types class
+     * @param typeName   name of the type
+     * @return the runtime type instance, or empty if it cannot be resolved
+     */
+    protected Optional<Value> getTypeFromTypesClass(String typesClass, String typeName) {
+        ReferenceType typesClassRef;
+        List<ReferenceType> classRef = context.getAttachedVm().classesByName(typesClass);
+        if (!classRef.isEmpty() && classRef.get(0).isInitialized()) {
+            typesClassRef = classRef.get(0);
+        } else {
+            try {
+                typesClassRef = loadClass(context, typesClass, typeName);
+            } catch (EvaluationException e) {
+                return Optional.empty();
+            }
+        }
 
-        Field typeField = classRef.get(0).fieldByName(INIT_TYPE_INSTANCE_PREFIX + typeName);
+        Field typeField = typesClassRef.fieldByName(INIT_TYPE_INSTANCE_PREFIX + typeName);
         if (typeField == null) {
-            throw createEvaluationException(TYPE_RESOLVING_ERROR, typeName);
+            return Optional.empty();
         }
-        return Optional.ofNullable(classRef.get(0).getValue(typeField));
+        return Optional.ofNullable(typesClassRef.getValue(typeField));
     }
 
     /**
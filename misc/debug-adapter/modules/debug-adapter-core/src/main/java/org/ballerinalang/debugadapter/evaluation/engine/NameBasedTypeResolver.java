@@ -16,8 +16,6 @@
 
 package org.ballerinalang.debugadapter.evaluation.engine;
 
-import com.sun.jdi.Field;
-import com.sun.jdi.ReferenceType;
 import com.sun.jdi.Value;
 import io.ballerina.compiler.api.symbols.Symbol;
 import org.ballerinalang.debugadapter.EvaluationContext;
@@ -30,7 +28,6 @@ import java.util.Optional;
 
 import static org.ballerinalang.debugadapter.evaluation.EvaluationException.createEvaluationException;
 import static org.ballerinalang.debugadapter.evaluation.EvaluationExceptionKind.TYPE_RESOLVING_ERROR;
-import static org.ballerinalang.debugadapter.utils.PackageUtils.INIT_TYPE_INSTANCE_PREFIX;
 
 /**
  * Ballerina type resolver implementation for resolving ballerina runtime types from type name.
@@ -102,16 +99,7 @@ public class NameBasedTypeResolver extends EvaluationTypeResolver<String> {
             return Optional.empty();
         }
 
-        String packageInitClass = PackageUtils.getQualifiedClassName(context, PackageUtils.INIT_CLASS_NAME);
-        List<ReferenceType> classRef = context.getAttachedVm().classesByName(packageInitClass);
-        if (classRef.isEmpty()) {
-            return Optional.empty();
-        }
-
-        Field typeField = classRef.get(0).fieldByName(INIT_TYPE_INSTANCE_PREFIX + typeName);
-        if (typeField == null) {
-            return Optional.empty();
-        }
-        return Optional.of(classRef.get(0).getValue(typeField));
+        String typesClass = PackageUtils.getQualifiedClassName(context, PackageUtils.TYPES_CLASS_NAME);
+        return getTypeFromTypesClass(typesClass, typeName);
     }
 }
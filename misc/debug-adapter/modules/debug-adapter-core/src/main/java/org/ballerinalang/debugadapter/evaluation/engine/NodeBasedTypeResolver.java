@@ -16,8 +16,6 @@
 
 package org.ballerinalang.debugadapter.evaluation.engine;
 
-import com.sun.jdi.Field;
-import com.sun.jdi.ReferenceType;
 import com.sun.jdi.Value;
 import io.ballerina.compiler.api.symbols.Symbol;
 import io.ballerina.compiler.syntax.tree.ArrayTypeDescriptorNode;
@@ -36,7 +34,6 @@ import java.util.Optional;
 
 import static org.ballerinalang.debugadapter.evaluation.EvaluationException.createEvaluationException;
 import static org.ballerinalang.debugadapter.evaluation.EvaluationExceptionKind.TYPE_RESOLVING_ERROR;
-import static org.ballerinalang.debugadapter.utils.PackageUtils.INIT_TYPE_INSTANCE_PREFIX;
 
 /**
  * Ballerina type resolver implementation for resolving ballerina runtime types from the syntax nodes.
@@ -97,17 +94,12 @@ public class NodeBasedTypeResolver extends EvaluationTypeResolver<Node> {
             throw createEvaluationException(TYPE_RESOLVING_ERROR, typeName);
         }
 
-        String packageInitClass = PackageUtils.getQualifiedClassName(context, PackageUtils.INIT_CLASS_NAME);
-        List<ReferenceType> classRef = context.getAttachedVm().classesByName(packageInitClass);
-        if (classRef.isEmpty()) {
+        String typesClass = PackageUtils.getQualifiedClassName(context, PackageUtils.TYPES_CLASS_NAME);
+        Optional<Value> type = getTypeFromTypesClass(typesClass, typeName);
+        if (type.isEmpty()) {
             throw createEvaluationException(TYPE_RESOLVING_ERROR, typeName);
         }
-
-        Field typeField = classRef.get(0).fieldByName(INIT_TYPE_INSTANCE_PREFIX + typeName);
-        if (typeField == null) {
-            throw createEvaluationException(TYPE_RESOLVING_ERROR, typeName);
-        }
-        return classRef.get(0).getValue(typeField);
+        return type.get();
     }
 
     private Value resolveQualifiedType(QualifiedNameReferenceNode qualifiedNameRef) throws EvaluationException {
@@ -61,6 +61,7 @@ public class PackageUtils {
     public static final String BAL_FILE_EXT = ".bal";
     public static final String BAL_TOML_FILE_NAME = "Ballerina.toml";
     public static final String INIT_CLASS_NAME = "$_init";
+    public static final String TYPES_CLASS_NAME = "types.$_types";
     public static final String INIT_TYPE_INSTANCE_PREFIX = "$type$";
     public static final String GENERATED_VAR_PREFIX = "$";
     static final String MODULE_DIR_NAME = "modules";
@@ -19,6 +19,7 @@ package org.ballerinalang.debugadapter.variable;
 import com.sun.jdi.Field;
 import com.sun.jdi.Method;
 import com.sun.jdi.ObjectReference;
+import com.sun.jdi.StringReference;
 import com.sun.jdi.Value;
 import org.ballerinalang.debugadapter.SuspendedContext;
 import org.ballerinalang.debugadapter.evaluation.EvaluationException;
@@ -46,6 +47,7 @@ public class VariableUtils {
     public static final String FIELD_PKG_NAME = "name";
     private static final String FIELD_CONSTRAINT = "constraint";
     private static final String METHOD_STRINGVALUE = "stringValue";
+    private static final String METHOD_GETVALUE = "getValue";
     public static final String UNKNOWN_VALUE = "unknown";
     private static final String LAMBDA_PARAM_MAP_PATTERN = "\\$.*[Mm][Aa][Pp].*\\$.*";
     // Used to trim redundant beginning and ending double quotes from a string, if presents.
@@ -106,6 +108,9 @@ public class VariableUtils {
 
     /**
      * Returns the actual string value from ballerina jvm types for strings.
+     * <p>
+     * The content of a concatenated string is not kept in a field until it is first read. Hence use
+     * {@link #getStringFrom(SuspendedContext, Value)} for the values of strings.
      *
      * @param stringValue JDI value of the string instance
      * @return actual string.
@@ -116,6 +121,9 @@ public class VariableUtils {
                 return UNKNOWN_VALUE;
             }
             ObjectReference stringRef = (ObjectReference) stringValue;
+            if (stringRef.referenceType().name().equals(JVMValueType.CONCAT_STRING.getString())) {
+                return UNKNOWN_VALUE;
+            }
             if (!stringRef.referenceType().name().equals(JVMValueType.BMP_STRING.getString())
                     && !stringRef.referenceType().name().equals(JVMValueType.NON_BMP_STRING.getString())) {
                 // Additional filtering is required, as some ballerina variable type names may contain redundant
@@ -131,6 +139,33 @@ public class VariableUtils {
         }
     }
 
+    /**
+     * Returns the actual string value from ballerina jvm types for strings, including concatenated strings.
+     *
+     * @param context     suspended context
+     * @param stringValue JDI value of the string instance
+     * @return actual string.
+     */
+    public static String getStringFrom(SuspendedContext context, Value stringValue) {
+        try {
+            if (!(stringValue instanceof ObjectReference)
+                    || !stringValue.type().name().equals(JVMValueType.CONCAT_STRING.getString())) {
+                return getStringFrom(stringValue);
+            }
+            // Invokes "getValue()" method of the concatenated string, which flattens it if it is not yet flattened.
+            Optional<Method> method = VariableUtils.getMethod(stringValue, METHOD_GETVALUE);
+            if (method.isEmpty()) {
+                return UNKNOWN_VALUE;
+            }
+            Value value = ((ObjectReference) stringValue).invokeMethod(context.getOwningThread()
+                            .getThreadReference(), method.get(), Collections.emptyList(),
+                    ObjectReference.INVOKE_SINGLE_THREADED);
+            return value instanceof StringReference ? ((StringReference) value).value() : UNKNOWN_VALUE;
+        } catch (Exception e) {
+            return UNKNOWN_VALUE;
+        }
+    }
+
     /**
      * Invokes "stringValue()" method of the given ballerina jvm variable instance and returns the result as a string.
      *
@@ -148,7 +183,7 @@ public class VariableUtils {
                 Value stringValue = ((ObjectReference) jvmObject).invokeMethod(context.getOwningThread()
                                 .getThreadReference(), method.get(), Collections.singletonList(null),
                         ObjectReference.INVOKE_SINGLE_THREADED);
-                return VariableUtils.getStringFrom(stringValue);
+                return VariableUtils.getStringFrom(context, stringValue);
             }
             return UNKNOWN_VALUE;
         } catch (Exception ignored) {
@@ -47,7 +47,7 @@ public class BError extends NamedCompoundVariable {
     public String computeValue() {
         try {
             Optional<Value> message = VariableUtils.getFieldValue(jvmValue, FIELD_MESSAGE);
-            return message.isPresent() ? getStringFrom(message.get()) : UNKNOWN_VALUE;
+            return message.isPresent() ? getStringFrom(context, message.get()) : UNKNOWN_VALUE;
         } catch (Exception ignored) {
             return UNKNOWN_VALUE;
         }
@@ -80,7 +80,7 @@ public class BMap extends IndexedCompoundVariable {
             }
 
             for (Map.Entry<Value, Value> mapEntry : mapEntries.entrySet()) {
-                childVarMap.put(VariableUtils.getStringFrom(mapEntry.getKey()), mapEntry.getValue());
+                childVarMap.put(VariableUtils.getStringFrom(context, mapEntry.getKey()), mapEntry.getValue());
             }
             return Either.forLeft(childVarMap);
         } catch (Exception ignored) {
@@ -59,7 +59,7 @@ public class BXmlItemAttributeMap extends NamedCompoundVariable {
                     Optional<Value> mapKey = VariableUtils.getFieldValue(map, FIELD_MAP_KEY);
                     Optional<Value> mapValue = VariableUtils.getFieldValue(map, FIELD_MAP_VALUE);
                     if (mapKey.isPresent() && mapValue.isPresent()) {
-                        childVarMap.put(VariableUtils.getStringFrom(mapKey.get()), mapValue.get());
+                        childVarMap.put(VariableUtils.getStringFrom(context, mapKey.get()), mapValue.get());
                     }
                 }
             }
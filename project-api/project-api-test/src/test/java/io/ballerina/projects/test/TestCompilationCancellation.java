@@ -0,0 +1,78 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.projects.test;
+
+import io.ballerina.projects.DiagnosticResult;
+import io.ballerina.projects.PackageCompilation;
+import io.ballerina.projects.ProjectException;
+import io.ballerina.projects.directory.BuildProject;
+import io.ballerina.projects.internal.CompilerPhaseRunner;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.CancellationException;
+
+/**
+ * Contains cases to test the cancellation of a compilation by interrupting the compiling thread.
+ *
+ * @since 2.0.0
+ */
+public class TestCompilationCancellation {
+
+    private static final Path RESOURCE_DIRECTORY = Paths.get(
+            "src/test/resources/projects_for_resolution_tests").toAbsolutePath();
+
+    @Test(description = "Test that an interrupted compilation is cancelled, and that it is not used later")
+    public void testInterruptedCompilationCancelled() {
+        // package_a --> package_b --> package_c
+        BuildProject buildProject = TestUtils.loadBuildProject(RESOURCE_DIRECTORY.resolve("package_a"));
+
+        Thread.currentThread().interrupt();
+        try {
+            Assert.expectThrows(CancellationException.class, () -> buildProject.currentPackage().getCompilation());
+        } finally {
+            Thread.interrupted();
+        }
+
+        // The compilation is done again from the start, without the diagnostics of the interrupted reads
+        PackageCompilation compilation = buildProject.currentPackage().getCompilation();
+        DiagnosticResult diagnosticResult = compilation.diagnosticResult();
+        Assert.assertEquals(diagnosticResult.diagnosticCount(), 0, "Unexpected compilation diagnostics");
+        Assert.assertSame(buildProject.currentPackage().getCompilation(), compilation);
+    }
+
+    @Test(description = "Test recognizing the exceptions caused by interrupting the compiling thread")
+    public void testInterruptCausedExceptions() {
+        Throwable interruptedRead = new ProjectException("failed to read the BIR",
+                new UncheckedIOException(new ClosedByInterruptException()));
+        Assert.assertTrue(CompilerPhaseRunner.isCancellation(interruptedRead));
+        Assert.assertTrue(CompilerPhaseRunner.isCancellation(new RuntimeException(new InterruptedException())));
+        Assert.assertFalse(CompilerPhaseRunner.isCancellation(
+                new ProjectException("failed to read the BIR", new IOException("corrupted BIR"))));
+        Assert.assertFalse(CompilerPhaseRunner.isCancellation(new IllegalStateException()));
+
+        CancellationException cancellation = CompilerPhaseRunner.cancellation(null, interruptedRead);
+        Assert.assertSame(cancellation.getCause(), interruptedRead);
+        Assert.assertSame(CompilerPhaseRunner.cancellation(null, cancellation), cancellation);
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.projects.test;
+
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NonTerminalNode;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.PackageCompilation;
+import io.ballerina.projects.directory.BuildProject;
+import io.ballerina.tools.diagnostics.Diagnostic;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
+/**
+ * Contains cases to test the parallel parsing of the documents of a package, which is done when the package is
+ * resolved, against parsing them one after the other.
+ *
+ * @since 2.0.0
+ */
+public class TestParallelDocumentParsing {
+
+    // More documents than the threads of the parser pool
+    private static final int DOCUMENT_COUNT = 32;
+
+    private Path projectPath;
+
+    @BeforeClass
+    public void setup() throws IOException {
+        projectPath = Files.createTempDirectory("b7a-parallel-parsing-test-" + System.nanoTime());
+        Files.write(projectPath.resolve("Ballerina.toml"),
+                "[package]\norg = \"foo\"\nname = \"winery\"\nversion = \"0.1.0\"\n".getBytes(StandardCharsets.UTF_8));
+        for (int i = 0; i < DOCUMENT_COUNT; i++) {
+            // Every other document has a syntax error, which is followed by a semantic error
+            String terminator = i % 2 == 0 ? ";" : "";
+            String source = "function foo" + i + "() returns int {\n" +
+                    "    int x = " + i + terminator + "\n" +
+                    "    string y = x;\n" +
+                    "    return x;\n" +
+                    "}\n";
+            Files.write(projectPath.resolve("file_" + i + ".bal"), source.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test(description = "Test that parsing the documents in parallel gives the syntax trees and diagnostics of " +
+            "parsing them one after the other")
+    public void testParallelParsingSameAsSequentialParsing() {
+        BuildProject parallelProject = TestUtils.loadBuildProject(projectPath);
+        PackageCompilation parallelCompilation = parallelProject.currentPackage().getCompilation();
+
+        BuildProject sequentialProject = loadSequentiallyParsedProject();
+        PackageCompilation sequentialCompilation = sequentialProject.currentPackage().getCompilation();
+
+        assertSameSyntaxTrees(parallelProject, sequentialProject);
+        Assert.assertTrue(parallelCompilation.diagnosticResult().errorCount() > DOCUMENT_COUNT);
+        Assert.assertEquals(diagnostics(parallelCompilation), diagnostics(sequentialCompilation));
+    }
+
+    @Test(description = "Test that interrupting the parallel parsing cancels the compilation, and that it leaves " +
+            "no document half parsed")
+    public void testInterruptedParallelParsing() {
+        BuildProject parallelProject = TestUtils.loadBuildProject(projectPath);
+        Thread.currentThread().interrupt();
+        try {
+            Assert.expectThrows(CancellationException.class, () -> parallelProject.currentPackage().getCompilation());
+        } finally {
+            Thread.interrupted();
+        }
+
+        // The documents parsed before the interrupt are used as they are, and the rest are parsed now
+        BuildProject sequentialProject = loadSequentiallyParsedProject();
+        PackageCompilation parallelCompilation = parallelProject.currentPackage().getCompilation();
+        assertSameSyntaxTrees(parallelProject, sequentialProject);
+        Assert.assertEquals(diagnostics(parallelCompilation),
+                diagnostics(sequentialProject.currentPackage().getCompilation()));
+    }
+
+    private BuildProject loadSequentiallyParsedProject() {
+        BuildProject project = TestUtils.loadBuildProject(projectPath);
+        // Documents which are already parsed are not parsed again when the package is resolved
+        for (Module module : project.currentPackage().modules()) {
+            for (DocumentId documentId : module.documentIds()) {
+                module.document(documentId).syntaxTree();
+            }
+        }
+        return project;
+    }
+
+    private static void assertSameSyntaxTrees(BuildProject project, BuildProject expectedProject) {
+        Module module = project.currentPackage().getDefaultModule();
+        Module expectedModule = expectedProject.currentPackage().getDefaultModule();
+        Assert.assertEquals(module.documentIds().size(), DOCUMENT_COUNT);
+        for (DocumentId expectedDocumentId : expectedModule.documentIds()) {
+            String documentName = expectedModule.document(expectedDocumentId).name();
+            DocumentId documentId = module.documentIds().stream()
+                    .filter(id -> module.document(id).name().equals(documentName))
+                    .findFirst()
+                    .orElseThrow();
+
+            SyntaxTree syntaxTree = module.document(documentId).syntaxTree();
+            SyntaxTree expectedSyntaxTree = expectedModule.document(expectedDocumentId).syntaxTree();
+            Assert.assertEquals(syntaxTree.toSourceCode(), expectedSyntaxTree.toSourceCode(), documentName);
+            Assert.assertEquals(kinds(syntaxTree.rootNode()), kinds(expectedSyntaxTree.rootNode()), documentName);
+            Assert.assertEquals(diagnostics(syntaxTree.diagnostics()), diagnostics(expectedSyntaxTree.diagnostics()),
+                    documentName);
+        }
+    }
+
+    private static String kinds(Node node) {
+        StringBuilder kinds = new StringBuilder(node.kind().toString());
+        if (node instanceof NonTerminalNode) {
+            kinds.append('(');
+            for (Node child : ((NonTerminalNode) node).children()) {
+                kinds.append(kinds(child)).append(' ');
+            }
+            kinds.append(')');
+        }
+        return kinds.toString();
+    }
+
+    private static List<String> diagnostics(PackageCompilation compilation) {
+        return diagnostics(compilation.diagnosticResult().diagnostics());
+    }
+
+    private static List<String> diagnostics(Iterable<Diagnostic> diagnostics) {
+        List<String> diagnosticStrings = new ArrayList<>();
+        diagnostics.forEach(diagnostic -> diagnosticStrings.add(diagnostic.toString()));
+        return diagnosticStrings;
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void cleanUp() {
+        TestUtils.deleteDirectory(projectPath.toFile());
+    }
+}
@@ -37,6 +37,8 @@ import org.testng.annotations.Test;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import static io.ballerina.projects.test.TestUtils.isWindows;
 import static io.ballerina.projects.test.TestUtils.resetPermissions;
@@ -238,6 +240,43 @@ public class TestSingleFileProject {
                         .filePath(), "main_with_error.bal");
     }
 
+    @Test (description = "tests diagnostics of a single file, after modifying some of its module members")
+    public void testDiagnosticsOfUpdatedDocument() {
+        Path filePath = RESOURCE_DIRECTORY.resolve("single_file").resolve("main.bal");
+        String content = "const A = 1;\nconst A = 2;\n\n" +
+                "record {| int a; |} a = {a: 1};\n\nrecord {| int b; |} b = {b: 2};\n\n" +
+                "function foo() returns int {\n    return 1;\n}\n";
+
+        SingleFileProject project = TestUtils.loadSingleFileProject(filePath);
+        Module module = project.currentPackage().getDefaultModule();
+        Document document = module.document(module.documentIds().iterator().next());
+
+        document = document.modify().withContent(content).apply();
+        List<String> diagnostics = getErrors(project.currentPackage().getCompilation());
+        Assert.assertEquals(diagnostics, List.of("redeclared symbol 'A' (2:7)"));
+
+        // Modify a member which does not declare anything referred by the others
+        document = document.modify().withContent(content.replace("return 1;", "return 3;")).apply();
+        Assert.assertEquals(getErrors(project.currentPackage().getCompilation()), diagnostics);
+
+        // Remove the redeclared constant and modify one of the members with an anonymous type
+        content = content.replace("const A = 2;", "const C = 2;").replace("{a: 1}", "{a: 3}");
+        document = document.modify().withContent(content).apply();
+        Assert.assertEquals(getErrors(project.currentPackage().getCompilation()), List.of());
+
+        // Redeclare the constant of an unchanged member
+        document.modify().withContent(content.replace("const C = 2;", "const A = 2;")).apply();
+        Assert.assertEquals(getErrors(project.currentPackage().getCompilation()), diagnostics);
+    }
+
+    private static List<String> getErrors(PackageCompilation compilation) {
+        return compilation.diagnosticResult().errors().stream()
+                .map(diagnostic -> diagnostic.message() + " (" +
+                        (diagnostic.location().lineRange().startLine().line() + 1) + ":" +
+                        (diagnostic.location().lineRange().startLine().offset() + 1) + ")")
+                .collect(Collectors.toList());
+    }
+
     @AfterClass(alwaysRun = true)
     public void reset() {
         Path projectPath = RESOURCE_DIRECTORY.resolve("single_file_no_permission");
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.compiler.api.impl;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.api.impl.symbols.BallerinaSymbol;
+import io.ballerina.compiler.api.symbols.Symbol;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NonTerminalNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.PackageCompilation;
+import io.ballerina.projects.Project;
+import io.ballerina.tools.diagnostics.Location;
+import org.ballerinalang.test.BCompileUtil;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BSymbol;
+import org.wso2.ballerinalang.compiler.tree.BLangCompilationUnit;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Test cases for the references looked up from the {@link ReferenceIndex}, against the references found by walking
+ * the AST with the {@link ReferenceFinder}.
+ *
+ * @since 2.0.0
+ */
+@Test
+public class ReferenceIndexTest {
+
+    private static final String PROJECT_PATH = "test-src/find-all-ref/refIndexProj";
+
+    private Project project;
+
+    @BeforeClass
+    public void setup() {
+        project = BCompileUtil.loadProject(PROJECT_PATH);
+    }
+
+    @Test
+    public void testIndexedReferencesSameAsTreeWalk() {
+        PackageCompilation compilation = project.currentPackage().getCompilation();
+        Module module = project.currentPackage().getDefaultModule();
+        SemanticModel model = compilation.getSemanticModel(module.moduleId());
+        BLangPackage bLangPackage = compilation.defaultModuleBLangPackage();
+
+        Map<String, BSymbol> symbols = referredSymbols(model, module);
+        // Symbols of the module, of another module of the package, of dependencies, and module prefixes
+        Assert.assertTrue(symbols.keySet().containsAll(List.of("total", "add", "describe", "counter", "a", "Counter",
+                "INITIAL", "increment", "max", "println", "util", "io")), symbols.keySet().toString());
+
+        ReferenceIndex referenceIndex = new ReferenceIndex(bLangPackage);
+        for (Map.Entry<String, BSymbol> entry : symbols.entrySet()) {
+            BSymbol symbol = entry.getValue();
+            for (boolean withDefinition : new boolean[]{true, false}) {
+                String message = entry.getKey() + (withDefinition ? " with definition" : "");
+                assertSameLocations(referenceIndex.references(symbol, withDefinition),
+                        new ReferenceFinder(withDefinition).findReferences(bLangPackage, symbol), message);
+
+                for (BLangCompilationUnit compilationUnit : bLangPackage.getCompilationUnits()) {
+                    assertSameLocations(referenceIndex.references(compilationUnit, symbol, withDefinition),
+                            new ReferenceFinder(withDefinition).findReferences(compilationUnit, symbol),
+                            message + " in " + compilationUnit.name);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testModuleLevelReferencesOfSemanticModel() {
+        PackageCompilation compilation = project.currentPackage().getCompilation();
+        Module module = project.currentPackage().getDefaultModule();
+        SemanticModel model = compilation.getSemanticModel(module.moduleId());
+        BLangPackage bLangPackage = compilation.defaultModuleBLangPackage();
+
+        for (String name : List.of("total", "add", "describe")) {
+            Symbol symbol = moduleSymbol(model, name);
+            BSymbol internalSymbol = ((BallerinaSymbol) symbol).getInternalSymbol();
+            assertSameLocations(model.references(symbol),
+                    new ReferenceFinder(true).findReferences(bLangPackage, internalSymbol), name);
+            assertSameLocations(model.references(symbol, false),
+                    new ReferenceFinder(false).findReferences(bLangPackage, internalSymbol), name);
+        }
+    }
+
+    @Test
+    public void testNewCompilationNotUsingIndex() {
+        // Modifying a document changes the current package of the project, hence the project is not shared
+        Package currentPackage = BCompileUtil.loadProject(PROJECT_PATH).currentPackage();
+        Module module = currentPackage.getDefaultModule();
+        PackageCompilation compilation = currentPackage.getCompilation();
+        SemanticModel model = compilation.getSemanticModel(module.moduleId());
+        // The semantic model, and the index it builds, are shared by the lookups of a compilation
+        Assert.assertSame(compilation.getSemanticModel(module.moduleId()), model);
+        int referenceCount = model.references(moduleSymbol(model, "total")).size();
+
+        Document helpers = findDocument(module, "helpers.bal");
+        String newContent = helpers.syntaxTree().toSourceCode().replace("    total += a;\n",
+                "    total += a;\n    total += b;\n");
+        Package newPackage = helpers.modify().withContent(newContent).apply().module().packageInstance();
+        PackageCompilation newCompilation = newPackage.getCompilation();
+        SemanticModel newModel = newCompilation.getSemanticModel(module.moduleId());
+        Assert.assertNotSame(newModel, model);
+
+        Symbol total = moduleSymbol(newModel, "total");
+        List<Location> references = newModel.references(total);
+        Assert.assertEquals(references.size(), referenceCount + 1);
+        assertSameLocations(references, new ReferenceFinder(true).findReferences(
+                newCompilation.defaultModuleBLangPackage(), ((BallerinaSymbol) total).getInternalSymbol()), "total");
+        Assert.assertEquals(model.references(moduleSymbol(model, "total")).size(), referenceCount);
+    }
+
+    private static Map<String, BSymbol> referredSymbols(SemanticModel model, Module module) {
+        // The symbol of every identifier in the module, keyed by its name and definition
+        Map<String, BSymbol> symbols = new LinkedHashMap<>();
+        for (DocumentId documentId : module.documentIds()) {
+            Document document = module.document(documentId);
+            List<Node> identifiers = new ArrayList<>();
+            addIdentifiers(document.syntaxTree().rootNode(), identifiers);
+            for (Node identifier : identifiers) {
+                Optional<Symbol> symbol = model.symbol(document, identifier.lineRange().startLine());
+                if (symbol.isEmpty() || !(symbol.get() instanceof BallerinaSymbol)) {
+                    continue;
+                }
+                BSymbol internalSymbol = ((BallerinaSymbol) symbol.get()).getInternalSymbol();
+                if (internalSymbol == null || internalSymbol.pos == null) {
+                    continue;
+                }
+                String name = internalSymbol instanceof BPackageSymbol ? identifier.toSourceCode().strip() :
+                        internalSymbol.name.value;
+                symbols.putIfAbsent(name, internalSymbol);
+            }
+        }
+        return symbols;
+    }
+
+    private static void addIdentifiers(Node node, List<Node> identifiers) {
+        if (node.kind() == SyntaxKind.IDENTIFIER_TOKEN) {
+            identifiers.add(node);
+        } else if (node instanceof NonTerminalNode) {
+            for (Node child : ((NonTerminalNode) node).children()) {
+                addIdentifiers(child, identifiers);
+            }
+        }
+    }
+
+    private static Symbol moduleSymbol(SemanticModel model, String name) {
+        return model.moduleSymbols().stream()
+                .filter(symbol -> symbol.getName().isPresent() && symbol.getName().get().equals(name))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static Document findDocument(Module module, String name) {
+        return module.documentIds().stream()
+                .map(module::document)
+                .filter(document -> document.name().equals(name))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static void assertSameLocations(List<Location> actual, List<Location> expected, String message) {
+        Assert.assertEquals(lineRanges(actual), lineRanges(expected), message);
+    }
+
+    private static List<String> lineRanges(List<Location> locations) {
+        return locations.stream()
+                .map(location -> location.lineRange().filePath() + location.lineRange())
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.compiler.api.impl;
+
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NonTerminalNode;
+import io.ballerina.compiler.syntax.tree.Token;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.Project;
+import io.ballerina.tools.diagnostics.Location;
+import io.ballerina.tools.text.LinePosition;
+import io.ballerina.tools.text.LineRange;
+import org.ballerinalang.model.tree.AnnotatableNode;
+import org.ballerinalang.model.tree.AnnotationAttachmentNode;
+import org.ballerinalang.model.tree.DocumentableNode;
+import org.ballerinalang.model.tree.TopLevelNode;
+import org.ballerinalang.test.BCompileUtil;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.tree.BLangCompilationUnit;
+import org.wso2.ballerinalang.compiler.tree.BLangMarkdownDocumentation;
+import org.wso2.ballerinalang.compiler.tree.BLangMarkdownParameterDocumentation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static io.ballerina.semantic.api.test.util.SemanticAPITestUtils.getDocumentForSingleSource;
+
+/**
+ * Test cases for the top level nodes looked up from the {@link TopLevelNodeIndex}, against the linear lookup over all
+ * the top level nodes of a compilation unit.
+ *
+ * @since 2.0.0
+ */
+@Test
+public class TopLevelNodeIndexTest {
+
+    private BLangCompilationUnit compilationUnit;
+    private TopLevelNodeIndex index;
+    private Document document;
+
+    @BeforeClass
+    public void setup() {
+        Project project = BCompileUtil.loadProject("test-src/top_level_node_index_test.bal");
+        document = getDocumentForSingleSource(project);
+        compilationUnit = project.currentPackage().getCompilation().defaultModuleBLangPackage().compUnits.get(0);
+        index = TopLevelNodeIndex.from(compilationUnit);
+    }
+
+    @Test
+    public void testNodesAtEveryPosition() {
+        for (LinePosition position : allPositions()) {
+            List<TopLevelNode> nodes = index.nodesAt(position);
+            List<TopLevelNode> expectedNodes = new ArrayList<>();
+            for (TopLevelNode node : compilationUnit.topLevelNodes) {
+                if (PositionUtil.withinBlock(position, node.getPosition()) || isWithinMetaData(position, node)) {
+                    expectedNodes.add(node);
+                }
+            }
+
+            // The span of a node also covers the gaps between its metadata and itself, hence more nodes may be
+            // found than the ones which enclose the position. The finders check the positions of the nodes found.
+            Assert.assertTrue(nodes.containsAll(expectedNodes), position.toString());
+            List<Integer> order = order(nodes);
+            List<Integer> sortedOrder = new ArrayList<>(order);
+            Collections.sort(sortedOrder);
+            Assert.assertEquals(order, sortedOrder, position.toString());
+        }
+    }
+
+    @Test
+    public void testSymbolLookupAtEveryPosition() {
+        for (LinePosition position : allPositions()) {
+            Assert.assertSame(new SymbolFinder().lookup(index, position),
+                    new SymbolFinder().lookup(compilationUnit, position), position.toString());
+        }
+    }
+
+    @Test
+    public void testNodeLookupOfEveryToken() {
+        List<LineRange> ranges = new ArrayList<>();
+        addTokenRanges(document.syntaxTree().rootNode(), ranges);
+        for (LinePosition position : allPositions()) {
+            ranges.add(LineRange.from(document.name(), position, position));
+        }
+
+        for (LineRange range : ranges) {
+            for (boolean allowExprStmts : new boolean[]{true, false}) {
+                Assert.assertSame(new NodeFinder(allowExprStmts).lookup(index, range),
+                        new NodeFinder(allowExprStmts).lookup(compilationUnit, range), range.toString());
+            }
+        }
+    }
+
+    @Test
+    public void testPositionsBetweenMembers() {
+        String[] lines = lines();
+        int annotationLine = 0;
+        while (!lines[annotationLine].startsWith("public annotation")) {
+            annotationLine++;
+        }
+
+        // The license header, the blank line after the annotation declaration, and the end of the last member
+        List<LinePosition> positions = List.of(LinePosition.from(0, 0), LinePosition.from(annotationLine + 1, 0),
+                LinePosition.from(lines.length, 0));
+        for (LinePosition position : positions) {
+            Assert.assertTrue(index.nodesAt(position).isEmpty(), position.toString());
+            Assert.assertNull(new SymbolFinder().lookup(index, position), position.toString());
+        }
+    }
+
+    private List<LinePosition> allPositions() {
+        List<LinePosition> positions = new ArrayList<>();
+        String[] lines = lines();
+        for (int line = 0; line < lines.length; line++) {
+            // One past the end of the line as well
+            for (int offset = 0; offset <= lines[line].length() + 1; offset++) {
+                positions.add(LinePosition.from(line, offset));
+            }
+        }
+        positions.add(LinePosition.from(lines.length, 0));
+        return positions;
+    }
+
+    private String[] lines() {
+        return document.syntaxTree().toSourceCode().split("\n", -1);
+    }
+
+    private List<Integer> order(List<TopLevelNode> nodes) {
+        List<Integer> order = new ArrayList<>();
+        for (TopLevelNode node : nodes) {
+            order.add(compilationUnit.topLevelNodes.indexOf(node));
+        }
+        return order;
+    }
+
+    private static void addTokenRanges(Node node, List<LineRange> ranges) {
+        if (node instanceof Token) {
+            ranges.add(node.lineRange());
+        } else if (node instanceof NonTerminalNode) {
+            for (Node child : ((NonTerminalNode) node).children()) {
+                addTokenRanges(child, ranges);
+            }
+        }
+    }
+
+    private static boolean isWithinMetaData(LinePosition position, TopLevelNode node) {
+        for (Location location : metaDataLocations(node)) {
+            if (PositionUtil.withinBlock(position, location)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<Location> metaDataLocations(TopLevelNode node) {
+        List<Location> locations = new ArrayList<>();
+        if (node instanceof AnnotatableNode) {
+            for (AnnotationAttachmentNode annotAttachment : ((AnnotatableNode) node).getAnnotationAttachments()) {
+                locations.add(annotAttachment.getPosition());
+            }
+        }
+        if (node instanceof DocumentableNode) {
+            BLangMarkdownDocumentation markdown = ((DocumentableNode) node).getMarkdownDocumentationAttachment();
+            if (markdown != null) {
+                for (BLangMarkdownParameterDocumentation parameter : markdown.getParameters()) {
+                    locations.add(parameter.getPosition());
+                }
+            }
+        }
+        return locations;
+    }
+}
@@ -0,0 +1,10 @@
+import refIndexProj.util;
+
+function add(int a, int b) returns int {
+    total += a;
+    return a + b;
+}
+
+function describe(util:Counter counter) returns string {
+    return counter.count.toString() + util:INITIAL.toString();
+}
@@ -0,0 +1,12 @@
+import ballerina/io;
+import refIndexProj.util;
+
+int total = 0;
+
+public function main() {
+    util:Counter counter = {count: util:INITIAL};
+    util:increment(counter);
+    total = add(counter.count, int:max(1, 2));
+    io:println(total);
+    io:println(describe(counter));
+}
@@ -0,0 +1,9 @@
+public const int INITIAL = 1;
+
+public type Counter record {|
+    int count;
+|};
+
+public function increment(Counter counter) {
+    counter.count += INITIAL;
+}
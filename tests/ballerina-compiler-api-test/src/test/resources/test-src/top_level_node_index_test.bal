@@ -0,0 +1,74 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+# Label of a construct.
+#
+# + label - text of the label
+type Label record {|
+    string label;
+|};
+
+public annotation Label display on type, function, class, source var, parameter, return;
+
+# Adds two integers.
+#
+# + a - first integer
+# + b - second integer
+# + return - sum of the integers
+@display {label: "add"}
+@display {
+    label: "sum"
+}
+function add(int a, int b) returns int {
+    return a + b;
+}
+int total = add(1, 2); function incr() { total += 1; }
+
+@display {label: "counter"}
+class Counter {
+    # Current count
+    int count = 0;
+
+    # Increments the count.
+    #
+    # + step - amount to increment by
+    @display {label: "increment"}
+    function increment(int step) {
+        self.count += step;
+    }
+}
+
+var anon = object {
+    int x = 1;
+
+    function get() returns int {
+        return self.x;
+    }
+};
+
+function () returns int lambda = function () returns int {
+    return total;
+};
+
+# Uses the other members.
+#
+# + x - value to count
+# + return - total count
+function useAll(@display {label: "param"} int x) returns @display {label: "ret"} int {
+    Counter counter = new;
+    counter.increment(x);
+    return add(total, counter.count) + anon.get() + lambda();
+}
@@ -95,3 +95,18 @@ public function benchmarkStringLength() {
     int i = str.length();
 }
 
+public function benchmarkStringConcatInLoop() {
+    string csv = "";
+    foreach int i in 0 ..< 1000 {
+        csv += i.toString() + ",";
+    }
+    int length = csv.length();
+}
+
+public function benchmarkStringTemplateInLoop() {
+    string html = "";
+    foreach int i in 0 ..< 1000 {
+        html = string `${html}<li>${i}</li>`;
+    }
+    int length = html.length();
+}
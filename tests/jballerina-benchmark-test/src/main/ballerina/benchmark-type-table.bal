@@ -0,0 +1,69 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+type Employee record {|
+    readonly int id;
+    readonly string name;
+    readonly string department;
+    float salary;
+|};
+
+public function benchmarkTablePutIntKey() {
+    table<Employee> key(id) employees = table [];
+    foreach int i in 0 ..< 10000 {
+        employees.put({id: i, name: "employee", department: "sales", salary: 100.0});
+    }
+}
+
+public function benchmarkTableGetIntKey() {
+    table<Employee> key(id) employees = table [];
+    foreach int i in 0 ..< 10000 {
+        employees.put({id: i, name: "employee", department: "sales", salary: 100.0});
+    }
+    float total = 0.0;
+    foreach int i in 0 ..< 10000 {
+        total += employees.get(i).salary;
+    }
+}
+
+public function benchmarkTablePutStringKey() {
+    table<Employee> key(name) employees = table [];
+    foreach int i in 0 ..< 10000 {
+        employees.put({id: i, name: i.toString(), department: "sales", salary: 100.0});
+    }
+}
+
+public function benchmarkTableGetStringKey() {
+    table<Employee> key(name) employees = table [];
+    foreach int i in 0 ..< 10000 {
+        employees.put({id: i, name: i.toString(), department: "sales", salary: 100.0});
+    }
+    float total = 0.0;
+    foreach int i in 0 ..< 10000 {
+        total += employees.get(i.toString()).salary;
+    }
+}
+
+public function benchmarkTableGetCompositeKey() {
+    table<Employee> key(department, id) employees = table [];
+    foreach int i in 0 ..< 10000 {
+        employees.put({id: i, name: "employee", department: "sales", salary: 100.0});
+    }
+    float total = 0.0;
+    foreach int i in 0 ..< 10000 {
+        total += employees.get(["sales", i]).salary;
+    }
+}
@@ -0,0 +1,113 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+// Number of messages passed between the two workers in a single function call.
+const int MESSAGES_PER_CALL = 10;
+
+function passMessages() returns int {
+    worker sender {
+        0 -> receiver;
+        1 -> receiver;
+        2 -> receiver;
+        3 -> receiver;
+        4 -> receiver;
+        5 -> receiver;
+        6 -> receiver;
+        7 -> receiver;
+        8 -> receiver;
+        9 -> receiver;
+    }
+
+    worker receiver returns int {
+        int v0 = <- sender;
+        int v1 = <- sender;
+        int v2 = <- sender;
+        int v3 = <- sender;
+        int v4 = <- sender;
+        int v5 = <- sender;
+        int v6 = <- sender;
+        int v7 = <- sender;
+        int v8 = <- sender;
+        int v9 = <- sender;
+        return v0 + v1 + v2 + v3 + v4 + v5 + v6 + v7 + v8 + v9;
+    }
+
+    return wait receiver;
+}
+
+function passMessagesSync() returns int {
+    worker sender {
+        error? r0 = 0 ->> receiver;
+        error? r1 = 1 ->> receiver;
+        error? r2 = 2 ->> receiver;
+        error? r3 = 3 ->> receiver;
+        error? r4 = 4 ->> receiver;
+        error? r5 = 5 ->> receiver;
+        error? r6 = 6 ->> receiver;
+        error? r7 = 7 ->> receiver;
+        error? r8 = 8 ->> receiver;
+        error? r9 = 9 ->> receiver;
+    }
+
+    worker receiver returns int {
+        int v0 = <- sender;
+        int v1 = <- sender;
+        int v2 = <- sender;
+        int v3 = <- sender;
+        int v4 = <- sender;
+        int v5 = <- sender;
+        int v6 = <- sender;
+        int v7 = <- sender;
+        int v8 = <- sender;
+        int v9 = <- sender;
+        return v0 + v1 + v2 + v3 + v4 + v5 + v6 + v7 + v8 + v9;
+    }
+
+    return wait receiver;
+}
+
+// The iteration counts are in messages, hence the reported throughput is in messages per second.
+public function benchmarkWorkerMessagePassing(int warmupCount, int benchmarkCount) returns int {
+    int i = 0;
+    while (i < warmupCount) {
+        _ = passMessages();
+        i += MESSAGES_PER_CALL;
+    }
+
+    i = 0;
+    int startTime = nanoTime();
+    while (i < benchmarkCount) {
+        _ = passMessages();
+        i += MESSAGES_PER_CALL;
+    }
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkWorkerSyncMessagePassing(int warmupCount, int benchmarkCount) returns int {
+    int i = 0;
+    while (i < warmupCount) {
+        _ = passMessagesSync();
+        i += MESSAGES_PER_CALL;
+    }
+
+    i = 0;
+    int startTime = nanoTime();
+    while (i < benchmarkCount) {
+        _ = passMessagesSync();
+        i += MESSAGES_PER_CALL;
+    }
+    return (nanoTime() - startTime);
+}
@@ -36,6 +36,13 @@ public function registerSingleExecFunctions() {
     addSingleExecFunction("benchmarkJoinWithQuery", benchmarkJoinWithQuery);
     addSingleExecFunction("benchmarkJoinWithForeach", benchmarkJoinWithForeach);
     addSingleExecFunction("benchmarkJoinWithWhile", benchmarkJoinWithWhile);
+    addSingleExecFunction("benchmarkWorkerMessagePassing", benchmarkWorkerMessagePassing);
+    addSingleExecFunction("benchmarkWorkerSyncMessagePassing", benchmarkWorkerSyncMessagePassing);
+    addSingleExecFunction("benchmarkTablePutIntKey", benchmarkTablePutIntKey);
+    addSingleExecFunction("benchmarkTableGetIntKey", benchmarkTableGetIntKey);
+    addSingleExecFunction("benchmarkTablePutStringKey", benchmarkTablePutStringKey);
+    addSingleExecFunction("benchmarkTableGetStringKey", benchmarkTableGetStringKey);
+    addSingleExecFunction("benchmarkTableGetCompositeKey", benchmarkTableGetCompositeKey);
 }
 
 public function registerMultiExecFunctions() {
@@ -55,6 +62,8 @@ public function registerMultiExecFunctions() {
     addMultiExecFunction("benchmarkStringIndexOf", benchmarkStringIndexOf);
     addMultiExecFunction("benchmarkStringEqualsIgnoreCase", benchmarkStringEqualsIgnoreCase);
     addMultiExecFunction("benchmarkStringConcat", benchmarkStringConcat);
+    addMultiExecFunction("benchmarkStringConcatInLoop", benchmarkStringConcatInLoop);
+    addMultiExecFunction("benchmarkStringTemplateInLoop", benchmarkStringTemplateInLoop);
     addMultiExecFunction("benchmarkFloatAddition", benchmarkFloatAddition);
     addMultiExecFunction("benchmarkFloatAdditionWithReturn", benchmarkFloatAdditionWithReturn);
     addMultiExecFunction("benchmarkFloatMultiplication", benchmarkFloatMultiplication);
@@ -63,4 +72,5 @@ public function registerMultiExecFunctions() {
     addMultiExecFunction("benchmarkFloatSubtractionWithReturn", benchmarkFloatSubtractionWithReturn);
     addMultiExecFunction("benchmarkFloatDivision", benchmarkFloatDivision);
     addMultiExecFunction("benchmarkFloatDivisionWithReturn", benchmarkFloatDivisionWithReturn);
+    addMultiExecFunction("benchmarkParseLargeSource", benchmarkParseLargeSource);
 }
@@ -1,5 +1,7 @@
 module io.ballerina.benchmark {
     requires io.ballerina.lang;
+    requires io.ballerina.parser;
+    requires io.ballerina.tools.api;
     requires io.ballerina.runtime;
     exports org.ballerinalang.benchmark.nativeimpl;
 }
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.ballerinalang.benchmark.nativeimpl;
+
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.tools.text.TextDocuments;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * This class holds the parser functionality that is required for benchmarking.
+ *
+ * @since 2.0.0
+ */
+public class ParserUtils {
+
+    // Number of times the benchmark sources are repeated in the large source
+    private static final int LARGE_SOURCE_REPETITIONS = 10;
+
+    private ParserUtils() {
+    }
+
+    /**
+     * Parses a large source made of the benchmark sources in the current directory.
+     *
+     * @return Length of the parsed source, including its minutiae
+     */
+    public static long parseLargeSource() {
+        SyntaxTree syntaxTree = SyntaxTree.from(TextDocuments.from(LargeSourceHolder.LARGE_SOURCE));
+        return syntaxTree.rootNode().textRangeWithMinutiae().length();
+    }
+
+    private static String readLargeSource() {
+        // Benchmarks are run from the directory of the benchmark sources, which have no imports
+        try (Stream<Path> files = Files.list(Paths.get(""))) {
+            List<Path> sourceFiles = files
+                    .filter(file -> file.getFileName().toString().matches("benchmark-.*\\.bal"))
+                    .sorted()
+                    .collect(Collectors.toList());
+            StringBuilder source = new StringBuilder();
+            for (Path sourceFile : sourceFiles) {
+                source.append(new String(Files.readAllBytes(sourceFile), StandardCharsets.UTF_8));
+            }
+            return source.toString().repeat(LARGE_SOURCE_REPETITIONS);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads the large source once, when it is first parsed.
+     */
+    private static class LargeSourceHolder {
+
+        private static final String LARGE_SOURCE = readLargeSource();
+    }
+}
@@ -549,6 +549,11 @@ public class ExpressionEvaluationTest extends ExpressionEvaluationBaseTest {
         debugTestRunner.assertExpression(context, String.format("%s + %s + %s", bStringTemplateExpr,
                 bStringTemplateExpr, bStringTemplateExpr),
                 "\"name: foo, age: 20name: foo, age: 20name: foo, age: 20\"", "string");
+        // concatenation of long strings, which results in a concatenated string value
+        String longStringA = "a".repeat(100);
+        String longStringB = "b".repeat(100);
+        debugTestRunner.assertExpression(context, String.format("\"%s\" + \"%s\"", longStringA, longStringB),
+                "\"" + longStringA + longStringB + "\"", "string");
 
         // xml + xml
         debugTestRunner.assertExpression(context, String.format("%s + %s", XML_VAR, XML_VAR),
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.debugger.test.adapter.evaluation;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.ballerinalang.debugger.test.BaseTestCase;
+import org.ballerinalang.debugger.test.utils.BallerinaTestDebugPoint;
+import org.ballerinalang.debugger.test.utils.DebugTestRunner;
+import org.ballerinalang.debugger.test.utils.DebugUtils;
+import org.ballerinalang.test.context.BallerinaTestException;
+import org.eclipse.lsp4j.debug.StoppedEventArguments;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Test class for evaluating expressions which refer to module types, before the program has used any of them.
+ */
+public class LazyTypeEvaluationTest extends BaseTestCase {
+
+    DebugTestRunner debugTestRunner;
+
+    @BeforeClass
+    public void setup() {
+        String testProjectName = "lazy-type-evaluation-tests";
+        String testModuleFileName = "main.bal";
+        debugTestRunner = new DebugTestRunner(testProjectName, testModuleFileName, true);
+    }
+
+    @Test(description = "Evaluates expressions with module types before the types of the module are created")
+    public void typeEvaluationBeforeTypesCreatedTest() throws BallerinaTestException {
+        debugTestRunner.addBreakPoint(new BallerinaTestDebugPoint(debugTestRunner.testEntryFilePath, 25));
+        debugTestRunner.initDebugSession(DebugUtils.DebuggeeExecutionKind.RUN);
+        Pair<BallerinaTestDebugPoint, StoppedEventArguments> debugHitInfo = debugTestRunner.waitForDebugHit(25000);
+        Assert.assertEquals(debugHitInfo.getLeft(), debugTestRunner.testBreakpoints.get(0));
+        StoppedEventArguments context = debugHitInfo.getRight();
+
+        // types of the current module
+        debugTestRunner.assertExpression(context, "10 is Person", "false", "boolean");
+        debugTestRunner.assertExpression(context, "\"John\" is Person|string", "true", "boolean");
+        debugTestRunner.assertExpression(context, "<Person> 10", "{ballerina}TypeCastError", "error");
+        // types of an imported module
+        debugTestRunner.assertExpression(context, "10 is shapes:Circle", "false", "boolean");
+        debugTestRunner.assertExpression(context, "<shapes:Circle> 10", "{ballerina}TypeCastError", "error");
+
+        // the same types resolve to the ones used by the program, once it has created them
+        debugTestRunner.resumeProgram(context, DebugTestRunner.DebugResumeKind.STEP_OVER);
+        debugHitInfo = debugTestRunner.waitForDebugHit(10000);
+        context = debugHitInfo.getRight();
+        debugTestRunner.assertExpression(context, "person is Person", "true", "boolean");
+        debugTestRunner.assertExpression(context, "person is shapes:Circle", "false", "boolean");
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void cleanUp() {
+        debugTestRunner.terminateDebugSession();
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.test.error;
+
+import org.ballerinalang.core.model.values.BInteger;
+import org.ballerinalang.core.model.values.BValue;
+import org.ballerinalang.test.BCompileUtil;
+import org.ballerinalang.test.BRunUtil;
+import org.ballerinalang.test.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import static io.ballerina.runtime.api.constants.RuntimeConstants.BALLERINA_ERROR_STACK_DEPTH_PROPERTY;
+
+/**
+ * Test cases for the stack trace of errors, when the captured stack depth is bounded.
+ *
+ * @since 2.0.0
+ */
+public class ErrorStackDepthTest {
+
+    private static final String FULL_STACK_TRACE = "error: depth error\n" +
+            "\tat stacktrace_depth_test:level3(stacktrace_depth_test.bal:20)\n" +
+            "\t   stacktrace_depth_test:level2(stacktrace_depth_test.bal:24)\n" +
+            "\t   stacktrace_depth_test:level1(stacktrace_depth_test.bal:28)\n" +
+            "\t   stacktrace_depth_test:panicWithError(stacktrace_depth_test.bal:51)";
+
+    private CompileResult compileResult;
+
+    @BeforeClass
+    public void setup() {
+        compileResult = BCompileUtil.compile("test-src/error/stacktrace_depth_test.bal");
+    }
+
+    @AfterMethod
+    public void clearStackDepth() {
+        System.clearProperty(BALLERINA_ERROR_STACK_DEPTH_PROPERTY);
+    }
+
+    @Test
+    public void testUntruncatedStackTrace() {
+        Assert.assertEquals(getInt("getErrorStackTraceLength"), 4);
+        Assert.assertEquals(BRunUtil.invoke(compileResult, "getTopErrorStackFrameName")[0].stringValue(), "level3");
+        Assert.assertEquals(getPanicMessage(), FULL_STACK_TRACE);
+    }
+
+    @Test
+    public void testStackTraceWithLargeDepth() {
+        System.setProperty(BALLERINA_ERROR_STACK_DEPTH_PROPERTY, "100");
+        Assert.assertEquals(getInt("getErrorStackTraceLength"), 4);
+        Assert.assertEquals(BRunUtil.invoke(compileResult, "getTopErrorStackFrameName")[0].stringValue(), "level3");
+        Assert.assertEquals(getPanicMessage(), FULL_STACK_TRACE);
+    }
+
+    @Test
+    public void testTruncatedStackTrace() {
+        System.setProperty(BALLERINA_ERROR_STACK_DEPTH_PROPERTY, "2");
+        long stackTraceLength = getInt("getErrorStackTraceLength");
+        Assert.assertTrue(stackTraceLength <= 2, "stack trace length: " + stackTraceLength);
+
+        String panicMessage = getPanicMessage();
+        Assert.assertTrue(FULL_STACK_TRACE.startsWith(panicMessage), panicMessage);
+        Assert.assertTrue(panicMessage.split("\n").length <= 3, panicMessage);
+    }
+
+    @Test
+    public void testStackTraceWithZeroDepth() {
+        System.setProperty(BALLERINA_ERROR_STACK_DEPTH_PROPERTY, "0");
+        Assert.assertEquals(getInt("getErrorStackTraceLength"), 0);
+        Assert.assertEquals(BRunUtil.invoke(compileResult, "getTopErrorStackFrameName")[0].stringValue(), "");
+        Assert.assertEquals(getPanicMessage(), "error: depth error");
+    }
+
+    @Test
+    public void testCallStackWithTruncatedStackTrace() {
+        long callStackLength = getInt("getCallStackLength");
+        Assert.assertTrue(callStackLength >= 2);
+
+        // The call stack is not an error stack trace, hence it is never truncated
+        System.setProperty(BALLERINA_ERROR_STACK_DEPTH_PROPERTY, "1");
+        Assert.assertEquals(getInt("getCallStackLength"), callStackLength);
+        System.setProperty(BALLERINA_ERROR_STACK_DEPTH_PROPERTY, "0");
+        Assert.assertEquals(getInt("getCallStackLength"), callStackLength);
+    }
+
+    private long getInt(String functionName) {
+        BValue[] result = BRunUtil.invoke(compileResult, functionName);
+        return ((BInteger) result[0]).intValue();
+    }
+
+    private String getPanicMessage() {
+        Exception expectedException = null;
+        try {
+            BRunUtil.invoke(compileResult, "panicWithError");
+        } catch (Exception e) {
+            expectedException = e;
+        }
+        Assert.assertNotNull(expectedException);
+        return expectedException.getMessage();
+    }
+
+    @AfterClass
+    public void tearDown() {
+        compileResult = null;
+    }
+}
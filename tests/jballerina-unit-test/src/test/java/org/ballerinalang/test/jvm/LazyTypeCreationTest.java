@@ -0,0 +1,103 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.ballerinalang.test.jvm;
+
+import io.ballerina.runtime.api.utils.IdentifierUtils;
+import org.ballerinalang.core.model.values.BInteger;
+import org.ballerinalang.core.model.values.BValue;
+import org.ballerinalang.test.BCompileUtil;
+import org.ballerinalang.test.BRunUtil;
+import org.ballerinalang.test.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Field;
+
+/**
+ * Test cases for creating the types of a module when one of them is used for the first time, rather than when the
+ * program starts.
+ *
+ * @since 2.0.0
+ */
+public class LazyTypeCreationTest {
+
+    private static final String SHAPES_MODULE = "lazytypes.shapes";
+    private static final String REPORTS_MODULE = "lazytypes.reports";
+    private static final String ANNOTATIONS_CLASS_NAME = "annotations.$_annotations";
+    // Set by the static initializer of the types class of a module, once the types are created
+    private static final String TYPES_CREATED_FIELD = "$typesCreated";
+    // Set at the end of the module initialization
+    private static final String ANNOTATIONS_READY_FIELD = "$annotationsReady";
+
+    private CompileResult compileResult;
+
+    @BeforeClass
+    public void setup() {
+        compileResult = BCompileUtil.compile("test-src/jvm/LazyTypesProject");
+        Assert.assertEquals(compileResult.getErrorCount(), 0);
+    }
+
+    @Test(description = "Test that initializing the modules does not create their types")
+    public void testTypesNotCreatedByModuleInit() throws ReflectiveOperationException {
+        Assert.assertTrue(getFlag(SHAPES_MODULE, ANNOTATIONS_READY_FIELD));
+        Assert.assertTrue(getFlag(REPORTS_MODULE, ANNOTATIONS_READY_FIELD));
+        Assert.assertFalse(getFlag(SHAPES_MODULE, TYPES_CREATED_FIELD));
+        Assert.assertFalse(getFlag(REPORTS_MODULE, TYPES_CREATED_FIELD));
+    }
+
+    @Test(description = "Test that calling functions of a module which do not use its types does not create them",
+            dependsOnMethods = "testTypesNotCreatedByModuleInit")
+    public void testTypesNotCreatedByFunctionCalls() throws ReflectiveOperationException {
+        BValue[] result = BRunUtil.invoke(compileResult, "callFunctionsWithoutTypes");
+        Assert.assertEquals(((BInteger) result[0]).intValue(), 2);
+        Assert.assertFalse(getFlag(SHAPES_MODULE, TYPES_CREATED_FIELD));
+        Assert.assertFalse(getFlag(REPORTS_MODULE, TYPES_CREATED_FIELD));
+    }
+
+    @Test(description = "Test that the types of a module are created when one of them is used for the first time",
+            dependsOnMethods = "testTypesNotCreatedByFunctionCalls")
+    public void testTypesCreatedOnFirstUse() throws ReflectiveOperationException {
+        BValue[] result = BRunUtil.invoke(compileResult, "useShapes");
+        Assert.assertEquals(((BInteger) result[0]).intValue(), 1);
+        Assert.assertTrue(getFlag(SHAPES_MODULE, TYPES_CREATED_FIELD));
+        Assert.assertFalse(getFlag(REPORTS_MODULE, TYPES_CREATED_FIELD));
+
+        result = BRunUtil.invoke(compileResult, "useReports");
+        Assert.assertEquals(((BInteger) result[0]).intValue(), 0);
+        Assert.assertTrue(getFlag(REPORTS_MODULE, TYPES_CREATED_FIELD));
+    }
+
+    /**
+     * Reads a state flag of the annotations class of a module. Unlike the fields of the types class, reading it does
+     * not create the types of the module.
+     */
+    private boolean getFlag(String moduleName, String fieldName) throws ReflectiveOperationException {
+        String className = "testorg." + IdentifierUtils.encodeNonFunctionIdentifier(moduleName) + ".1." +
+                ANNOTATIONS_CLASS_NAME;
+        Class<?> annotationsClass = Class.forName(className, true, compileResult.getClassLoader());
+        Field field = annotationsClass.getDeclaredField(fieldName);
+        field.setAccessible(true);
+        return field.getBoolean(null);
+    }
+
+    @AfterClass
+    public void tearDown() {
+        compileResult = null;
+    }
+}
@@ -303,6 +303,11 @@ public class LocksInMainTest {
         BRunUtil.invoke(parallelCompileResult, "testForGlobalRefUpdateInsideConditional");
     }
 
+    @Test(description = "Test for read only lock statements sharing the lock while it is also used for writes")
+    public void testReadOnlyLocksWithConcurrentWrites() {
+        BRunUtil.invoke(parallelCompileResult, "testReadOnlyLocksWithConcurrentWrites");
+    }
+
     @AfterClass
     public void tearDown() {
         parallelCompileResult = null;
@@ -0,0 +1,100 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.ballerinalang.test.lock;
+
+import org.ballerinalang.test.BCompileUtil;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tests the lock statements which are marked by the isolation analyzer as only reading the locked variables, and
+ * hence share the lock with each other.
+ *
+ * @since 2.0.0
+ */
+public class ReadOnlyLockBodyTest {
+
+    private static final String SOURCE_PATH = "test-src/lock/read-only-lock-body.bal";
+    private static final String SHARED_MARKER = "lock { // shared";
+    private static final String EXCLUSIVE_MARKER = "lock { // exclusive";
+
+    // Whether the lock statement starting at each (zero based) line shares the lock
+    private final Map<Integer, Boolean> expectedSharedLocks = new HashMap<>();
+    private final Map<Integer, Boolean> sharedLocks = new HashMap<>();
+    private List<String> sourceLines;
+
+    @BeforeClass
+    public void setup() throws IOException {
+        sourceLines = Files.readAllLines(Paths.get("src", "test", "resources").resolve(SOURCE_PATH));
+        for (int line = 0; line < sourceLines.size(); line++) {
+            String sourceLine = sourceLines.get(line).trim();
+            if (sourceLine.equals(SHARED_MARKER)) {
+                expectedSharedLocks.put(line, true);
+            } else if (sourceLine.equals(EXCLUSIVE_MARKER)) {
+                expectedSharedLocks.put(line, false);
+            }
+        }
+
+        BCompileUtil.BIRCompileResult result = BCompileUtil.generateBIR(SOURCE_PATH);
+        Assert.assertNotNull(result);
+        // Workers and lambdas are generated as functions of the module, and methods as functions of the classes
+        List<BIRNode.BIRFunction> functions = new ArrayList<>(result.getExpectedBIR().functions);
+        result.getExpectedBIR().typeDefs.forEach(typeDef -> functions.addAll(typeDef.attachedFuncs));
+        for (BIRNode.BIRFunction function : functions) {
+            for (BIRNode.BIRBasicBlock basicBlock : function.basicBlocks) {
+                if (basicBlock.terminator instanceof BIRTerminator.Lock) {
+                    BIRTerminator.Lock lock = (BIRTerminator.Lock) basicBlock.terminator;
+                    sharedLocks.put(lock.pos.lineRange().startLine().line(), lock.shared);
+                }
+            }
+        }
+    }
+
+    @Test(description = "Test that every lock statement is generated, with the expected kind of lock")
+    public void testAllLocksGenerated() {
+        Assert.assertFalse(expectedSharedLocks.isEmpty());
+        Assert.assertEquals(sharedLocks.keySet(), expectedSharedLocks.keySet());
+    }
+
+    @Test(description = "Test that the lock statements share the lock only if they do not mutate",
+            dataProvider = "lockStatements")
+    public void testSharedLock(int line) {
+        Assert.assertEquals(sharedLocks.get(line), expectedSharedLocks.get(line),
+                "unexpected lock for the lock statement at line " + (line + 1) + ": " + sourceLines.get(line).trim());
+    }
+
+    @DataProvider(name = "lockStatements")
+    public Object[][] lockStatements() {
+        return expectedSharedLocks.keySet().stream()
+                .sorted()
+                .map(line -> new Object[]{line})
+                .toArray(Object[][]::new);
+    }
+}
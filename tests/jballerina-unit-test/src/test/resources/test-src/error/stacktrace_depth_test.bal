@@ -0,0 +1,52 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.runtime;
+
+function level3() returns error {
+    return error("depth error");
+}
+
+function level2() returns error {
+    return level3();
+}
+
+function level1() returns error {
+    return level2();
+}
+
+function getErrorStackTraceLength() returns int {
+    error e = level1();
+    return e.stackTrace().callStack.length();
+}
+
+function getTopErrorStackFrameName() returns string {
+    error e = level1();
+    error:CallStackElement[] callStack = e.stackTrace().callStack;
+    return callStack.length() == 0 ? "" : callStack[0].callableName;
+}
+
+function getCallStackLength() returns int {
+    return callStackLength();
+}
+
+function callStackLength() returns int {
+    return runtime:getStackTrace().length();
+}
+
+function panicWithError() {
+    panic level1();
+}
@@ -0,0 +1,35 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import lazytypes.reports;
+import lazytypes.shapes;
+
+// Initialized by a function of an imported module which does not use the types of the module
+int sideCount = shapes:sides();
+
+public function callFunctionsWithoutTypes() returns int {
+    return sideCount + reports:count();
+}
+
+public function useShapes() returns int {
+    shapes:Circle circle = shapes:unitCircle();
+    return <int> circle.radius;
+}
+
+public function useReports() returns int {
+    reports:Report report = reports:emptyReport();
+    return report.entries.length();
+}
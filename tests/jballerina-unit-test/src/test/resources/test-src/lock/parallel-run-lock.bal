@@ -330,6 +330,54 @@ function testForGlobalRefUpdateInsideConditional() {
     }
 }
 
+isolated map<int> balances = {"a": 50, "b": 50};
+
+function testReadOnlyLocksWithConcurrentWrites() {
+    @strand {thread: "any"}
+    worker w1 {
+        foreach var i in 1 ... 1000 {
+            lock {
+                balances["a"] = balances.get("a") - 1;
+                balances["b"] = balances.get("b") + 1;
+            }
+        }
+    }
+
+    @strand {thread: "any"}
+    worker w2 returns int {
+        int invalidReads = 0;
+        foreach var i in 1 ... 1000 {
+            lock {
+                if (balances.get("a") + balances.get("b") != 100) {
+                    invalidReads += 1;
+                }
+            }
+        }
+        return invalidReads;
+    }
+
+    @strand {thread: "any"}
+    worker w3 returns int {
+        int invalidReads = 0;
+        foreach var i in 1 ... 1000 {
+            lock {
+                if (balances.get("a") + balances.get("b") != 100) {
+                    invalidReads += 1;
+                }
+            }
+        }
+        return invalidReads;
+    }
+
+    wait w1;
+    int invalidReads = wait w2;
+    invalidReads += wait w3;
+    if (invalidReads != 0) {
+        panic error("Invalid value " + invalidReads.toString() + " received in " +
+                    "\"testReadOnlyLocksWithConcurrentWrites\"");
+    }
+}
+
 public function sleep(int millis) = @java:Method {
     'class: "org.ballerinalang.test.utils.interop.Utils"
 } external;
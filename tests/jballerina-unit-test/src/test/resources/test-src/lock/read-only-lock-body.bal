@@ -0,0 +1,223 @@
+// Each lock statement is marked with whether it is expected to share the lock with other readers, or to hold it
+// exclusively.
+
+int counter = 0;
+int[] values = [1, 2, 3];
+map<int> scores = {"a": 1, "b": 2};
+
+class Counter {
+    int count = 0;
+
+    function increment() {
+        self.count += 1;
+    }
+
+    function get() returns int {
+        return self.count;
+    }
+}
+
+client class CounterClient {
+    remote function get() returns int {
+        return 1;
+    }
+}
+
+Counter moduleCounter = new;
+
+function getCounter() returns int {
+    return counter;
+}
+
+function readModuleVariable() returns int {
+    int value = 0;
+    lock { // shared
+        value = counter;
+    }
+    return value;
+}
+
+function returnModuleVariable() returns int {
+    lock { // shared
+        return counter + values[0];
+    }
+}
+
+function callNonMutatingLangLibFunctions() returns boolean {
+    lock { // shared
+        int? index = values.indexOf(2);
+        int[] slice = values.slice(1);
+        return scores.hasKey("a") && scores.get("b") == 2 && values.length() == 3 && index == 1 && slice.length() == 2;
+    }
+}
+
+function iterateArrayAndMap() returns int {
+    int sum = 0;
+    lock { // shared
+        foreach int value in values {
+            sum += value;
+        }
+        foreach int score in scores {
+            sum += score;
+        }
+        foreach int i in 0 ..< 3 {
+            sum += i;
+        }
+    }
+    return sum;
+}
+
+function readInWorker() returns int {
+    worker w1 returns int {
+        int value = 0;
+        lock { // shared
+            value = counter;
+        }
+        return value;
+    }
+    return wait w1;
+}
+
+function readInNestedLocks() returns int {
+    int value = 0;
+    lock { // shared
+        lock { // shared
+            value = counter;
+        }
+    }
+    return value;
+}
+
+function assignModuleVariable() {
+    lock { // exclusive
+        counter = counter + 1;
+    }
+}
+
+function compoundAssignModuleVariable() {
+    lock { // exclusive
+        counter += 1;
+    }
+}
+
+function assignMember() {
+    lock { // exclusive
+        values[0] = 5;
+        scores["c"] = 3;
+    }
+}
+
+function destructureIntoModuleVariable() {
+    lock { // exclusive
+        [counter, _] = [values[0], values[1]];
+    }
+}
+
+function assignCapturedVariable() returns int {
+    int value = 0;
+    function () increment = function () {
+        value += 1;
+    };
+    lock { // exclusive
+        value = counter;
+    }
+    increment();
+    return value;
+}
+
+function assignInNestedLock() {
+    lock { // exclusive
+        int value = counter;
+        lock { // exclusive
+            counter = value + 1;
+        }
+    }
+}
+
+function callMutatingLangLibFunction() {
+    lock { // exclusive
+        values.push(4);
+    }
+}
+
+function callMethod() returns int {
+    lock { // exclusive
+        return moduleCounter.get();
+    }
+}
+
+function callMutatingMethod() {
+    lock { // exclusive
+        moduleCounter.increment();
+    }
+}
+
+function callFunction() returns int {
+    lock { // exclusive
+        return getCounter();
+    }
+}
+
+function callFunctionPointer(function () returns int fn) returns int {
+    lock { // exclusive
+        return counter + fn();
+    }
+}
+
+function callLangLibFunctionWithUserCode() returns int[] {
+    lock { // exclusive
+        return values.map(value => value * 2);
+    }
+}
+
+function constructObject() returns int {
+    lock { // exclusive
+        Counter newCounter = new;
+        return newCounter.count + counter;
+    }
+}
+
+function constructObjectWithObjectConstructor() returns int {
+    lock { // exclusive
+        var obj = object {
+            int count = 1;
+        };
+        return obj.count + counter;
+    }
+}
+
+function callRemoteMethod(CounterClient counterClient) returns int {
+    lock { // exclusive
+        int value = counterClient->get();
+        return value + counter;
+    }
+}
+
+function waitForFuture(future<int> fut) returns int|error {
+    lock { // exclusive
+        int|error value = wait fut;
+        return value;
+    }
+}
+
+function queryModuleVariable() returns int[] {
+    lock { // exclusive
+        return from int value in values select value + counter;
+    }
+}
+
+isolated class Account {
+    private int balance = 0;
+
+    isolated function deposit(int amount) {
+        lock { // exclusive
+            self.balance += amount;
+        }
+    }
+
+    isolated function getBalance() returns int {
+        lock { // shared
+            return self.balance;
+        }
+    }
+}